@@ -0,0 +1,62 @@
+package co.kr.mini_spring.global.common.response;
+
+import co.kr.mini_spring.global.config.JacksonConfig;
+import co.kr.mini_spring.post.dto.response.PostFixtures;
+import co.kr.mini_spring.post.dto.response.PostResponse;
+import co.kr.mini_spring.post.dto.response.PostSummaryResponse;
+import co.kr.mini_spring.post.viewers.PostUniqueViewers;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API 응답 JSON 직렬화 비용 (애플리케이션과 같은 JacksonConfig ObjectMapper 사용)
+ * - feedPage: ApiResponse<PageResponse<PostSummaryResponse>> (목록 조회 응답)
+ * - postDetail: ApiResponse<PostResponse> (댓글 트리를 포함한 상세 조회 응답)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<PageResponse<PostSummaryResponse>> feedPage;
+    private ApiResponse<PostResponse> postDetail;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+
+        List<PostSummaryResponse> rows = PostFixtures.posts(pageSize).stream().map(PostSummaryResponse::new).toList();
+        feedPage = ApiResponse.success(new PageResponse<>(new PageImpl<>(rows, PageRequest.of(0, pageSize), 10_000)));
+
+        PostResponse detail = new PostResponse(PostFixtures.snapshot(PostFixtures.post(1, 5, 20, 3)), PostFixtures.member(7),
+                1_234, 56, new PostUniqueViewers.UniqueViewers(42, 310));
+        postDetail = ApiResponse.success(detail);
+    }
+
+    @Benchmark
+    public byte[] feedPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(feedPage);
+    }
+
+    @Benchmark
+    public byte[] postDetail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(postDetail);
+    }
+}
@@ -0,0 +1,88 @@
+package co.kr.mini_spring.global.security;
+
+import co.kr.mini_spring.member.domain.Member;
+import co.kr.mini_spring.member.domain.MemberRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터의 요청당 토큰 검증 비용 비교
+ * - legacyValidateThenParse: 이전 방식 (요청마다 파서를 두 번 만들고 서명을 두 번 검증)
+ * - verifyWithoutCache: 재사용 파서로 한 번만 파싱 (검증 캐시 비활성화)
+ * - verifyCached: 검증된 클레임 캐시 적중 (같은 토큰의 반복 요청)
+ * - validateTokenWithResult: 인증 필터가 호출하는 진입점 (캐시 비활성화, 만료/서명 오류 코드 포함 결과)
+ * - generateAccessToken: 로그인/재발급 시 액세스 토큰 서명 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "YmVuY2htYXJrLXNlY3JldC1rZXktYmVuY2htYXJrLXNlY3JldC1rZXktMzItYnl0ZXM=";
+    private static final long ACCESS_TOKEN_EXPIRATION = TimeUnit.HOURS.toMillis(1);
+    private static final long REFRESH_TOKEN_EXPIRATION = TimeUnit.DAYS.toMillis(7);
+
+    private Key key;
+    private Member member;
+    private String token;
+    private JwtTokenProvider uncachedProvider;
+    private JwtTokenProvider cachedProvider;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        uncachedProvider = new JwtTokenProvider(new SimpleMeterRegistry(), SECRET,
+                ACCESS_TOKEN_EXPIRATION, REFRESH_TOKEN_EXPIRATION, 0);
+        cachedProvider = new JwtTokenProvider(new SimpleMeterRegistry(), SECRET,
+                ACCESS_TOKEN_EXPIRATION, REFRESH_TOKEN_EXPIRATION, 10_000);
+
+        member = Member.builder()
+                .email("bench@example.com")
+                .name("bench")
+                .nickname("bench#0001")
+                .role(MemberRole.USER)
+                .build();
+        token = cachedProvider.generateAccessToken(member).getToken();
+        cachedProvider.verify(token);
+    }
+
+    @Benchmark
+    public String legacyValidateThenParse() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public String verifyWithoutCache() {
+        return uncachedProvider.verify(token).getClaims().getSubject();
+    }
+
+    @Benchmark
+    public String verifyCached() {
+        return cachedProvider.verify(token).getClaims().getSubject();
+    }
+
+    @Benchmark
+    public boolean validateTokenWithResult() {
+        return uncachedProvider.validateTokenWithResult(token).isValid();
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return uncachedProvider.generateAccessToken(member).getToken();
+    }
+}
@@ -0,0 +1,62 @@
+package co.kr.mini_spring.global.util;
+
+import co.kr.mini_spring.member.service.NicknameAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 랜덤 닉네임 형식/발급 비용
+ * - format / parse: NicknameGenerator 문자열 생성과 해석 (시작 시 점유 상태 적재에서 회원 수만큼 호출)
+ * - allocateAndRelease: NicknameAllocator 비트셋에서 빈 번호 발급 후 반납 (점유율 occupancy만큼 미리 채운 상태)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NicknameGeneratorBenchmark {
+
+    @Param({"0.1", "0.9"})
+    public double occupancy;
+
+    private NicknameAllocator allocator;
+    private String nickname;
+
+    @Setup
+    public void setUp() {
+        // 리포지토리는 시작 시 적재(load)와 충돌 재시도에만 쓰이므로 벤치마크에서는 필요 없습니다.
+        allocator = new NicknameAllocator(null, null, 5, 10_000);
+        int taken = (int) (NicknameGenerator.capacity(NicknameGenerator.MIN_DIGITS) * occupancy);
+        for (int prefix = 0; prefix < NicknameGenerator.PREFIX_COUNT; prefix++) {
+            for (int suffix = 0; suffix < taken; suffix++) {
+                allocator.markTaken(NicknameGenerator.format(prefix, suffix, NicknameGenerator.MIN_DIGITS));
+            }
+        }
+        nickname = NicknameGenerator.format(42, 1234, NicknameGenerator.MIN_DIGITS);
+    }
+
+    @Benchmark
+    public String format() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return NicknameGenerator.format(random.nextInt(NicknameGenerator.PREFIX_COUNT), random.nextInt(10_000), NicknameGenerator.MIN_DIGITS);
+    }
+
+    @Benchmark
+    public NicknameGenerator.Parsed parse() {
+        return NicknameGenerator.parse(nickname);
+    }
+
+    @Benchmark
+    public String allocateAndRelease() {
+        String allocated = allocator.allocate();
+        allocator.release(allocated);
+        return allocated;
+    }
+}
@@ -0,0 +1,35 @@
+package co.kr.mini_spring.post.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해시태그 이름 정규화 비용 (게시글 작성/수정, 해시태그 필터마다 태그 수만큼 호출)
+ * - legacyReplaceAll: 이전 방식 (호출마다 정규식을 컴파일하는 String.replaceAll)
+ * - normalizeName: 현재 방식 (한 번 훑으며 허용 글자만 남기고, 걸러낼 글자가 없으면 복사하지 않음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HashtagNormalizeBenchmark {
+
+    @Param({"spring", "Spring Boot 3!", "스프링_부트#백엔드"})
+    public String name;
+
+    @Benchmark
+    public String legacyReplaceAll() {
+        return name.trim().toLowerCase().replaceAll("[^a-z0-9가-힣]", "");
+    }
+
+    @Benchmark
+    public String normalizeName() {
+        return Hashtag.normalizeName(name);
+    }
+}
@@ -0,0 +1,196 @@
+package co.kr.mini_spring.post.domain.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글/해시태그 대량 저장 시 INSERT 방식별 비용 비교 (실제 MariaDB 필요)
+ * - commentIdentityRowByRow: IDENTITY ID (Hibernate가 배치를 끄고 행마다 INSERT 후 생성 키를 받음)
+ * - commentPooledSequenceBatch: pooled 시퀀스 ID (50개마다 시퀀스 1회 조회, JDBC 배치 INSERT)
+ * - hashtagFindOrCreate: 이전 방식 (IN 조회 → 기존 태그 사용 횟수 UPDATE → 새 태그마다 INSERT)
+ * - hashtagMultiRowUpsert: 다중 행 INSERT ... ON DUPLICATE KEY UPDATE 한 번 + ID 조회 한 번
+ * - 접속 정보: BENCH_JDBC_URL, BENCH_JDBC_USERNAME, BENCH_JDBC_PASSWORD 환경 변수
+ *   (bench_ 접두사 테이블/시퀀스를 만들고 끝나면 삭제합니다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BulkInsertBenchmark {
+
+    private static final int ALLOCATION_SIZE = 50;
+    private static final int HASHTAGS_PER_POST = 10;
+
+    @Param({"100"})
+    public int comments;
+
+    private Connection connection;
+    private long sequenceHi;
+    private long nextPooledId;
+    private long hashtagRound;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", env("BENCH_JDBC_USERNAME", "root"));
+        properties.setProperty("password", env("BENCH_JDBC_PASSWORD", ""));
+        properties.setProperty("useBulkStmts", "true");
+        connection = DriverManager.getConnection(
+                env("BENCH_JDBC_URL", "jdbc:mariadb://localhost:3306/app_server"), properties);
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_comment");
+            statement.execute("DROP TABLE IF EXISTS bench_hashtag");
+            statement.execute("DROP SEQUENCE IF EXISTS bench_comment_seq");
+            statement.execute("CREATE TABLE bench_comment (id BIGINT PRIMARY KEY AUTO_INCREMENT, post_id BIGINT NOT NULL, content TEXT NOT NULL) ENGINE = InnoDB");
+            statement.execute("CREATE TABLE bench_hashtag (id BIGINT PRIMARY KEY AUTO_INCREMENT, name VARCHAR(50) NOT NULL UNIQUE, " +
+                    "usage_count INT DEFAULT 0, last_used_at TIMESTAMP(3) NULL) ENGINE = InnoDB");
+            statement.execute("CREATE SEQUENCE bench_comment_seq START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_comment");
+            statement.execute("DROP TABLE IF EXISTS bench_hashtag");
+            statement.execute("DROP SEQUENCE IF EXISTS bench_comment_seq");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void commentIdentityRowByRow() throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_comment (post_id, content) VALUES (?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < comments; i++) {
+                insert.setLong(1, 1L);
+                insert.setString(2, "comment " + i);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    public void commentPooledSequenceBatch() throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_comment (id, post_id, content) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < comments; i++) {
+                insert.setLong(1, nextPooledId());
+                insert.setLong(2, 1L);
+                insert.setString(3, "comment " + i);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    public void hashtagFindOrCreate() throws SQLException {
+        List<String> names = nextHashtagNames();
+        List<String> existing = new ArrayList<>();
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT name FROM bench_hashtag WHERE name IN (" + placeholders(names.size()) + ")")) {
+            for (int i = 0; i < names.size(); i++) select.setString(i + 1, names.get(i));
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) existing.add(rs.getString(1));
+            }
+        }
+        if (!existing.isEmpty()) {
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE bench_hashtag SET usage_count = usage_count + 1, last_used_at = NOW(3) WHERE name IN (" + placeholders(existing.size()) + ")")) {
+                for (int i = 0; i < existing.size(); i++) update.setString(i + 1, existing.get(i));
+                update.executeUpdate();
+            }
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_hashtag (name, usage_count, last_used_at) VALUES (?, 1, NOW(3))", Statement.RETURN_GENERATED_KEYS)) {
+            for (String name : names) {
+                if (existing.contains(name)) continue;
+                insert.setString(1, name);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    public void hashtagMultiRowUpsert() throws SQLException {
+        List<String> names = nextHashtagNames();
+        try (PreparedStatement upsert = connection.prepareStatement(
+                "INSERT INTO bench_hashtag (name, usage_count, last_used_at) VALUES " +
+                        String.join(", ", Collections.nCopies(names.size(), "(?, 1, NOW(3))")) +
+                        " ON DUPLICATE KEY UPDATE usage_count = usage_count + 1, last_used_at = VALUES(last_used_at)")) {
+            for (int i = 0; i < names.size(); i++) upsert.setString(i + 1, names.get(i));
+            upsert.executeUpdate();
+        }
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id, name FROM bench_hashtag WHERE name IN (" + placeholders(names.size()) + ") LOCK IN SHARE MODE")) {
+            for (int i = 0; i < names.size(); i++) select.setString(i + 1, names.get(i));
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) rs.getLong(1);
+            }
+        }
+        connection.commit();
+    }
+
+    // Hibernate pooled 옵티마이저와 같은 방식: 시퀀스 값 hi는 (hi - ALLOCATION_SIZE, hi] 구간을 뜻합니다. (첫 값 1은 1 하나)
+    private long nextPooledId() throws SQLException {
+        if (nextPooledId == 0 || nextPooledId > sequenceHi) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT NEXTVAL(bench_comment_seq)")) {
+                rs.next();
+                sequenceHi = rs.getLong(1);
+            }
+            nextPooledId = Math.max(sequenceHi - ALLOCATION_SIZE + 1, 1);
+        }
+        return nextPooledId++;
+    }
+
+    // 게시글 하나에 붙는 태그: 절반은 자주 쓰이는 기존 태그, 절반은 처음 쓰는 태그
+    private List<String> nextHashtagNames() {
+        long round = hashtagRound++;
+        List<String> names = new ArrayList<>(HASHTAGS_PER_POST);
+        for (int i = 0; i < HASHTAGS_PER_POST / 2; i++) names.add("popular" + i);
+        for (int i = 0; i < HASHTAGS_PER_POST - HASHTAGS_PER_POST / 2; i++) names.add("tag" + round + "x" + i);
+        Collections.sort(names);
+        return names;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
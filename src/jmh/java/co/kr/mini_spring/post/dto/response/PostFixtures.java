@@ -0,0 +1,98 @@
+package co.kr.mini_spring.post.dto.response;
+
+import co.kr.mini_spring.member.domain.Member;
+import co.kr.mini_spring.member.domain.MemberRole;
+import co.kr.mini_spring.post.domain.Comment;
+import co.kr.mini_spring.post.domain.Hashtag;
+import co.kr.mini_spring.post.domain.Post;
+import co.kr.mini_spring.post.domain.PostHashtag;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 응답 변환/직렬화 벤치마크용 게시글 그래프 (영속성 컨텍스트 없이 메모리에서만 구성)
+ */
+public final class PostFixtures {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private PostFixtures() {
+    }
+
+    public static Member member(int index) {
+        return Member.builder()
+                .email("bench" + index + "@example.com")
+                .name("bench" + index)
+                .nickname("행복한사자#" + String.format("%04d", index))
+                .role(MemberRole.USER)
+                .build();
+    }
+
+    /**
+     * 해시태그 hashtags개, 최상위 댓글 comments개(각 대댓글 repliesPerComment개)를 가진 게시글
+     */
+    public static Post post(long id, int hashtags, int comments, int repliesPerComment) {
+        Member author = member((int) id);
+        Post post = Post.builder()
+                .id(id)
+                .title("벤치마크 게시글 " + id)
+                .content("본문 ".repeat(200))
+                .viewCount(1_234)
+                .likeCount(56)
+                .commentCount(comments * (1 + repliesPerComment))
+                .member(author)
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .build();
+
+        for (int i = 0; i < hashtags; i++) {
+            Hashtag hashtag = Hashtag.builder().id((long) i + 1).name("tag" + i).build();
+            post.getPostHashtags().add(PostHashtag.builder().post(post).hashtag(hashtag).build());
+        }
+
+        long commentId = id * 1_000;
+        for (int i = 0; i < comments; i++) {
+            Comment parent = comment(++commentId, post, member(i), null);
+            for (int j = 0; j < repliesPerComment; j++) {
+                parent.getChildren().add(comment(++commentId, post, member(j), parent));
+            }
+            post.getComments().add(parent);
+        }
+        return post;
+    }
+
+    public static List<Post> posts(int count) {
+        List<Post> posts = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            posts.add(post(i, 3, 0, 0));
+        }
+        return posts;
+    }
+
+    /**
+     * PostService.loadDetailSnapshot과 같은 방식으로 만든 상세 스냅샷
+     */
+    public static PostDetailSnapshot snapshot(Post post) {
+        List<PostDetailSnapshot.CommentSnapshot> comments = post.getComments().stream()
+                .map(parent -> PostDetailSnapshot.CommentSnapshot.from(parent, parent.getChildren().stream()
+                        .map(reply -> PostDetailSnapshot.CommentSnapshot.from(reply, List.of()))
+                        .toList()))
+                .toList();
+        return PostDetailSnapshot.from(post, comments);
+    }
+
+    private static Comment comment(long id, Post post, Member author, Comment parent) {
+        return Comment.builder()
+                .id(id)
+                .content("댓글 내용 " + id)
+                .post(post)
+                .member(author)
+                .parent(parent)
+                .depth(parent == null ? 0 : 1)
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package co.kr.mini_spring.post.dto.response;
+
+import co.kr.mini_spring.member.domain.Member;
+import co.kr.mini_spring.post.domain.Comment;
+import co.kr.mini_spring.post.domain.Post;
+import co.kr.mini_spring.post.viewers.PostUniqueViewers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티/스냅샷 → 응답 DTO 변환 비용
+ * - postSummaryPage: 목록 한 페이지(20건) PostSummaryResponse 변환
+ * - postResponseFromEntity: 엔티티 그래프에서 상세 응답 생성 (댓글 트리 재귀 변환 포함)
+ * - postResponseFromSnapshot: 캐시된 상세 스냅샷에 조회자 정보를 덧씌워 응답 생성 (PostService.getPost 경로)
+ * - commentTree: 최상위 댓글 목록의 CommentResponse 트리 변환
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseMappingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final PostUniqueViewers.UniqueViewers UNIQUE_VIEWERS = new PostUniqueViewers.UniqueViewers(42, 310);
+
+    @Param({"10", "50"})
+    public int comments;
+
+    private List<Post> page;
+    private Post post;
+    private PostDetailSnapshot snapshot;
+    private List<Comment> topLevelComments;
+    private Member viewer;
+
+    @Setup
+    public void setUp() {
+        page = PostFixtures.posts(PAGE_SIZE);
+        post = PostFixtures.post(1, 5, comments, 3);
+        snapshot = PostFixtures.snapshot(post);
+        topLevelComments = List.copyOf(post.getComments());
+        viewer = PostFixtures.member(7);
+    }
+
+    @Benchmark
+    public List<PostSummaryResponse> postSummaryPage() {
+        return page.stream().map(PostSummaryResponse::new).toList();
+    }
+
+    @Benchmark
+    public PostResponse postResponseFromEntity() {
+        return new PostResponse(post, viewer);
+    }
+
+    @Benchmark
+    public PostResponse postResponseFromSnapshot() {
+        return new PostResponse(snapshot, viewer, 1_234, 56, UNIQUE_VIEWERS);
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentTree() {
+        return topLevelComments.stream().map(comment -> new CommentResponse(comment, viewer)).toList();
+    }
+}
@@ -0,0 +1,209 @@
+package co.kr.mini_spring.loadtest;
+
+import co.kr.mini_spring.global.util.NicknameGenerator;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 부하 테스트용 말뭉치 적재기
+ * - 회원/해시태그/게시글/게시글-해시태그/댓글을 JDBC 배치 INSERT로 채웁니다. (엔티티를 거치지 않으므로 수십만 건도 수 초 내)
+ * - 게시글 작성 시각은 최근 30일에 고르게 퍼뜨리고, 해시태그는 앞번호일수록 자주 쓰이도록 치우치게 고릅니다.
+ * - 같은 seed면 같은 말뭉치가 만들어지므로 실행끼리 결과를 비교할 수 있습니다.
+ * - 적재 후 post_seq/comment_seq를 적재한 ID 뒤로 옮겨, 부하 중 앱이 만드는 ID와 겹치지 않게 합니다.
+ */
+public final class CorpusSeeder {
+
+    public static final String PASSWORD = "loadtest1234";
+    private static final int BATCH_SIZE = 1_000;
+    private static final int SEQUENCE_ALLOCATION = 50;
+    private static final String EMAIL_FORMAT = "load%d@example.com";
+
+    private final LoadTestOptions options;
+    private final Random random = new Random(42);
+
+    public CorpusSeeder(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public static String email(int memberIndex) {
+        return EMAIL_FORMAT.formatted(memberIndex);
+    }
+
+    public void seed(Connection connection) throws SQLException {
+        connection.setAutoCommit(false);
+        insertMembers(connection);
+        insertHashtags(connection);
+        insertPosts(connection);
+        insertComments(connection);
+        restartSequence(connection, "post_seq", options.posts());
+        restartSequence(connection, "comment_seq", (long) options.posts() * options.commentsPerPost());
+        connection.commit();
+    }
+
+    private void insertMembers(Connection connection) throws SQLException {
+        // BCrypt는 의도적으로 느리므로 모든 회원이 같은 비밀번호 해시를 공유합니다.
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+        String sql = "INSERT INTO member (id, email, password_hash, name, nickname, oauth_provider, role, status, auth_version, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, 'LOCAL', 'USER', 'ACTIVE', 0, ?, ?)";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 1; i <= options.members(); i++) {
+                Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().minusDays(60).plusMinutes(i));
+                ps.setLong(1, i);
+                ps.setString(2, email(i));
+                ps.setString(3, passwordHash);
+                ps.setString(4, "부하" + i);
+                // 랜덤 닉네임 형식을 따르므로 NicknameAllocator가 기동 시 점유 상태로 적재합니다.
+                ps.setString(5, NicknameGenerator.format(i % NicknameGenerator.PREFIX_COUNT, i / NicknameGenerator.PREFIX_COUNT, NicknameGenerator.MAX_DIGITS));
+                ps.setTimestamp(6, createdAt);
+                ps.setTimestamp(7, createdAt);
+                addBatch(ps, i);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void insertHashtags(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("INSERT INTO hashtag (id, name, usage_count) VALUES (?, ?, 0)")) {
+            for (int i = 1; i <= options.hashtags(); i++) {
+                ps.setLong(1, i);
+                ps.setString(2, hashtagName(i));
+                addBatch(ps, i);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void insertPosts(Connection connection) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        long spanSeconds = 30L * 24 * 60 * 60;
+        String postSql = "INSERT INTO post (id, title, content, view_count, like_count, comment_count, is_published, member_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 0, 0, ?, ?, ?, ?, ?)";
+        String tagSql = "INSERT INTO post_hashtag (post_id, hashtag_id, created_at) VALUES (?, ?, ?)";
+        try (PreparedStatement post = connection.prepareStatement(postSql);
+             PreparedStatement tag = connection.prepareStatement(tagSql)) {
+            int tagRows = 0;
+            for (int i = 1; i <= options.posts(); i++) {
+                // ID가 클수록 최근 글이 되도록 작성 시각을 배치합니다.
+                Timestamp createdAt = Timestamp.valueOf(now.minusSeconds(spanSeconds - spanSeconds * i / options.posts()));
+                Set<Integer> tags = pickHashtags();
+                post.setLong(1, i);
+                post.setString(2, "부하 테스트 게시글 " + i);
+                post.setString(3, content(i, tags));
+                post.setInt(4, options.commentsPerPost());
+                post.setBoolean(5, random.nextInt(20) != 0); // 5%는 비공개
+                post.setLong(6, 1 + random.nextInt(options.members()));
+                post.setTimestamp(7, createdAt);
+                post.setTimestamp(8, createdAt);
+                addBatch(post, i);
+
+                for (int hashtagId : tags) {
+                    tag.setLong(1, i);
+                    tag.setLong(2, hashtagId);
+                    tag.setTimestamp(3, createdAt);
+                    tag.addBatch();
+                    if (++tagRows % BATCH_SIZE == 0) {
+                        post.executeBatch(); // post_hashtag의 외래 키보다 게시글이 먼저 들어가야 합니다.
+                        tag.executeBatch();
+                    }
+                }
+            }
+            post.executeBatch();
+            tag.executeBatch();
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE hashtag h SET usage_count = (SELECT COUNT(*) FROM post_hashtag ph WHERE ph.hashtag_id = h.id), " +
+                    "last_used_at = (SELECT MAX(ph.created_at) FROM post_hashtag ph WHERE ph.hashtag_id = h.id)");
+        }
+    }
+
+    private void insertComments(Connection connection) throws SQLException {
+        if (options.commentsPerPost() == 0) return;
+        String sql = "INSERT INTO comment (id, content, member_id, post_id, parent_comment_id, depth, is_deleted, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, FALSE, ?, ?)";
+        LocalDateTime now = LocalDateTime.now();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            long id = 0;
+            for (int postId = 1; postId <= options.posts(); postId++) {
+                long firstRootId = id + 1;
+                for (int j = 0; j < options.commentsPerPost(); j++) {
+                    id++;
+                    // 첫 댓글은 항상 일반 댓글이고, 이후 30%는 그 게시글의 첫 댓글에 단 대댓글입니다.
+                    boolean reply = j > 0 && random.nextInt(10) < 3;
+                    Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(options.commentsPerPost() - j));
+                    ps.setLong(1, id);
+                    ps.setString(2, "부하 테스트 댓글 " + id);
+                    ps.setLong(3, 1 + random.nextInt(options.members()));
+                    ps.setLong(4, postId);
+                    if (reply) {
+                        ps.setLong(5, firstRootId);
+                    } else {
+                        ps.setNull(5, java.sql.Types.BIGINT);
+                    }
+                    ps.setInt(6, reply ? 1 : 0);
+                    ps.setTimestamp(7, createdAt);
+                    ps.setTimestamp(8, createdAt);
+                    addBatch(ps, id);
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private static void restartSequence(Connection connection, String sequence, long maxId) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (maxId + SEQUENCE_ALLOCATION + 1));
+        }
+    }
+
+    private Set<Integer> pickHashtags() {
+        Set<Integer> tags = new LinkedHashSet<>();
+        int count = Math.min(options.hashtagsPerPost(), options.hashtags());
+        while (tags.size() < count) {
+            // 제곱한 균등 난수로 앞번호 태그에 사용이 몰리게 합니다.
+            double skewed = Math.pow(random.nextDouble(), 2);
+            tags.add(1 + (int) (skewed * options.hashtags()));
+        }
+        return tags;
+    }
+
+    private String content(int postId, Set<Integer> tags) {
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            words.add(WORDS[random.nextInt(WORDS.length)]);
+        }
+        StringBuilder content = new StringBuilder("게시글 ").append(postId).append(" 본문입니다. ")
+                .append(String.join(" ", words));
+        for (int tag : tags) {
+            content.append(" #").append(hashtagName(tag));
+        }
+        return content.toString();
+    }
+
+    public static String hashtagName(int hashtagId) {
+        return "태그" + hashtagId;
+    }
+
+    private static void addBatch(PreparedStatement ps, long count) throws SQLException {
+        ps.addBatch();
+        if (count % BATCH_SIZE == 0) {
+            ps.executeBatch();
+        }
+    }
+
+    private static final String[] WORDS = {
+            "스프링", "자바", "데이터베이스", "인덱스", "캐시", "트랜잭션", "성능", "배포", "테스트", "리팩터링",
+            "쿼리", "커넥션", "스레드", "메모리", "로그", "모니터링", "알림", "검색", "피드", "댓글"
+    };
+}
@@ -0,0 +1,100 @@
+package co.kr.mini_spring.loadtest;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfiguration;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 부하 테스트용 내장 MariaDB (MariaDB4j)
+ * - 빈 포트에서 서버를 띄우고 app_server 데이터베이스에 schema.sql을 적용합니다.
+ *   앱은 ddl-auto: validate로 기동하므로 schema.sql이 엔티티와 어긋나면 기동에 실패합니다.
+ * - 기본은 MariaDB4j에 포함된 바이너리를 풀어서 쓰며, baseDir을 지정하면 설치된 MariaDB를 사용합니다.
+ *   (schema.sql의 CREATE SEQUENCE 때문에 MariaDB 10.3 이상이 필요합니다)
+ */
+public final class EmbeddedMariaDb implements AutoCloseable {
+
+    public static final String DATABASE = "app_server";
+    public static final String USERNAME = "root";
+    public static final String PASSWORD = "";
+
+    private final DB db;
+    private final int port;
+
+    private EmbeddedMariaDb(DB db, int port) {
+        this.db = db;
+        this.port = port;
+    }
+
+    public static EmbeddedMariaDb start(String baseDir) throws ManagedProcessException, IOException, SQLException {
+        DBConfigurationBuilder builder = DBConfigurationBuilder.newBuilder();
+        builder.setPort(0); // 빈 포트 자동 선택
+        builder.addArg("--character-set-server=utf8mb4");
+        builder.addArg("--collation-server=utf8mb4_unicode_ci");
+        builder.addArg("--max-connections=500");
+        builder.addArg("--innodb-flush-log-at-trx-commit=2");
+        if ("root".equals(System.getProperty("user.name"))) {
+            builder.addArg("--user=root"); // CI 컨테이너처럼 root로 실행하면 mariadbd가 기동을 거부합니다.
+        }
+        if (baseDir != null) {
+            builder.setUnpackingFromClasspath(false);
+            builder.setBaseDir(baseDir);
+            builder.setLibDir(baseDir + "/lib");
+        }
+        DBConfiguration configuration = builder.build();
+
+        DB db = DB.newEmbeddedDB(configuration);
+        db.start();
+        EmbeddedMariaDb embedded = new EmbeddedMariaDb(db, configuration.getPort());
+        try {
+            embedded.applySchema();
+        } catch (IOException | SQLException | RuntimeException e) {
+            // 서버 프로세스가 남으면 JVM이 종료되지 않으므로 여기서 내립니다.
+            db.stop();
+            throw e;
+        }
+        return embedded;
+    }
+
+    public Connection connect() throws SQLException {
+        return DriverManager.getConnection(jdbcUrl(), USERNAME, PASSWORD);
+    }
+
+    public String jdbcUrl() {
+        return "jdbc:mariadb://localhost:" + port + "/" + DATABASE + "?useBulkStmts=true";
+    }
+
+    // DB.createDB/source는 mariadb 클라이언트 바이너리(libncurses 필요)를 실행하므로 JDBC로 직접 처리합니다.
+    private void applySchema() throws IOException, SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:mariadb://localhost:" + port + "/", USERNAME, PASSWORD);
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE IF NOT EXISTS " + DATABASE);
+        }
+
+        String script;
+        try (InputStream in = EmbeddedMariaDb.class.getClassLoader().getResourceAsStream("schema.sql")) {
+            if (in == null) throw new IllegalStateException("클래스패스에서 schema.sql을 찾을 수 없습니다.");
+            script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            for (String sql : script.split(";\\s*(\\r?\\n|$)")) {
+                if (!sql.isBlank()) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws ManagedProcessException {
+        db.stop();
+    }
+}
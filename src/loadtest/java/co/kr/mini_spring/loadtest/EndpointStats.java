@@ -0,0 +1,70 @@
+package co.kr.mini_spring.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 응답 시간 분포와 실패 건수
+ * - 응답 시간은 마이크로초 단위 HdrHistogram(유효숫자 3자리)에 기록하므로 p99 같은 꼬리 지연도 평균에 묻히지 않습니다.
+ * - 2xx가 아닌 응답과 전송 실패(상태 0)는 상태 코드별로 따로 셉니다. 실패 요청도 응답 시간 분포에 포함합니다.
+ */
+final class EndpointStats {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final Histogram latencies = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+    private final Map<Integer, LongAdder> failures = new ConcurrentHashMap<>();
+
+    void record(long elapsedNanos, int status) {
+        long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+        latencies.recordValue(Math.min(micros, MAX_TRACKABLE_MICROS));
+        if (status < 200 || status >= 300) {
+            failures.computeIfAbsent(status, s -> new LongAdder()).increment();
+        }
+    }
+
+    EndpointResult toResult(String endpoint, double seconds) {
+        Map<Integer, Long> failuresByStatus = new TreeMap<>();
+        failures.forEach((status, count) -> failuresByStatus.put(status, count.sum()));
+        long errors = failuresByStatus.values().stream().mapToLong(Long::longValue).sum();
+        long requests = latencies.getTotalCount();
+        return new EndpointResult(
+                endpoint,
+                requests,
+                errors,
+                failuresByStatus,
+                seconds > 0 ? requests / seconds : 0,
+                millis(latencies.getValueAtPercentile(50)),
+                millis(latencies.getValueAtPercentile(95)),
+                millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getMaxValue())
+        );
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * @param throughput 초당 요청 수
+     * @param p50Ms      응답 시간 백분위 (밀리초)
+     */
+    record EndpointResult(
+            String endpoint,
+            long requests,
+            long errors,
+            Map<Integer, Long> failuresByStatus,
+            double throughput,
+            double p50Ms,
+            double p95Ms,
+            double p99Ms,
+            double maxMs
+    ) {
+    }
+}
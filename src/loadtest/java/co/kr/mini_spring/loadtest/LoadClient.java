@@ -0,0 +1,104 @@
+package co.kr.mini_spring.loadtest;
+
+import co.kr.mini_spring.loadtest.EndpointStats.EndpointResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 부하 테스트 HTTP 클라이언트
+ * - 요청마다 엔드포인트 이름(예: "GET /posts/{id}")으로 응답 시간과 상태를 기록합니다.
+ * - 응답 본문은 ApiResponse의 data만 돌려주며, 실패(2xx 외/전송 오류)면 MissingNode를 돌려줍니다.
+ * - 워커 스레드가 동기 호출하는 닫힌 루프(closed loop) 방식이므로, 동시 요청 수는 워커 수와 같습니다.
+ */
+final class LoadClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    private volatile Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    LoadClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    JsonNode get(String endpoint, String path, String token) {
+        return send(endpoint, request(path, token).GET());
+    }
+
+    JsonNode post(String endpoint, String path, String token, Object body) {
+        if (body == null) {
+            return send(endpoint, request(path, token).POST(HttpRequest.BodyPublishers.noBody()));
+        }
+        return send(endpoint, request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(body))));
+    }
+
+    JsonNode delete(String endpoint, String path, String token) {
+        return send(endpoint, request(path, token).DELETE());
+    }
+
+    /**
+     * 지금까지 기록한 결과를 꺼내고 기록을 비웁니다. (워밍업 결과를 버릴 때도 사용)
+     */
+    List<EndpointResult> drain(Duration elapsed) {
+        Map<String, EndpointStats> drained = stats;
+        stats = new ConcurrentHashMap<>();
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return drained.entrySet().stream()
+                .map(entry -> entry.getValue().toResult(entry.getKey(), seconds))
+                .sorted(Comparator.comparing(EndpointResult::endpoint))
+                .toList();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private JsonNode send(String endpoint, HttpRequest.Builder request) {
+        EndpointStats endpointStats = stats.computeIfAbsent(endpoint, e -> new EndpointStats());
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            endpointStats.record(System.nanoTime() - start, response.statusCode());
+            if (response.statusCode() / 100 != 2) return MissingNode.getInstance();
+            return objectMapper.readTree(response.body()).path("data");
+        } catch (IOException e) {
+            endpointStats.record(System.nanoTime() - start, 0);
+            return MissingNode.getInstance();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return MissingNode.getInstance();
+        }
+    }
+
+    private byte[] toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("요청 본문을 JSON으로 변환할 수 없습니다.", e);
+        }
+    }
+}
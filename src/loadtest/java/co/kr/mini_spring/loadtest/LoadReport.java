@@ -0,0 +1,57 @@
+package co.kr.mini_spring.loadtest;
+
+import co.kr.mini_spring.loadtest.EndpointStats.EndpointResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 부하 테스트 결과
+ * - 콘솔에는 시나리오별 엔드포인트 표를, 파일에는 같은 내용을 JSON으로 남깁니다.
+ *   (JSON은 실행 조건을 함께 담으므로 vt/기본 모드나 커밋 간 결과를 나란히 비교할 수 있습니다)
+ */
+record LoadReport(
+        String startedAt,
+        String gitRevision,
+        String javaVersion,
+        List<String> profiles,
+        Corpus corpus,
+        int concurrency,
+        long warmupSeconds,
+        long durationSeconds,
+        List<PhaseResult> phases
+) {
+
+    record Corpus(int members, int posts, long comments, int hashtags, int hashtagsPerPost, int loggedInUsers) {
+    }
+
+    record PhaseResult(String name, String description, double elapsedSeconds, List<EndpointResult> endpoints) {
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n== 부하 테스트 결과 (profiles=%s, concurrency=%d, java=%s) ==%n", profiles, concurrency, javaVersion);
+        for (PhaseResult phase : phases) {
+            out.printf("%n[%s] %s (%.1fs)%n", phase.name(), phase.description(), phase.elapsedSeconds());
+            out.printf("%-28s %9s %7s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+            for (EndpointResult e : phase.endpoints()) {
+                out.printf("%-28s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                        e.endpoint(), e.requests(), e.errors(), e.throughput(), e.p50Ms(), e.p95Ms(), e.p99Ms(), e.maxMs());
+                if (e.errors() > 0) {
+                    out.printf("%-28s 실패 상태 코드별 건수 %s (0: 전송 실패)%n", "", e.failuresByStatus());
+                }
+            }
+        }
+    }
+
+    void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), this);
+    }
+}
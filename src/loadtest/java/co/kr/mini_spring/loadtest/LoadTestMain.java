@@ -0,0 +1,210 @@
+package co.kr.mini_spring.loadtest;
+
+import co.kr.mini_spring.MiniSpringApplication;
+import co.kr.mini_spring.loadtest.EndpointStats.EndpointResult;
+import co.kr.mini_spring.loadtest.LoadReport.Corpus;
+import co.kr.mini_spring.loadtest.LoadReport.PhaseResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 종단 간 부하 테스트 하니스 (./gradlew loadTest)
+ * 1. 내장 MariaDB를 띄우고 schema.sql 적용 후 말뭉치를 적재합니다.
+ * 2. 실제 애플리케이션을 loadtest 프로필(+ --profiles로 지정한 프로필)로 임의 포트에 띄웁니다.
+ * 3. users명을 로그인시켜 토큰을 받아 두고(로그인 자체도 측정), 시나리오마다 워밍업 후 duration 동안 부하를 겁니다.
+ * 4. 엔드포인트별 처리량/실패 수/p50/p95/p99/max를 출력하고 JSON으로 저장합니다.
+ *
+ * 시나리오는 순서대로 실행되며 앞 시나리오가 만든 데이터(댓글, 가입 회원 등)는 그대로 남습니다.
+ */
+public final class LoadTestMain {
+
+    private static final int HOT_POSTS = 100;
+    // 로그인은 측정 전 준비 단계이므로 BCrypt 검증이 몰려 DB 커넥션/입장 허가 대기 시간을 넘기지 않도록 동시 실행 수를 제한합니다.
+    private static final int LOGIN_CONCURRENCY = 4;
+
+    public static void main(String[] args) {
+        int status = 0;
+        try {
+            execute(args);
+        } catch (Exception e) {
+            e.printStackTrace();
+            status = 1;
+        }
+        // MariaDB4j/애플리케이션이 남긴 비데몬 스레드가 있어도 결과와 함께 종료합니다.
+        System.exit(status);
+    }
+
+    private static void execute(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        List<Scenario> scenarios = options.scenarios().stream().map(Scenario::of).toList();
+        String startedAt = OffsetDateTime.now().toString();
+
+        try (EmbeddedMariaDb db = EmbeddedMariaDb.start(options.mariadbBaseDir())) {
+            long[] publishedIds;
+            try (Connection connection = db.connect()) {
+                log("말뭉치 적재 시작 members=%d, posts=%d, comments=%d", options.members(), options.posts(),
+                        (long) options.posts() * options.commentsPerPost());
+                long seedStart = System.nanoTime();
+                new CorpusSeeder(options).seed(connection);
+                log("말뭉치 적재 완료 (%.1fs)", (System.nanoTime() - seedStart) / 1e9);
+                publishedIds = publishedPostIds(connection);
+            }
+            if (publishedIds.length == 0) throw new IllegalStateException("공개 게시글이 없어 부하를 걸 수 없습니다.");
+
+            try (ConfigurableApplicationContext app = startApplication(options, db)) {
+                int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+                LoadClient client = new LoadClient("http://localhost:" + port);
+                List<PhaseResult> phases = new ArrayList<>();
+
+                long loginStart = System.nanoTime();
+                List<String> tokens = login(client, options);
+                Duration loginElapsed = Duration.ofNanos(System.nanoTime() - loginStart);
+                phases.add(new PhaseResult("login", "부하 대상 회원 로그인 (BCrypt 검증 + 토큰 발급)",
+                        loginElapsed.toMillis() / 1000.0, client.drain(loginElapsed)));
+
+                long[] hotPostIds = Arrays.copyOf(publishedIds, Math.min(HOT_POSTS, publishedIds.length));
+                ScenarioContext context = new ScenarioContext(client, options, tokens, publishedIds, hotPostIds,
+                        Long.toString(System.currentTimeMillis(), 36), new AtomicLong());
+
+                for (Scenario scenario : scenarios) {
+                    log("[%s] 워밍업 %ds", scenario.key(), options.warmup().toSeconds());
+                    run(scenario, context, options.warmup());
+                    client.drain(options.warmup());
+
+                    log("[%s] 측정 %ds", scenario.key(), options.duration().toSeconds());
+                    Duration elapsed = run(scenario, context, options.duration());
+                    List<EndpointResult> endpoints = client.drain(elapsed);
+                    phases.add(new PhaseResult(scenario.key(), scenario.description(), elapsed.toMillis() / 1000.0, endpoints));
+                }
+
+                LoadReport report = new LoadReport(
+                        startedAt,
+                        System.getProperty("loadtest.gitRevision", "unknown"),
+                        Runtime.version().toString(),
+                        activeProfiles(options),
+                        new Corpus(options.members(), options.posts(), (long) options.posts() * options.commentsPerPost(),
+                                options.hashtags(), options.hashtagsPerPost(), tokens.size()),
+                        options.concurrency(),
+                        options.warmup().toSeconds(),
+                        options.duration().toSeconds(),
+                        phases);
+                report.print(System.out);
+                report.write(options.output());
+                log("결과 저장: %s", options.output().toAbsolutePath());
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestOptions options, EmbeddedMariaDb db) {
+        log("애플리케이션 기동 profiles=%s", activeProfiles(options));
+        // 명령행 인자는 application.yml보다 우선하므로 데이터소스/포트를 여기서 덮어씁니다.
+        return new SpringApplicationBuilder(MiniSpringApplication.class)
+                .profiles(activeProfiles(options).toArray(String[]::new))
+                .run("--spring.datasource.url=" + db.jdbcUrl(),
+                        "--spring.datasource.username=" + EmbeddedMariaDb.USERNAME,
+                        "--spring.datasource.password=" + EmbeddedMariaDb.PASSWORD,
+                        "--server.port=0");
+    }
+
+    private static List<String> activeProfiles(LoadTestOptions options) {
+        Set<String> profiles = new LinkedHashSet<>();
+        profiles.add("loadtest");
+        profiles.addAll(options.profiles());
+        return List.copyOf(profiles);
+    }
+
+    // 최신 글이 앞에 오도록 정렬합니다. (앞쪽 일부를 인기 게시글로 사용)
+    private static long[] publishedPostIds(Connection connection) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id FROM post WHERE is_published = TRUE ORDER BY id DESC")) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static List<String> login(LoadClient client, LoadTestOptions options) throws InterruptedException {
+        List<String> tokens = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong next = new AtomicLong();
+        runWorkers(Math.min(options.concurrency(), LOGIN_CONCURRENCY), worker -> {
+            for (long i = next.incrementAndGet(); i <= options.users(); i = next.incrementAndGet()) {
+                JsonNode data = client.post("POST /auth/login", "/api/v1/auth/login", null,
+                        Map.of("email", CorpusSeeder.email((int) i), "password", CorpusSeeder.PASSWORD));
+                if (data.hasNonNull("accessToken")) {
+                    tokens.add(data.get("accessToken").asText());
+                }
+            }
+        });
+        if (tokens.size() < options.concurrency()) {
+            throw new IllegalStateException("로그인에 성공한 회원(" + tokens.size() + ")이 동시 실행 수보다 적습니다.");
+        }
+        return List.copyOf(tokens);
+    }
+
+    private static Duration run(Scenario scenario, ScenarioContext context, Duration duration) throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        runWorkers(context.options().concurrency(), worker -> {
+            for (long iteration = 0; System.nanoTime() < deadline; iteration++) {
+                scenario.iterate(context, worker, iteration);
+            }
+        });
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private static void runWorkers(int concurrency, Worker worker) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                int index = i;
+                tasks.add(() -> {
+                    worker.run(index);
+                    return null;
+                });
+            }
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("부하 워커가 예외로 종료되었습니다.", e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf("[LoadTest] " + format + "%n", args);
+    }
+
+    @FunctionalInterface
+    private interface Worker {
+        void run(int index);
+    }
+}
@@ -0,0 +1,85 @@
+package co.kr.mini_spring.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 옵션 (--key=value 형식)
+ * - 말뭉치: members, posts, comments-per-post, hashtags, hashtags-per-post
+ * - 부하: users(로그인해 두는 회원 수), concurrency, warmup, duration, scenarios(쉼표 구분)
+ * - 실행 환경: profiles(앱에 추가할 프로필, 예: vt), mariadb-base-dir(설치된 MariaDB 사용), output(결과 JSON 경로)
+ * - 시간 단위 옵션(warmup, duration)은 초입니다.
+ */
+public record LoadTestOptions(
+        int members,
+        int posts,
+        int commentsPerPost,
+        int hashtags,
+        int hashtagsPerPost,
+        int users,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        List<String> scenarios,
+        List<String> profiles,
+        String mariadbBaseDir,
+        Path output
+) {
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션은 --key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        // 커밋과 실행 시각으로 이름을 붙여 여러 실행 결과를 나란히 남깁니다.
+        String defaultOutput = "build/results/loadtest/" + System.getProperty("loadtest.gitRevision", "unknown") + "-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json";
+        LoadTestOptions options = new LoadTestOptions(
+                intValue(values, "members", 1_000),
+                intValue(values, "posts", 10_000),
+                intValue(values, "comments-per-post", 5),
+                intValue(values, "hashtags", 200),
+                intValue(values, "hashtags-per-post", 3),
+                intValue(values, "users", 200),
+                intValue(values, "concurrency", 32),
+                Duration.ofSeconds(intValue(values, "warmup", 10)),
+                Duration.ofSeconds(intValue(values, "duration", 30)),
+                listValue(values, "scenarios", String.join(",", Scenario.names())),
+                listValue(values, "profiles", ""),
+                values.get("mariadb-base-dir"),
+                Path.of(values.getOrDefault("output", defaultOutput))
+        );
+        List<String> unknown = values.keySet().stream().filter(key -> !KNOWN.contains(key)).toList();
+        if (!unknown.isEmpty()) throw new IllegalArgumentException("알 수 없는 옵션: " + unknown);
+        // 좋아요 시나리오는 워커마다 전담 회원이 한 명 이상 있어야 합니다.
+        if (options.users() < options.concurrency() || options.users() > options.members()) {
+            throw new IllegalArgumentException("users는 concurrency 이상, members 이하여야 합니다.");
+        }
+        return options;
+    }
+
+    private static final List<String> KNOWN = List.of("members", "posts", "comments-per-post", "hashtags", "hashtags-per-post",
+            "users", "concurrency", "warmup", "duration", "scenarios", "profiles", "mariadb-base-dir", "output");
+
+    private static int intValue(Map<String, String> values, String key, int defaultValue) {
+        String value = values.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static List<String> listValue(Map<String, String> values, String key, String defaultValue) {
+        return Arrays.stream(values.getOrDefault(key, defaultValue).split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .toList();
+    }
+}
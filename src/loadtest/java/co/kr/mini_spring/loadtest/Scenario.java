@@ -0,0 +1,137 @@
+package co.kr.mini_spring.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 시나리오
+ * - 각 워커는 종료 시각까지 iterate를 반복하며, 한 번의 iterate가 요청 한 건 이상을 보냅니다.
+ * - iteration은 워커별 반복 횟수입니다. (워커 전담 회원을 돌아가며 고를 때 사용)
+ */
+enum Scenario {
+
+    FEED("feed", "피드 탐색: 최신/좋아요순 페이지, 커서 연속 조회, 해시태그/키워드 필터") {
+        @Override
+        void iterate(ScenarioContext context, int worker, long iteration) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            LoadClient client = context.client();
+            String token = randomToken(context);
+            int pick = random.nextInt(10);
+            if (pick < 4) {
+                client.get("GET /posts?page", "/api/v1/posts?size=20&sort=recent&page=" + random.nextInt(5), token);
+            } else if (pick < 5) {
+                client.get("GET /posts?page&sort=likes", "/api/v1/posts?size=20&sort=likes&page=" + random.nextInt(3), token);
+            } else if (pick < 8) {
+                // 첫 페이지부터 nextCursor를 따라 최대 3페이지까지 넘깁니다.
+                String cursor = "";
+                for (int page = 0; page < 3 && cursor != null; page++) {
+                    JsonNode data = client.get("GET /posts?cursor", "/api/v1/posts?size=20&sort=recent&cursor=" + cursor, token);
+                    cursor = data.path("hasNext").asBoolean(false) ? data.path("nextCursor").asText(null) : null;
+                }
+            } else if (pick < 9) {
+                // 앞번호 태그일수록 자주 쓰이므로 상위 20개 태그 중에서 고릅니다.
+                int hashtag = 1 + random.nextInt(Math.min(20, Math.max(1, context.options().hashtags())));
+                client.get("GET /posts?hashtags", "/api/v1/posts?size=20&hashtags=" + encode(CorpusSeeder.hashtagName(hashtag)), token);
+            } else {
+                client.get("GET /posts?keyword", "/api/v1/posts?size=20&keyword=" + encode(KEYWORDS[random.nextInt(KEYWORDS.length)]), token);
+            }
+        }
+    },
+
+    DETAIL("detail", "게시글 상세: 80%는 최신 인기 게시글, 20%는 전체 공개 게시글에서 무작위") {
+        @Override
+        void iterate(ScenarioContext context, int worker, long iteration) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long[] ids = random.nextInt(10) < 8 ? context.hotPostIds() : context.publishedIds();
+            long postId = ids[random.nextInt(ids.length)];
+            context.client().get("GET /posts/{id}", "/api/v1/posts/" + postId, randomToken(context));
+        }
+    },
+
+    LIKE_STORM("like-storm", "좋아요 폭주: 모든 워커가 가장 최신 공개 게시글 하나에 좋아요/취소를 반복") {
+        @Override
+        void iterate(ScenarioContext context, int worker, long iteration) {
+            long postId = context.hotPostIds()[0];
+            String token = context.ownedToken(worker, iteration);
+            context.client().post("POST /posts/{id}/likes", "/api/v1/posts/" + postId + "/likes", token, null);
+            context.client().delete("DELETE /posts/{id}/likes", "/api/v1/posts/" + postId + "/likes", token);
+        }
+    },
+
+    COMMENT_BURST("comment-burst", "댓글 폭주: 최신 공개 게시글 5개에 댓글 작성, 4건 중 1건은 방금 쓴 댓글에 대댓글") {
+        @Override
+        void iterate(ScenarioContext context, int worker, long iteration) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long[] hot = context.hotPostIds();
+            long postId = hot[random.nextInt(Math.min(5, hot.length))];
+            String token = randomToken(context);
+            JsonNode created = context.client().post("POST /comments", "/api/v1/comments", token,
+                    Map.of("postId", postId, "content", "부하 테스트 댓글 " + iteration));
+            if (created.has("id") && random.nextInt(4) == 0) {
+                Map<String, Object> reply = new HashMap<>();
+                reply.put("postId", postId);
+                reply.put("content", "부하 테스트 대댓글 " + iteration);
+                reply.put("parentId", created.get("id").asLong());
+                context.client().post("POST /comments (reply)", "/api/v1/comments", token, reply);
+            }
+        }
+    },
+
+    SIGNUP_BURST("signup-burst", "가입 폭주: 닉네임 없이 가입해 랜덤 닉네임 발급 + BCrypt 해시 비용 측정") {
+        @Override
+        void iterate(ScenarioContext context, int worker, long iteration) {
+            long n = context.sequence().incrementAndGet();
+            context.client().post("POST /auth/signup", "/api/v1/auth/signup", null, Map.of(
+                    "email", "signup-" + context.runId() + "-" + n + "@example.com",
+                    "password", CorpusSeeder.PASSWORD,
+                    "passwordConfirm", CorpusSeeder.PASSWORD,
+                    "name", "가입" + n));
+        }
+    };
+
+    private static final String[] KEYWORDS = {"스프링", "인덱스", "캐시", "트랜잭션", "성능"};
+
+    private final String key;
+    private final String description;
+
+    Scenario(String key, String description) {
+        this.key = key;
+        this.description = description;
+    }
+
+    abstract void iterate(ScenarioContext context, int worker, long iteration);
+
+    String key() {
+        return key;
+    }
+
+    String description() {
+        return description;
+    }
+
+    static List<String> names() {
+        return Arrays.stream(values()).map(Scenario::key).toList();
+    }
+
+    static Scenario of(String key) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 시나리오: " + key + " (가능: " + names() + ")"));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String randomToken(ScenarioContext context) {
+        return context.tokens().get(ThreadLocalRandom.current().nextInt(context.tokens().size()));
+    }
+}
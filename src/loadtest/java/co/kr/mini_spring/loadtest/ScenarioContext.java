@@ -0,0 +1,31 @@
+package co.kr.mini_spring.loadtest;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시나리오 워커들이 공유하는 상태
+ * @param tokens       미리 로그인해 둔 회원들의 액세스 토큰
+ * @param publishedIds 공개 게시글 ID 전체 (상세 조회 대상)
+ * @param hotPostIds   최신 공개 게시글 일부 (조회/좋아요/댓글이 몰리는 대상)
+ * @param runId        회원가입 이메일이 실행끼리 겹치지 않도록 붙이는 실행 식별자
+ */
+record ScenarioContext(
+        LoadClient client,
+        LoadTestOptions options,
+        List<String> tokens,
+        long[] publishedIds,
+        long[] hotPostIds,
+        String runId,
+        AtomicLong sequence
+) {
+
+    /**
+     * 워커가 전담하는 회원 토큰을 차례로 돌려줍니다.
+     * 같은 회원을 두 워커가 동시에 쓰지 않으므로 좋아요/취소처럼 회원별 상태가 있는 요청끼리 충돌하지 않습니다.
+     */
+    String ownedToken(int worker, long iteration) {
+        int owned = (tokens.size() - worker + options.concurrency() - 1) / options.concurrency();
+        return tokens.get((int) (worker + (iteration % owned) * options.concurrency()));
+    }
+}
@@ -1,51 +1,115 @@
 package co.kr.mini_spring.admin.controller;
 
+import co.kr.mini_spring.admin.domain.SiteStat;
+import co.kr.mini_spring.admin.dto.AdminPostViewersResponse;
 import co.kr.mini_spring.admin.dto.AdminStatsResponse;
+import co.kr.mini_spring.admin.dto.AdminStatsSeriesResponse;
+import co.kr.mini_spring.admin.service.SiteStats;
+import co.kr.mini_spring.global.common.exception.BusinessException;
 import co.kr.mini_spring.global.common.response.ApiResponse;
+import co.kr.mini_spring.global.common.response.ResponseCode;
 import co.kr.mini_spring.member.domain.MemberStatus;
-import co.kr.mini_spring.member.domain.repository.MemberRepository;
-import co.kr.mini_spring.post.domain.repository.PostLikeRepository;
-import co.kr.mini_spring.post.domain.repository.PostRepository;
-import co.kr.mini_spring.post.domain.repository.CommentRepository;
+import co.kr.mini_spring.member.service.MemberService;
+import co.kr.mini_spring.post.search.PostSearchEngine;
+import co.kr.mini_spring.post.viewers.PostUniqueViewers;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/api/v1/admin")
 @RequiredArgsConstructor
 @Tag(name = "관리자", description = "관리자 대시보드 API")
 public class AdminController {
 
-    private final MemberRepository memberRepository;
-    private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
-    private final PostLikeRepository postLikeRepository;
+    private static final int MAX_SERIES_DAYS = 365;
+    private static final int MAX_VIEWER_DAYS = 90;
+
+    private final SiteStats siteStats;
+    private final PostSearchEngine postSearchEngine;
+    private final MemberService memberService;
+    private final PostUniqueViewers postUniqueViewers;
 
-    @Operation(summary = "대시보드 요약 통계", description = "회원/게시글/댓글/좋아요 집계 통계를 반환합니다. (ADMIN 전용)")
+    @Operation(summary = "대시보드 요약 통계", description = "회원/게시글/댓글/좋아요 집계 통계를 반환합니다. 이벤트로 갱신하는 카운터 값이며 원본 테이블을 스캔하지 않습니다. (ADMIN 전용)")
     @GetMapping("/stats")
     public ApiResponse<AdminStatsResponse> getStats() {
-        long totalMembers = memberRepository.count();
-        long activeMembers = memberRepository.countByStatus(MemberStatus.ACTIVE);
-        long suspendedMembers = memberRepository.countByStatus(MemberStatus.SUSPENDED);
-        long totalPosts = postRepository.count();
-        long publishedPosts = postRepository.countByPublished(true);
-        long totalComments = commentRepository.count();
-        long totalLikes = postLikeRepository.count();
-
         AdminStatsResponse response = AdminStatsResponse.builder()
-                .totalMembers(totalMembers)
-                .activeMembers(activeMembers)
-                .suspendedMembers(suspendedMembers)
-                .totalPosts(totalPosts)
-                .publishedPosts(publishedPosts)
-                .totalComments(totalComments)
-                .totalLikes(totalLikes)
+                .totalMembers(siteStats.get(SiteStat.TOTAL_MEMBERS))
+                .activeMembers(siteStats.get(SiteStat.ACTIVE_MEMBERS))
+                .suspendedMembers(siteStats.get(SiteStat.SUSPENDED_MEMBERS))
+                .totalPosts(siteStats.get(SiteStat.TOTAL_POSTS))
+                .publishedPosts(siteStats.get(SiteStat.PUBLISHED_POSTS))
+                .totalComments(siteStats.get(SiteStat.TOTAL_COMMENTS))
+                .totalLikes(siteStats.get(SiteStat.TOTAL_LIKES))
                 .build();
 
         return ApiResponse.success(response);
     }
+
+    @Operation(summary = "일별 통계 추이", description = "최근 days일(오늘 포함)의 일별 가입/게시글/댓글/좋아요 수를 반환합니다. (ADMIN 전용)")
+    @GetMapping("/stats/series")
+    public ApiResponse<AdminStatsSeriesResponse> getStatsSeries(
+            @RequestParam(value = "days", defaultValue = "30") int days
+    ) {
+        if (days < 1 || days > MAX_SERIES_DAYS) {
+            throw new BusinessException(ResponseCode.INVALID_INPUT_VALUE);
+        }
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusDays(days - 1L);
+        return ApiResponse.success(AdminStatsSeriesResponse.of(from, to, siteStats.getDaily(from, to)));
+    }
+
+    @Operation(summary = "게시글 고유 조회자 추이", description = "최근 days일(오늘 포함, 최대 90일)의 일별 고유 조회자 수와 기간 전체 고유 조회자 수를 반환합니다. HyperLogLog 추정값입니다. (ADMIN 전용)")
+    @GetMapping("/posts/{postId}/viewers")
+    public ApiResponse<AdminPostViewersResponse> getPostViewers(
+            @PathVariable Long postId,
+            @RequestParam(value = "days", defaultValue = "30") int days
+    ) {
+        if (days < 1 || days > MAX_VIEWER_DAYS) {
+            throw new BusinessException(ResponseCode.INVALID_INPUT_VALUE);
+        }
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusDays(days - 1L);
+        return ApiResponse.success(AdminPostViewersResponse.of(postId, from, to, postUniqueViewers.getSeries(postId, from, to)));
+    }
+
+    @Operation(summary = "통계 보정", description = "원본 테이블을 다시 세어 누적 통계를 보정하는 작업을 백그라운드에서 시작합니다. 이미 보정 중이면 새로 시작하지 않습니다. (ADMIN 전용)")
+    @PostMapping("/stats/reconcile")
+    public ApiResponse<Void> reconcileStats() {
+        if (!siteStats.triggerReconcile()) {
+            return ApiResponse.success("이미 통계 보정이 진행 중입니다.", null);
+        }
+        return ApiResponse.success("통계 보정을 시작했습니다.", null);
+    }
+
+    @Operation(summary = "검색 색인 재구성", description = "게시글 검색 색인을 원본 데이터로부터 다시 구성하는 작업을 백그라운드에서 시작합니다. 이미 재구성 중이거나 DB가 색인을 관리하는 검색 엔진이면 새로 시작하지 않습니다. (ADMIN 전용)")
+    @PostMapping("/search/rebuild")
+    public ApiResponse<Void> rebuildSearchIndex() {
+        if (!postSearchEngine.isRebuildable()) {
+            return ApiResponse.success("재구성할 검색 색인이 없습니다.", null);
+        }
+        if (!postSearchEngine.triggerRebuild()) {
+            return ApiResponse.success("이미 검색 색인 재구성이 진행 중입니다.", null);
+        }
+        return ApiResponse.success("검색 색인 재구성을 시작했습니다.", null);
+    }
+
+    @Operation(summary = "회원 상태 변경", description = "회원을 정지/정지 해제/탈퇴 처리합니다. 변경 즉시 캐시된 인증 정보가 무효화됩니다. (ADMIN 전용)")
+    @PatchMapping("/members/{memberId}/status")
+    public ApiResponse<Void> changeMemberStatus(
+            @PathVariable Long memberId,
+            @RequestParam MemberStatus status
+    ) {
+        memberService.changeStatus(memberId, status);
+        return ApiResponse.success();
+    }
 }
@@ -0,0 +1,26 @@
+package co.kr.mini_spring.admin.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 대시보드 일별 통계 항목 (site_stats_daily.stat_key)
+ * - 그날 새로 생긴 건수만 셉니다. (삭제/취소는 반영하지 않음)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DailyStat {
+    SIGNUPS("signups"),
+    POSTS("posts"),
+    COMMENTS("comments"),
+    LIKES("likes");
+
+    private final String key;
+
+    public static DailyStat fromKey(String key) {
+        for (DailyStat stat : values()) {
+            if (stat.key.equals(key)) return stat;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,28 @@
+package co.kr.mini_spring.admin.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 대시보드 누적 통계 항목 (site_stats.stat_key)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SiteStat {
+    TOTAL_MEMBERS("total_members"),
+    ACTIVE_MEMBERS("active_members"),
+    SUSPENDED_MEMBERS("suspended_members"),
+    TOTAL_POSTS("total_posts"),
+    PUBLISHED_POSTS("published_posts"),
+    TOTAL_COMMENTS("total_comments"),
+    TOTAL_LIKES("total_likes");
+
+    private final String key;
+
+    public static SiteStat fromKey(String key) {
+        for (SiteStat stat : values()) {
+            if (stat.key.equals(key)) return stat;
+        }
+        return null;
+    }
+}
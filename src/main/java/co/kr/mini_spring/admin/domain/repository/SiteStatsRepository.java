@@ -0,0 +1,132 @@
+package co.kr.mini_spring.admin.domain.repository;
+
+import co.kr.mini_spring.admin.domain.DailyStat;
+import co.kr.mini_spring.admin.domain.SiteStat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 관리자 통계 JDBC 리포지토리
+ * - site_stats: 항목별 누적 값, site_stats_daily: 날짜/항목별 건수
+ * - 원본 테이블 보정용 COUNT는 ID 구간 단위로 나누어 한 번에 긴 스캔이 생기지 않게 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SiteStatsRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<SiteStat, Long> findTotals() {
+        Map<SiteStat, Long> totals = new EnumMap<>(SiteStat.class);
+        jdbcTemplate.query("SELECT stat_key, value FROM site_stats",
+                rs -> {
+                    SiteStat stat = SiteStat.fromKey(rs.getString("stat_key"));
+                    if (stat != null) totals.put(stat, rs.getLong("value"));
+                });
+        return totals;
+    }
+
+    /**
+     * 누적 값 증분과 일별 증분을 한 트랜잭션으로 반영합니다.
+     */
+    @Transactional
+    public void applyDeltas(Map<SiteStat, Long> totals, Map<LocalDate, Map<DailyStat, Long>> daily) {
+        if (!totals.isEmpty()) {
+            List<Object[]> args = totals.entrySet().stream()
+                    .map(e -> new Object[]{e.getKey().getKey(), e.getValue()})
+                    .toList();
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO site_stats (stat_key, value) VALUES (?, ?) " +
+                            "ON DUPLICATE KEY UPDATE value = value + VALUES(value)",
+                    args);
+        }
+        if (!daily.isEmpty()) {
+            List<Object[]> args = daily.entrySet().stream()
+                    .flatMap(day -> day.getValue().entrySet().stream()
+                            .map(e -> new Object[]{Date.valueOf(day.getKey()), e.getKey().getKey(), e.getValue()}))
+                    .toList();
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO site_stats_daily (stat_date, stat_key, value) VALUES (?, ?, ?) " +
+                            "ON DUPLICATE KEY UPDATE value = value + VALUES(value)",
+                    args);
+        }
+    }
+
+    /**
+     * from ~ to(포함) 기간의 일별 통계를 날짜순으로 조회합니다.
+     */
+    public Map<LocalDate, Map<DailyStat, Long>> findDaily(LocalDate from, LocalDate to) {
+        Map<LocalDate, Map<DailyStat, Long>> series = new TreeMap<>();
+        jdbcTemplate.query(
+                "SELECT stat_date, stat_key, value FROM site_stats_daily WHERE stat_date BETWEEN ? AND ?",
+                rs -> {
+                    DailyStat stat = DailyStat.fromKey(rs.getString("stat_key"));
+                    if (stat == null) return;
+                    series.computeIfAbsent(rs.getDate("stat_date").toLocalDate(), date -> new EnumMap<>(DailyStat.class))
+                            .put(stat, rs.getLong("value"));
+                },
+                Date.valueOf(from), Date.valueOf(to));
+        return series;
+    }
+
+    public long findMaxMemberId() {
+        return maxId("SELECT MAX(id) FROM member");
+    }
+
+    public long findMaxPostId() {
+        return maxId("SELECT MAX(id) FROM post");
+    }
+
+    public long findMaxCommentId() {
+        return maxId("SELECT MAX(id) FROM comment");
+    }
+
+    /**
+     * ID 구간의 회원 수를 [전체, 활성, 정지] 순서로 반환합니다.
+     */
+    public long[] countMembers(long fromId, long toId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*), COALESCE(SUM(status = 'ACTIVE'), 0), COALESCE(SUM(status = 'SUSPENDED'), 0) " +
+                        "FROM member WHERE id BETWEEN ? AND ?",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)},
+                fromId, toId);
+    }
+
+    /**
+     * ID 구간의 삭제되지 않은 게시글 수를 [전체, 공개] 순서로 반환합니다.
+     */
+    public long[] countPosts(long fromId, long toId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(deleted_at IS NULL), 0), COALESCE(SUM(deleted_at IS NULL AND is_published = 1), 0) " +
+                        "FROM post WHERE id BETWEEN ? AND ?",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)},
+                fromId, toId);
+    }
+
+    public long countComments(long fromId, long toId) {
+        return count("SELECT COUNT(*) FROM comment WHERE id BETWEEN ? AND ? AND deleted_at IS NULL", fromId, toId);
+    }
+
+    public long countLikes(long fromPostId, long toPostId) {
+        return count("SELECT COUNT(*) FROM post_like WHERE post_id BETWEEN ? AND ?", fromPostId, toPostId);
+    }
+
+    private long maxId(String sql) {
+        Long maxId = jdbcTemplate.queryForObject(sql, Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+
+    private long count(String sql, long fromId, long toId) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, fromId, toId);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,37 @@
+package co.kr.mini_spring.admin.dto;
+
+import co.kr.mini_spring.post.viewers.PostUniqueViewers.ViewerSeries;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class AdminPostViewersResponse {
+    private final Long postId;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final long uniqueViewers; // 기간 전체 고유 조회자 수 (일별 값의 합이 아님)
+    private final List<DailyPoint> points;
+
+    public static AdminPostViewersResponse of(Long postId, LocalDate from, LocalDate to, ViewerSeries series) {
+        List<DailyPoint> points = new ArrayList<>();
+        for (Map.Entry<LocalDate, Long> entry : series.daily().entrySet()) {
+            points.add(new DailyPoint(entry.getKey(), entry.getValue()));
+        }
+        return AdminPostViewersResponse.builder()
+                .postId(postId)
+                .from(from)
+                .to(to)
+                .uniqueViewers(series.total())
+                .points(points)
+                .build();
+    }
+
+    public record DailyPoint(LocalDate date, long uniqueViewers) {
+    }
+}
@@ -0,0 +1,41 @@
+package co.kr.mini_spring.admin.dto;
+
+import co.kr.mini_spring.admin.domain.DailyStat;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class AdminStatsSeriesResponse {
+    private final LocalDate from;
+    private final LocalDate to;
+    private final List<DailyPoint> points;
+
+    /**
+     * 기간 내 모든 날짜를 포함하도록 값이 없는 날은 0으로 채웁니다.
+     */
+    public static AdminStatsSeriesResponse of(LocalDate from, LocalDate to, Map<LocalDate, Map<DailyStat, Long>> series) {
+        List<DailyPoint> points = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            Map<DailyStat, Long> values = series.getOrDefault(date, Map.of());
+            points.add(new DailyPoint(date,
+                    values.getOrDefault(DailyStat.SIGNUPS, 0L),
+                    values.getOrDefault(DailyStat.POSTS, 0L),
+                    values.getOrDefault(DailyStat.COMMENTS, 0L),
+                    values.getOrDefault(DailyStat.LIKES, 0L)));
+        }
+        return AdminStatsSeriesResponse.builder()
+                .from(from)
+                .to(to)
+                .points(points)
+                .build();
+    }
+
+    public record DailyPoint(LocalDate date, long signups, long posts, long comments, long likes) {
+    }
+}
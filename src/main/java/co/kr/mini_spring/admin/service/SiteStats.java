@@ -0,0 +1,368 @@
+package co.kr.mini_spring.admin.service;
+
+import co.kr.mini_spring.admin.domain.DailyStat;
+import co.kr.mini_spring.admin.domain.SiteStat;
+import co.kr.mini_spring.admin.domain.repository.SiteStatsRepository;
+import co.kr.mini_spring.member.domain.MemberStatus;
+import co.kr.mini_spring.member.domain.event.MemberStatusChangedEvent;
+import co.kr.mini_spring.post.domain.event.CommentChangedEvent;
+import co.kr.mini_spring.post.domain.event.PostChangedEvent;
+import co.kr.mini_spring.post.domain.event.PostLikeChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 관리자 대시보드 통계
+ * - 회원/게시글/댓글/좋아요 변경 이벤트를 커밋 이후 받아 항목별 LongAdder에 증분을 쌓고,
+ *   admin.stats.flush-interval-ms마다 site_stats/site_stats_daily에 더한 뒤 DB의 누적 값을 다시 읽어 옵니다.
+ *   조회 값은 "마지막으로 읽은 DB 값 + 반영 중 증분 + 미반영 증분"이므로 통계 조회 시 원본 테이블을 스캔하지 않습니다.
+ * - 여러 인스턴스가 각자 증분을 더하므로 다른 인스턴스의 변경은 다음 flush 이후 보입니다.
+ * - admin.stats.reconcile-interval-ms마다 원본 테이블을 ID 구간 단위로 다시 세어, DB 누적 값과의 차이를 보정 증분으로 더합니다.
+ *   (보정 스캔 도중 커밋된 변경 일부는 다음 보정까지 어긋날 수 있습니다.)
+ * - 다른 인스턴스의 미반영 증분은 스캔 결과에 이미 포함되어 있어도 그 인스턴스가 나중에 다시 더하므로,
+ *   스캔 전후로 다른 인스턴스의 반영이 관찰되면 보정하지 않습니다. 보정은 단일 인스턴스이거나 다른 인스턴스에 변경이 없을 때만 적용됩니다.
+ * - 보정은 스캔과 대기가 길어 다른 @Scheduled 작업(조회수/좋아요/통계 flush 등)과 요청 스레드를 막지 않도록 전용 스레드에서 실행합니다.
+ */
+@Slf4j
+@Component
+public class SiteStats {
+
+    private final SiteStatsRepository siteStatsRepository;
+    private final int reconcileChunkSize;
+    private final long flushIntervalMs;
+
+    private final Map<SiteStat, LongAdder> pending = new EnumMap<>(SiteStat.class);
+    private final ConcurrentHashMap<DailyKey, LongAdder> pendingDaily = new ConcurrentHashMap<>();
+    // flush와 보정(reconcile)의 반영을 직렬화합니다. DB 호출 중에 보유하므로 synchronized를 쓰지 않습니다.
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 보정은 한 번에 하나만 실행합니다. (예약 실행과 수동 실행이 겹치는 경우)
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+    // 이 인스턴스가 시작 이후 site_stats에 더한 증분 합계 (flushLock으로 보호). 보정 중 다른 인스턴스의 반영을 구분하는 데 씁니다.
+    private final Map<SiteStat, Long> flushedTotals = new EnumMap<>(SiteStat.class);
+    private final AtomicBoolean reconcileQueued = new AtomicBoolean();
+    private final ExecutorService reconcileExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "site-stats-reconcile");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // DB에서 읽은 누적 값과 DB에 반영 중인 증분. 조회 시 둘을 함께 읽도록 하나의 스냅샷으로 교체합니다.
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of(), Map.of());
+
+    public SiteStats(
+            SiteStatsRepository siteStatsRepository,
+            @Value("${admin.stats.reconcile-chunk-size:10000}") int reconcileChunkSize,
+            @Value("${admin.stats.flush-interval-ms:5000}") long flushIntervalMs) {
+        this.siteStatsRepository = siteStatsRepository;
+        this.reconcileChunkSize = reconcileChunkSize;
+        this.flushIntervalMs = flushIntervalMs;
+        for (SiteStat stat : SiteStat.values()) {
+            pending.put(stat, new LongAdder());
+        }
+    }
+
+    public long get(SiteStat stat) {
+        Snapshot current = snapshot;
+        return current.totals().getOrDefault(stat, 0L)
+                + current.inFlight().getOrDefault(stat, 0L)
+                + pending.get(stat).sum();
+    }
+
+    /**
+     * from ~ to(포함) 기간의 일별 통계를 날짜순으로 반환합니다. (아직 DB에 반영되지 않은 증분 포함)
+     */
+    public Map<LocalDate, Map<DailyStat, Long>> getDaily(LocalDate from, LocalDate to) {
+        Snapshot current = snapshot;
+        Map<LocalDate, Map<DailyStat, Long>> series = new TreeMap<>(siteStatsRepository.findDaily(from, to));
+        Map<DailyKey, Long> unflushed = new HashMap<>(current.inFlightDaily());
+        pendingDaily.forEach((key, adder) -> unflushed.merge(key, adder.sum(), Long::sum));
+        unflushed.forEach((key, delta) -> {
+            if (key.date().isBefore(from) || key.date().isAfter(to)) return;
+            series.computeIfAbsent(key.date(), date -> new EnumMap<>(DailyStat.class)).merge(key.stat(), delta, Long::sum);
+        });
+        return series;
+    }
+
+    @TransactionalEventListener
+    public void onMemberStatusChanged(MemberStatusChangedEvent event) {
+        if (event.isJoined()) {
+            add(SiteStat.TOTAL_MEMBERS, 1);
+            addDaily(DailyStat.SIGNUPS, 1);
+        } else {
+            addByStatus(event.previousStatus(), -1);
+        }
+        addByStatus(event.currentStatus(), 1);
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> {
+                add(SiteStat.TOTAL_POSTS, 1);
+                if (event.published()) add(SiteStat.PUBLISHED_POSTS, 1);
+                addDaily(DailyStat.POSTS, 1);
+            }
+            case DELETED -> {
+                add(SiteStat.TOTAL_POSTS, -1);
+                if (event.published()) add(SiteStat.PUBLISHED_POSTS, -1);
+            }
+            case PUBLISH_TOGGLED -> add(SiteStat.PUBLISHED_POSTS, event.published() ? 1 : -1);
+            case UPDATED -> {
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> {
+                add(SiteStat.TOTAL_COMMENTS, 1);
+                addDaily(DailyStat.COMMENTS, 1);
+            }
+            case DELETED -> add(SiteStat.TOTAL_COMMENTS, -1);
+            case UPDATED -> {
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostLikeChanged(PostLikeChangedEvent event) {
+        add(SiteStat.TOTAL_LIKES, event.delta());
+        if (event.delta() > 0) addDaily(DailyStat.LIKES, event.delta());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            Map<SiteStat, Long> totals = siteStatsRepository.findTotals();
+            if (totals.size() < SiteStat.values().length) {
+                log.info("[SiteStats] 누적 통계가 없어 원본 테이블로부터 계산합니다.");
+                triggerReconcile();
+                return;
+            }
+            snapshot = new Snapshot(totals, Map.of(), Map.of());
+        } catch (RuntimeException e) {
+            log.error("[SiteStats] 통계 초기화 실패 error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 쌓인 증분을 DB에 더하고 최신 누적 값을 다시 읽습니다.
+     */
+    @Scheduled(fixedDelayString = "${admin.stats.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * flushLock을 보유한 상태에서 호출합니다. 반영과 누적 값 재조회에 성공하면 true를 반환합니다.
+     */
+    private boolean flushPending() {
+        Map<SiteStat, Long> drained = new EnumMap<>(SiteStat.class);
+        pending.forEach((stat, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) drained.put(stat, delta);
+        });
+        Map<DailyKey, Long> drainedDaily = new HashMap<>();
+        LocalDate today = LocalDate.now();
+        pendingDaily.forEach((key, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                drainedDaily.put(key, delta);
+            } else if (key.date().isBefore(today)) {
+                // 지난 날짜 카운터는 더 이상 증가하지 않으므로 비어 있으면 정리합니다.
+                pendingDaily.remove(key, adder);
+            }
+        });
+
+        Map<SiteStat, Long> totals = snapshot.totals();
+        snapshot = new Snapshot(totals, drained, drainedDaily);
+        try {
+            if (!drained.isEmpty() || !drainedDaily.isEmpty()) {
+                siteStatsRepository.applyDeltas(drained, byDate(drainedDaily));
+                drained.forEach((stat, delta) -> flushedTotals.merge(stat, delta, Long::sum));
+            }
+            snapshot = new Snapshot(siteStatsRepository.findTotals(), Map.of(), Map.of());
+            return true;
+        } catch (RuntimeException e) {
+            log.error("[SiteStats] 통계 반영 실패, 다음 주기에 재시도합니다. error={}", e.getMessage());
+            drained.forEach(this::add);
+            drainedDaily.forEach((key, delta) -> pendingDaily.computeIfAbsent(key, k -> new LongAdder()).add(delta));
+            snapshot = new Snapshot(totals, Map.of(), Map.of());
+            return false;
+        }
+    }
+
+    @Scheduled(initialDelayString = "${admin.stats.reconcile-interval-ms:3600000}",
+            fixedDelayString = "${admin.stats.reconcile-interval-ms:3600000}")
+    public void scheduledReconcile() {
+        if (!triggerReconcile()) {
+            log.debug("[SiteStats] 이전 보정이 끝나지 않아 이번 주기를 건너뜁니다.");
+        }
+    }
+
+    /**
+     * 보정을 전용 스레드에 요청합니다. 이미 실행 중이면 건너뜁니다.
+     * @return 새 보정을 시작했으면 true
+     */
+    public boolean triggerReconcile() {
+        if (!reconcileQueued.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            reconcileExecutor.execute(() -> {
+                try {
+                    reconcile();
+                } finally {
+                    reconcileQueued.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            reconcileQueued.set(false);
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 확인 구간 대기 중이면 인터럽트되어 보정을 건너뜁니다.
+        reconcileExecutor.shutdownNow();
+    }
+
+    /**
+     * 원본 테이블을 ID 구간 단위로 다시 세어, 스캔 이후 DB 누적 값과의 차이를 보정 증분으로 더합니다.
+     * - 스캔 시작부터 보정 직전까지 누적 값이 이 인스턴스의 반영분 외에 바뀌었으면 다른 인스턴스가 반영 중이므로 건너뜁니다.
+     *   다른 인스턴스의 스캔 이전 증분이 한 번은 반영되도록, 확인 구간은 flush 주기의 두 배 이상으로 둡니다.
+     * - 호출한 스레드에서 끝까지 실행하므로 스케줄러/요청 스레드에서는 {@link #triggerReconcile()}를 사용합니다.
+     */
+    public void reconcile() {
+        if (!reconcileLock.tryLock()) {
+            log.info("[SiteStats] 이미 보정 중이므로 건너뜁니다.");
+            return;
+        }
+        try {
+            Map<SiteStat, Long> base;
+            Map<SiteStat, Long> flushedAtBase;
+            flushLock.lock();
+            try {
+                if (!flushPending()) return;
+                base = snapshot.totals();
+                flushedAtBase = new EnumMap<>(flushedTotals);
+            } finally {
+                flushLock.unlock();
+            }
+            long startedAt = System.currentTimeMillis();
+
+            Map<SiteStat, Long> counted = countSourceTables();
+
+            long remainingMs = flushIntervalMs * 2 - (System.currentTimeMillis() - startedAt);
+            if (remainingMs > 0) Thread.sleep(remainingMs);
+
+            flushLock.lock();
+            try {
+                if (!flushPending()) return;
+                Map<SiteStat, Long> current = snapshot.totals();
+                for (SiteStat stat : SiteStat.values()) {
+                    long own = flushedTotals.getOrDefault(stat, 0L) - flushedAtBase.getOrDefault(stat, 0L);
+                    long foreign = current.getOrDefault(stat, 0L) - base.getOrDefault(stat, 0L) - own;
+                    if (foreign != 0) {
+                        log.warn("[SiteStats] 보정 중 다른 인스턴스의 반영이 있어 보정을 건너뜁니다. stat={}, delta={}", stat, foreign);
+                        return;
+                    }
+                }
+                Map<SiteStat, Long> correction = new EnumMap<>(SiteStat.class);
+                counted.forEach((stat, value) -> {
+                    long delta = value - current.getOrDefault(stat, 0L);
+                    if (delta != 0 || !current.containsKey(stat)) correction.put(stat, delta);
+                });
+                if (!correction.isEmpty()) {
+                    siteStatsRepository.applyDeltas(correction, Map.of());
+                }
+                snapshot = new Snapshot(siteStatsRepository.findTotals(), Map.of(), Map.of());
+                log.info("[SiteStats] 누적 통계 보정 완료 {} (보정 증분 {})", counted, correction);
+            } finally {
+                flushLock.unlock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    private Map<SiteStat, Long> countSourceTables() {
+        Map<SiteStat, Long> counted = new EnumMap<>(SiteStat.class);
+        for (SiteStat stat : SiteStat.values()) counted.put(stat, 0L);
+
+        long maxMemberId = siteStatsRepository.findMaxMemberId();
+        for (long from = 1; from <= maxMemberId; from += reconcileChunkSize) {
+            long[] members = siteStatsRepository.countMembers(from, from + reconcileChunkSize - 1);
+            counted.merge(SiteStat.TOTAL_MEMBERS, members[0], Long::sum);
+            counted.merge(SiteStat.ACTIVE_MEMBERS, members[1], Long::sum);
+            counted.merge(SiteStat.SUSPENDED_MEMBERS, members[2], Long::sum);
+        }
+        long maxPostId = siteStatsRepository.findMaxPostId();
+        for (long from = 1; from <= maxPostId; from += reconcileChunkSize) {
+            long to = from + reconcileChunkSize - 1;
+            long[] posts = siteStatsRepository.countPosts(from, to);
+            counted.merge(SiteStat.TOTAL_POSTS, posts[0], Long::sum);
+            counted.merge(SiteStat.PUBLISHED_POSTS, posts[1], Long::sum);
+            counted.merge(SiteStat.TOTAL_LIKES, siteStatsRepository.countLikes(from, to), Long::sum);
+        }
+        long maxCommentId = siteStatsRepository.findMaxCommentId();
+        for (long from = 1; from <= maxCommentId; from += reconcileChunkSize) {
+            counted.merge(SiteStat.TOTAL_COMMENTS, siteStatsRepository.countComments(from, from + reconcileChunkSize - 1), Long::sum);
+        }
+        return counted;
+    }
+
+    private void add(SiteStat stat, long delta) {
+        pending.get(stat).add(delta);
+    }
+
+    private void addByStatus(MemberStatus status, long delta) {
+        if (status == MemberStatus.ACTIVE) add(SiteStat.ACTIVE_MEMBERS, delta);
+        if (status == MemberStatus.SUSPENDED) add(SiteStat.SUSPENDED_MEMBERS, delta);
+    }
+
+    private void addDaily(DailyStat stat, long delta) {
+        pendingDaily.computeIfAbsent(new DailyKey(LocalDate.now(), stat), key -> new LongAdder()).add(delta);
+    }
+
+    private static Map<LocalDate, Map<DailyStat, Long>> byDate(Map<DailyKey, Long> daily) {
+        Map<LocalDate, Map<DailyStat, Long>> grouped = new HashMap<>();
+        daily.forEach((key, delta) -> grouped.computeIfAbsent(key.date(), date -> new EnumMap<>(DailyStat.class)).put(key.stat(), delta));
+        return grouped;
+    }
+
+    private record DailyKey(LocalDate date, DailyStat stat) {
+    }
+
+    private record Snapshot(Map<SiteStat, Long> totals, Map<SiteStat, Long> inFlight, Map<DailyKey, Long> inFlightDaily) {
+    }
+}
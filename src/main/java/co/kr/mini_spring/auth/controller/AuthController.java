@@ -59,7 +59,7 @@ public class AuthController {
     @PostMapping("/logout")
     public ApiResponse<Void> logout(@AuthenticationPrincipal MemberAdapter memberAdapter) {
         log.info("[Logout] 요청 email={}", memberAdapter.getUsername());
-        authService.logout(memberAdapter.getUsername());
+        authService.logout(memberAdapter.getMemberId());
         return ApiResponse.success();
     }
 
@@ -1,12 +1,10 @@
 package co.kr.mini_spring.auth.oauth.handler;
 
-import co.kr.mini_spring.auth.token.domain.RefreshToken;
-import co.kr.mini_spring.auth.token.repository.RefreshTokenRepository;
+import co.kr.mini_spring.auth.service.RefreshTokenService;
 import co.kr.mini_spring.auth.oauth.HttpCookieOAuth2AuthorizationRequestRepository;
 import co.kr.mini_spring.global.security.JwtTokenProvider;
 import co.kr.mini_spring.member.domain.Member;
 import co.kr.mini_spring.member.domain.MemberProvider;
-import co.kr.mini_spring.member.domain.MemberRole;
 import co.kr.mini_spring.member.domain.repository.MemberRepository;
 import co.kr.mini_spring.member.domain.MemberProvider;
 import jakarta.servlet.ServletException;
@@ -15,7 +13,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
@@ -33,7 +30,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 
     private final JwtTokenProvider jwtTokenProvider;
     private final MemberRepository memberRepository; // Member 조회를 위해 주입
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final HttpCookieOAuth2AuthorizationRequestRepository httpCookieOAuth2AuthorizationRequestRepository;
 
     @Override
@@ -59,14 +56,6 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         String oauthId = resolveOauthId(registrationId, authToken.getName(), attributes);
         MemberProvider provider = resolveProvider(registrationId);
 
-        boolean isAdmin = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .anyMatch("ROLE_ADMIN"::equals);
-        MemberRole role = isAdmin ? MemberRole.ADMIN : MemberRole.USER;
-
-        JwtTokenProvider.TokenWithExpiry accessTokenInfo = jwtTokenProvider.generateAccessToken(email, role);
-        JwtTokenProvider.TokenWithExpiry refreshTokenInfo = jwtTokenProvider.generateRefreshToken(email);
-
         // 1. 이메일로 Member를 조회하여 member_id를 얻습니다.
         Member member = memberRepository.findByOauthProviderAndOauthId(
                         provider,
@@ -74,19 +63,9 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
                 .orElseGet(() -> memberRepository.findByEmail(email)
                         .orElseThrow(() -> new IllegalStateException("OAuth2 인증 후 사용자를 찾을 수 없습니다: " + email)));
 
-        // 2. Refresh Token을 DB에 저장하거나 업데이트합니다.
-        refreshTokenRepository.findByMemberId(member.getId())
-                .ifPresentOrElse(
-                        existingToken -> existingToken.updateToken(refreshTokenInfo.getToken(), refreshTokenInfo.getExpiresAt()),
-                        () -> refreshTokenRepository.save(
-                                RefreshToken.builder()
-                                        .token(refreshTokenInfo.getToken())
-                                        .memberId(member.getId())
-                                        .expiresAt(refreshTokenInfo.getExpiresAt())
-                                        .revoked(false)
-                                        .build()
-                        )
-                );
+        JwtTokenProvider.TokenWithExpiry accessTokenInfo = jwtTokenProvider.generateAccessToken(member);
+        // 2. Refresh Token을 발급하고 다이제스트를 DB에 저장하거나 업데이트합니다.
+        JwtTokenProvider.TokenWithExpiry refreshTokenInfo = refreshTokenService.issue(member);
 
         String accessToken = accessTokenInfo.getToken();
         String refreshToken = refreshTokenInfo.getToken();
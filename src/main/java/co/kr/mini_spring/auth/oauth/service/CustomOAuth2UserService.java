@@ -2,10 +2,13 @@ package co.kr.mini_spring.auth.oauth.service;
 
 import co.kr.mini_spring.member.domain.Member;
 import co.kr.mini_spring.member.domain.MemberStatus;
+import co.kr.mini_spring.member.domain.event.MemberChangedEvent;
+import co.kr.mini_spring.member.domain.event.MemberStatusChangedEvent;
 import co.kr.mini_spring.member.domain.repository.MemberRepository;
 import co.kr.mini_spring.auth.oauth.OAuthAttributes;
-import co.kr.mini_spring.global.util.NicknameGenerator;
+import co.kr.mini_spring.member.service.NicknameAllocator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
@@ -16,7 +19,7 @@ import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 import java.util.Collections;
@@ -27,14 +30,17 @@ import java.util.UUID;
  * 소셜 로그인 성공 후 후속 조치를 담당하는 서비스입니다.
  * - 사용자 정보를 가져와 DB에 저장하거나 업데이트합니다.
  * - Spring Security가 이해할 수 있는 형태의 인증 객체(OAuth2User)를 반환합니다.
+ * - 소셜 서비스 호출 동안 DB 커넥션을 잡지 않도록, 회원 조회/저장만 TransactionTemplate으로 트랜잭션을 엽니다.
  */
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NicknameAllocator nicknameAllocator;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Spring Security가 소셜 로그인 성공 시 호출하는 메인 메서드입니다.
@@ -85,11 +91,29 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
 
     /**
      * 이메일을 기준으로 사용자를 찾거나, 없는 경우 새로 생성하여 저장합니다.
+     * - 신규 가입은 닉네임 UNIQUE 키 충돌 시 새 닉네임으로 다시 저장합니다. (NicknameAllocator)
      * @param attributes 표준화된 소셜 로그인 사용자 정보
      * @return 저장되거나 업데이트된 Member 엔티티
      */
     private Member findOrCreateMember(OAuthAttributes attributes) {
-        // 1. 이메일로 기존 사용자가 있는지 찾아봅니다.
+        Member existing = transactionTemplate.execute(status -> updateExistingMember(attributes));
+        if (existing != null) {
+            return existing;
+        }
+        return nicknameAllocator.withNickname(nickname -> transactionTemplate.execute(status -> {
+            String encodedPassword = passwordEncoder.encode(UUID.randomUUID().toString());
+            Member saved = memberRepository.save(attributes.toEntity(encodedPassword, nickname));
+            eventPublisher.publishEvent(MemberChangedEvent.of(saved));
+            eventPublisher.publishEvent(MemberStatusChangedEvent.joined(saved.getId(), saved.getStatus()));
+            return saved;
+        }));
+    }
+
+    /**
+     * 소셜 식별자 또는 이메일로 기존 회원을 찾아 정보를 갱신합니다. 없으면 null을 반환합니다.
+     */
+    private Member updateExistingMember(OAuthAttributes attributes) {
+        // 1. 소셜 식별자, 이메일 순으로 기존 사용자가 있는지 찾아봅니다.
         Optional<Member> memberOptional = Optional.empty();
         if (attributes.getOauthId() != null && attributes.getProvider() != null) {
             memberOptional = memberRepository.findByOauthProviderAndOauthId(attributes.getProvider(), attributes.getOauthId());
@@ -97,13 +121,11 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
         if (memberOptional.isEmpty() && StringUtils.hasText(attributes.getEmail())) {
             memberOptional = memberRepository.findByEmail(attributes.getEmail());
         }
+        if (memberOptional.isEmpty()) {
+            return null;
+        }
 
-        Member member = memberOptional.orElseGet(() -> {
-            String encodedPassword = passwordEncoder.encode(UUID.randomUUID().toString());
-            String nickname = NicknameGenerator.generateUniqueNickname(n -> memberRepository.findByNickname(n).isPresent());
-            return attributes.toEntity(encodedPassword, nickname);
-        });
-
+        Member member = memberOptional.get();
         if (member.getStatus() == MemberStatus.WITHDRAWN) {
             throw new OAuth2AuthenticationException(new OAuth2Error("access_denied"), "탈퇴한 계정입니다.");
         }
@@ -120,7 +142,10 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
             member.changeProvider(attributes.getProvider(), attributes.getOauthId());
         }
 
-        return memberRepository.save(member);
+        Member saved = memberRepository.save(member);
+        // 이름/소셜 연결 정보가 바뀌었을 수 있으므로 캐시된 인증 주체를 무효화합니다.
+        eventPublisher.publishEvent(MemberChangedEvent.of(saved));
+        return saved;
     }
 
 }
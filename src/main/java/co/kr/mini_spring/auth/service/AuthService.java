@@ -6,8 +6,7 @@ import co.kr.mini_spring.global.common.exception.BusinessException;
 import co.kr.mini_spring.global.common.response.ResponseCode;
 import co.kr.mini_spring.member.domain.Member;
 import co.kr.mini_spring.member.domain.repository.MemberRepository;
-import co.kr.mini_spring.auth.token.domain.RefreshToken;
-import co.kr.mini_spring.auth.token.repository.RefreshTokenRepository;
+import co.kr.mini_spring.auth.token.domain.RefreshTokenDigest;
 import co.kr.mini_spring.global.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,11 +20,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final MemberRepository memberRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final RefreshTokenRevocations refreshTokenRevocations;
     private final JwtTokenProvider jwtTokenProvider;
     private final PasswordEncoder passwordEncoder;
 
-    @Transactional
+    /**
+     * 로그인
+     * - 비밀번호 검증(BCrypt)은 트랜잭션 밖에서 하여 해시를 계산하는 동안 DB 커넥션을 쥐지 않습니다.
+     *   회원 조회는 리포지토리 호출 단위로 커넥션을 바로 반납하고, 트랜잭션은 리프레시 토큰 저장(RefreshTokenService.issue)에서만 엽니다.
+     */
     public TokenResponse login(LoginRequest request) {
         Member member = memberRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new BusinessException(ResponseCode.MEMBER_NOT_FOUND));
@@ -39,22 +43,8 @@ public class AuthService {
         }
 
         JwtTokenProvider.TokenWithExpiry accessToken =
-                jwtTokenProvider.generateAccessToken(member.getEmail(), member.getRole());
-        JwtTokenProvider.TokenWithExpiry refreshToken =
-                jwtTokenProvider.generateRefreshToken(member.getEmail());
-
-        refreshTokenRepository.findByMemberId(member.getId())
-                .ifPresentOrElse(
-                        existing -> existing.updateToken(refreshToken.getToken(), refreshToken.getExpiresAt()),
-                        () -> refreshTokenRepository.save(
-                                RefreshToken.builder()
-                                        .token(refreshToken.getToken())
-                                        .memberId(member.getId())
-                                        .expiresAt(refreshToken.getExpiresAt())
-                                        .revoked(false)
-                                        .build()
-                        )
-                );
+                jwtTokenProvider.generateAccessToken(member);
+        JwtTokenProvider.TokenWithExpiry refreshToken = refreshTokenService.issue(member);
 
         log.info("[Login] 로그인 성공 memberId={}, email={}", member.getId(), member.getEmail());
 
@@ -66,6 +56,11 @@ public class AuthService {
                 .build();
     }
 
+    /**
+     * 토큰 재발급
+     * - 폐기 집합에 있는 토큰은 DB 조회 없이 거절하고, 회원은 토큰의 회원 ID 클레임으로 PK 조회합니다.
+     * - 리프레시 토큰 교체는 기존 다이제스트를 조건으로 한 UPDATE 한 번입니다. (RefreshTokenService.rotate)
+     */
     @Transactional
     public TokenResponse refreshToken(String refreshTokenValue) {
         JwtTokenProvider.JwtValidationResult validation = jwtTokenProvider.validateTokenWithResult(refreshTokenValue);
@@ -73,23 +68,21 @@ public class AuthService {
             throw new BusinessException(validation.getErrorCode());
         }
 
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(refreshTokenValue)
-                .orElseThrow(() -> new BusinessException(ResponseCode.REFRESH_TOKEN_NOT_FOUND));
-
-        if (refreshToken.isExpired() || refreshToken.isRevoked()) {
-            refreshTokenRepository.delete(refreshToken);
+        byte[] tokenHash = RefreshTokenDigest.of(refreshTokenValue);
+        if (refreshTokenRevocations.isRevoked(tokenHash)) {
             throw new BusinessException(ResponseCode.REFRESH_TOKEN_EXPIRED);
         }
 
-        Member member = memberRepository.findById(refreshToken.getMemberId())
+        // 회원 ID 클레임이 없는 이전 형식의 토큰이면 이메일(subject)로 조회합니다.
+        Long memberId = JwtTokenProvider.getMemberId(validation.getClaims());
+        Member member = (memberId != null
+                ? memberRepository.findById(memberId)
+                : memberRepository.findByEmail(validation.getClaims().getSubject()))
                 .orElseThrow(() -> new BusinessException(ResponseCode.MEMBER_NOT_FOUND));
 
+        JwtTokenProvider.TokenWithExpiry newRefreshToken = refreshTokenService.rotate(tokenHash, member);
         JwtTokenProvider.TokenWithExpiry newAccessToken =
-                jwtTokenProvider.generateAccessToken(member.getEmail(), member.getRole());
-        JwtTokenProvider.TokenWithExpiry newRefreshToken =
-                jwtTokenProvider.generateRefreshToken(member.getEmail());
-
-        refreshToken.updateToken(newRefreshToken.getToken(), newRefreshToken.getExpiresAt());
+                jwtTokenProvider.generateAccessToken(member);
 
         log.info("[TokenRefresh] 토큰 갱신 성공 memberId={}, email={}", member.getId(), member.getEmail());
 
@@ -103,19 +96,11 @@ public class AuthService {
 
     /**
      * 로그아웃
-     * - email로 회원을 찾아 RefreshToken을 삭제
+     * - 인증 주체의 회원 ID로 RefreshToken을 폐기하고, 폐기 집합에 등록합니다.
      */
-    @Transactional
-    public void logout(String email) {
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ResponseCode.MEMBER_NOT_FOUND));
-
-        refreshTokenRepository.findByMemberId(member.getId())
-                .ifPresent(refreshToken -> {
-                    refreshToken.revoke();
-                    refreshTokenRepository.save(refreshToken);
-                });
+    public void logout(Long memberId) {
+        refreshTokenService.revoke(memberId);
 
-        log.info("[Logout] 로그아웃 성공 memberId={}", member.getId());
+        log.info("[Logout] 로그아웃 성공 memberId={}", memberId);
     }
 }
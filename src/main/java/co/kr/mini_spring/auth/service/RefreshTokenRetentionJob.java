@@ -0,0 +1,41 @@
+package co.kr.mini_spring.auth.service;
+
+import co.kr.mini_spring.auth.token.repository.RefreshTokenRepository;
+import co.kr.mini_spring.global.retention.RetentionJob;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * refresh_token 보존 기간 정리
+ * - 만료 또는 폐기(revoked_at)된 지 retention.refresh-token.retain-days가 지난 토큰 행을 삭제합니다.
+ * - 삭제된 토큰으로 재발급을 요청하면 "토큰 없음"으로 거절되므로 동작은 같습니다.
+ */
+@Component
+public class RefreshTokenRetentionJob implements RetentionJob {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long retainDays;
+
+    public RefreshTokenRetentionJob(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${retention.refresh-token.retain-days:7}") long retainDays) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.retainDays = retainDays;
+    }
+
+    @Override
+    public String name() {
+        return "refresh_token";
+    }
+
+    @Override
+    public int purgeChunk(LocalDateTime now, int limit) {
+        LocalDateTime before = now.minusDays(retainDays);
+        List<Long> ids = refreshTokenRepository.findPurgeableIds(before, limit);
+        if (ids.isEmpty()) return 0;
+        return refreshTokenRepository.deletePurgeable(ids, before);
+    }
+}
@@ -0,0 +1,63 @@
+package co.kr.mini_spring.auth.service;
+
+import co.kr.mini_spring.auth.token.domain.RefreshTokenDigest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 폐기된 리프레시 토큰 다이제스트 집합
+ * - 로그아웃/재발급(교체)/재로그인으로 더 이상 쓸 수 없게 된 토큰을 보관하여, 재사용 요청은 DB에 가지 않고 거절합니다.
+ * - 리프레시 토큰 만료 시간이 지나면 서명 검증에서 걸러지므로 그 이상 보관하지 않습니다.
+ * - 인스턴스별 집합이므로 다른 인스턴스에서 폐기된 토큰은 refresh_token의 조건부 UPDATE가 최종 판정합니다.
+ *   (크기 상한으로 밀려난 항목도 마찬가지입니다.)
+ */
+@Component
+public class RefreshTokenRevocations {
+
+    private final Cache<String, Boolean> revoked;
+
+    public RefreshTokenRevocations(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.revocation.max-size:100000}") long maxSize,
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+        this.revoked = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(refreshTokenExpiration))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, revoked, "refreshTokenRevocation");
+    }
+
+    public boolean isRevoked(byte[] tokenHash) {
+        return revoked.getIfPresent(RefreshTokenDigest.toKey(tokenHash)) != null;
+    }
+
+    public void revoke(byte[] tokenHash) {
+        revoked.put(RefreshTokenDigest.toKey(tokenHash), Boolean.TRUE);
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 있으면 커밋 이후에, 없으면 즉시 보관합니다.
+     * (롤백되면 토큰은 여전히 유효하므로 미리 넣지 않습니다.)
+     */
+    public void revokeAfterCommit(byte[] tokenHash) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revoke(tokenHash);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revoke(tokenHash);
+            }
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package co.kr.mini_spring.auth.service;
+
+import co.kr.mini_spring.auth.token.domain.RefreshToken;
+import co.kr.mini_spring.auth.token.domain.RefreshTokenDigest;
+import co.kr.mini_spring.auth.token.repository.RefreshTokenRepository;
+import co.kr.mini_spring.global.common.exception.BusinessException;
+import co.kr.mini_spring.global.common.response.ResponseCode;
+import co.kr.mini_spring.global.security.JwtTokenProvider;
+import co.kr.mini_spring.member.domain.Member;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 발급/교체/폐기
+ * - refresh_token에는 원문 대신 SHA-256 다이제스트만 저장하고, 조회/교체도 다이제스트로 합니다.
+ * - 재발급은 기존 다이제스트를 조건으로 한 UPDATE 한 번으로 교체하므로, 같은 토큰으로 동시에 재발급해도 한 요청만 성공합니다.
+ * - 교체/폐기된 토큰은 RefreshTokenRevocations에 넣어 재사용 요청을 DB 조회 없이 거절합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenRevocations refreshTokenRevocations;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    /**
+     * 새 리프레시 토큰을 발급해 회원의 토큰 행에 저장합니다. (가입/로그인/소셜 로그인)
+     * - 회원당 한 행을 유지하므로 이전에 발급된 토큰은 더 이상 쓸 수 없습니다.
+     */
+    @Transactional
+    public JwtTokenProvider.TokenWithExpiry issue(Member member) {
+        JwtTokenProvider.TokenWithExpiry refreshToken = jwtTokenProvider.generateRefreshToken(member);
+        byte[] tokenHash = RefreshTokenDigest.of(refreshToken.getToken());
+
+        refreshTokenRepository.findByMemberId(member.getId())
+                .ifPresentOrElse(
+                        existing -> {
+                            refreshTokenRevocations.revokeAfterCommit(existing.getTokenHash());
+                            existing.updateToken(tokenHash, refreshToken.getExpiresAt());
+                        },
+                        () -> refreshTokenRepository.save(
+                                RefreshToken.builder()
+                                        .tokenHash(tokenHash)
+                                        .memberId(member.getId())
+                                        .expiresAt(refreshToken.getExpiresAt())
+                                        .revoked(false)
+                                        .build()
+                        )
+                );
+        return refreshToken;
+    }
+
+    /**
+     * 기존 토큰이 유효하면 새 토큰으로 교체합니다.
+     * - 정상 경로는 조건부 UPDATE 한 번이며, 교체에 실패했을 때만 거절 사유를 구분하기 위해 행을 조회합니다.
+     */
+    @Transactional
+    public JwtTokenProvider.TokenWithExpiry rotate(byte[] oldHash, Member member) {
+        JwtTokenProvider.TokenWithExpiry refreshToken = jwtTokenProvider.generateRefreshToken(member);
+        int rotated = refreshTokenRepository.rotate(
+                oldHash,
+                RefreshTokenDigest.of(refreshToken.getToken()),
+                member.getId(),
+                refreshToken.getExpiresAt(),
+                LocalDateTime.now());
+
+        if (rotated == 0) {
+            // 폐기/만료된 행이면 만료로, 없거나 이미 교체된 토큰이면 없음으로 응답합니다.
+            boolean known = refreshTokenRepository.findByTokenHash(oldHash).isPresent();
+            refreshTokenRevocations.revoke(oldHash);
+            throw new BusinessException(known ? ResponseCode.REFRESH_TOKEN_EXPIRED : ResponseCode.REFRESH_TOKEN_NOT_FOUND);
+        }
+
+        refreshTokenRevocations.revokeAfterCommit(oldHash);
+        return refreshToken;
+    }
+
+    /**
+     * 회원의 리프레시 토큰을 폐기합니다. (로그아웃)
+     */
+    @Transactional
+    public void revoke(Long memberId) {
+        refreshTokenRepository.findByMemberId(memberId)
+                .ifPresent(refreshToken -> {
+                    refreshToken.revoke();
+                    refreshTokenRevocations.revokeAfterCommit(refreshToken.getTokenHash());
+                });
+    }
+}
@@ -1,5 +1,6 @@
 package co.kr.mini_spring.auth.token.domain;
 
+import co.kr.mini_spring.global.common.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -14,12 +15,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RefreshToken {
 
+    // 클라이언트에 노출되지 않는 ID이므로 DB 왕복 없는 시간순 ID를 사용합니다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
-    @Column(nullable = false, unique = true)
-    private String token;
+    // 원문 토큰은 저장하지 않고 SHA-256 다이제스트(BINARY(32))로만 보관/조회합니다.
+    @Column(name = "token_hash", nullable = false, unique = true, columnDefinition = "BINARY(32)")
+    private byte[] tokenHash;
 
     @Column(nullable = false)
     private Long memberId;
@@ -33,26 +36,33 @@ public class RefreshToken {
     @Column(name = "is_revoked", nullable = false)
     private boolean revoked = false;
 
+    // 행은 회원별로 재사용되므로 보존 기간 정리는 발급 시각이 아닌 폐기 시각을 기준으로 합니다.
+    private LocalDateTime revokedAt;
+
     @Builder
-    public RefreshToken(String token, Long memberId, LocalDateTime expiresAt, boolean revoked) {
-        this.token = token;
+    public RefreshToken(byte[] tokenHash, Long memberId, LocalDateTime expiresAt, boolean revoked) {
+        this.tokenHash = tokenHash;
         this.memberId = memberId;
         this.expiresAt = expiresAt;
         this.revoked = revoked;
         this.createdAt = LocalDateTime.now();
+        this.revokedAt = revoked ? this.createdAt : null;
     }
 
     public boolean isExpired() {
         return LocalDateTime.now().isAfter(expiresAt);
     }
 
-    public void updateToken(String token, LocalDateTime expiresAt) {
-        this.token = token;
+    public void updateToken(byte[] tokenHash, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
         this.expiresAt = expiresAt;
         this.revoked = false;
+        this.revokedAt = null;
     }
 
     public void revoke() {
+        if (revoked) return;
         this.revoked = true;
+        this.revokedAt = LocalDateTime.now();
     }
 }
@@ -0,0 +1,31 @@
+package co.kr.mini_spring.auth.token.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 리프레시 토큰 다이제스트 유틸.
+ * 원문 토큰 대신 고정 길이(32바이트) SHA-256 값으로 저장/조회한다.
+ */
+public final class RefreshTokenDigest {
+
+    private RefreshTokenDigest() {
+    }
+
+    public static byte[] of(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 메모리 집합/캐시 키로 쓸 문자열 (byte[]는 내용으로 비교되지 않으므로 인코딩한다)
+     */
+    public static String toKey(byte[] digest) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+}
@@ -3,18 +3,51 @@ package co.kr.mini_spring.auth.token.repository;
 import co.kr.mini_spring.auth.token.domain.RefreshToken;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
 
     Optional<RefreshToken> findByMemberId(Long memberId);
 
     void deleteByMemberId(Long memberId);
 
-    boolean existsByToken(String token);
+    /**
+     * 기존 토큰이 유효할 때만 새 토큰으로 교체합니다. (기존 다이제스트 기준 compare-and-swap)
+     * - 폐기되지 않은 행만 교체하므로 교체 후에도 폐기 시각(revoked_at)은 비어 있습니다.
+     * @return 교체되었으면 1, 이미 교체/폐기/만료되었거나 없는 토큰이면 0
+     */
+    @Modifying
+    @Query("update RefreshToken rt set rt.tokenHash = :newHash, rt.expiresAt = :expiresAt, rt.revokedAt = null " +
+            "where rt.tokenHash = :oldHash and rt.memberId = :memberId and rt.revoked = false and rt.expiresAt > :now")
+    int rotate(@Param("oldHash") byte[] oldHash,
+               @Param("newHash") byte[] newHash,
+               @Param("memberId") Long memberId,
+               @Param("expiresAt") LocalDateTime expiresAt,
+               @Param("now") LocalDateTime now);
+
+    /**
+     * before 이전에 만료되었거나 before 이전에 폐기된 토큰 ID를 ID 순으로 최대 limit개 조회합니다.
+     */
+    @Query(value = "SELECT id FROM refresh_token " +
+            "WHERE expires_at < :before OR (is_revoked = TRUE AND revoked_at < :before) ORDER BY id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findPurgeableIds(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    /**
+     * 조회 이후 재로그인으로 다시 쓰이게 된 행은 남기도록 조건을 한 번 더 확인하고 ID로 삭제합니다.
+     */
+    @Modifying
+    @Query("delete from RefreshToken rt where rt.id in :ids " +
+            "and (rt.expiresAt < :before or (rt.revoked = true and rt.revokedAt < :before))")
+    int deletePurgeable(@Param("ids") List<Long> ids, @Param("before") LocalDateTime before);
 }
@@ -4,6 +4,7 @@ import co.kr.mini_spring.global.common.response.ApiResponse;
 import co.kr.mini_spring.global.common.response.ResponseCode;
 import co.kr.mini_spring.global.common.response.ValidationErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -16,12 +17,17 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import jakarta.validation.ConstraintViolationException;
 
+import java.sql.SQLTransientConnectionException;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+
+    // 커넥션을 얻지 못해 503으로 응답할 때 클라이언트에 알려 줄 재시도 대기 시간(초)
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     /**
      * 비즈니스 로직 예외 처리
      */
@@ -126,11 +132,26 @@ public class GlobalExceptionHandler {
 
     /**
      * 그 외 처리하지 않은 모든 예외
+     * - 커넥션 입장 제한/커넥션 풀 대기 시간 초과(SQLTransientConnectionException)는 JPA/트랜잭션 예외로 감싸여 올라오므로
+     *   원인을 확인해 503(Retry-After)으로 응답합니다.
      */
     @ExceptionHandler(Exception.class)
     protected ResponseEntity<ApiResponse<Void>> handleException(Exception e) {
+        if (hasCause(e, SQLTransientConnectionException.class)) {
+            log.warn("[ServiceBusy] {}: {}", e.getClass().getSimpleName(), e.getMessage());
+            return ResponseEntity.status(ResponseCode.SERVICE_BUSY.getHttpStatus())
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .body(ApiResponse.fail(ResponseCode.SERVICE_BUSY));
+        }
         log.error("[Uncaught] {}: {}", e.getClass().getSimpleName(), e.getMessage(), e);
         ApiResponse<Void> body = ApiResponse.fail(ResponseCode.INTERNAL_SERVER_ERROR);
         return new ResponseEntity<>(body, HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    private static boolean hasCause(Throwable e, Class<? extends Throwable> type) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) return true;
+        }
+        return false;
+    }
 }
@@ -0,0 +1,33 @@
+package co.kr.mini_spring.global.common.file.controller;
+
+import co.kr.mini_spring.global.common.file.service.FileService;
+import co.kr.mini_spring.global.common.file.service.UploadFileServer;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+
+/**
+ * 업로드 이미지 제공 (ImageFile.getFullUrl()이 가리키는 /uploads/** 경로)
+ */
+@Hidden
+@RestController
+@RequiredArgsConstructor
+public class UploadFileController {
+
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final UploadFileServer uploadFileServer;
+
+    @RequestMapping(value = FileService.URL_PREFIX + "**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String path = URL_PATH_HELPER.getPathWithinApplication(request);
+        uploadFileServer.serve(path.substring(FileService.URL_PREFIX.length()), request, response);
+    }
+}
@@ -5,9 +5,13 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 @Entity
 @Table(name = "image_file")
@@ -16,7 +20,8 @@ import java.time.LocalDateTime;
 public class ImageFile {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "image_file_seq")
+    @SequenceGenerator(name = "image_file_seq", sequenceName = "image_file_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -38,6 +43,11 @@ public class ImageFile {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 업로드 직후에는 비어 있고, 축소본 생성이 끝나면 채워집니다.
+    @BatchSize(size = 100)
+    @OneToMany(mappedBy = "imageFile")
+    private List<ImageVariant> variants = new ArrayList<>();
+
     @Builder
     public ImageFile(String originName, String storedName, String filePath, Long fileSize, String extension) {
         this.originName = originName;
@@ -53,4 +63,17 @@ public class ImageFile {
     public String getFullUrl() {
         return filePath + storedName;
     }
+
+    /**
+     * 요청 크기 이상인 축소본 중 가장 작은 것의 경로를 반환합니다.
+     * - 그런 축소본이 없으면(아직 생성 전이거나 원본이 더 작은 경우) 원본 경로를 반환합니다.
+     * @param size 긴 변 기준 픽셀
+     */
+    public String getVariantUrl(int size) {
+        return variants.stream()
+                .filter(variant -> variant.getSize() >= size)
+                .min(Comparator.comparingInt(ImageVariant::getSize))
+                .map(variant -> filePath + variant.getStoredName())
+                .orElseGet(this::getFullUrl);
+    }
 }
@@ -0,0 +1,61 @@
+package co.kr.mini_spring.global.common.file.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 이미지의 축소본
+ * - 원본과 같은 디렉터리에 `{원본 파일명}_{크기}.{확장자}`로 저장합니다.
+ * - size는 긴 변 기준 최대 픽셀이며, 원본이 그보다 작으면 만들지 않습니다.
+ */
+@Entity
+@Table(name = "image_variant",
+        uniqueConstraints = @UniqueConstraint(name = "uk_image_variant_size", columnNames = {"image_file_id", "size"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageVariant {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "image_variant_seq")
+    @SequenceGenerator(name = "image_variant_seq", sequenceName = "image_variant_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "image_file_id", nullable = false)
+    private ImageFile imageFile;
+
+    @Column(nullable = false)
+    private int size; // 요청 크기 (긴 변 최대 픽셀)
+
+    @Column(nullable = false, unique = true)
+    private String storedName;
+
+    @Column(nullable = false)
+    private int width;
+
+    @Column(nullable = false)
+    private int height;
+
+    @Column(nullable = false)
+    private Long fileSize; // 파일 크기 (bytes)
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public ImageVariant(ImageFile imageFile, int size, String storedName, int width, int height, Long fileSize) {
+        this.imageFile = imageFile;
+        this.size = size;
+        this.storedName = storedName;
+        this.width = width;
+        this.height = height;
+        this.fileSize = fileSize;
+    }
+}
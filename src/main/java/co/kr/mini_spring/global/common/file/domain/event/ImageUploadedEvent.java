@@ -0,0 +1,8 @@
+package co.kr.mini_spring.global.common.file.domain.event;
+
+/**
+ * 이미지 업로드 이벤트
+ * - FileService가 원본 파일과 메타데이터를 저장한 뒤 발행하며, 커밋 이후 축소본 생성 작업을 예약하는 데 사용합니다.
+ */
+public record ImageUploadedEvent(Long imageFileId) {
+}
@@ -0,0 +1,10 @@
+package co.kr.mini_spring.global.common.file.domain.repository;
+
+import co.kr.mini_spring.global.common.file.domain.ImageVariant;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ImageVariantRepository extends JpaRepository<ImageVariant, Long> {
+    List<ImageVariant> findByImageFileId(Long imageFileId);
+}
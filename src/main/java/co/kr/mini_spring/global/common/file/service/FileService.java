@@ -2,11 +2,13 @@ package co.kr.mini_spring.global.common.file.service;
 
 import co.kr.mini_spring.global.common.exception.FileException;
 import co.kr.mini_spring.global.common.file.domain.ImageFile;
+import co.kr.mini_spring.global.common.file.domain.event.ImageUploadedEvent;
 import co.kr.mini_spring.global.common.file.domain.repository.ImageFileRepository;
 import co.kr.mini_spring.global.common.response.ResponseCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -26,15 +28,20 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class FileService {
 
+    // 업로드 파일의 공개 URL 접두사. 이 뒤의 경로가 upload-dir 아래 상대 경로와 같습니다.
+    public static final String URL_PREFIX = "/uploads/";
+
     @Value("${file.upload-dir}")
     private String uploadDir;
 
     private final ImageFileRepository imageFileRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final List<String> ALLOWED_IMAGE_EXTENSIONS = Arrays.asList("jpg", "jpeg", "png", "gif", "webp");
 
     /**
      * 이미지를 업로드하고 메타데이터를 DB에 저장합니다.
+     * - 축소본은 커밋 이후 ImageVariantGenerator가 별도 스레드에서 만듭니다. (ImageUploadedEvent)
      */
     @Transactional
     public ImageFile uploadImage(MultipartFile file) {
@@ -65,12 +72,23 @@ public class FileService {
         ImageFile imageFile = ImageFile.builder()
                 .originName(originalName)
                 .storedName(storedName)
-                .filePath("/uploads/" + datePath + "/")
+                .filePath(URL_PREFIX + datePath + "/")
                 .fileSize(file.getSize())
                 .extension(extension)
                 .build();
 
-        return imageFileRepository.save(imageFile);
+        ImageFile saved = imageFileRepository.save(imageFile);
+        eventPublisher.publishEvent(new ImageUploadedEvent(saved.getId()));
+        return saved;
+    }
+
+    /**
+     * 저장된 파일의 디스크 경로를 반환합니다.
+     * @param filePath URL 경로 (예: /uploads/2026/01/19/)
+     */
+    public Path resolveStoredPath(String filePath, String storedName) {
+        String relativeDir = filePath.startsWith(URL_PREFIX) ? filePath.substring(URL_PREFIX.length()) : filePath;
+        return Paths.get(uploadDir, relativeDir).resolve(storedName);
     }
 
     /**
@@ -0,0 +1,212 @@
+package co.kr.mini_spring.global.common.file.service;
+
+import co.kr.mini_spring.global.common.file.domain.ImageFile;
+import co.kr.mini_spring.global.common.file.domain.ImageVariant;
+import co.kr.mini_spring.global.common.file.domain.event.ImageUploadedEvent;
+import co.kr.mini_spring.global.common.file.domain.repository.ImageFileRepository;
+import co.kr.mini_spring.global.common.file.domain.repository.ImageVariantRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 축소본 생성기
+ * - 원본 저장이 커밋되면(ImageUploadedEvent) 크기가 제한된 전용 스레드 풀에 작업을 넣고, 요청 스레드는 바로 반환합니다.
+ * - 긴 변 기준 file.variant.sizes 픽셀로 비율을 유지해 줄인 축소본을 원본 옆에 저장하고 image_variant에 기록합니다.
+ *   원본이 해당 크기 이하이면 그 크기는 만들지 않습니다.
+ * - javax.imageio로 읽고 쓸 수 있는 jpg/png만 처리하며, gif(애니메이션)와 webp는 원본만 제공합니다.
+ * - 디코딩 전에 헤더의 가로/세로 픽셀 수만 읽어, file.variant.max-pixels를 넘는 이미지는 축소본 없이 원본만 제공합니다.
+ *   (작은 파일로 수억 픽셀을 선언해 디코딩 메모리를 고갈시키는 이미지 방지)
+ * - 대기열이 가득 차면 작업을 버리고 경고를 남깁니다. 축소본이 없어도 원본 URL로 응답하므로 기능에는 문제가 없습니다.
+ */
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+    private static final Map<String, String> WRITABLE_FORMATS = Map.of("jpg", "jpg", "jpeg", "jpg", "png", "png");
+
+    private final FileService fileService;
+    private final ImageFileRepository imageFileRepository;
+    private final ImageVariantRepository imageVariantRepository;
+    private final int[] sizes;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+
+    public ImageVariantGenerator(
+            FileService fileService,
+            ImageFileRepository imageFileRepository,
+            ImageVariantRepository imageVariantRepository,
+            @Value("${file.variant.sizes:64,256,1024}") int[] sizes,
+            @Value("${file.variant.threads:2}") int threads,
+            @Value("${file.variant.queue-capacity:100}") int queueCapacity,
+            @Value("${file.variant.max-pixels:40000000}") long maxPixels) {
+        this.fileService = fileService;
+        this.imageFileRepository = imageFileRepository;
+        this.imageVariantRepository = imageVariantRepository;
+        this.sizes = Arrays.stream(sizes).sorted().distinct().toArray();
+        this.maxPixels = maxPixels;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @TransactionalEventListener
+    public void onImageUploaded(ImageUploadedEvent event) {
+        try {
+            executor.execute(() -> generate(event.imageFileId()));
+        } catch (RejectedExecutionException e) {
+            log.warn("[ImageVariant] 대기열이 가득 차 축소본 생성을 건너뜁니다. imageFileId={}", event.imageFileId());
+        }
+    }
+
+    void generate(Long imageFileId) {
+        ImageFile imageFile = imageFileRepository.findById(imageFileId).orElse(null);
+        if (imageFile == null) return;
+        String format = WRITABLE_FORMATS.get(imageFile.getExtension().toLowerCase());
+        if (format == null) return;
+
+        Path originalPath = fileService.resolveStoredPath(imageFile.getFilePath(), imageFile.getStoredName());
+        List<ImageVariant> variants = new ArrayList<>();
+        try {
+            BufferedImage original = readWithinPixelLimit(originalPath);
+            if (original == null) return;
+            int longSide = Math.max(original.getWidth(), original.getHeight());
+            for (int size : sizes) {
+                if (longSide <= size) break;
+                variants.add(writeVariant(imageFile, original, originalPath, size, format));
+            }
+            if (!variants.isEmpty()) {
+                imageVariantRepository.saveAll(variants);
+            }
+            log.debug("[ImageVariant] 축소본 생성 완료 imageFileId={}, count={}", imageFileId, variants.size());
+        } catch (IOException | RuntimeException e) {
+            log.error("[ImageVariant] 축소본 생성 실패 imageFileId={}, error={}", imageFileId, e.getMessage());
+            variants.forEach(variant -> deleteQuietly(originalPath.resolveSibling(variant.getStoredName())));
+        }
+    }
+
+    /**
+     * 헤더에서 크기를 먼저 확인한 뒤, 픽셀 수가 상한 이하인 이미지만 디코딩합니다.
+     * @return 읽을 수 없거나 상한을 넘는 이미지면 null
+     */
+    private BufferedImage readWithinPixelLimit(Path path) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                log.warn("[ImageVariant] 이미지를 읽을 수 없습니다. path={}", path);
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("[ImageVariant] 픽셀 수 상한을 넘어 축소본 생성을 건너뜁니다. path={}, size={}x{}, maxPixels={}",
+                            path, width, height, maxPixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private ImageVariant writeVariant(ImageFile imageFile, BufferedImage original, Path originalPath, int size, String format) throws IOException {
+        double scale = (double) size / Math.max(original.getWidth(), original.getHeight());
+        int width = Math.max(1, (int) Math.round(original.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(original.getHeight() * scale));
+        BufferedImage resized = resize(original, width, height, "png".equals(format));
+
+        String storedName = variantName(imageFile.getStoredName(), size);
+        Path target = originalPath.resolveSibling(storedName);
+        if (!ImageIO.write(resized, format, target.toFile())) {
+            throw new IOException("지원하지 않는 이미지 형식입니다: " + format);
+        }
+        return ImageVariant.builder()
+                .imageFile(imageFile)
+                .size(size)
+                .storedName(storedName)
+                .width(width)
+                .height(height)
+                .fileSize(Files.size(target))
+                .build();
+    }
+
+    /**
+     * 절반씩 단계적으로 줄여 한 번에 크게 줄일 때 생기는 계단 현상을 줄입니다.
+     */
+    private BufferedImage resize(BufferedImage source, int width, int height, boolean keepAlpha) {
+        int imageType = keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            BufferedImage step = new BufferedImage(currentWidth, currentHeight, imageType);
+            Graphics2D graphics = step.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = step;
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+
+    /**
+     * 축소본 파일명: {원본 파일명(확장자 제외)}_{크기}.{확장자}
+     */
+    static String variantName(String storedName, int size) {
+        int dot = storedName.lastIndexOf('.');
+        return storedName.substring(0, dot) + "_" + size + storedName.substring(dot);
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[ImageVariant] 축소본 파일 삭제 실패 path={}", path);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package co.kr.mini_spring.global.common.file.service;
+
+import co.kr.mini_spring.global.common.exception.FileException;
+import co.kr.mini_spring.global.common.response.ResponseCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * 업로드 파일(/uploads/**) 전송기
+ * - 저장 파일명은 UUID(축소본은 UUID_크기)라 내용이 바뀌지 않으므로, 파일명으로 만든 강한 ETag와
+ *   `Cache-Control: immutable`을 내려 브라우저가 다시 요청하지 않게 하고, 재검증 요청에는 304로 응답합니다.
+ * - 단일 구간 Range 요청은 206으로 해당 구간만 보냅니다. (여러 구간 요청은 전체를 200으로 응답)
+ * - Tomcat이 sendfile을 지원하면 파일 경로만 넘겨 커넥터가 커널 sendfile로 보내게 하여, 요청 스레드가 본문 복사에 묶이지 않습니다.
+ *   지원하지 않으면 FileChannel.transferTo로 복사합니다.
+ * - 업로드 디렉터리 밖을 가리키는 경로(.., 심볼릭 링크)와 이미지가 아닌 파일은 404로 응답합니다.
+ */
+@Slf4j
+@Component
+public class UploadFileServer {
+
+    private static final Set<String> SERVABLE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "webp");
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final Path uploadRoot;
+    private final Counter fullBytes;
+    private final Counter partialBytes;
+    private final Counter notModified;
+
+    public UploadFileServer(MeterRegistry meterRegistry, @Value("${file.upload-dir}") String uploadDir) {
+        this.uploadRoot = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.fullBytes = bytesCounter(meterRegistry, "full");
+        this.partialBytes = bytesCounter(meterRegistry, "partial");
+        this.notModified = Counter.builder("uploads.not.modified")
+                .description("304로 응답한 업로드 파일 요청 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter bytesCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("uploads.served.bytes")
+                .description("업로드 파일 응답 본문 바이트 수")
+                .baseUnit("bytes")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param relativePath 업로드 디렉터리 기준 상대 경로 (예: 2026/01/19/uuid.png)
+     */
+    public void serve(String relativePath, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = resolve(relativePath);
+        String fileName = file.getFileName().toString();
+        long length = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis() / 1000 * 1000;
+        String etag = "\"" + fileName + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (isNotModified(request, etag, lastModified)) {
+            notModified.increment();
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        long start = 0;
+        long end = length - 1;
+        ByteRange range = isRangeApplicable(request, etag, lastModified) ? ByteRange.parse(request.getHeader(HttpHeaders.RANGE), length) : null;
+        if (range == ByteRange.UNSATISFIABLE) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+        if (range != null) {
+            start = range.start();
+            end = range.end();
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+
+        if ("HEAD".equals(request.getMethod()) || count == 0) return;
+        (range != null ? partialBytes : fullBytes).increment(count);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            OutputStream out = response.getOutputStream();
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            while (position <= end) {
+                long sent = channel.transferTo(position, end + 1 - position, target);
+                if (sent <= 0) break;
+                position += sent;
+            }
+            out.flush();
+        }
+    }
+
+    private Path resolve(String relativePath) {
+        if (relativePath == null || relativePath.isBlank()) {
+            throw new FileException(ResponseCode.FILE_NOT_FOUND);
+        }
+        String extension = relativePath.substring(relativePath.lastIndexOf('.') + 1).toLowerCase();
+        Path file = uploadRoot.resolve(relativePath).normalize();
+        if (!SERVABLE_EXTENSIONS.contains(extension) || !file.startsWith(uploadRoot)
+                || !Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS)) {
+            throw new FileException(ResponseCode.FILE_NOT_FOUND);
+        }
+        return file;
+    }
+
+    /**
+     * If-None-Match가 있으면 그것만으로(약한 비교), 없으면 If-Modified-Since로 판단합니다.
+     */
+    private boolean isNotModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return matchesAny(ifNoneMatch, etag, true);
+        }
+        long ifModifiedSince = parseDate(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && lastModified <= ifModifiedSince;
+    }
+
+    /**
+     * If-Range가 현재 ETag(강한 비교) 또는 Last-Modified와 일치할 때만 Range를 적용합니다.
+     */
+    private boolean isRangeApplicable(HttpServletRequest request, String etag, long lastModified) {
+        if (request.getHeader(HttpHeaders.RANGE) == null) return false;
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) return true;
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return matchesAny(ifRange, etag, false);
+        }
+        return parseDate(request, HttpHeaders.IF_RANGE) == lastModified;
+    }
+
+    private static boolean matchesAny(String header, String etag, boolean weak) {
+        return Arrays.stream(header.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> candidate.equals("*") || candidate.equals(etag)
+                        || (weak && candidate.startsWith("W/") && candidate.substring(2).equals(etag)));
+    }
+
+    private static long parseDate(HttpServletRequest request, String header) {
+        try {
+            return request.getDateHeader(header);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 단일 바이트 구간 (양 끝 포함)
+     */
+    record ByteRange(long start, long end) {
+
+        static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+        /**
+         * @return 적용할 구간. 형식이 잘못되었거나 여러 구간이면 null(전체 전송), 파일 밖이면 UNSATISFIABLE
+         */
+        static ByteRange parse(String header, long length) {
+            if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) return null;
+            String spec = header.substring("bytes=".length()).trim();
+            int dash = spec.indexOf('-');
+            if (dash < 0) return null;
+            try {
+                String first = spec.substring(0, dash).trim();
+                String last = spec.substring(dash + 1).trim();
+                if (first.isEmpty()) {
+                    // bytes=-N: 마지막 N바이트
+                    long suffix = Long.parseLong(last);
+                    if (suffix <= 0 || length == 0) return UNSATISFIABLE;
+                    return new ByteRange(Math.max(0, length - suffix), length - 1);
+                }
+                long start = Long.parseLong(first);
+                long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+                if (start >= length) return UNSATISFIABLE;
+                if (end < start) return null;
+                return new ByteRange(start, end);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
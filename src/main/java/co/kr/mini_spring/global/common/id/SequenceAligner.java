@@ -0,0 +1,60 @@
+package co.kr.mini_spring.global.common.id;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * pooled 시퀀스 위치 보정
+ * - AUTO_INCREMENT로 쌓인 행이 있는 DB에 schema.sql의 시퀀스(START WITH 1)를 만들면 새 ID가 기존 행과 겹칩니다.
+ *   prod는 ddl-auto: validate라 스키마를 다시 만들지 않으므로, 시작 시 각 시퀀스가 테이블의 MAX(id)보다 뒤에 있는지 확인하고
+ *   아니면 MAX(id) + 할당 크기 + 1로 옮깁니다. (pooled 옵티마이저는 시퀀스 값 이전 할당 크기만큼의 ID를 씁니다)
+ * - 웹 서버와 스케줄러가 시작되기 전(빈 초기화 시점)에 실행되므로 첫 INSERT보다 먼저 적용됩니다.
+ *   entityManagerFactory 이후에 초기화하여 ddl-auto(update/create)가 시퀀스를 만든 뒤에 읽습니다.
+ * - 이미 뒤에 있는 시퀀스는 건드리지 않으므로 매 시작마다 실행해도 안전합니다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class SequenceAligner {
+
+    // 엔티티의 @SequenceGenerator allocationSize와 같아야 합니다.
+    static final int ALLOCATION_SIZE = 50;
+
+    // 시퀀스 이름 → ID를 발급받는 테이블
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "post_seq", "post",
+            "comment_seq", "comment",
+            "image_file_seq", "image_file",
+            "image_variant_seq", "image_variant");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void align() {
+        SEQUENCES.forEach((sequence, table) -> {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            Long next = jdbcTemplate.queryForObject("SELECT next_not_cached_value FROM " + sequence, Long.class);
+            long restartWith = restartValue(maxId == null ? 0 : maxId, next == null ? 1 : next);
+            if (restartWith > 0) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + restartWith);
+                log.warn("[SequenceAligner] {}가 {}.id 최댓값({}) 이전에 있어 {}로 옮겼습니다.", sequence, table, maxId, restartWith);
+            }
+        });
+    }
+
+    /**
+     * 시퀀스가 기존 ID와 겹치는 범위를 발급할 수 있으면 옮길 시작 값을, 아니면 0을 반환합니다. (빈 테이블은 옮기지 않습니다)
+     */
+    static long restartValue(long maxId, long nextValue) {
+        if (maxId == 0) return 0;
+        long safeStart = maxId + ALLOCATION_SIZE + 1;
+        return nextValue < safeStart ? safeStart : 0;
+    }
+}
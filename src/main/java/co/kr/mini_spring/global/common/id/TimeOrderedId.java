@@ -0,0 +1,19 @@
+package co.kr.mini_spring.global.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 ID를 SnowflakeIdGenerator로 생성합니다.
+ * - {@code @Id} 필드에 {@code @GeneratedValue} 대신 붙입니다.
+ * - 64비트 값이라 JavaScript Number의 안전 정수 범위를 넘으므로, 클라이언트에 숫자로 노출되는 ID에는 사용하지 않습니다.
+ */
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
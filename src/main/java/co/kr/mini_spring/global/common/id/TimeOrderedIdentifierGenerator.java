@@ -0,0 +1,35 @@
+package co.kr.mini_spring.global.common.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+
+/**
+ * {@link TimeOrderedId}가 붙은 엔티티의 Hibernate ID 생성기
+ * - Hibernate가 직접 만드는 객체이므로, 스프링 빈인 SnowflakeIdGenerator를 Hibernate 설정(GENERATOR_SETTING)으로 전달받습니다.
+ */
+public class TimeOrderedIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String GENERATOR_SETTING = "mini_spring.id_generator";
+
+    private final SnowflakeIdGenerator generator;
+
+    public TimeOrderedIdentifierGenerator(TimeOrderedId config, Member member, CustomIdGeneratorCreationContext context) {
+        Object setting = context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSettings()
+                .get(GENERATOR_SETTING);
+        if (!(setting instanceof SnowflakeIdGenerator configured)) {
+            throw new IllegalStateException("Hibernate 설정 " + GENERATOR_SETTING + "에 SnowflakeIdGenerator가 없습니다.");
+        }
+        this.generator = configured;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return generator.nextId();
+    }
+}
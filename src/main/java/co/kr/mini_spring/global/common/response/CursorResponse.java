@@ -0,0 +1,24 @@
+package co.kr.mini_spring.global.common.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이징 응답
+ * - 전체 개수를 계산하지 않으며, 다음 페이지 요청에 사용할 nextCursor만 내려줍니다.
+ */
+@Getter
+public class CursorResponse<T> {
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    public CursorResponse(List<T> content, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = content.size();
+        this.hasNext = hasNext;
+        this.nextCursor = hasNext ? nextCursor : null;
+    }
+}
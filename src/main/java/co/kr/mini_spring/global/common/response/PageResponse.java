@@ -14,8 +14,13 @@ public class PageResponse<T> {
     private final long totalElements;
     private final boolean isFirst;
     private final boolean isLast;
+    private final boolean approximateTotal; // true면 totalElements/totalPages가 캐시된 근사값
 
     public PageResponse(Page<T> page) {
+        this(page, false);
+    }
+
+    public PageResponse(Page<T> page, boolean approximateTotal) {
         this.content = page.getContent();
         this.pageNumber = page.getNumber();
         this.pageSize = page.getSize();
@@ -23,5 +28,6 @@ public class PageResponse<T> {
         this.totalElements = page.getTotalElements();
         this.isFirst = page.isFirst();
         this.isLast = page.isLast();
+        this.approximateTotal = approximateTotal;
     }
 }
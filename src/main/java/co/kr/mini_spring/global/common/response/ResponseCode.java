@@ -18,11 +18,13 @@ public enum ResponseCode {
     UNAUTHENTICATED("C004", "인증되지 않은 사용자입니다.", HttpStatus.UNAUTHORIZED),
     INTERNAL_SERVER_ERROR("C005", "서버 내부 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     ENDPOINT_NOT_FOUND("C006", "요청한 API를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    SERVICE_BUSY("C007", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE),
 
     // Post
     POST_NOT_FOUND("P001", "게시글을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     NO_PERMISSION_TO_UPDATE_POST("P002", "게시글을 수정할 권한이 없습니다.", HttpStatus.FORBIDDEN),
     NO_PERMISSION_TO_DELETE_POST("P003", "게시글을 삭제할 권한이 없습니다.", HttpStatus.FORBIDDEN),
+    INVALID_CURSOR("P004", "유효하지 않은 커서입니다.", HttpStatus.BAD_REQUEST),
 
     // Comment
     COMMENT_NOT_FOUND("CM001", "댓글을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
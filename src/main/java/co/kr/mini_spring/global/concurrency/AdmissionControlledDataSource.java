@@ -0,0 +1,136 @@
+package co.kr.mini_spring.global.concurrency;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커넥션 동시 사용 수를 세마포어로 제한하는 DataSource
+ * - 가상 스레드 모드에서는 요청 수만큼 스레드가 생기므로, 모두가 커넥션 풀에 몰리면 풀 대기열이 길어지고
+ *   connection-timeout까지 기다리다 한꺼번에 실패합니다. 풀에 들어가기 전에 공정(FIFO) 세마포어로 입장을 제한합니다.
+ * - 허가는 getConnection 시 얻고 Connection.close 시 반납합니다. (close를 여러 번 호출해도 한 번만 반납)
+ * - acquireTimeoutMs 안에 허가를 얻지 못하면 HikariCP와 같은 SQLTransientConnectionException을 던집니다.
+ */
+public class AdmissionControlledDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long acquireTimeoutMs;
+    private final AdmissionListener listener;
+
+    public AdmissionControlledDataSource(DataSource target, int maxConcurrent, long acquireTimeoutMs, AdmissionListener listener) {
+        super(target);
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent는 1 이상이어야 합니다.");
+        }
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.listener = listener;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return admitted(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return admitted(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        if (permits.tryAcquire()) {
+            listener.admitted(0);
+            return;
+        }
+        long startedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("커넥션 입장 대기 중 인터럽트되었습니다.", e);
+        }
+        if (!acquired) {
+            listener.rejected();
+            throw new SQLTransientConnectionException(
+                    "커넥션 입장 대기 시간을 초과했습니다. timeout=" + acquireTimeoutMs + "ms, maxConcurrent=" + maxConcurrent);
+        }
+        listener.admitted(System.nanoTime() - startedAt);
+    }
+
+    private Connection admitted(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "Admitted[" + connection + "]";
+                    case "close" -> {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        yield null;
+                    }
+                    default -> {
+                        try {
+                            yield method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }
+                });
+    }
+
+    /**
+     * 입장 결과 통지 (메트릭 기록용)
+     */
+    public interface AdmissionListener {
+
+        /**
+         * @param waitNanos 허가를 얻기까지 기다린 시간 (바로 얻었으면 0)
+         */
+        void admitted(long waitNanos);
+
+        void rejected();
+    }
+}
@@ -0,0 +1,115 @@
+package co.kr.mini_spring.global.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션 입장 제한 설정 (db.admission.enabled=true일 때만, vt 프로필에서 기본 활성화)
+ * - 애플리케이션 DataSource를 AdmissionControlledDataSource로 감쌉니다. 허가 수 기본값은 Hikari maximum-pool-size,
+ *   대기 시간 기본값은 Hikari connection-timeout입니다. 대기 시간을 넘긴 요청은 503(Retry-After)으로 응답합니다.
+ * - 메트릭: db.admission.wait(입장 대기 시간), db.admission.rejected(대기 시간 초과),
+ *   db.admission.waiting(대기 중 스레드 수), db.admission.available(남은 허가 수)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "db.admission.enabled", havingValue = "true")
+public class ConnectionAdmissionConfig {
+
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+    private static final long HIKARI_DEFAULT_CONNECTION_TIMEOUT_MS = 30_000;
+
+    // DataSource보다 먼저 만들어져야 하므로 static으로 등록하고, 설정은 Environment에서 직접 읽습니다.
+    @Bean
+    static BeanPostProcessor connectionAdmissionPostProcessor(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof AdmissionControlledDataSource) {
+                    return bean;
+                }
+                int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, HIKARI_DEFAULT_POOL_SIZE);
+                int maxConcurrent = environment.getProperty("db.admission.max-concurrent", Integer.class, poolSize);
+                // 입장 대기는 풀 대기를 대신하므로, 기본값은 풀에서 직접 기다렸을 때와 같은 connection-timeout입니다.
+                long connectionTimeoutMs = environment.getProperty("spring.datasource.hikari.connection-timeout", Long.class,
+                        HIKARI_DEFAULT_CONNECTION_TIMEOUT_MS);
+                long acquireTimeoutMs = environment.getProperty("db.admission.acquire-timeout-ms", Long.class, connectionTimeoutMs);
+                log.info("[DbAdmission] 커넥션 입장 제한 적용 bean={}, maxConcurrent={}, acquireTimeout={}ms", beanName, maxConcurrent, acquireTimeoutMs);
+                return new AdmissionControlledDataSource(dataSource, maxConcurrent, acquireTimeoutMs, new MeteredListener(meterRegistry));
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder connectionAdmissionMetrics(DataSource dataSource) {
+        return registry -> {
+            AdmissionControlledDataSource admission;
+            try {
+                admission = dataSource.unwrap(AdmissionControlledDataSource.class);
+            } catch (SQLException e) {
+                log.warn("[DbAdmission] 입장 제한 DataSource를 찾지 못해 메트릭을 등록하지 않습니다. error={}", e.getMessage());
+                return;
+            }
+            Gauge.builder("db.admission.waiting", admission, AdmissionControlledDataSource::getWaitingThreads)
+                    .description("커넥션 입장 허가를 기다리는 스레드 수")
+                    .register(registry);
+            Gauge.builder("db.admission.available", admission, AdmissionControlledDataSource::getAvailablePermits)
+                    .description("남은 커넥션 입장 허가 수")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * MeterRegistry는 DataSource보다 늦게 만들어질 수 있으므로 첫 기록 시점에 미터를 만듭니다.
+     */
+    private static final class MeteredListener implements AdmissionControlledDataSource.AdmissionListener {
+
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private volatile Timer waitTimer;
+        private volatile Counter rejectedCounter;
+
+        private MeteredListener(ObjectProvider<MeterRegistry> meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public void admitted(long waitNanos) {
+            Timer timer = waitTimer;
+            if (timer == null) {
+                MeterRegistry registry = meterRegistry.getIfAvailable();
+                if (registry == null) return;
+                timer = waitTimer = Timer.builder("db.admission.wait")
+                        .description("커넥션 입장 허가 대기 시간")
+                        .publishPercentileHistogram()
+                        .register(registry);
+            }
+            timer.record(waitNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void rejected() {
+            Counter counter = rejectedCounter;
+            if (counter == null) {
+                MeterRegistry registry = meterRegistry.getIfAvailable();
+                if (registry == null) return;
+                counter = rejectedCounter = Counter.builder("db.admission.rejected")
+                        .description("입장 대기 시간 초과로 커넥션을 얻지 못한 횟수")
+                        .register(registry);
+            }
+            counter.increment();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package co.kr.mini_spring.global.config;
+
+import co.kr.mini_spring.global.common.id.SnowflakeIdGenerator;
+import co.kr.mini_spring.global.common.id.TimeOrderedIdentifierGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 시간순 ID 생성기 설정
+ * - 인스턴스마다 다른 노드 ID(0~1023)를 지정해야 여러 인스턴스가 만든 ID가 겹치지 않습니다.
+ * - id-generator.node-id는 기본값이 없으며, local 등 단일 인스턴스 실행용 기본값은 application.yml에만 둡니다.
+ *   prod는 ID_NODE_ID 환경 변수가 없으면 시작하지 않습니다.
+ */
+@Slf4j
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(@Value("${id-generator.node-id}") int nodeId) {
+        log.info("[IdGenerator] 시간순 ID 생성기 노드 ID={}", nodeId);
+        return new SnowflakeIdGenerator(nodeId);
+    }
+
+    /**
+     * Hibernate가 만드는 TimeOrderedIdentifierGenerator에 생성기 빈을 전달합니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer idGeneratorHibernateProperties(SnowflakeIdGenerator snowflakeIdGenerator) {
+        return properties -> properties.put(TimeOrderedIdentifierGenerator.GENERATOR_SETTING, snowflakeIdGenerator);
+    }
+}
@@ -0,0 +1,14 @@
+package co.kr.mini_spring.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * - 조회수 버퍼 flush 등 주기적으로 실행되는 백그라운드 작업을 활성화합니다.
+ * - 스케줄러 스레드 수는 spring.task.scheduling.pool.size로 정하며, 오래 걸리는 보정/정리 작업은 스케줄러가 아닌 전용 스레드에서 실행합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
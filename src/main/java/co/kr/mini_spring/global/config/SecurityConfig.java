@@ -4,14 +4,18 @@ import co.kr.mini_spring.auth.oauth.HttpCookieOAuth2AuthorizationRequestReposito
 import co.kr.mini_spring.auth.oauth.handler.OAuth2AuthenticationFailureHandler;
 import co.kr.mini_spring.auth.oauth.handler.OAuth2AuthenticationSuccessHandler;
 import co.kr.mini_spring.auth.oauth.service.CustomOAuth2UserService;
+import co.kr.mini_spring.global.common.file.service.FileService;
 import co.kr.mini_spring.global.security.CustomUserDetailsService;
 import co.kr.mini_spring.global.security.JwtAccessDeniedHandler;
 import co.kr.mini_spring.global.security.JwtAuthenticationEntryPoint;
 import co.kr.mini_spring.global.security.JwtAuthenticationFilter;
 import co.kr.mini_spring.global.security.JwtTokenProvider;
+import co.kr.mini_spring.global.security.MemberPrincipalCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -39,10 +43,14 @@ public class SecurityConfig {
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
     private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
     private final HttpCookieOAuth2AuthorizationRequestRepository httpCookieOAuth2AuthorizationRequestRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
+
+    @Value("${jwt.claims-only-paths:}")
+    private String[] claimsOnlyPaths;
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtTokenProvider, customUserDetailsService);
+        return new JwtAuthenticationFilter(jwtTokenProvider, customUserDetailsService, memberPrincipalCache, List.of(claimsOnlyPaths));
     }
 
     @Bean
@@ -75,7 +83,11 @@ public class SecurityConfig {
                                 "/oauth2/**",
                                 "/login/oauth2/code/**"
                         ).permitAll()
+                        // <img>는 인증 헤더를 보내지 않으므로 업로드 이미지 조회는 허용합니다.
+                        .requestMatchers(HttpMethod.GET, FileService.URL_PREFIX + "**").permitAll()
+                        .requestMatchers(HttpMethod.HEAD, FileService.URL_PREFIX + "**").permitAll()
                         .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/retention", "/actuator/queries", "/actuator/metrics/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .oauth2Login(oauth2 -> oauth2
@@ -0,0 +1,58 @@
+package co.kr.mini_spring.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿼리 지연 시간 계측 설정 (metrics.query.enabled=false로 끌 수 있음)
+ * - @TimedRepository 리포지토리의 메서드별 실행 시간/결과 건수: repository.query, repository.query.results
+ * - 애플리케이션 DataSource를 QueryTimingDataSource로 감싸 SQL 모양별 실행 시간을 모으고 /actuator/queries로 노출합니다.
+ * - Hibernate 통계(hibernate.*)와 Hikari 대기 시간 히스토그램(hikaricp.connections.acquire)은 application.yml 설정으로 켭니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "metrics.query.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryMetricsConfig {
+
+    // DataSource보다 먼저 만들어져야 하므로 static으로 등록하고, 설정은 Environment에서 직접 읽습니다.
+    @Bean
+    static QueryShapeLog queryShapeLog(Environment environment) {
+        long windowMinutes = environment.getProperty("metrics.query.window-minutes", Long.class, 5L);
+        int maxShapes = environment.getProperty("metrics.query.max-shapes", Integer.class, 500);
+        long slowThresholdMs = environment.getProperty("metrics.query.slow-threshold-ms", Long.class, 500L);
+        return new QueryShapeLog(TimeUnit.MINUTES.toMillis(windowMinutes), maxShapes, slowThresholdMs);
+    }
+
+    @Bean
+    static BeanPostProcessor queryTimingPostProcessor(ObjectProvider<QueryShapeLog> queryShapeLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof QueryTimingDataSource) {
+                    return bean;
+                }
+                log.info("[QueryMetrics] SQL 실행 시간 계측 적용 bean={}", beanName);
+                return new QueryTimingDataSource(dataSource, queryShapeLog.getObject());
+            }
+        };
+    }
+
+    @Bean
+    static RepositoryMetricsPostProcessor repositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RepositoryMetricsPostProcessor(meterRegistry);
+    }
+
+    @Bean
+    QueryShapesEndpoint queryShapesEndpoint(QueryShapeLog queryShapeLog) {
+        return new QueryShapesEndpoint(queryShapeLog);
+    }
+}
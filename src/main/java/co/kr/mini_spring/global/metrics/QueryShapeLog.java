@@ -0,0 +1,205 @@
+package co.kr.mini_spring.global.metrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최근 SQL 모양별 실행 시간 집계
+ * - QueryTimingDataSource가 문장 실행마다 record를 호출하고, /actuator/queries가 느린 순으로 조회합니다.
+ * - 집계는 window 단위 세대로 나누어, 조회 시 "직전 세대 + 현재 세대"(최근 window ~ 2*window)만 보여 줍니다.
+ *   오래된 느린 쿼리가 계속 상위에 남지 않고, 세대마다 맵을 새로 만들므로 메모리도 모양 수 상한(maxShapes)으로 제한됩니다.
+ * - 실행 중인 리포지토리 메서드(enter/exit)를 함께 기록해 어느 코드가 보낸 쿼리인지 보여 줍니다.
+ * - slowThresholdMs 이상 걸린 실행은 즉시 경고 로그를 남깁니다. (DB 슬로 로그를 나중에 뒤지지 않도록)
+ */
+@Slf4j
+public class QueryShapeLog {
+
+    static final String OVERFLOW_SHAPE = "(수집 한도 초과로 합산된 기타 쿼리)";
+
+    private static final ThreadLocal<String> SOURCE = new ThreadLocal<>();
+
+    private final long windowMillis;
+    private final int maxShapes;
+    private final long slowThresholdNanos;
+
+    // 같은 SQL 문자열을 실행마다 다시 정규화하지 않도록 원문 → 모양을 기억합니다.
+    private final Cache<String, String> shapes;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    public QueryShapeLog(long windowMillis, int maxShapes, long slowThresholdMs) {
+        if (windowMillis < 1 || maxShapes < 1) {
+            throw new IllegalArgumentException("windowMillis, maxShapes는 1 이상이어야 합니다.");
+        }
+        this.windowMillis = windowMillis;
+        this.maxShapes = maxShapes;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.shapes = Caffeine.newBuilder().maximumSize(maxShapes * 10L).build();
+        this.current = new Generation(System.currentTimeMillis());
+    }
+
+    /**
+     * 현재 스레드에서 실행 중인 쿼리 출처(리포지토리.메서드)를 설정하고 이전 값을 반환합니다.
+     */
+    static String enter(String source) {
+        String outer = SOURCE.get();
+        SOURCE.set(source);
+        return outer;
+    }
+
+    /**
+     * enter가 반환한 이전 출처로 되돌립니다.
+     */
+    static void exit(String outer) {
+        if (outer == null) {
+            SOURCE.remove();
+        } else {
+            SOURCE.set(outer);
+        }
+    }
+
+    public void record(String sql, long elapsedNanos, boolean failed) {
+        if (sql == null) return;
+        String shape = shapes.get(sql, SqlShapes::normalize);
+        String source = SOURCE.get();
+        long now = System.currentTimeMillis();
+        generation(now).stats(shape, maxShapes).record(elapsedNanos, failed, source, now);
+
+        if (elapsedNanos >= slowThresholdNanos) {
+            log.warn("[SlowQuery] {}ms source={}, failed={}, sql={}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), source, failed, shape);
+        }
+    }
+
+    /**
+     * 최근 집계 구간에서 느린 순으로 limit개의 쿼리 모양을 반환합니다.
+     * @param sort max(최대 실행 시간), avg(평균), total(누적 시간), count(실행 횟수)
+     */
+    public List<ShapeSummary> slowest(String sort, int limit) {
+        Comparator<ShapeSummary> order = switch (sort == null ? "max" : sort) {
+            case "max" -> Comparator.comparingDouble(ShapeSummary::maxMs);
+            case "avg" -> Comparator.comparingDouble(ShapeSummary::avgMs);
+            case "total" -> Comparator.comparingDouble(ShapeSummary::totalMs);
+            case "count" -> Comparator.comparingLong(ShapeSummary::count);
+            default -> throw new IllegalArgumentException("sort는 max, avg, total, count 중 하나여야 합니다: " + sort);
+        };
+
+        Map<String, Merged> merged = new HashMap<>();
+        Generation older = previous;
+        if (older != null) older.mergeInto(merged);
+        generation(System.currentTimeMillis()).mergeInto(merged);
+
+        List<ShapeSummary> summaries = new ArrayList<>(merged.size());
+        merged.forEach((shape, m) -> summaries.add(m.toSummary(shape)));
+        summaries.sort(order.reversed());
+        return summaries.size() > limit ? List.copyOf(summaries.subList(0, limit)) : summaries;
+    }
+
+    /**
+     * 조회 결과가 포함하는 구간의 시작 시각 (직전 세대가 있으면 그 시작 시각)
+     */
+    public Instant windowStartedAt() {
+        Generation older = previous;
+        return Instant.ofEpochMilli(older != null ? older.startedAt : current.startedAt);
+    }
+
+    private Generation generation(long now) {
+        Generation generation = current;
+        if (now - generation.startedAt < windowMillis) return generation;
+        synchronized (this) {
+            if (current == generation) {
+                previous = generation;
+                current = new Generation(now);
+            }
+            return current;
+        }
+    }
+
+    /**
+     * @param source 가장 최근 실행의 출처 (리포지토리.메서드, 리포지토리 밖에서 실행됐으면 null)
+     */
+    public record ShapeSummary(String sql, long count, long errors, double totalMs, double avgMs, double maxMs,
+                               Instant lastSeenAt, String source) {
+    }
+
+    private static final class Generation {
+
+        private final long startedAt;
+        private final ConcurrentHashMap<String, ShapeStats> stats = new ConcurrentHashMap<>();
+
+        private Generation(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        ShapeStats stats(String shape, int maxShapes) {
+            ShapeStats existing = stats.get(shape);
+            if (existing != null) return existing;
+            // 상한은 근사적으로 지킵니다. (동시에 새 모양이 들어오면 몇 개 더 생길 수 있음)
+            String key = stats.size() < maxShapes ? shape : OVERFLOW_SHAPE;
+            return stats.computeIfAbsent(key, k -> new ShapeStats());
+        }
+
+        void mergeInto(Map<String, Merged> merged) {
+            stats.forEach((shape, s) -> merged.computeIfAbsent(shape, k -> new Merged()).add(s));
+        }
+    }
+
+    private static final class ShapeStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private volatile long lastSeenAt;
+        private volatile String source;
+
+        void record(long elapsedNanos, boolean failed, String source, long now) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            if (failed) errors.increment();
+            if (source != null) this.source = source;
+            lastSeenAt = now;
+        }
+    }
+
+    private static final class Merged {
+
+        private long count;
+        private long errors;
+        private long totalNanos;
+        private long maxNanos;
+        private long lastSeenAt;
+        private String source;
+
+        void add(ShapeStats s) {
+            count += s.count.sum();
+            errors += s.errors.sum();
+            totalNanos += s.totalNanos.sum();
+            maxNanos = Math.max(maxNanos, s.maxNanos.get());
+            if (s.lastSeenAt >= lastSeenAt) {
+                lastSeenAt = s.lastSeenAt;
+                if (s.source != null) source = s.source;
+            }
+        }
+
+        ShapeSummary toSummary(String shape) {
+            double totalMs = totalNanos / 1_000_000.0;
+            return new ShapeSummary(shape, count, errors, totalMs, count == 0 ? 0 : totalMs / count,
+                    maxNanos / 1_000_000.0, Instant.ofEpochMilli(lastSeenAt), source);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package co.kr.mini_spring.global.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+
+/**
+ * 최근 느린 쿼리 모양 actuator 엔드포인트
+ * - GET /actuator/queries?sort=max&limit=20: 최근 집계 구간(metrics.query.window-minutes의 1~2배)의 SQL 모양을 느린 순으로 반환합니다.
+ *   sort: max(최대 실행 시간, 기본), avg(평균), total(누적 시간), count(실행 횟수)
+ */
+@Endpoint(id = "queries")
+@RequiredArgsConstructor
+public class QueryShapesEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 200;
+
+    private final QueryShapeLog queryShapeLog;
+
+    @ReadOperation
+    public Map<String, Object> slowest(@Nullable String sort, @Nullable Integer limit) {
+        String order = sort == null ? "max" : sort;
+        int size = limit == null ? DEFAULT_LIMIT : limit;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw new InvalidEndpointRequestException("limit은 1~" + MAX_LIMIT + " 사이여야 합니다.", "invalid limit");
+        }
+        try {
+            return Map.of(
+                    "since", queryShapeLog.windowStartedAt(),
+                    "sort", order,
+                    "queries", queryShapeLog.slowest(order, size)
+            );
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), "invalid sort");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package co.kr.mini_spring.global.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 문장 실행 시간을 QueryShapeLog에 기록하는 DataSource
+ * - JPA/Querydsl/JdbcTemplate 모두 이 DataSource를 거치므로, 리포지토리 종류와 무관하게 실제 실행된 SQL 단위로 집계됩니다.
+ * - execute/executeQuery/executeUpdate/executeBatch 호출 시간만 잽니다. (ResultSet을 읽는 시간은 포함하지 않음)
+ * - PreparedStatement는 준비한 SQL을, Statement는 실행 인자로 받은 SQL(배치는 마지막에 추가한 SQL)을 모양으로 씁니다.
+ */
+public class QueryTimingDataSource extends DelegatingDataSource {
+
+    private final QueryShapeLog queryShapeLog;
+
+    public QueryTimingDataSource(DataSource target, QueryShapeLog queryShapeLog) {
+        super(target);
+        this.queryShapeLog = queryShapeLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return timed(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timed(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection timed(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "Timed[" + connection + "]";
+                    case "createStatement" -> timed((Statement) invoke(connection, method, args), Statement.class, null);
+                    case "prepareStatement" -> timed((Statement) invoke(connection, method, args), PreparedStatement.class, (String) args[0]);
+                    case "prepareCall" -> timed((Statement) invoke(connection, method, args), CallableStatement.class, (String) args[0]);
+                    default -> invoke(connection, method, args);
+                });
+    }
+
+    private Statement timed(Statement statement, Class<? extends Statement> type, String preparedSql) {
+        String[] lastBatchSql = new String[1];
+        return (Statement) Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    switch (name) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "Timed[" + statement + "]";
+                        case "addBatch":
+                            if (args != null && args.length == 1) lastBatchSql[0] = (String) args[0];
+                            return invoke(statement, method, args);
+                        default:
+                            if (!name.startsWith("execute")) return invoke(statement, method, args);
+                    }
+
+                    String sql = args != null && args.length > 0 && args[0] instanceof String s ? s
+                            : preparedSql != null ? preparedSql : lastBatchSql[0];
+                    long startedAt = System.nanoTime();
+                    boolean failed = true;
+                    try {
+                        Object result = invoke(statement, method, args);
+                        failed = false;
+                        return result;
+                    } finally {
+                        queryShapeLog.record(sql, System.nanoTime() - startedAt, failed);
+                    }
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package co.kr.mini_spring.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리포지토리 메서드 메트릭
+ * - repository.query{repository, method, outcome, exception}: 실행 시간 (outcome: success | error)
+ * - repository.query.results{repository, method}: 반환한 건수 (컬렉션/Page/Slice 크기, Optional은 0 또는 1, 그 외 반환형은 기록하지 않음)
+ * - 실행 중에는 QueryShapeLog에 출처(리포지토리.메서드)를 알려, SQL 모양별 집계에 어느 메서드가 보낸 쿼리인지 남깁니다.
+ */
+class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    RepositoryMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        Class<?> targetClass = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : method.getDeclaringClass();
+        String repository = targetClass.getSimpleName();
+        String outer = QueryShapeLog.enter(repository + "." + method.getName());
+        long startedAt = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            MethodMeters methodMeters = meters(method, repository);
+            if (methodMeters != null) {
+                methodMeters.success.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                long results = resultCount(result);
+                if (results >= 0) methodMeters.results.record(results);
+            }
+            return result;
+        } catch (Throwable e) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry != null) {
+                // 실패는 드물므로 예외 종류별 타이머를 그때그때 찾습니다.
+                timer(repository, method.getName(), "error", e.getClass().getSimpleName())
+                        .register(registry)
+                        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+            throw e;
+        } finally {
+            QueryShapeLog.exit(outer);
+        }
+    }
+
+    private MethodMeters meters(Method method, String repository) {
+        MethodMeters existing = meters.get(method);
+        if (existing != null) return existing;
+        // MeterRegistry는 리포지토리보다 늦게 준비될 수 있으므로 첫 호출 시점에 미터를 만듭니다.
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) return null;
+        return meters.computeIfAbsent(method, m -> new MethodMeters(
+                timer(repository, m.getName(), "success", "none").register(registry),
+                DistributionSummary.builder("repository.query.results")
+                        .description("리포지토리 메서드가 반환한 건수")
+                        .tag("repository", repository)
+                        .tag("method", m.getName())
+                        .register(registry)));
+    }
+
+    private static Timer.Builder timer(String repository, String method, String outcome, String exception) {
+        return Timer.builder("repository.query")
+                .description("리포지토리 메서드 실행 시간")
+                .tag("repository", repository)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .tag("exception", exception);
+    }
+
+    private static long resultCount(Object result) {
+        if (result instanceof Collection<?> collection) return collection.size();
+        if (result instanceof Slice<?> slice) return slice.getNumberOfElements(); // Page 포함
+        if (result instanceof Map<?, ?> map) return map.size();
+        if (result instanceof Optional<?> optional) return optional.isPresent() ? 1 : 0;
+        return -1;
+    }
+
+    private record MethodMeters(Timer success, DistributionSummary results) {
+    }
+}
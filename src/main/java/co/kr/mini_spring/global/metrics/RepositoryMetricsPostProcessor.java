@@ -0,0 +1,32 @@
+package co.kr.mini_spring.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+
+/**
+ * @TimedRepository가 붙은 빈의 메서드(Object 메서드 제외)를 RepositoryMetricsInterceptor로 감쌉니다.
+ * - @Repository 예외 변환 프록시가 이미 있으면 같은 프록시에 어드바이스를 추가하며, 가장 바깥에 두어
+ *   변환된 예외(DataAccessException 계열) 이름으로 기록합니다.
+ */
+class RepositoryMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationClassFilter(TimedRepository.class, true))
+                .intersection(new StaticMethodMatcher() {
+                    @Override
+                    public boolean matches(Method method, Class<?> targetClass) {
+                        return method.getDeclaringClass() != Object.class;
+                    }
+                });
+        this.advisor = new DefaultPointcutAdvisor(pointcut, new RepositoryMetricsInterceptor(meterRegistry));
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+    }
+}
@@ -0,0 +1,84 @@
+package co.kr.mini_spring.global.metrics;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL 문장을 "모양(shape)"으로 정규화합니다.
+ * - 문자열/숫자 리터럴은 ?로 바꾸고, 공백은 한 칸으로 줄입니다. (식별자 안의 숫자는 유지: p1_0.id)
+ * - IN 목록과 VALUES 행 목록은 길이와 무관하게 같은 모양이 되도록 "?, ..." / "(...), ..."로 접습니다.
+ *   단일 행 VALUES도 "(...), ..."로 바꿔 배치 크기가 1인 INSERT와 여러 행 INSERT가 같은 모양이 됩니다.
+ *   (해시태그 필터의 IN 목록, 배치 INSERT처럼 인자 수만 다른 문장을 한 항목으로 모으기 위함)
+ */
+final class SqlShapes {
+
+    static final int MAX_LENGTH = 1000;
+
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(?: ?, ?\\?)+");
+    private static final Pattern ROW_LIST = Pattern.compile("\\(([^()]*)\\)(?: ?, ?\\(\\1\\))+");
+    // 아직 접히지 않은 단일 행 VALUES (ON DUPLICATE KEY UPDATE의 VALUES(col) 함수처럼 ?가 없는 괄호는 제외)
+    private static final Pattern SINGLE_VALUES_ROW = Pattern.compile("(?i)(\\bVALUES ?\\([^()]*\\?[^()]*\\))(?! ?, ?\\.\\.\\.)");
+
+    private SqlShapes() {
+    }
+
+    static String normalize(String sql) {
+        StringBuilder shape = new StringBuilder(Math.min(sql.length(), MAX_LENGTH * 2));
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\'' || c == '"') {
+                i = skipQuoted(sql, i, c);
+                shape.append('?');
+            } else if (c == '`') {
+                int end = sql.indexOf('`', i + 1);
+                end = end < 0 ? length : end + 1;
+                shape.append(sql, i, end);
+                i = end;
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) i++;
+                if (!shape.isEmpty()) shape.append(' ');
+            } else if (isDigit(c) && !continuesIdentifier(shape)) {
+                while (i < length && (isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) i++;
+                shape.append('?');
+            } else {
+                shape.append(c);
+                i++;
+            }
+        }
+        String collapsed = PARAMETER_LIST.matcher(shape.toString().stripTrailing()).replaceAll("?, ...");
+        collapsed = ROW_LIST.matcher(collapsed).replaceAll("($1), ...");
+        collapsed = SINGLE_VALUES_ROW.matcher(collapsed).replaceAll("$1, ...");
+        return collapsed.length() > MAX_LENGTH ? collapsed.substring(0, MAX_LENGTH) + "..." : collapsed;
+    }
+
+    // 따옴표를 두 번 쓰거나(' ') 역슬래시로 이스케이프한 문자는 리터럴의 일부로 건너뜁니다.
+    private static int skipQuoted(String sql, int start, char quote) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == quote) {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return sql.length();
+    }
+
+    private static boolean continuesIdentifier(StringBuilder shape) {
+        if (shape.isEmpty()) return false;
+        char previous = shape.charAt(shape.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
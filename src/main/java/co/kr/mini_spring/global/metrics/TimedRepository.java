@@ -0,0 +1,16 @@
+package co.kr.mini_spring.global.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * public 메서드마다 실행 시간/결과 건수 메트릭을 남길 리포지토리에 붙입니다. (RepositoryMetricsPostProcessor)
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface TimedRepository {
+}
@@ -0,0 +1,35 @@
+package co.kr.mini_spring.global.retention;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 보존 기간 정리 작업 actuator 엔드포인트
+ * - GET /actuator/retention: 작업별 진행 상황/삭제 행 수
+ * - POST /actuator/retention: 다음 주기를 기다리지 않고 정리를 시작합니다. (실행 중이면 무시)
+ */
+@Component
+@Endpoint(id = "retention")
+@RequiredArgsConstructor
+public class RetentionEndpoint {
+
+    private final RetentionEngine retentionEngine;
+
+    @ReadOperation
+    public Map<String, Object> progress() {
+        return Map.of(
+                "running", retentionEngine.isRunning(),
+                "jobs", retentionEngine.getProgress()
+        );
+    }
+
+    @WriteOperation
+    public Map<String, Object> run() {
+        return Map.of("started", retentionEngine.trigger());
+    }
+}
@@ -0,0 +1,150 @@
+package co.kr.mini_spring.global.retention;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 보존 기간 정리 엔진
+ * - retention.interval-ms마다 등록된 RetentionJob을 순서대로 실행합니다.
+ * - 작업마다 기본키 기준 최대 retention.chunk-size행씩 별도 트랜잭션으로 삭제하고, 청크 사이에
+ *   retention.chunk-pause-ms만큼 쉬어 긴 락과 복제 지연을 피합니다. 한 번의 실행은 retention.max-chunks-per-run 청크까지입니다.
+ * - 청크 사이 대기가 다른 @Scheduled 작업(조회수/좋아요 flush 등)을 막지 않도록 전용 스레드에서 실행합니다.
+ * - 진행 상황은 /actuator/retention, 삭제 행 수는 retention.deleted.rows{job} 메트릭으로 확인합니다.
+ * - 여러 인스턴스가 동시에 실행해도 기본키로만 삭제하므로 결과는 같습니다. (중복 작업만 생깁니다)
+ */
+@Slf4j
+@Component
+public class RetentionEngine {
+
+    private final List<RetentionJob> jobs;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long chunkPauseMs;
+    private final int maxChunksPerRun;
+
+    private final Map<String, RetentionProgress> progress = new LinkedHashMap<>();
+    private final Map<String, Counter> deletedRows = new LinkedHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "retention");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RetentionEngine(
+            List<RetentionJob> jobs,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${retention.chunk-size:1000}") int chunkSize,
+            @Value("${retention.chunk-pause-ms:200}") long chunkPauseMs,
+            @Value("${retention.max-chunks-per-run:500}") int maxChunksPerRun) {
+        this.jobs = jobs;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMs = chunkPauseMs;
+        this.maxChunksPerRun = maxChunksPerRun;
+        for (RetentionJob job : jobs) {
+            progress.put(job.name(), new RetentionProgress());
+            deletedRows.put(job.name(), Counter.builder("retention.deleted.rows")
+                    .description("보존 기간이 지나 삭제한 행 수")
+                    .tag("job", job.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${retention.interval-ms:3600000}", initialDelayString = "${retention.initial-delay-ms:60000}")
+    public void scheduledRun() {
+        if (!trigger()) {
+            log.debug("[Retention] 이전 실행이 끝나지 않아 이번 주기를 건너뜁니다.");
+        }
+    }
+
+    /**
+     * 정리 실행을 전용 스레드에 요청합니다. 이미 실행 중이면 건너뜁니다.
+     * @return 새 실행을 시작했으면 true
+     */
+    public boolean trigger() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    runAll();
+                } finally {
+                    running.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            return false;
+        }
+    }
+
+    /**
+     * 작업별 진행 상황을 반환합니다.
+     */
+    public Map<String, RetentionProgress.Snapshot> getProgress() {
+        Map<String, RetentionProgress.Snapshot> snapshots = new LinkedHashMap<>();
+        progress.forEach((name, jobProgress) -> snapshots.put(name, jobProgress.snapshot()));
+        return snapshots;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 청크 사이 대기 중이면 인터럽트되어 현재 실행을 멈춥니다. (이미 커밋된 청크는 그대로 유지)
+        executor.shutdownNow();
+    }
+
+    private void runAll() {
+        for (RetentionJob job : jobs) {
+            if (Thread.currentThread().isInterrupted()) return;
+            run(job);
+        }
+    }
+
+    private void run(RetentionJob job) {
+        RetentionProgress jobProgress = progress.get(job.name());
+        Counter counter = deletedRows.get(job.name());
+        LocalDateTime now = LocalDateTime.now();
+        jobProgress.start(now);
+        try {
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                Integer deleted = transactionTemplate.execute(status -> job.purgeChunk(now, chunkSize));
+                int rows = deleted == null ? 0 : deleted;
+                jobProgress.chunkDone(rows);
+                counter.increment(rows);
+                if (rows < chunkSize) break;
+                Thread.sleep(chunkPauseMs);
+            }
+            jobProgress.finish(LocalDateTime.now(), null);
+            log.info("[Retention] 정리 완료 job={}, deleted={}", job.name(), jobProgress.snapshot().lastRunDeleted());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            jobProgress.finish(LocalDateTime.now(), "interrupted");
+        } catch (RuntimeException e) {
+            jobProgress.finish(LocalDateTime.now(), e.getMessage());
+            log.error("[Retention] 정리 실패 job={}, error={}", job.name(), e.getMessage());
+        }
+    }
+}
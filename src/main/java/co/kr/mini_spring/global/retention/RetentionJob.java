@@ -0,0 +1,22 @@
+package co.kr.mini_spring.global.retention;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보존 기간 정리 작업 하나 (RetentionEngine이 청크 단위로 반복 실행)
+ * - purgeChunk는 트랜잭션 안에서 호출되며, 삭제 대상의 기본키를 최대 limit개 골라 그 키로만 삭제합니다.
+ * - 같은 실행(run) 동안 now는 고정되므로, 실행 도중 새로 대상이 된 행 때문에 끝나지 않는 일은 없습니다.
+ */
+public interface RetentionJob {
+
+    /**
+     * 메트릭 태그/엔드포인트에 표시할 작업 이름
+     */
+    String name();
+
+    /**
+     * 삭제 대상을 최대 limit개 삭제합니다.
+     * @return 삭제한 행 수. limit보다 작으면 남은 대상이 없는 것으로 보고 이번 실행을 마칩니다.
+     */
+    int purgeChunk(LocalDateTime now, int limit);
+}
@@ -0,0 +1,59 @@
+package co.kr.mini_spring.global.retention;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정리 작업 하나의 진행 상황
+ * - 전용 스레드 하나만 갱신하고 엔드포인트 요청 스레드가 읽으므로 필드는 volatile로만 공개합니다.
+ */
+public class RetentionProgress {
+
+    private volatile boolean running;
+    private volatile LocalDateTime lastStartedAt;
+    private volatile LocalDateTime lastFinishedAt;
+    private volatile long chunks;
+    private volatile long deleted;
+    private volatile long lastRunDeleted;
+    private volatile long totalDeleted;
+    private volatile String lastError;
+
+    void start(LocalDateTime now) {
+        running = true;
+        lastStartedAt = now;
+        chunks = 0;
+        deleted = 0;
+    }
+
+    void chunkDone(int rows) {
+        chunks++;
+        deleted += rows;
+        totalDeleted += rows;
+    }
+
+    void finish(LocalDateTime now, String error) {
+        lastRunDeleted = deleted;
+        lastFinishedAt = now;
+        lastError = error;
+        running = false;
+    }
+
+    Snapshot snapshot() {
+        return new Snapshot(running, lastStartedAt, lastFinishedAt, chunks, deleted, lastRunDeleted, totalDeleted, lastError);
+    }
+
+    /**
+     * @param chunks  현재(또는 마지막) 실행에서 처리한 청크 수
+     * @param deleted 현재(또는 마지막) 실행에서 지금까지 삭제한 행 수
+     */
+    public record Snapshot(
+            boolean running,
+            LocalDateTime lastStartedAt,
+            LocalDateTime lastFinishedAt,
+            long chunks,
+            long deleted,
+            long lastRunDeleted,
+            long totalDeleted,
+            String lastError
+    ) {
+    }
+}
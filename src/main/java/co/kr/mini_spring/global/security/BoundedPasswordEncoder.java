@@ -0,0 +1,56 @@
+package co.kr.mini_spring.global.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 동시에 계산하는 비밀번호 해시 수를 제한하는 PasswordEncoder
+ * - BCrypt 한 번은 수십~수백 ms의 CPU 작업입니다. 가상 스레드 모드에서는 가입/로그인 요청 수만큼 해시가 동시에 돌며
+ *   캐리어 스레드를 모두 차지하므로, 커넥션을 쥔 다른 요청까지 느려져 커넥션 대기 시간이 늘어납니다.
+ * - 공정 세마포어로 동시 해시 수를 제한하고, 나머지는 허가를 기다립니다. (대기 중인 가상 스레드는 캐리어를 차지하지 않습니다)
+ * - 커넥션을 쥔 채 호출하지 않아야 대기 중에 커넥션을 붙잡지 않습니다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Semaphore permits;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int maxConcurrent) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent는 1 이상이어야 합니다.");
+        }
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return bounded(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return bounded(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T bounded(Supplier<T> hash) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 대기 중 인터럽트되었습니다.", e);
+        }
+        try {
+            return hash.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -9,11 +9,12 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Spring Security UserDetailsService 구현
  * - 인증 시 사용자 정보 로드
+ * - 조회 결과는 MemberPrincipalCache에 보관하므로 캐시 적중 시에는 DB에 접근하지 않습니다.
+ *   (적중 시 커넥션을 잡지 않도록 트랜잭션을 열지 않고, 단건 조회 쿼리만 실행합니다.)
  */
 @Slf4j
 @Service
@@ -22,10 +23,18 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
     private final MemberQueryRepository memberQueryRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        return loadPrincipal(email);
+    }
+
+    public MemberAdapter loadPrincipal(String email) throws UsernameNotFoundException {
+        return memberPrincipalCache.get(email, this::loadFromDatabase);
+    }
+
+    private MemberAdapter loadFromDatabase(String email) {
         log.debug("[UserDetailsService] 사용자 조회 email={}", email);
 
         // 최적화된 Querydsl 조회 사용 (프로필 이미지 Fetch Join)
@@ -34,4 +43,4 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         return new MemberAdapter(member);
     }
-}
\ No newline at end of file
+}
@@ -8,18 +8,20 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * JWT 인증 필터
  * - 요청 헤더에서 JWT 토큰을 추출하고 검증
  * - 유효한 토큰인 경우 SecurityContext에 인증 정보 설정
+ * - 회원 엔티티가 필요 없는 경로(claimsOnlyPaths)는 서명된 클레임(회원 ID/권한/인증 버전)만으로 인증하고,
+ *   그 외 경로는 MemberPrincipalCache를 거쳐 회원을 조회합니다.
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -28,8 +30,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final CustomUserDetailsService userDetailsService;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final List<String> claimsOnlyPaths;
 
     @Override
     protected void doFilterInternal(
@@ -44,18 +50,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             // 2. 토큰이 존재하면 유효성을 검증하고, 실패 사유는 request attribute로 남깁니다.
             if (StringUtils.hasText(jwt)) {
-                JwtTokenProvider.JwtValidationResult validation = jwtTokenProvider.validateTokenWithResult(jwt);
+                JwtTokenProvider.JwtValidationResult validation = jwtTokenProvider.verify(jwt);
                 if (!validation.isValid()) {
                     request.setAttribute(JwtTokenProvider.JWT_ERROR_CODE_ATTRIBUTE, validation.getErrorCode());
                     filterChain.doFilter(request, response);
                     return;
                 }
                 
-                // 3. 토큰에서 이메일 추출
-                String email = jwtTokenProvider.getEmail(jwt);
-
-                // 4. UserDetails 조회
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+                // 3. 검증 시 함께 얻은 클레임 사용 (다시 파싱하지 않음)
+                JwtTokenProvider.AccessTokenClaims claims = JwtTokenProvider.AccessTokenClaims.from(validation.getClaims());
+                String email = claims.getEmail();
+
+                // 4. 인증 주체 결정 (claims-only 경로가 아니면 캐시를 거쳐 회원 조회)
+                MemberAdapter userDetails = resolvePrincipal(request, claims);
+                if (!userDetails.isEnabled()) {
+                    log.debug("[JWT 인증 거부] 비활성 회원 email={}, status={}", email, userDetails.getStatus());
+                    filterChain.doFilter(request, response);
+                    return;
+                }
 
                 // 5. Authentication 객체 생성
                 UsernamePasswordAuthenticationToken authentication =
@@ -86,6 +98,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * claims-only 경로이고 토큰의 인증 버전이 최신이면 클레임으로, 아니면 회원 조회 결과로 인증 주체를 만듭니다.
+     * - 이 인스턴스가 회원의 인증 버전을 모르면 회원 조회를 거치며, 그때 기억한 버전으로 다음 요청부터 claims-only 인증을 합니다.
+     */
+    private MemberAdapter resolvePrincipal(HttpServletRequest request, JwtTokenProvider.AccessTokenClaims claims) {
+        if (claims.getMemberId() != null
+                && claims.getRole() != null
+                && isClaimsOnlyPath(request)
+                && memberPrincipalCache.isCurrentVersion(claims.getMemberId(), claims.getAuthVersion())) {
+            return MemberAdapter.fromClaims(claims.getMemberId(), claims.getEmail(), claims.getRole(), claims.getAuthVersion());
+        }
+        return userDetailsService.loadPrincipal(claims.getEmail());
+    }
+
+    private boolean isClaimsOnlyPath(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (String pattern : claimsOnlyPaths) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * 요청 헤더에서 JWT 토큰 추출
      */
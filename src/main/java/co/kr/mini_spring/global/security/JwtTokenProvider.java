@@ -1,9 +1,15 @@
 package co.kr.mini_spring.global.security;
 
 import co.kr.mini_spring.global.common.response.ResponseCode;
+import co.kr.mini_spring.member.domain.Member;
 import co.kr.mini_spring.member.domain.MemberRole;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -11,20 +17,33 @@ import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
 /**
  * JWT 토큰 생성/검증 컴포넌트
+ * - 검증은 한 번 만들어 둔 (thread-safe) JwtParser로 한 번만 파싱하고, 결과와 클레임을 함께 반환합니다.
+ * - 검증에 성공한 토큰의 클레임은 토큰 다이제스트(SHA-256)를 키로 만료 시각(exp)까지 캐시하여,
+ *   같은 토큰의 반복 요청에서는 서명 검증과 JSON 파싱을 생략합니다.
  */
 @Slf4j
 @Component
@@ -35,15 +54,31 @@ public class JwtTokenProvider {
      */
     public static final String JWT_ERROR_CODE_ATTRIBUTE = "jwt.error.code";
 
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_MEMBER_ID = "mid";
+    private static final String CLAIM_AUTH_VERSION = "ver";
+
     private final Key secretKey;
+    private final JwtParser jwtParser;
+    private final Cache<String, Claims> verifiedClaims;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
+    private final LongSupplier clock;
 
+    @Autowired
     public JwtTokenProvider(
+            MeterRegistry meterRegistry,
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
-            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
+            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize
     ) {
+        this(meterRegistry, secret, accessTokenExpiration, refreshTokenExpiration, verifiedCacheMaxSize,
+                System::currentTimeMillis);
+    }
+
+    JwtTokenProvider(MeterRegistry meterRegistry, String secret, long accessTokenExpiration,
+                     long refreshTokenExpiration, long verifiedCacheMaxSize, LongSupplier clock) {
         // secret을 그대로 byte로 사용하거나 Base64 인코딩 문자열인 경우 디코딩 처리
         Key key;
         try {
@@ -54,20 +89,39 @@ public class JwtTokenProvider {
             key = Keys.hmacShaKeyFor(secret.getBytes());
         }
         this.secretKey = key;
+        this.clock = clock;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .setClock(() -> new Date(clock.getAsLong()))
+                .build();
+        // 최대 크기가 0이면 캐시 없이 매번 서명을 검증합니다.
+        if (verifiedCacheMaxSize > 0) {
+            this.verifiedClaims = Caffeine.newBuilder()
+                    .maximumSize(verifiedCacheMaxSize)
+                    .expireAfter(new UntilTokenExpiry(clock))
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaims, "jwtVerifiedClaims");
+        } else {
+            this.verifiedClaims = null;
+        }
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
     }
 
     /**
      * 액세스 토큰 생성
+     * - 회원 ID/권한/인증 버전을 클레임에 담아, 엔티티가 필요 없는 요청은 DB 조회 없이 인증할 수 있게 합니다.
      */
-    public TokenWithExpiry generateAccessToken(String email, MemberRole role) {
-        Instant now = Instant.now();
+    public TokenWithExpiry generateAccessToken(Member member) {
+        Instant now = Instant.ofEpochMilli(clock.getAsLong());
         Instant expiry = now.plusMillis(accessTokenExpiration);
 
         String token = Jwts.builder()
-                .setSubject(email)
-                .claim("role", role.name())
+                .setSubject(member.getEmail())
+                .claim(CLAIM_ROLE, member.getRole().name())
+                .claim(CLAIM_MEMBER_ID, member.getId())
+                .claim(CLAIM_AUTH_VERSION, member.getAuthVersion())
                 .claim("type", "access")
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(expiry))
@@ -79,13 +133,16 @@ public class JwtTokenProvider {
 
     /**
      * 리프레시 토큰 생성
+     * - 재발급 시 회원 ID로 바로 조회하도록 회원 ID를 담고, 같은 초에 발급해도 값이 겹치지 않도록 jti를 넣습니다.
      */
-    public TokenWithExpiry generateRefreshToken(String email) {
-        Instant now = Instant.now();
+    public TokenWithExpiry generateRefreshToken(Member member) {
+        Instant now = Instant.ofEpochMilli(clock.getAsLong());
         Instant expiry = now.plusMillis(refreshTokenExpiration);
 
         String token = Jwts.builder()
-                .setSubject(email)
+                .setSubject(member.getEmail())
+                .setId(UUID.randomUUID().toString())
+                .claim(CLAIM_MEMBER_ID, member.getId())
                 .claim("type", "refresh")
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(expiry))
@@ -99,7 +156,7 @@ public class JwtTokenProvider {
      * 토큰 검증 (서명/만료)
      */
     public boolean validateToken(String token) {
-        return validateTokenWithResult(token).valid;
+        return verify(token).valid;
     }
 
     /**
@@ -107,9 +164,34 @@ public class JwtTokenProvider {
      * - 필터/엔트리포인트에서 "만료/형식 오류/서명 오류" 등을 구분해 응답할 때 사용합니다.
      */
     public JwtValidationResult validateTokenWithResult(String token) {
+        return verify(token);
+    }
+
+    /**
+     * 토큰을 한 번만 파싱하여 검증 결과와 클레임을 함께 반환합니다.
+     * - 이전에 검증한 토큰이면 캐시된 클레임을 사용하며, 만료 시각이 지났으면 만료로 처리합니다.
+     */
+    public JwtValidationResult verify(String token) {
+        if (token == null || token.isBlank()) {
+            return JwtValidationResult.invalid(ResponseCode.INVALID_TOKEN);
+        }
+
+        String digest = verifiedClaims == null ? null : digest(token);
+        Claims cached = digest == null ? null : verifiedClaims.getIfPresent(digest);
+        if (cached != null) {
+            if (isExpired(cached)) {
+                verifiedClaims.invalidate(digest);
+                return JwtValidationResult.invalid(ResponseCode.EXPIRED_TOKEN);
+            }
+            return JwtValidationResult.valid(cached);
+        }
+
         try {
-            Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
-            return JwtValidationResult.valid();
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            if (digest != null) {
+                verifiedClaims.put(digest, claims);
+            }
+            return JwtValidationResult.valid(claims);
         } catch (ExpiredJwtException e) {
             log.debug("JWT 만료: {}", e.getMessage());
             return JwtValidationResult.invalid(ResponseCode.EXPIRED_TOKEN);
@@ -129,9 +211,101 @@ public class JwtTokenProvider {
      * 토큰에서 이메일(subject) 추출
      */
     public String getEmail(String token) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(secretKey).build()
-                .parseClaimsJws(token).getBody();
-        return claims.getSubject();
+        return requireClaims(token).getSubject();
+    }
+
+    /**
+     * 액세스 토큰의 클레임을 추출합니다.
+     * - 회원 ID 클레임이 없는 이전 형식의 토큰이면 memberId가 null입니다.
+     */
+    public AccessTokenClaims getAccessTokenClaims(String token) {
+        return AccessTokenClaims.from(requireClaims(token));
+    }
+
+    /**
+     * 토큰 클레임의 회원 ID를 반환합니다. 회원 ID 클레임이 없는 이전 형식의 토큰이면 null입니다.
+     */
+    public static Long getMemberId(Claims claims) {
+        Number memberId = claims.get(CLAIM_MEMBER_ID, Number.class);
+        return memberId == null ? null : memberId.longValue();
+    }
+
+    private Claims requireClaims(String token) {
+        JwtValidationResult result = verify(token);
+        if (!result.isValid()) {
+            throw new JwtException("유효하지 않은 토큰입니다: " + result.getErrorCode().getCode());
+        }
+        return result.getClaims();
+    }
+
+    private boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.getTime() <= clock.getAsLong();
+    }
+
+    /**
+     * 캐시 키로 쓸 토큰 다이제스트 (원문 토큰을 메모리에 보관하지 않기 위해 해시합니다)
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시 항목을 토큰의 만료 시각(exp)에 맞춰 제거합니다.
+     */
+    @RequiredArgsConstructor
+    private static class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        private final LongSupplier clock;
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            long remainingMillis = expiration.getTime() - clock.getAsLong();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * 액세스 토큰 클레임 DTO.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class AccessTokenClaims {
+        private final String email;
+        private final Long memberId;
+        private final MemberRole role;
+        private final int authVersion;
+
+        public static AccessTokenClaims from(Claims claims) {
+            Number memberId = claims.get(CLAIM_MEMBER_ID, Number.class);
+            Number authVersion = claims.get(CLAIM_AUTH_VERSION, Number.class);
+            String role = claims.get(CLAIM_ROLE, String.class);
+            return new AccessTokenClaims(
+                    claims.getSubject(),
+                    memberId == null ? null : memberId.longValue(),
+                    role == null ? null : MemberRole.valueOf(role),
+                    authVersion == null ? 0 : authVersion.intValue()
+            );
+        }
     }
 
     /**
@@ -142,13 +316,14 @@ public class JwtTokenProvider {
     public static class JwtValidationResult {
         private final boolean valid;
         private final ResponseCode errorCode;
+        private final Claims claims;
 
-        public static JwtValidationResult valid() {
-            return new JwtValidationResult(true, null);
+        public static JwtValidationResult valid(Claims claims) {
+            return new JwtValidationResult(true, null, claims);
         }
 
         public static JwtValidationResult invalid(ResponseCode errorCode) {
-            return new JwtValidationResult(false, errorCode);
+            return new JwtValidationResult(false, errorCode, null);
         }
     }
 
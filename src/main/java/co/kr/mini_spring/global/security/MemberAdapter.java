@@ -1,8 +1,9 @@
 package co.kr.mini_spring.global.security;
 
 import co.kr.mini_spring.member.domain.Member;
+import co.kr.mini_spring.member.domain.MemberRole;
+import co.kr.mini_spring.member.domain.MemberStatus;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,37 +14,74 @@ import java.util.Collections;
 /**
  * Member 엔티티를 Spring Security의 UserDetails로 변환하는 어댑터 클래스
  * 도메인 엔티티가 프레임워크에 직접 의존하지 않도록 분리
+ * - 토큰 클레임만으로 만든 어댑터(claims-only)는 엔티티를 갖지 않으므로 getMemberId()/getUsername()만 사용할 수 있습니다.
  */
 @Getter
-@RequiredArgsConstructor
 public class MemberAdapter implements UserDetails {
 
+    private final Long memberId;
+    private final String email;
+    private final MemberRole role;
+    private final MemberStatus status;
+    private final int authVersion;
     private final Member member;
 
+    public MemberAdapter(Member member) {
+        this(member.getId(), member.getEmail(), member.getRole(), member.getStatus(), member.getAuthVersion(), member);
+    }
+
+    private MemberAdapter(Long memberId, String email, MemberRole role, MemberStatus status, int authVersion, Member member) {
+        this.memberId = memberId;
+        this.email = email;
+        this.role = role;
+        this.status = status;
+        this.authVersion = authVersion;
+        this.member = member;
+    }
+
+    /**
+     * 서명된 토큰 클레임으로 어댑터를 만듭니다.
+     * - 액세스 토큰은 ACTIVE 회원에게만 발급되므로 상태는 ACTIVE로 간주합니다.
+     */
+    public static MemberAdapter fromClaims(Long memberId, String email, MemberRole role, int authVersion) {
+        return new MemberAdapter(memberId, email, role, MemberStatus.ACTIVE, authVersion, null);
+    }
+
+    public Member getMember() {
+        if (member == null) {
+            throw new IllegalStateException("claims-only 인증 요청에서는 회원 엔티티를 사용할 수 없습니다. memberId=" + memberId);
+        }
+        return member;
+    }
+
+    public boolean isClaimsOnly() {
+        return member == null;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singletonList(new SimpleGrantedAuthority(member.getRole().getKey()));
+        return Collections.singletonList(new SimpleGrantedAuthority(role.getKey()));
     }
 
     @Override
     public String getPassword() {
-        return member.getPasswordHash();
+        return member == null ? null : member.getPasswordHash();
     }
 
     @Override
     public String getUsername() {
-        return member.getEmail();
+        return email;
     }
 
     @Override
     public boolean isAccountNonExpired() {
-        return member.getStatus() != co.kr.mini_spring.member.domain.MemberStatus.WITHDRAWN;
+        return status != MemberStatus.WITHDRAWN;
     }
 
     @Override
     public boolean isAccountNonLocked() {
-        return member.getStatus() != co.kr.mini_spring.member.domain.MemberStatus.SUSPENDED
-            && member.getStatus() != co.kr.mini_spring.member.domain.MemberStatus.WITHDRAWN;
+        return status != MemberStatus.SUSPENDED
+            && status != MemberStatus.WITHDRAWN;
     }
 
     @Override
@@ -53,6 +91,6 @@ public class MemberAdapter implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return member.getStatus() == co.kr.mini_spring.member.domain.MemberStatus.ACTIVE;
+        return status == MemberStatus.ACTIVE;
     }
 }
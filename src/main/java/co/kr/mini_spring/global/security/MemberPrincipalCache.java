@@ -0,0 +1,97 @@
+package co.kr.mini_spring.global.security;
+
+import co.kr.mini_spring.member.domain.event.MemberChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 인증 주체(MemberAdapter) 캐시
+ * - JWT 인증마다 회원을 조회하지 않도록 이메일별 MemberAdapter를 짧은 TTL 동안 보관합니다.
+ * - 회원 상태/권한/닉네임/프로필 이미지 변경(MemberChangedEvent)이 커밋되면 해당 회원 항목을 무효화합니다.
+ * - 회원별 최신 인증 버전을 기억해 두고, 그보다 낮은 ver 클레임의 토큰은 claims-only 인증에 사용하지 않습니다.
+ *   버전을 모르는 회원(재시작 직후, 캐시에서 밀려난 경우)도 claims-only로 인증하지 않고 회원 조회로 버전을 먼저 확인합니다.
+ *   (다른 인스턴스에서 발생한 변경은 알 수 없으므로 TTL과 토큰 만료 시간이 최대 반영 지연입니다.)
+ */
+@Component
+public class MemberPrincipalCache {
+
+    private final Cache<String, MemberAdapter> principals;
+    private final Cache<Long, Integer> authVersions;
+
+    // 무효화 횟수. 로딩 도중 무효화가 일어나면 방금 로딩한(오래되었을 수 있는) 주체를 버립니다.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public MemberPrincipalCache(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.principal-cache.max-size:10000}") long maxSize,
+            @Value("${jwt.principal-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${jwt.access-token-expiration}") long accessTokenExpiration) {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        // 인증 버전은 그 버전 이전에 발급된 액세스 토큰이 모두 만료될 때까지만 기억하면 됩니다.
+        this.authVersions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(accessTokenExpiration))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "memberPrincipal");
+    }
+
+    /**
+     * 캐시된 주체를 반환하고, 없으면 loader로 조회해 보관합니다.
+     */
+    public MemberAdapter get(String email, Function<String, MemberAdapter> loader) {
+        MemberAdapter cached = principals.getIfPresent(email);
+        if (cached != null) {
+            // 인증 버전만 먼저 밀려났을 수 있으므로 다시 기억해 둡니다.
+            rememberVersion(cached.getMemberId(), cached.getAuthVersion());
+            return cached;
+        }
+
+        long before = invalidations.get();
+        MemberAdapter loaded = loader.apply(email);
+        rememberVersion(loaded.getMemberId(), loaded.getAuthVersion());
+        principals.asMap().putIfAbsent(email, loaded);
+        if (invalidations.get() != before) {
+            // 로딩과 무효화가 겹쳤다면 변경 전 데이터일 수 있으므로 보관하지 않습니다.
+            principals.invalidate(email);
+        }
+        return loaded;
+    }
+
+    /**
+     * 토큰의 인증 버전이 이 인스턴스가 알고 있는 최신 버전보다 낮지 않은지 확인합니다.
+     * @return 회원의 인증 버전을 아직 모르면 false (호출자는 회원 조회로 인증해야 합니다)
+     */
+    public boolean isCurrentVersion(Long memberId, int authVersion) {
+        Integer known = authVersions.getIfPresent(memberId);
+        return known != null && authVersion >= known;
+    }
+
+    public void invalidate(String email) {
+        invalidations.incrementAndGet();
+        principals.invalidate(email);
+    }
+
+    @TransactionalEventListener
+    public void onMemberChanged(MemberChangedEvent event) {
+        rememberVersion(event.memberId(), event.authVersion());
+        invalidate(event.email());
+    }
+
+    private void rememberVersion(Long memberId, int authVersion) {
+        if (memberId == null) return;
+        authVersions.asMap().merge(memberId, authVersion, Math::max);
+    }
+}
@@ -1,11 +1,12 @@
 package co.kr.mini_spring.global.util;
 
-import java.util.Random;
-import java.util.function.Predicate;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
- * 랜덤 닉네임 생성 유틸.
- * 전달된 중복 검사(predicate)가 true를 반환하지 않을 때까지 재시도한다.
+ * 랜덤 닉네임 형식 유틸.
+ * - 닉네임은 "형용사+명사#숫자" 형식이며, 형용사+명사 조합(접두어)은 0 ~ PREFIX_COUNT-1 번호로 다룬다.
+ * - 숫자 자릿수는 기본 4자리이고, 접두어가 포화되면 자릿수를 늘려 공간을 넓힌다. (NicknameAllocator)
  */
 public final class NicknameGenerator {
 
@@ -18,21 +19,64 @@ public final class NicknameGenerator {
     private static final String[] NOUNS = {
             "사자", "호랑이", "코끼리", "기린", "고래", "돌고래", "참새", "독수리", "강아지", "고양이"
     };
-    private static final Random RANDOM = new Random();
-
-    public static String generateUniqueNickname(Predicate<String> isDuplicate) {
-        while (true) {
-            String nickname = buildNickname();
-            if (!isDuplicate.test(nickname)) {
-                return nickname;
-            }
+
+    public static final int PREFIX_COUNT = ADJECTIVES.length * NOUNS.length;
+    public static final int MIN_DIGITS = 4;
+    public static final int MAX_DIGITS = 6;
+
+    private static final char SEPARATOR = '#';
+    private static final Map<String, Integer> PREFIX_INDEX = new HashMap<>();
+
+    static {
+        for (int i = 0; i < PREFIX_COUNT; i++) {
+            PREFIX_INDEX.put(prefixOf(i), i);
+        }
+    }
+
+    /**
+     * 접두어 번호, 숫자, 자릿수로 닉네임을 만든다. (예: 행복한사자#0042)
+     */
+    public static String format(int prefix, int suffix, int digits) {
+        return prefixOf(prefix) + SEPARATOR + String.format("%0" + digits + "d", suffix);
+    }
+
+    /**
+     * 자릿수별 숫자 공간 크기 (4자리 → 10000)
+     */
+    public static int capacity(int digits) {
+        int capacity = 1;
+        for (int i = 0; i < digits; i++) {
+            capacity *= 10;
         }
+        return capacity;
+    }
+
+    /**
+     * 랜덤 닉네임 형식이면 접두어 번호/숫자/자릿수를, 아니면 null을 반환한다.
+     * (사용자가 직접 지정한 닉네임이 형식과 같을 수도 있으므로 출처와 관계없이 형식으로만 판단한다.)
+     */
+    public static Parsed parse(String nickname) {
+        if (nickname == null) return null;
+        int separator = nickname.lastIndexOf(SEPARATOR);
+        if (separator <= 0) return null;
+
+        Integer prefix = PREFIX_INDEX.get(nickname.substring(0, separator));
+        int digits = nickname.length() - separator - 1;
+        if (prefix == null || digits < MIN_DIGITS || digits > MAX_DIGITS) return null;
+
+        int suffix = 0;
+        for (int i = separator + 1; i < nickname.length(); i++) {
+            char c = nickname.charAt(i);
+            if (c < '0' || c > '9') return null;
+            suffix = suffix * 10 + (c - '0');
+        }
+        return new Parsed(prefix, suffix, digits);
+    }
+
+    private static String prefixOf(int prefix) {
+        return ADJECTIVES[prefix / NOUNS.length] + NOUNS[prefix % NOUNS.length];
     }
 
-    private static String buildNickname() {
-        String adjective = ADJECTIVES[RANDOM.nextInt(ADJECTIVES.length)];
-        String noun = NOUNS[RANDOM.nextInt(NOUNS.length)];
-        int number = RANDOM.nextInt(10000); // 0000~9999
-        return String.format("%s%s#%04d", adjective, noun, number);
+    public record Parsed(int prefix, int suffix, int digits) {
     }
 }
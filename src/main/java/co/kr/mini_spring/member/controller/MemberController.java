@@ -28,13 +28,18 @@ public class MemberController {
     @Operation(summary = "내 정보 조회", description = "현재 로그인한 사용자의 프로필 정보를 조회합니다.")
     @GetMapping("/me")
     public ApiResponse<MemberResponse> getMyInfo(
-            @Parameter(hidden = true) @AuthenticationPrincipal MemberAdapter memberAdapter
+            @Parameter(hidden = true) @AuthenticationPrincipal MemberAdapter memberAdapter,
+            @Parameter(description = "프로필 이미지 요청 크기(긴 변 픽셀, 예: 64/256/1024). 생략 시 원본")
+            @RequestParam(value = "profileImageSize", required = false) Integer profileImageSize
     ) {
         if (memberAdapter == null) {
             throw new BusinessException(ResponseCode.UNAUTHENTICATED);
         }
-        log.info("[GetMyInfo] 요청 memberId={}", memberAdapter.getMember().getId());
-        MemberResponse response = memberService.getMyInfo(memberAdapter.getMember().getId());
+        if (profileImageSize != null && profileImageSize < 1) {
+            throw new BusinessException(ResponseCode.INVALID_INPUT_VALUE);
+        }
+        log.info("[GetMyInfo] 요청 memberId={}", memberAdapter.getMemberId());
+        MemberResponse response = memberService.getMyInfo(memberAdapter.getMemberId(), profileImageSize);
         return ApiResponse.success(response);
     }
 
@@ -48,7 +53,7 @@ public class MemberController {
             throw new BusinessException(ResponseCode.UNAUTHENTICATED);
         }
 
-        Long memberId = memberAdapter.getMember().getId();
+        Long memberId = memberAdapter.getMemberId();
         log.info("[UpdateProfileImage] 요청 memberId={}, fileName={}", memberId, file.getOriginalFilename());
         
         String imageUrl = memberService.updateProfileImage(memberId, file);
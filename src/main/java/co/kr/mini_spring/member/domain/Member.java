@@ -57,6 +57,10 @@ public class Member {
     @Column(nullable = false, length = 20)
     private MemberStatus status;
 
+    // 상태/권한이 바뀔 때마다 증가하는 인증 버전 (액세스 토큰의 ver 클레임과 비교)
+    @Column(name = "auth_version", nullable = false)
+    private int authVersion;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -100,7 +104,17 @@ public class Member {
         return profileImage != null ? profileImage.getFullUrl() : defaultImageUrl;
     }
 
+    /**
+     * 요청 크기(긴 변 픽셀)에 맞는 프로필 이미지 축소본 URL을 반환합니다. 축소본이 없으면 원본 URL입니다.
+     */
+    public String getProfileImageUrl(String defaultImageUrl, int size) {
+        return profileImage != null ? profileImage.getVariantUrl(size) : defaultImageUrl;
+    }
+
     public void changeRole(MemberRole role) {
+        if (this.role != role) {
+            this.authVersion++;
+        }
         this.role = role;
     }
 
@@ -110,6 +124,9 @@ public class Member {
     }
 
     public void changeStatus(MemberStatus status) {
+        if (this.status != status) {
+            this.authVersion++;
+        }
         this.status = status;
     }
 }
@@ -0,0 +1,16 @@
+package co.kr.mini_spring.member.domain.event;
+
+import co.kr.mini_spring.member.domain.Member;
+
+/**
+ * 회원 정보 변경 이벤트
+ * - 인증 주체(principal)에 반영되는 상태/권한/닉네임/프로필 이미지가 바뀔 때 발행합니다.
+ * - authVersion은 상태/권한 변경 시 증가하며, 이전 버전으로 발급된 토큰의 claims 인증을 막는 데 사용합니다.
+ * - nickname은 변경 후 닉네임이며, 작성자 닉네임을 담아 둔 게시글 캐시가 바뀐 항목만 골라 무효화하는 데 사용합니다.
+ */
+public record MemberChangedEvent(Long memberId, String email, String nickname, int authVersion) {
+
+    public static MemberChangedEvent of(Member member) {
+        return new MemberChangedEvent(member.getId(), member.getEmail(), member.getNickname(), member.getAuthVersion());
+    }
+}
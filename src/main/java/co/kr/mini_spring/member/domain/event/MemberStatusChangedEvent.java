@@ -0,0 +1,20 @@
+package co.kr.mini_spring.member.domain.event;
+
+import co.kr.mini_spring.member.domain.MemberStatus;
+
+/**
+ * 회원 가입/상태 변경 이벤트
+ * - 회원 가입(일반/소셜)과 관리자 상태 변경 시 발행하며, 회원 수 통계 갱신에 사용합니다.
+ * @param previousStatus 변경 전 상태 (신규 가입이면 null)
+ * @param currentStatus 변경 후 상태
+ */
+public record MemberStatusChangedEvent(Long memberId, MemberStatus previousStatus, MemberStatus currentStatus) {
+
+    public static MemberStatusChangedEvent joined(Long memberId, MemberStatus status) {
+        return new MemberStatusChangedEvent(memberId, null, status);
+    }
+
+    public boolean isJoined() {
+        return previousStatus == null;
+    }
+}
@@ -0,0 +1,33 @@
+package co.kr.mini_spring.member.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 닉네임 점유 상태 적재용 JDBC 리포지토리
+ * - 엔티티를 만들지 않고 (id, nickname)만 ID 구간 단위로 읽습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberNicknameRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * afterId 다음부터 limit건의 회원 닉네임을 ID 오름차순으로 반환합니다.
+     */
+    public Map<Long, String> findNicknamesAfter(long afterId, int limit) {
+        Map<Long, String> nicknames = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, nickname FROM member WHERE id > ? ORDER BY id LIMIT ?",
+                rs -> {
+                    nicknames.put(rs.getLong("id"), rs.getString("nickname"));
+                },
+                afterId, limit);
+        return nicknames;
+    }
+}
@@ -1,6 +1,7 @@
 package co.kr.mini_spring.member.domain.repository;
 
 import co.kr.mini_spring.global.common.file.domain.QImageFile;
+import co.kr.mini_spring.global.metrics.TimedRepository;
 import co.kr.mini_spring.member.domain.Member;
 import co.kr.mini_spring.member.domain.QMember;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -14,6 +15,7 @@ import java.util.Optional;
  * - 회원 정보와 연관된 프로필 이미지 등을 최적화하여 조회합니다.
  */
 @Repository
+@TimedRepository
 @RequiredArgsConstructor
 public class MemberQueryRepository {
 
@@ -11,6 +11,7 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findById(Long id);
     Optional<Member> findByEmail(String email);
     Optional<Member> findByNickname(String nickname);
+    boolean existsByNickname(String nickname);
     Optional<Member> findByOauthProviderAndOauthId(MemberProvider provider, String oauthId);
 
     long countByStatus(MemberStatus status);
@@ -28,11 +28,20 @@ public class MemberResponse {
     private final MemberRole role;
 
     public MemberResponse(Member member, String defaultProfileImage) {
+        this(member, defaultProfileImage, null);
+    }
+
+    /**
+     * @param profileImageSize 프로필 이미지 요청 크기(긴 변 픽셀). null이면 원본 URL
+     */
+    public MemberResponse(Member member, String defaultProfileImage, Integer profileImageSize) {
         this.id = member.getId();
         this.email = member.getEmail();
         this.name = member.getName();
         this.nickname = member.getNickname();
-        this.profileImageUrl = member.getProfileImageUrl(defaultProfileImage);
+        this.profileImageUrl = profileImageSize == null
+                ? member.getProfileImageUrl(defaultProfileImage)
+                : member.getProfileImageUrl(defaultProfileImage, profileImageSize);
         this.role = member.getRole();
     }
 }
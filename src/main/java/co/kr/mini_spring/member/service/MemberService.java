@@ -8,23 +8,26 @@ import co.kr.mini_spring.member.domain.Member;
 import co.kr.mini_spring.member.domain.MemberProvider;
 import co.kr.mini_spring.member.domain.MemberRole;
 import co.kr.mini_spring.member.domain.MemberStatus;
+import co.kr.mini_spring.member.domain.event.MemberChangedEvent;
+import co.kr.mini_spring.member.domain.event.MemberStatusChangedEvent;
 import co.kr.mini_spring.member.domain.repository.MemberRepository;
 import co.kr.mini_spring.member.domain.repository.MemberQueryRepository;
-import co.kr.mini_spring.auth.token.domain.RefreshToken;
-import co.kr.mini_spring.auth.token.repository.RefreshTokenRepository;
+import co.kr.mini_spring.auth.service.RefreshTokenService;
 import co.kr.mini_spring.member.dto.request.SignUpRequest;
 import co.kr.mini_spring.member.dto.response.MemberResponse;
 import co.kr.mini_spring.member.dto.response.SignUpResponse;
 import co.kr.mini_spring.member.exception.EmailAlreadyExistsException;
 import co.kr.mini_spring.member.exception.PasswordMismatchException;
 import co.kr.mini_spring.global.security.JwtTokenProvider;
-import co.kr.mini_spring.global.util.NicknameGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
@@ -36,13 +39,19 @@ public class MemberService {
     private final MemberQueryRepository memberQueryRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final FileService fileService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NicknameAllocator nicknameAllocator;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${file.default-profile-image}")
     private String defaultProfileImage;
 
-    @Transactional
+    /**
+     * 회원가입
+     * - 닉네임 UNIQUE 키 충돌 시 새 닉네임으로 다시 저장해야 하므로, 저장은 시도마다 별도 트랜잭션으로 실행합니다.
+     */
     public SignUpResponse signUp(SignUpRequest request) {
         if (!request.getPassword().equals(request.getPasswordConfirm())) {
             throw new PasswordMismatchException("비밀번호가 일치하지 않습니다.");
@@ -56,8 +65,24 @@ public class MemberService {
 
         String encodedPassword = passwordEncoder.encode(request.getPassword());
 
-        String nickname = resolveNickname(request.getNickname());
+        String requestedNickname = request.getNickname() == null ? null : request.getNickname().trim();
+        if (requestedNickname != null && !requestedNickname.isEmpty()
+                && !memberRepository.existsByNickname(requestedNickname)) {
+            try {
+                SignUpResponse response = transactionTemplate.execute(
+                        status -> createMember(request, email, encodedPassword, requestedNickname));
+                nicknameAllocator.markTaken(requestedNickname);
+                return response;
+            } catch (DataIntegrityViolationException e) {
+                // 확인 직후 다른 가입이 같은 닉네임을 선점했다면 랜덤 닉네임으로 가입합니다.
+                if (!memberRepository.existsByNickname(requestedNickname)) throw e;
+            }
+        }
+        return nicknameAllocator.withNickname(nickname -> transactionTemplate.execute(
+                status -> createMember(request, email, encodedPassword, nickname)));
+    }
 
+    private SignUpResponse createMember(SignUpRequest request, String email, String encodedPassword, String nickname) {
         Member member = Member.builder()
                 .email(email)
                 .passwordHash(encodedPassword)
@@ -70,18 +95,10 @@ public class MemberService {
                 .oauthId(null)
                 .build();
         Member savedMember = memberRepository.save(member);
+        eventPublisher.publishEvent(MemberStatusChangedEvent.joined(savedMember.getId(), savedMember.getStatus()));
 
-        JwtTokenProvider.TokenWithExpiry accessToken = jwtTokenProvider.generateAccessToken(savedMember.getEmail(), savedMember.getRole());
-        JwtTokenProvider.TokenWithExpiry refreshToken = jwtTokenProvider.generateRefreshToken(savedMember.getEmail());
-
-        refreshTokenRepository.save(
-                RefreshToken.builder()
-                        .token(refreshToken.getToken())
-                        .memberId(savedMember.getId())
-                        .expiresAt(refreshToken.getExpiresAt())
-                        .revoked(false)
-                        .build()
-        );
+        JwtTokenProvider.TokenWithExpiry accessToken = jwtTokenProvider.generateAccessToken(savedMember);
+        JwtTokenProvider.TokenWithExpiry refreshToken = refreshTokenService.issue(savedMember);
 
         return SignUpResponse.builder()
                 .id(savedMember.getId())
@@ -99,12 +116,13 @@ public class MemberService {
 
     /**
      * 내 정보를 조회합니다.
+     * @param profileImageSize 프로필 이미지 요청 크기(긴 변 픽셀). null이면 원본 URL
      */
     @Transactional(readOnly = true)
-    public MemberResponse getMyInfo(Long memberId) {
+    public MemberResponse getMyInfo(Long memberId, Integer profileImageSize) {
         Member member = memberQueryRepository.findByIdWithProfileImage(memberId)
                 .orElseThrow(() -> new BusinessException(ResponseCode.MEMBER_NOT_FOUND));
-        return new MemberResponse(member, defaultProfileImage);
+        return new MemberResponse(member, defaultProfileImage, profileImageSize);
     }
 
     /**
@@ -121,6 +139,7 @@ public class MemberService {
 
         // 2. 멤버 엔티티의 프로필 이미지 업데이트
         member.updateProfileImage(imageFile);
+        eventPublisher.publishEvent(MemberChangedEvent.of(member));
 
         log.info("[프로필 이미지 업데이트 성공] memberId={}, fileId={}", memberId, imageFile.getId());
 
@@ -128,15 +147,22 @@ public class MemberService {
     }
 
     /**
-     * 중복되지 않는 랜덤 닉네임을 생성합니다.
-     * @return "형용사+명사#0000" 형식의 닉네임
+     * 회원 상태를 변경합니다. (정지/정지 해제/탈퇴 처리)
+     * - 인증 버전이 올라가므로 변경 전에 발급된 토큰은 claims-only 인증에 사용할 수 없습니다.
      */
-    private String resolveNickname(String requestedNickname) {
-        if (requestedNickname != null && !requestedNickname.isBlank()
-                && memberRepository.findByNickname(requestedNickname.trim()).isEmpty()) {
-            return requestedNickname.trim();
+    @Transactional
+    public void changeStatus(Long memberId, MemberStatus status) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new BusinessException(ResponseCode.MEMBER_NOT_FOUND));
+
+        MemberStatus previousStatus = member.getStatus();
+        member.changeStatus(status);
+        eventPublisher.publishEvent(MemberChangedEvent.of(member));
+        if (previousStatus != status) {
+            eventPublisher.publishEvent(new MemberStatusChangedEvent(memberId, previousStatus, status));
         }
-        return NicknameGenerator.generateUniqueNickname(n -> memberRepository.findByNickname(n).isPresent());
+
+        log.info("[회원 상태 변경] memberId={}, status={}", memberId, status);
     }
 
     private String normalizeEmail(String email) {
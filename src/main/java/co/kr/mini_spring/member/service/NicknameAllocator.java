@@ -0,0 +1,185 @@
+package co.kr.mini_spring.member.service;
+
+import co.kr.mini_spring.global.util.NicknameGenerator;
+import co.kr.mini_spring.member.domain.repository.MemberNicknameRepository;
+import co.kr.mini_spring.member.domain.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * 랜덤 닉네임 발급기
+ * - 형용사+명사 접두어마다 자릿수별 점유 비트셋을 메모리에 두고, 비어 있는 숫자를 골라 바로 발급합니다.
+ *   (무작위 위치에서 nextClearBit로 찾으므로 가입마다 DB에 닉네임 중복 조회를 반복하지 않습니다.)
+ * - 발급한 숫자는 즉시 점유로 표시하므로 같은 인스턴스의 동시 가입끼리는 같은 닉네임을 받지 않습니다.
+ * - 최종 판정은 member.nickname UNIQUE 키입니다. 다른 인스턴스가 먼저 쓴 닉네임이라 INSERT가 실패하면
+ *   점유를 유지한 채 새 닉네임으로 다시 시도합니다. (member.nickname.max-attempts)
+ * - 접두어의 현재 자릿수 공간이 가득 차면 그 접두어만 한 자리 늘려(4자리 → 5자리) 계속 발급합니다.
+ * - 시작 시 member 테이블을 ID 구간 단위로 읽어 점유 상태를 채웁니다. 적재 전에 발급된 닉네임도 UNIQUE 키로 확인됩니다.
+ */
+@Slf4j
+@Component
+public class NicknameAllocator {
+
+    private final MemberRepository memberRepository;
+    private final MemberNicknameRepository memberNicknameRepository;
+    private final int maxAttempts;
+    private final int loadChunkSize;
+
+    private final PrefixSpace[] prefixes = new PrefixSpace[NicknameGenerator.PREFIX_COUNT];
+
+    public NicknameAllocator(
+            MemberRepository memberRepository,
+            MemberNicknameRepository memberNicknameRepository,
+            @Value("${member.nickname.max-attempts:5}") int maxAttempts,
+            @Value("${member.nickname.load-chunk-size:10000}") int loadChunkSize) {
+        this.memberRepository = memberRepository;
+        this.memberNicknameRepository = memberNicknameRepository;
+        this.maxAttempts = maxAttempts;
+        this.loadChunkSize = loadChunkSize;
+        for (int i = 0; i < prefixes.length; i++) {
+            prefixes[i] = new PrefixSpace();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long lastId = 0;
+        int count = 0;
+        while (true) {
+            Map<Long, String> chunk = memberNicknameRepository.findNicknamesAfter(lastId, loadChunkSize);
+            if (chunk.isEmpty()) break;
+            for (Map.Entry<Long, String> entry : chunk.entrySet()) {
+                markTaken(entry.getValue());
+                lastId = entry.getKey();
+                count++;
+            }
+        }
+        log.info("[NicknameAllocator] 닉네임 점유 상태 적재 완료 members={}", count);
+    }
+
+    /**
+     * 새 닉네임을 발급해 creator에 전달하고, UNIQUE 키 충돌이면 다른 닉네임으로 다시 호출합니다.
+     * - creator는 닉네임으로 회원을 저장하는 트랜잭션 전체여야 합니다. (실패한 트랜잭션은 재사용할 수 없음)
+     * - 닉네임이 아닌 다른 원인(이메일 중복 등)으로 실패하면 발급을 취소하고 예외를 그대로 던집니다.
+     */
+    public <T> T withNickname(Function<String, T> creator) {
+        for (int attempt = 1; ; attempt++) {
+            String nickname = allocate();
+            try {
+                return creator.apply(nickname);
+            } catch (DataIntegrityViolationException e) {
+                if (!memberRepository.existsByNickname(nickname)) {
+                    release(nickname);
+                    throw e;
+                }
+                // 다른 인스턴스가 먼저 사용한 닉네임이므로 점유를 유지하고 다시 발급합니다.
+                log.info("[NicknameAllocator] 닉네임 충돌 nickname={}, attempt={}", nickname, attempt);
+                if (attempt >= maxAttempts) throw e;
+            } catch (RuntimeException e) {
+                release(nickname);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 비어 있는 닉네임 하나를 점유로 표시하고 반환합니다.
+     */
+    public String allocate() {
+        int prefix = ThreadLocalRandom.current().nextInt(prefixes.length);
+        PrefixSpace space = prefixes[prefix];
+        synchronized (space) {
+            int suffix = space.claim();
+            return NicknameGenerator.format(prefix, suffix, space.digits);
+        }
+    }
+
+    /**
+     * 이미 사용 중인 닉네임을 점유로 표시합니다. 랜덤 닉네임 형식이 아니면 무시합니다.
+     */
+    public void markTaken(String nickname) {
+        NicknameGenerator.Parsed parsed = NicknameGenerator.parse(nickname);
+        if (parsed == null) return;
+        PrefixSpace space = prefixes[parsed.prefix()];
+        synchronized (space) {
+            space.mark(parsed.suffix(), parsed.digits());
+        }
+    }
+
+    /**
+     * 저장되지 않은 닉네임의 점유를 되돌립니다.
+     */
+    public void release(String nickname) {
+        NicknameGenerator.Parsed parsed = NicknameGenerator.parse(nickname);
+        if (parsed == null) return;
+        PrefixSpace space = prefixes[parsed.prefix()];
+        synchronized (space) {
+            space.unmark(parsed.suffix(), parsed.digits());
+        }
+    }
+
+    /**
+     * 접두어 하나의 자릿수별 점유 상태
+     * - digits는 아직 빈자리가 있는 가장 짧은 자릿수이며, 그 공간이 가득 차면 한 자리 늘립니다.
+     * - 자릿수가 다르면 문자열도 다르므로(#0042 / #00042) 자릿수별 공간은 서로 충돌하지 않습니다.
+     */
+    private static final class PrefixSpace {
+
+        private final BitSet[] used = new BitSet[NicknameGenerator.MAX_DIGITS + 1];
+        private final int[] counts = new int[NicknameGenerator.MAX_DIGITS + 1];
+        private int digits = NicknameGenerator.MIN_DIGITS;
+
+        int claim() {
+            int capacity = NicknameGenerator.capacity(digits);
+            while (counts[digits] >= capacity) {
+                if (digits == NicknameGenerator.MAX_DIGITS) {
+                    throw new IllegalStateException("닉네임 공간이 모두 사용되었습니다. digits=" + digits);
+                }
+                digits++;
+                capacity = NicknameGenerator.capacity(digits);
+                log.info("[NicknameAllocator] 닉네임 자릿수 확장 digits={}", digits);
+            }
+            BitSet bits = bits(digits);
+            int suffix = bits.nextClearBit(ThreadLocalRandom.current().nextInt(capacity));
+            if (suffix >= capacity) {
+                suffix = bits.nextClearBit(0);
+            }
+            bits.set(suffix);
+            counts[digits]++;
+            return suffix;
+        }
+
+        void mark(int suffix, int digits) {
+            BitSet bits = bits(digits);
+            if (bits.get(suffix)) return;
+            bits.set(suffix);
+            counts[digits]++;
+        }
+
+        void unmark(int suffix, int digits) {
+            BitSet bits = used[digits];
+            if (bits == null || !bits.get(suffix)) return;
+            bits.clear(suffix);
+            counts[digits]--;
+            if (digits < this.digits) {
+                this.digits = digits;
+            }
+        }
+
+        private BitSet bits(int digits) {
+            if (used[digits] == null) {
+                used[digits] = new BitSet(NicknameGenerator.capacity(digits));
+            }
+            return used[digits];
+        }
+    }
+}
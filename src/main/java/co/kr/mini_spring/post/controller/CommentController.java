@@ -1,6 +1,9 @@
 package co.kr.mini_spring.post.controller;
 
+import co.kr.mini_spring.global.common.exception.BusinessException;
+import co.kr.mini_spring.global.common.response.CursorResponse;
 import co.kr.mini_spring.global.common.response.PageResponse;
+import co.kr.mini_spring.global.common.response.ResponseCode;
 import co.kr.mini_spring.global.security.MemberAdapter;
 import co.kr.mini_spring.post.dto.request.CommentCreateRequest;
 import co.kr.mini_spring.post.dto.request.CommentUpdateRequest;
@@ -27,6 +30,7 @@ public class CommentController {
      * @param postId 게시글 ID
      * @param page 페이지 번호(0부터)
      * @param size 페이지 크기
+     * @param replyLimit 댓글별 대댓글 최대 개수 (0이면 전체)
      * @return 댓글/대댓글 페이징 응답
      */
     @Operation(summary = "댓글 목록 조회", description = "특정 게시글의 최상위 댓글을 페이지 단위로 조회합니다. 대댓글은 children에 포함됩니다.")
@@ -34,9 +38,28 @@ public class CommentController {
     public ApiResponse<PageResponse<CommentResponse>> getComments(
             @PathVariable Long postId,
             @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "replyLimit", defaultValue = "0") int replyLimit
+    ) {
+        return ApiResponse.success(commentService.getComments(postId, page, size, replyLimit));
+    }
+
+    /**
+     * 댓글의 대댓글을 이어서 조회합니다.
+     * @param commentId 부모 댓글 ID
+     * @param cursor 댓글 목록의 nextReplyCursor 또는 직전 응답의 nextCursor (처음부터 조회하면 생략)
+     * @param size 조회할 대댓글 수
+     * @return 대댓글 목록과 다음 커서
+     */
+    @Operation(summary = "대댓글 더 보기", description = "댓글의 대댓글을 커서 이후부터 작성 순으로 조회합니다.")
+    @GetMapping("/{commentId}/replies")
+    public ApiResponse<CursorResponse<CommentResponse>> getReplies(
+            @PathVariable Long commentId,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @RequestParam(value = "size", defaultValue = "10") int size
     ) {
-        return ApiResponse.success(commentService.getComments(postId, page, size));
+        if (size < 1) throw new BusinessException(ResponseCode.INVALID_INPUT_VALUE);
+        return ApiResponse.success(commentService.getReplies(commentId, cursor, size));
     }
 
     /**
@@ -0,0 +1,47 @@
+package co.kr.mini_spring.post.controller;
+
+import co.kr.mini_spring.global.common.exception.BusinessException;
+import co.kr.mini_spring.global.common.response.ApiResponse;
+import co.kr.mini_spring.global.common.response.ResponseCode;
+import co.kr.mini_spring.post.dto.response.TrendingHashtagResponse;
+import co.kr.mini_spring.post.trending.TrendWindow;
+import co.kr.mini_spring.post.trending.TrendingHashtagTracker;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/hashtags")
+@RequiredArgsConstructor
+@Tag(name = "해시태그", description = "해시태그 조회")
+public class HashtagController {
+
+    private static final int MAX_TRENDING_SIZE = 50;
+
+    private final TrendingHashtagTracker trendingHashtagTracker;
+
+    /**
+     * 최근 구간에서 많이 사용된 해시태그를 조회합니다.
+     * @param window 집계 구간 (1h, 24h, 7d)
+     * @param size 조회할 해시태그 수 (최대 50)
+     * @return 감쇠 점수 순 해시태그 목록
+     */
+    @Operation(summary = "인기 해시태그 조회", description = "구간별로 최근 사용일수록 높은 가중치를 준 점수 순으로 해시태그를 조회합니다.")
+    @GetMapping("/trending")
+    public ApiResponse<List<TrendingHashtagResponse>> getTrending(
+            @Parameter(description = "집계 구간(1h|24h|7d)") @RequestParam(value = "window", defaultValue = "24h") String window,
+            @Parameter(description = "조회할 해시태그 수") @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        if (size < 1 || size > MAX_TRENDING_SIZE) {
+            throw new BusinessException(ResponseCode.INVALID_INPUT_VALUE);
+        }
+        return ApiResponse.success(trendingHashtagTracker.getTrending(TrendWindow.from(window), size));
+    }
+}
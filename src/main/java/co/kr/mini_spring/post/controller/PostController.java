@@ -6,8 +6,11 @@ import co.kr.mini_spring.post.dto.request.PostUpdateRequest;
 import co.kr.mini_spring.post.dto.response.PostResponse;
 import co.kr.mini_spring.post.dto.response.PostSummaryResponse;
 import co.kr.mini_spring.post.service.PostService;
+import co.kr.mini_spring.global.common.exception.BusinessException;
 import co.kr.mini_spring.global.common.response.ApiResponse;
+import co.kr.mini_spring.global.common.response.CursorResponse;
 import co.kr.mini_spring.global.common.response.PageResponse;
+import co.kr.mini_spring.global.common.response.ResponseCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -26,16 +29,21 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "게시글", description = "게시글 조회/작성/수정/삭제/좋아요")
 public class PostController {
 
+    // 한 번에 조회할 수 있는 게시글 수 상한 (더 크게 요청하면 상한으로 맞춥니다)
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostService postService;
 
     /**
      * 모든 공개된 게시글 목록을 페이징하여 조회합니다.
      * @param page 페이지 번호 (0부터 시작)
-     * @param size 페이지 당 게시글 수
-     * @param sort 정렬 기준 (recent, likes, oldest)
+     * @param size 페이지 당 게시글 수 (최대 100)
+     * @param sort 정렬 기준 (recent, likes, oldest, relevance). relevance는 keyword가 있을 때만 적용됩니다.
      * @param keyword 제목/본문 키워드 검색
      * @param hashtags 해시태그 이름(복수) 필터
+     * @param hashtagMatch 해시태그 일치 방식 (any: 하나라도 포함, all: 모두 포함)
      * @param authorId 작성자 ID 필터
+     * @param approximate true면 캐시된 근사 전체 개수를 허용합니다.
      * @return 페이징된 게시글 목록
      */
     @Operation(summary = "게시글 목록 조회", description = "공개 게시글을 페이징/검색/필터/정렬하여 조회합니다.")
@@ -43,13 +51,46 @@ public class PostController {
     public ApiResponse<PageResponse<PostSummaryResponse>> getPublishedPosts(
             @Parameter(description = "페이지 번호(0부터)") @RequestParam(value = "page", defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(value = "size", defaultValue = "10") int size,
+            @Parameter(description = "정렬 기준(recent|likes|oldest|relevance)") @RequestParam(value = "sort", defaultValue = "recent") String sort,
+            @Parameter(description = "제목/본문 키워드 검색") @RequestParam(value = "keyword", required = false) String keyword,
+            @Parameter(description = "해시태그 이름(복수 전달 가능)") @RequestParam(value = "hashtags", required = false) List<String> hashtags,
+            @Parameter(description = "해시태그 일치 방식(any|all)") @RequestParam(value = "hashtagMatch", defaultValue = "any") String hashtagMatch,
+            @Parameter(description = "작성자 ID 필터") @RequestParam(value = "authorId", required = false) Long authorId,
+            @Parameter(description = "근사 전체 개수 허용 여부") @RequestParam(value = "approximate", defaultValue = "false") boolean approximate
+    ) {
+        Pageable pageable = createPageable(page, size, sort);
+        PageResponse<PostSummaryResponse> response = postService.getPublishedPosts(pageable, keyword, hashtags, isMatchAll(hashtagMatch),
+                authorId, approximate);
+        return ApiResponse.success(response);
+    }
+
+    /**
+     * 공개된 게시글 목록을 커서(keyset) 방식으로 조회합니다. (무한 스크롤용)
+     * - cursor 파라미터가 있으면 이 핸들러가 처리하며, 값이 비어 있으면 첫 페이지를 반환합니다.
+     * - 전체 개수를 계산하지 않으므로 페이지 깊이와 무관하게 일정한 비용으로 응답합니다.
+     * @param cursor 직전 응답의 nextCursor (첫 페이지는 빈 값)
+     * @param size 페이지 당 게시글 수 (최대 100)
+     * @param sort 정렬 기준 (recent, likes, oldest). 커서를 발급받을 때와 같아야 합니다.
+     * @param keyword 제목/본문 키워드 검색
+     * @param hashtags 해시태그 이름(복수) 필터
+     * @param hashtagMatch 해시태그 일치 방식 (any: 하나라도 포함, all: 모두 포함)
+     * @param authorId 작성자 ID 필터
+     * @return 게시글 목록과 다음 페이지 커서
+     */
+    @Operation(summary = "게시글 목록 커서 조회", description = "공개 게시글을 커서 기반으로 조회합니다. 전체 개수는 반환하지 않습니다.")
+    @GetMapping(params = "cursor")
+    public ApiResponse<CursorResponse<PostSummaryResponse>> getPublishedPostsByCursor(
+            @Parameter(description = "직전 응답의 nextCursor (첫 페이지는 빈 값)") @RequestParam(value = "cursor") String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(value = "size", defaultValue = "10") int size,
             @Parameter(description = "정렬 기준(recent|likes|oldest)") @RequestParam(value = "sort", defaultValue = "recent") String sort,
             @Parameter(description = "제목/본문 키워드 검색") @RequestParam(value = "keyword", required = false) String keyword,
             @Parameter(description = "해시태그 이름(복수 전달 가능)") @RequestParam(value = "hashtags", required = false) List<String> hashtags,
+            @Parameter(description = "해시태그 일치 방식(any|all)") @RequestParam(value = "hashtagMatch", defaultValue = "any") String hashtagMatch,
             @Parameter(description = "작성자 ID 필터") @RequestParam(value = "authorId", required = false) Long authorId
     ) {
-        Pageable pageable = createPageable(page, size, sort);
-        PageResponse<PostSummaryResponse> response = postService.getPublishedPosts(pageable, keyword, hashtags, authorId);
+        if (size < 1) throw new BusinessException(ResponseCode.INVALID_INPUT_VALUE);
+        CursorResponse<PostSummaryResponse> response = postService.getPublishedPostsByCursor(sort, cursor, Math.min(size, MAX_PAGE_SIZE), keyword, hashtags,
+                isMatchAll(hashtagMatch), authorId);
         return ApiResponse.success(response);
     }
 
@@ -97,7 +138,7 @@ public class PostController {
             @PathVariable Long postId,
             @AuthenticationPrincipal MemberAdapter memberAdapter
     ) {
-        postService.addLike(postId, memberAdapter.getMember().getId());
+        postService.addLike(postId, memberAdapter.getMemberId());
         return ApiResponse.success();
     }
 
@@ -113,7 +154,7 @@ public class PostController {
             @PathVariable Long postId,
             @AuthenticationPrincipal MemberAdapter memberAdapter
     ) {
-        postService.removeLike(postId, memberAdapter.getMember().getId());
+        postService.removeLike(postId, memberAdapter.getMemberId());
         return ApiResponse.success();
     }
 
@@ -135,6 +176,22 @@ public class PostController {
         return ApiResponse.success(response);
     }
 
+    /**
+     * 게시글 공개 상태 변경
+     * @param postId 공개 상태를 변경할 게시글 ID
+     * @param memberAdapter 인증된 사용자 정보
+     * @return 변경된 게시글 상세 정보
+     */
+    @PatchMapping("/{postId}/published")
+    @Operation(summary = "게시글 공개 상태 변경", description = "작성자가 게시글을 공개/비공개로 전환합니다.")
+    public ApiResponse<PostResponse> togglePublished(
+            @PathVariable Long postId,
+            @AuthenticationPrincipal MemberAdapter memberAdapter
+    ) {
+        PostResponse response = postService.togglePublished(postId, memberAdapter.getMember());
+        return ApiResponse.success(response);
+    }
+
     /**
      * 게시글 삭제
      * @param postId 삭제할 게시글 ID
@@ -151,13 +208,18 @@ public class PostController {
         return ApiResponse.success();
     }
 
+    private boolean isMatchAll(String hashtagMatch) {
+        return "all".equalsIgnoreCase(hashtagMatch);
+    }
+
     private Pageable createPageable(int page, int size, String sort) {
         Sort sortOrder = switch (sort.toLowerCase()) {
             case "likes" -> Sort.by(Sort.Direction.DESC, "likeCount")
                     .and(Sort.by(Sort.Direction.DESC, "createdAt"));
             case "oldest" -> Sort.by(Sort.Direction.ASC, "createdAt");
+            case "relevance" -> Sort.by(Sort.Direction.DESC, "relevance");
             default -> Sort.by(Sort.Direction.DESC, "createdAt");
         };
-        return PageRequest.of(page, size, sortOrder);
+        return PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE), sortOrder);
     }
 }
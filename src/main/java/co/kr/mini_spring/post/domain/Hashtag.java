@@ -34,6 +34,30 @@ public class Hashtag {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * 해시태그 이름을 저장/조회용 형태로 정규화합니다. (소문자 영문, 숫자, 한글만 남김)
+     * @return 남는 글자가 없으면 빈 문자열
+     */
+    public static String normalizeName(String name) {
+        if (name == null) return "";
+        // 게시글 저장/필터마다 호출되므로 정규식(replaceAll) 대신 한 번 훑으며 걸러내고, 걸러낼 글자가 없으면 그대로 반환합니다.
+        String lower = name.toLowerCase();
+        StringBuilder normalized = null;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (isNameChar(c)) {
+                if (normalized != null) normalized.append(c);
+            } else if (normalized == null) {
+                normalized = new StringBuilder(lower.length()).append(lower, 0, i);
+            }
+        }
+        return normalized == null ? lower : normalized.toString();
+    }
+
+    private static boolean isNameChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || (c >= '가' && c <= '힣');
+    }
+
     public void increaseUsage() {
         this.usageCount++;
         this.lastUsedAt = LocalDateTime.now();
@@ -26,7 +26,8 @@ import java.util.Set;
 public class Post {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -76,7 +77,9 @@ public class Post {
     @Builder.Default
     private Set<PostLike> likes = new HashSet<>();
 
-    @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
+    // 매핑 INSERT/DELETE는 HashtagService가 JDBC로 일괄 처리하므로 PERSIST/MERGE와 고아 객체 제거는 쓰지 않습니다.
+    // (PERSIST를 전이하지 않으면 orphanRemoval도 동작하지 않아, 컬렉션에서 빼도 행이 지워지지 않습니다.)
+    @OneToMany(mappedBy = "post", cascade = CascadeType.REMOVE)
     @Builder.Default
     private Set<PostHashtag> postHashtags = new HashSet<>();
 
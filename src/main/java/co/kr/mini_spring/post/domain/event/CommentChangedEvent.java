@@ -0,0 +1,12 @@
+package co.kr.mini_spring.post.domain.event;
+
+/**
+ * 댓글 변경 이벤트
+ * - CommentService가 댓글 작성/수정/삭제 시 발행합니다.
+ */
+public record CommentChangedEvent(Type type, Long postId, Long commentId) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
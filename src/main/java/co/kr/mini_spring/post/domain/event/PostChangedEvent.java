@@ -0,0 +1,23 @@
+package co.kr.mini_spring.post.domain.event;
+
+import co.kr.mini_spring.post.domain.Post;
+
+/**
+ * 게시글 변경 이벤트
+ * - PostService가 게시글 생성/수정/삭제/공개 상태 변경 시 발행합니다.
+ * - 캐시/집계 컴포넌트는 트랜잭션 커밋 이후(@TransactionalEventListener)에 이 이벤트를 받아 자신의 상태를 갱신합니다.
+ * @param published 변경 이후의 공개 여부 (삭제의 경우 삭제 직전의 공개 여부)
+ * @param title 변경 이후의 제목 (검색 색인 갱신용)
+ * @param content 변경 이후의 본문 (검색 색인 갱신용)
+ */
+public record PostChangedEvent(Type type, Long postId, Long authorId, boolean published, String title, String content) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED, PUBLISH_TOGGLED
+    }
+
+    public static PostChangedEvent of(Type type, Post post) {
+        Long authorId = post.getMember() == null ? null : post.getMember().getId();
+        return new PostChangedEvent(type, post.getId(), authorId, post.isPublished(), post.getTitle(), post.getContent());
+    }
+}
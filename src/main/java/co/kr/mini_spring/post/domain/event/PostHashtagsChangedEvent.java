@@ -0,0 +1,12 @@
+package co.kr.mini_spring.post.domain.event;
+
+import java.util.Set;
+
+/**
+ * 게시글 해시태그 변경 이벤트
+ * - HashtagService가 게시글에 해시태그를 연결하거나 변경할 때 발행합니다.
+ * @param previousNames 변경 전 해시태그 이름 집합
+ * @param currentNames 변경 후 해시태그 이름 집합
+ */
+public record PostHashtagsChangedEvent(Long postId, Set<String> previousNames, Set<String> currentNames) {
+}
@@ -0,0 +1,9 @@
+package co.kr.mini_spring.post.domain.event;
+
+/**
+ * 게시글 좋아요 변경 이벤트
+ * - PostService가 좋아요가 실제로 추가/취소되었을 때 발행합니다.
+ * @param delta 좋아요 수 증감 (+1 또는 -1)
+ */
+public record PostLikeChangedEvent(Long postId, int delta) {
+}
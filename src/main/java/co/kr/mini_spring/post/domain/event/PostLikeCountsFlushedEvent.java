@@ -0,0 +1,11 @@
+package co.kr.mini_spring.post.domain.event;
+
+import java.util.Set;
+
+/**
+ * 좋아요 수 반영 완료 이벤트
+ * - PostLikeCounter가 누적된 좋아요 수 증분을 post.like_count에 반영한 뒤 발행합니다.
+ * @param postIds like_count가 바뀐 게시글 ID
+ */
+public record PostLikeCountsFlushedEvent(Set<Long> postIds) {
+}
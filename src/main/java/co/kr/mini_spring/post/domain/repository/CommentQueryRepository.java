@@ -1,8 +1,11 @@
 package co.kr.mini_spring.post.domain.repository;
 
+import co.kr.mini_spring.global.metrics.TimedRepository;
 import co.kr.mini_spring.member.domain.QMember;
 import co.kr.mini_spring.post.domain.Comment;
 import co.kr.mini_spring.post.domain.QComment;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -10,6 +13,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +22,7 @@ import java.util.Optional;
  * - 계층형 댓글 조회 최적화 및 N+1 문제 해결을 담당합니다.
  */
 @Repository
+@TimedRepository
 @RequiredArgsConstructor
 public class CommentQueryRepository {
 
@@ -28,7 +33,7 @@ public class CommentQueryRepository {
     /**
      * 특정 게시글의 최상위 댓글 목록을 페이징 조회합니다.
      * - 작성자 정보(Member)를 Fetch Join하여 회원 정보를 가져올 때 발생하는 N+1 문제를 방지합니다.
-     * - 대댓글(children)은 엔티티 설정에 따라 지연 로딩됩니다.
+     * - 대댓글은 findRepliesByParentIds로 한 번에 조회하여 CommentTreeLoader가 트리로 조립합니다.
      */
     public Page<Comment> findAllTopLevelCommentsByPostId(Long postId, Pageable pageable) {
         List<Comment> content = queryFactory
@@ -55,6 +60,73 @@ public class CommentQueryRepository {
         return new PageImpl<>(content, pageable, total == null ? 0 : total);
     }
 
+    /**
+     * 특정 게시글의 최상위 댓글 전체를 작성자와 함께 조회합니다. (상세 페이지용, 작성 순)
+     */
+    public List<Comment> findAllTopLevelCommentsByPostId(Long postId) {
+        return queryFactory
+                .selectFrom(comment)
+                .leftJoin(comment.member, member).fetchJoin()
+                .where(
+                        comment.post.id.eq(postId),
+                        comment.parent.isNull()
+                )
+                .orderBy(comment.id.asc())
+                .fetch();
+    }
+
+    /**
+     * 여러 부모 댓글의 대댓글을 작성자와 함께 한 번의 쿼리로 조회합니다.
+     * - idx_parent_depth (parent_comment_id, depth) 인덱스 순서대로 부모별 작성 순(id 오름차순)으로 반환합니다.
+     * @param limitPerParent 부모별 최대 조회 건수 (0 이하면 제한 없음)
+     */
+    public List<Comment> findRepliesByParentIds(Collection<Long> parentIds, int limitPerParent) {
+        if (parentIds.isEmpty()) return List.of();
+
+        BooleanExpression withinLimit = null;
+        if (limitPerParent > 0) {
+            // 같은 부모에서 자신보다 먼저 작성된 대댓글 수가 limit 미만인 행만 남깁니다.
+            QComment sibling = new QComment("sibling");
+            withinLimit = JPAExpressions.select(sibling.count())
+                    .from(sibling)
+                    .where(
+                            sibling.parent.id.eq(comment.parent.id),
+                            sibling.depth.eq(1),
+                            sibling.id.lt(comment.id)
+                    )
+                    .lt((long) limitPerParent);
+        }
+
+        return queryFactory
+                .selectFrom(comment)
+                .leftJoin(comment.member, member).fetchJoin()
+                .where(
+                        comment.parent.id.in(parentIds),
+                        comment.depth.eq(1),
+                        withinLimit
+                )
+                .orderBy(comment.parent.id.asc(), comment.id.asc())
+                .fetch();
+    }
+
+    /**
+     * 특정 댓글의 대댓글을 커서(마지막으로 받은 대댓글 ID) 이후부터 조회합니다.
+     * @param afterId 직전에 받은 마지막 대댓글 ID (처음이면 null)
+     */
+    public List<Comment> findRepliesAfter(Long parentId, Long afterId, int limit) {
+        return queryFactory
+                .selectFrom(comment)
+                .leftJoin(comment.member, member).fetchJoin()
+                .where(
+                        comment.parent.id.eq(parentId),
+                        comment.depth.eq(1),
+                        afterId == null ? null : comment.id.gt(afterId)
+                )
+                .orderBy(comment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
     /**
      * 댓글 ID로 상세 정보를 조회하며 작성자 정보를 함께 가져옵니다.
      * - 수정/삭제 권한 체크 시 N+1 문제를 방지하기 위해 사용합니다.
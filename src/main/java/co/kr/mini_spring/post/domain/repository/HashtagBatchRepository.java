@@ -0,0 +1,113 @@
+package co.kr.mini_spring.post.domain.repository;
+
+import co.kr.mini_spring.global.metrics.TimedRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 해시태그/게시글-해시태그 매핑 전용 JDBC 리포지토리
+ * - 태그 개수와 무관하게 문장 하나(왕복 1회)로 처리하도록 다중 행 INSERT를 사용합니다.
+ * - 호출자는 이름/ID를 정렬해 전달하여, 동시에 같은 태그를 쓰는 트랜잭션끼리 락 순서가 엇갈리지 않게 합니다.
+ * - created_at은 엔티티(@CreationTimestamp)를 거치지 않으므로 직접 채웁니다. (ddl-auto로 만든 테이블에는 기본값이 없습니다)
+ */
+@Repository
+@TimedRepository
+@RequiredArgsConstructor
+public class HashtagBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 해시태그가 없으면 사용 횟수 1로 만들고, 있으면 사용 횟수를 1 올립니다.
+     * - name의 UNIQUE 키로 판별하므로 같은 태그를 동시에 처음 쓰는 게시글이 있어도 중복 키 오류가 나지 않습니다.
+     */
+    public void upsertUsage(List<String> names, LocalDateTime usedAt) {
+        if (names.isEmpty()) return;
+        Timestamp timestamp = Timestamp.valueOf(usedAt);
+        List<Object> args = new ArrayList<>(names.size() * 2);
+        names.forEach(name -> {
+            args.add(name);
+            args.add(timestamp);
+        });
+        jdbcTemplate.update(
+                "INSERT INTO hashtag (name, usage_count, last_used_at, created_at) VALUES " + rows("(?, 1, ?, NOW(3))", names.size()) +
+                        " ON DUPLICATE KEY UPDATE usage_count = usage_count + 1, last_used_at = VALUES(last_used_at)",
+                args.toArray());
+    }
+
+    /**
+     * 이름으로 해시태그 ID를 조회합니다.
+     * - 잠금 읽기로 조회하여, 트랜잭션 스냅샷 이후 다른 트랜잭션이 커밋한 해시태그도 보이게 합니다.
+     */
+    public Map<String, Long> findIdsByNames(Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        if (names.isEmpty()) return ids;
+        jdbcTemplate.query(
+                "SELECT id, name FROM hashtag WHERE name IN (" + placeholders(names.size()) + ") LOCK IN SHARE MODE",
+                rs -> {
+                    ids.put(rs.getString("name"), rs.getLong("id"));
+                },
+                names.toArray());
+        return ids;
+    }
+
+    /**
+     * 게시글-해시태그 매핑을 일괄 추가합니다. (이미 있는 매핑은 무시)
+     */
+    public void insertPostHashtags(Long postId, List<Long> hashtagIds) {
+        if (hashtagIds.isEmpty()) return;
+        List<Object> args = new ArrayList<>(hashtagIds.size() * 2);
+        hashtagIds.forEach(hashtagId -> {
+            args.add(postId);
+            args.add(hashtagId);
+        });
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO post_hashtag (post_id, hashtag_id, created_at) VALUES " + rows("(?, ?, NOW(3))", hashtagIds.size()),
+                args.toArray());
+    }
+
+    /**
+     * 게시글에서 뺀 해시태그 매핑을 일괄 삭제합니다.
+     */
+    public void deletePostHashtags(Long postId, List<Long> hashtagIds) {
+        if (hashtagIds.isEmpty()) return;
+        List<Object> args = new ArrayList<>(hashtagIds.size() + 1);
+        args.add(postId);
+        args.addAll(hashtagIds);
+        jdbcTemplate.update(
+                "DELETE FROM post_hashtag WHERE post_id = ? AND hashtag_id IN (" + placeholders(hashtagIds.size()) + ")",
+                args.toArray());
+    }
+
+    /**
+     * 여러 해시태그의 사용 횟수를 한 번에 1씩 줄입니다. (음수 방지)
+     */
+    public void decreaseUsageCounts(List<Long> hashtagIds, LocalDateTime usedAt) {
+        if (hashtagIds.isEmpty()) return;
+        List<Object> args = new ArrayList<>(hashtagIds.size() + 1);
+        args.add(Timestamp.valueOf(usedAt));
+        args.addAll(hashtagIds);
+        jdbcTemplate.update(
+                "UPDATE hashtag SET usage_count = GREATEST(usage_count - 1, 0), last_used_at = ? " +
+                        "WHERE id IN (" + placeholders(hashtagIds.size()) + ")",
+                args.toArray());
+    }
+
+    private static String rows(String row, int count) {
+        return String.join(", ", Collections.nCopies(count, row));
+    }
+
+    private static String placeholders(int count) {
+        return rows("?", count);
+    }
+}
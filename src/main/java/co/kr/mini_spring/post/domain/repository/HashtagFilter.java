@@ -0,0 +1,32 @@
+package co.kr.mini_spring.post.domain.repository;
+
+import co.kr.mini_spring.post.domain.Hashtag;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록 해시태그 필터 조건
+ * @param names 정규화된 해시태그 이름 집합
+ * @param matchAll true면 모든 해시태그를 가진 게시글(AND), false면 하나라도 가진 게시글(OR)
+ */
+public record HashtagFilter(Set<String> names, boolean matchAll) {
+
+    public static final HashtagFilter NONE = new HashtagFilter(Set.of(), false);
+
+    public static HashtagFilter of(List<String> names, boolean matchAll) {
+        if (names == null || names.isEmpty()) return NONE;
+        Set<String> normalized = names.stream()
+                .filter(Objects::nonNull)
+                .map(Hashtag::normalizeName)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        return normalized.isEmpty() ? NONE : new HashtagFilter(normalized, matchAll);
+    }
+
+    public boolean isEmpty() {
+        return names.isEmpty();
+    }
+}
@@ -0,0 +1,35 @@
+package co.kr.mini_spring.post.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 인기 해시태그 집계 상태 체크포인트 JDBC 리포지토리
+ * - 집계 구간별로 직렬화한 상태 한 행을 덮어씁니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HashtagTrendCheckpointRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void save(String windowKey, byte[] state) {
+        jdbcTemplate.update(
+                "INSERT INTO hashtag_trend_checkpoint (window_key, state) VALUES (?, ?) " +
+                        "ON DUPLICATE KEY UPDATE state = VALUES(state), saved_at = CURRENT_TIMESTAMP(3)",
+                windowKey, state);
+    }
+
+    public Map<String, byte[]> findAll() {
+        Map<String, byte[]> states = new HashMap<>();
+        jdbcTemplate.query("SELECT window_key, state FROM hashtag_trend_checkpoint",
+                rs -> {
+                    states.put(rs.getString("window_key"), rs.getBytes("state"));
+                });
+        return states;
+    }
+}
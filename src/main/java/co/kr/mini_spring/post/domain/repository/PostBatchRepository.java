@@ -0,0 +1,74 @@
+package co.kr.mini_spring.post.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Post 카운터 컬럼 전용 JDBC 배치 리포지토리
+ * - 메모리에 모아 둔 증분을 게시글 ID 순으로 정렬해 한 번의 배치로 반영합니다.
+ * - 정렬된 순서로 갱신하므로 여러 인스턴스가 동시에 flush해도 락 순서가 엇갈려 교착 상태에 빠지지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글별 조회수 증분을 일괄 반영합니다.
+     */
+    public void incrementViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) return;
+        List<Object[]> args = deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(e -> new Object[]{e.getValue(), e.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate("UPDATE post SET view_count = view_count + ? WHERE id = ?", args);
+    }
+
+    /**
+     * 게시글별 좋아요 수 증분을 일괄 반영합니다. (음수 방지)
+     */
+    public void applyLikeCountDeltas(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) return;
+        List<Object[]> args = deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(e -> new Object[]{e.getValue(), e.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate("UPDATE post SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?", args);
+    }
+
+    /**
+     * 지정한 ID 구간의 좋아요 수를 post_like 기준으로 다시 계산합니다.
+     * - 값이 어긋난 행만 갱신하며, 미반영 증분이 남아 있는 게시글(excludedPostIds)은 건너뜁니다.
+     * @return 보정된 게시글 수
+     */
+    public int reconcileLikeCounts(long fromId, long toId, Collection<Long> excludedPostIds) {
+        StringBuilder sql = new StringBuilder(
+                "UPDATE post p SET p.like_count = (SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = p.id) " +
+                        "WHERE p.id BETWEEN ? AND ? " +
+                        "AND p.like_count <> (SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = p.id)");
+        List<Object> args = new ArrayList<>(List.of(fromId, toId));
+        if (!excludedPostIds.isEmpty()) {
+            sql.append(" AND p.id NOT IN (")
+                    .append(String.join(", ", excludedPostIds.stream().map(id -> "?").toList()))
+                    .append(")");
+            args.addAll(excludedPostIds);
+        }
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    /**
+     * 게시글 ID의 최댓값을 조회합니다. (삭제된 게시글 포함, 청크 단위 보정 범위 계산용)
+     */
+    public long findMaxPostId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM post", Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+}
@@ -0,0 +1,73 @@
+package co.kr.mini_spring.post.domain.repository;
+
+import co.kr.mini_spring.global.common.exception.BusinessException;
+import co.kr.mini_spring.global.common.response.ResponseCode;
+import co.kr.mini_spring.post.domain.Post;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 피드 커서(keyset) 페이징용 연속 토큰
+ * - 마지막으로 내려준 게시글의 정렬 키 튜플을 담습니다.
+ *   recent/oldest: (created_at, id), likes: (like_count, created_at, id)
+ * - 클라이언트에는 Base64URL로 인코딩한 불투명 문자열로 전달합니다.
+ */
+public record PostFeedCursor(Sort sort, int likeCount, LocalDateTime createdAt, Long id) {
+
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    /**
+     * 커서 페이징이 지원하는 정렬 기준
+     */
+    public enum Sort {
+        RECENT, OLDEST, LIKES;
+
+        public static Sort from(String value) {
+            if (value == null) return RECENT;
+            return switch (value.toLowerCase()) {
+                case "likes" -> LIKES;
+                case "oldest" -> OLDEST;
+                default -> RECENT;
+            };
+        }
+    }
+
+    /**
+     * 페이지의 마지막 게시글로부터 다음 페이지 커서를 생성합니다.
+     */
+    public static PostFeedCursor of(Sort sort, Post last) {
+        return new PostFeedCursor(sort, last.getLikeCount(), last.getCreatedAt(), last.getId());
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, VERSION, sort.name(), String.valueOf(likeCount), createdAt.toString(), String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석합니다.
+     * @param token 클라이언트가 전달한 커서 (비어 있으면 첫 페이지로 간주하여 null 반환)
+     * @param expectedSort 요청한 정렬 기준. 커서를 만든 정렬 기준과 다르면 예외를 던집니다.
+     */
+    public static PostFeedCursor decode(String token, Sort expectedSort) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new BusinessException(ResponseCode.INVALID_CURSOR);
+            }
+            Sort sort = Sort.valueOf(parts[1]);
+            if (sort != expectedSort) {
+                throw new BusinessException(ResponseCode.INVALID_CURSOR, "커서의 정렬 기준이 요청과 다릅니다.");
+            }
+            return new PostFeedCursor(sort, Integer.parseInt(parts[2]), LocalDateTime.parse(parts[3]), Long.parseLong(parts[4]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ResponseCode.INVALID_CURSOR);
+        }
+    }
+}
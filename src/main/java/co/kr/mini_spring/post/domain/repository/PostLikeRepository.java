@@ -2,9 +2,28 @@ package co.kr.mini_spring.post.domain.repository;
 
 import co.kr.mini_spring.post.domain.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, PostLike.PostLikeId> {
     Optional<PostLike> findByMemberIdAndPostId(Long memberId, Long postId);
+
+    /**
+     * 좋아요 이력을 추가합니다. 이미 존재하면 무시합니다.
+     * @return 실제로 추가되었으면 1, 이미 좋아요 상태였으면 0
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_like (member_id, post_id, created_at) VALUES (:memberId, :postId, NOW(3))", nativeQuery = true)
+    int insertIfAbsent(@Param("memberId") Long memberId, @Param("postId") Long postId);
+
+    /**
+     * 좋아요 이력을 삭제합니다.
+     * @return 실제로 삭제되었으면 1, 좋아요 상태가 아니었으면 0
+     */
+    @Modifying
+    @Query("delete from PostLike pl where pl.id.memberId = :memberId and pl.id.postId = :postId")
+    int deleteByMemberIdAndPostId(@Param("memberId") Long memberId, @Param("postId") Long postId);
 }
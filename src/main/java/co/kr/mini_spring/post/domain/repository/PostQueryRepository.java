@@ -1,53 +1,71 @@
 package co.kr.mini_spring.post.domain.repository;
 
+import co.kr.mini_spring.global.metrics.TimedRepository;
 import co.kr.mini_spring.member.domain.QMember;
 import co.kr.mini_spring.post.domain.Post;
 import co.kr.mini_spring.post.domain.QHashtag;
 import co.kr.mini_spring.post.domain.QPost;
 import co.kr.mini_spring.post.domain.QPostHashtag;
+import co.kr.mini_spring.post.search.HashtagPostingIndex;
+import co.kr.mini_spring.post.search.PostSearchEngine;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.LongSupplier;
 
 /**
  * Post 도메인 전용 Querydsl 리포지토리
  * - 복잡한 동적 쿼리, Fetch Join을 통한 성능 최적화, 벌크 업데이트를 담당합니다.
  */
 @Repository
+@TimedRepository
 @RequiredArgsConstructor
 public class PostQueryRepository {
 
+    public static final String RELEVANCE = "relevance";
+
     private final JPAQueryFactory queryFactory;
+    private final PostSearchEngine postSearchEngine;
+    private final HashtagPostingIndex hashtagPostingIndex;
     private static final QPost post = QPost.post;
     private static final QPostHashtag postHashtag = QPostHashtag.postHashtag;
     private static final QHashtag hashtag = QHashtag.hashtag;
     private static final QMember member = QMember.member;
 
-    /**
-     * 게시글을 비관적 락(PESSIMISTIC_WRITE)을 걸어 조회합니다.
-     * - 동시성 제어가 필요한 조회수/좋아요 등의 업데이트 시 사용합니다.
-     */
-    public Optional<Post> findByIdWithPessimisticLock(Long id) {
-        return Optional.ofNullable(
-                queryFactory.selectFrom(post)
-                        .setLockMode(LockModeType.PESSIMISTIC_WRITE)
-                        .where(post.id.eq(id))
-                        .fetchOne()
-        );
-    }
+    @Value("${post.search.max-results:1000}")
+    private int maxSearchResults;
+
+    @Value("${post.hashtag-index.max-inline-ids:1000}")
+    private int maxInlineHashtagPostIds;
 
     /**
      * 게시글의 모든 연관관계(작성자, 해시태그)를 Fetch Join하여 한 번에 조회합니다.
@@ -68,16 +86,19 @@ public class PostQueryRepository {
     /**
      * 게시글 목록을 동적 조건에 따라 페이징 조회합니다.
      * - ID를 먼저 조회한 뒤 Fetch Join을 수행하는 2단계 페이징 기법을 사용하여 성능을 최적화합니다.
+     * - 전체 개수는 호출자가 넘긴 totalSupplier(캐시 또는 countByPublished)로 구하며,
+     *   마지막 페이지처럼 조회 결과만으로 개수를 알 수 있으면 호출하지 않습니다. (PageableExecutionUtils)
      */
-    public Page<Post> findAllByPublished(boolean published, Pageable pageable, String keyword, List<String> hashtagsFilter, Long authorId) {
+    public Page<Post> findAllByPublished(boolean published, Pageable pageable, String keyword, HashtagFilter hashtagFilter, Long authorId,
+                                         LongSupplier totalSupplier) {
+        if (hasKeyword(keyword) && isRelevanceSort(pageable)) {
+            List<Long> rankedIds = postSearchEngine.search(keyword.trim(), maxSearchResults);
+            BooleanExpression conditions = buildFeedConditions(published, applyRankedIds(rankedIds), hashtagFilter, authorId);
+            return findPageByRelevance(pageable, conditions, rankedIds);
+        }
+        BooleanExpression conditions = buildFeedConditions(published, applyKeyword(keyword), hashtagFilter, authorId);
         List<OrderSpecifier<?>> orderSpecifiers = buildOrderSpecifiers(pageable);
 
-        BooleanExpression conditions = post.published.eq(published)
-                .and(post.member.isNotNull())
-                .and(applyAuthor(authorId))
-                .and(applyKeyword(keyword))
-                .and(applyHashtagFilter(hashtagsFilter));
-
         // 1. 커버링 인덱스 스타일로 ID만 먼저 페이징 조회
         List<Long> ids = queryFactory.select(post.id)
                 .from(post)
@@ -89,23 +110,53 @@ public class PostQueryRepository {
                 .fetch();
 
         // 2. 조회된 ID들에 해당하는 실데이터 Fetch Join 조회
-        List<Post> posts = ids.isEmpty() ? List.of() :
-                queryFactory.selectFrom(post)
-                        .leftJoin(post.member, member).fetchJoin()
-                        .leftJoin(post.postHashtags, postHashtag).fetchJoin()
-                        .leftJoin(postHashtag.hashtag, hashtag).fetchJoin()
-                        .where(post.id.in(ids))
-                        .distinct()
-                        .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
-                        .fetch();
+        List<Post> posts = fetchWithRelations(ids, orderSpecifiers);
+
+        // 3. 전체 개수는 필요한 경우에만 조회
+        return PageableExecutionUtils.getPage(posts, pageable, totalSupplier);
+    }
 
-        // 3. 전체 개수 조회
+    /**
+     * 동적 조건에 해당하는 게시글 수를 조회합니다.
+     */
+    public long countByPublished(boolean published, String keyword, HashtagFilter hashtagFilter, Long authorId) {
         Long total = queryFactory.select(post.count())
                 .from(post)
-                .where(conditions)
+                .where(buildFeedConditions(published, applyKeyword(keyword), hashtagFilter, authorId))
                 .fetchOne();
+        return total == null ? 0 : total;
+    }
+
+    /**
+     * 게시글 목록을 커서(keyset) 방식으로 조회합니다.
+     * - OFFSET 대신 직전 페이지 마지막 게시글의 정렬 키 튜플 이후부터 인덱스를 바로 탐색하므로
+     *   페이지 깊이와 무관하게 일정한 비용으로 조회됩니다.
+     * - 전체 개수 조회를 하지 않으며, size + 1건을 조회해 다음 페이지 존재 여부만 판단합니다.
+     * - 정렬 키가 같은 게시글이 페이지 경계에서 누락/중복되지 않도록 id를 마지막 정렬 기준으로 사용합니다.
+     * @param cursor 직전 페이지의 커서 (첫 페이지면 null)
+     */
+    public Slice<Post> findAllByPublishedAfter(boolean published, PostFeedCursor.Sort sort, PostFeedCursor cursor, int size,
+                                               String keyword, HashtagFilter hashtagFilter, Long authorId) {
+        List<OrderSpecifier<?>> orderSpecifiers = buildCursorOrderSpecifiers(sort);
+        BooleanExpression conditions = buildFeedConditions(published, applyKeyword(keyword), hashtagFilter, authorId);
+
+        // 1. 정렬 키 튜플 이후의 ID를 size + 1건 조회
+        List<Long> ids = queryFactory.select(post.id)
+                .from(post)
+                .leftJoin(post.member, member)
+                .where(conditions, applyCursor(sort, cursor))
+                .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = ids.size() > size;
+        if (hasNext) {
+            ids = ids.subList(0, size);
+        }
 
-        return new PageImpl<>(posts, pageable, total == null ? 0 : total);
+        // 2. 조회된 ID들에 해당하는 실데이터 Fetch Join 조회
+        List<Post> posts = fetchWithRelations(ids, orderSpecifiers);
+        return new SliceImpl<>(posts, PageRequest.ofSize(size), hasNext);
     }
 
     /**
@@ -122,23 +173,31 @@ public class PostQueryRepository {
     }
 
     /**
-     * 게시글의 조회수를 원자적으로 1 증가시킵니다.
+     * 게시글의 조회수/좋아요 수만 조회합니다.
+     * - 캐시된 상세 스냅샷에 최신 카운터 값을 덧씌울 때 사용하는 가벼운 PK 조회입니다.
+     * @return 게시글이 없거나 삭제되었으면 빈 값
      */
-    public long incrementViewCount(Long id) {
-        return queryFactory.update(post)
-                .set(post.viewCount, post.viewCount.add(1))
-                .where(post.id.eq(id))
-                .execute();
+    public Optional<PostCounts> findCountsById(Long id) {
+        return Optional.ofNullable(
+                queryFactory.select(Projections.constructor(PostCounts.class, post.viewCount, post.likeCount))
+                        .from(post)
+                        .where(post.id.eq(id))
+                        .fetchOne()
+        );
     }
 
     /**
-     * 게시글의 현재 조회수만 DB에서 직접 조회합니다.
+     * 게시글별 좋아요 수를 조회합니다. (없거나 삭제된 게시글은 결과에서 빠집니다)
      */
-    public Integer findViewCountById(Long id) {
-        return queryFactory.select(post.viewCount)
+    public Map<Long, Integer> findLikeCountsByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) return Map.of();
+        Map<Long, Integer> likeCounts = new HashMap<>();
+        queryFactory.select(post.id, post.likeCount)
                 .from(post)
-                .where(post.id.eq(id))
-                .fetchOne();
+                .where(post.id.in(ids))
+                .fetch()
+                .forEach(tuple -> likeCounts.put(tuple.get(post.id), tuple.get(post.likeCount)));
+        return likeCounts;
     }
 
     /**
@@ -165,12 +224,96 @@ public class PostQueryRepository {
                 .execute();
     }
 
+    /**
+     * ID 목록에 해당하는 게시글을 작성자/해시태그와 함께 Fetch Join하여 조회합니다.
+     */
+    private List<Post> fetchWithRelations(List<Long> ids, List<OrderSpecifier<?>> orderSpecifiers) {
+        if (ids.isEmpty()) return List.of();
+        return queryFactory.selectFrom(post)
+                .leftJoin(post.member, member).fetchJoin()
+                .leftJoin(post.postHashtags, postHashtag).fetchJoin()
+                .leftJoin(postHashtag.hashtag, hashtag).fetchJoin()
+                .where(post.id.in(ids))
+                .distinct()
+                .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
+                .fetch();
+    }
+
+    /**
+     * 관련도 순 페이징 조회
+     * - 검색 엔진이 반환한 관련도 순 ID 중 나머지 필터 조건을 만족하는 ID만 남긴 뒤, 그 순서대로 잘라 페이지를 구성합니다.
+     * - 후보 수가 post.search.max-results로 제한되므로 전체 개수도 COUNT 없이 구합니다.
+     */
+    private Page<Post> findPageByRelevance(Pageable pageable, BooleanExpression conditions, List<Long> rankedIds) {
+        Set<Long> matchedIds = new HashSet<>(
+                queryFactory.select(post.id)
+                        .from(post)
+                        .where(conditions)
+                        .fetch()
+        );
+        List<Long> ranked = rankedIds.stream().filter(matchedIds::contains).toList();
+
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<Long> pageIds = ranked.subList(from, to);
+
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < pageIds.size(); i++) {
+            rank.put(pageIds.get(i), i);
+        }
+        List<Post> posts = new ArrayList<>(fetchWithRelations(pageIds, List.of()));
+        posts.sort(Comparator.comparing(p -> rank.get(p.getId())));
+        return new PageImpl<>(posts, pageable, ranked.size());
+    }
+
+    /**
+     * 피드 조회 공통 필터 조건(공개 여부, 작성자, 키워드, 해시태그)을 생성합니다.
+     * @param keywordCondition 키워드 일치 조건 (키워드가 없으면 null)
+     */
+    private BooleanExpression buildFeedConditions(boolean published, BooleanExpression keywordCondition, HashtagFilter hashtagFilter, Long authorId) {
+        return post.published.eq(published)
+                .and(post.member.isNotNull())
+                .and(applyAuthor(authorId))
+                .and(keywordCondition)
+                .and(applyHashtagFilter(hashtagFilter));
+    }
+
+    /**
+     * 커서 페이징용 정렬 조건을 생성합니다. (idx_published_created / idx_published_like 인덱스 순서와 일치)
+     */
+    private List<OrderSpecifier<?>> buildCursorOrderSpecifiers(PostFeedCursor.Sort sort) {
+        return switch (sort) {
+            case LIKES -> List.of(post.likeCount.desc(), post.createdAt.desc(), post.id.desc());
+            case OLDEST -> List.of(post.createdAt.asc(), post.id.asc());
+            case RECENT -> List.of(post.createdAt.desc(), post.id.desc());
+        };
+    }
+
+    /**
+     * 커서 이후의 게시글만 남기는 seek 조건을 생성합니다.
+     * - (a, b, c) < (x, y, z) 형태의 튜플 비교를 OR/AND 조합으로 풀어 씁니다.
+     */
+    private BooleanExpression applyCursor(PostFeedCursor.Sort sort, PostFeedCursor cursor) {
+        if (cursor == null) return null;
+        return switch (sort) {
+            case LIKES -> post.likeCount.lt(cursor.likeCount())
+                    .or(post.likeCount.eq(cursor.likeCount())
+                            .and(post.createdAt.lt(cursor.createdAt())
+                                    .or(post.createdAt.eq(cursor.createdAt()).and(post.id.lt(cursor.id())))));
+            case OLDEST -> post.createdAt.gt(cursor.createdAt())
+                    .or(post.createdAt.eq(cursor.createdAt()).and(post.id.gt(cursor.id())));
+            case RECENT -> post.createdAt.lt(cursor.createdAt())
+                    .or(post.createdAt.eq(cursor.createdAt()).and(post.id.lt(cursor.id())));
+        };
+    }
+
     /**
      * 정렬 조건을 동적으로 생성합니다.
      */
     private List<OrderSpecifier<?>> buildOrderSpecifiers(Pageable pageable) {
         List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
         pageable.getSort().forEach(order -> {
+            if (RELEVANCE.equals(order.getProperty())) return; // 키워드가 없으면 기본 정렬로 대체
             Order direction = order.isAscending() ? Order.ASC : Order.DESC;
             orderSpecifiers.add(
                     switch (order.getProperty()) {
@@ -185,6 +328,9 @@ public class PostQueryRepository {
         if (orderSpecifiers.isEmpty()) {
             orderSpecifiers.add(post.createdAt.desc());
         }
+        // 같은 정렬 값끼리의 순서를 고정하여 페이지 경계에서 게시글이 중복/누락되지 않도록 합니다.
+        Order lastDirection = orderSpecifiers.get(orderSpecifiers.size() - 1).getOrder();
+        orderSpecifiers.add(new OrderSpecifier<>(lastDirection, post.id));
         return orderSpecifiers;
     }
 
@@ -195,28 +341,63 @@ public class PostQueryRepository {
         return authorId == null ? null : post.member.id.eq(authorId);
     }
 
+    private boolean hasKeyword(String keyword) {
+        return keyword != null && !keyword.isBlank();
+    }
+
     /**
-     * 제목 및 내용 키워드 검색 조건을 생성합니다.
+     * 키워드에 일치하는 모든 게시글을 남기는 필터링 조건을 생성합니다.
+     * - 관련도 순이 아닌 정렬과 전체 개수 조회에 사용하며, post.search.max-results 제한을 받지 않습니다.
      */
     private BooleanExpression applyKeyword(String keyword) {
-        if (keyword == null || keyword.isBlank()) return null;
-        String kw = keyword.trim();
-        return post.title.containsIgnoreCase(kw).or(post.content.containsIgnoreCase(kw));
+        return hasKeyword(keyword) ? postSearchEngine.matchCondition(keyword.trim()) : null;
+    }
+
+    /**
+     * 관련도 상위 게시글 ID 목록으로 필터링 조건을 생성합니다. (관련도 순 조회 전용)
+     */
+    private BooleanExpression applyRankedIds(List<Long> rankedIds) {
+        return rankedIds.isEmpty() ? Expressions.FALSE.isTrue() : post.id.in(rankedIds);
+    }
+
+    private boolean isRelevanceSort(Pageable pageable) {
+        Sort.Order first = pageable.getSort().stream().findFirst().orElse(null);
+        return first != null && RELEVANCE.equals(first.getProperty());
     }
 
     /**
      * 해시태그 필터링 조건을 생성합니다.
+     * - 메모리 포스팅 인덱스로 구한 게시글 ID가 적으면 IN 목록으로, 많으면 post_hashtag 세미 조인 서브쿼리로 전달하여
+     *   태그에 달린 게시글 ID를 모두 애플리케이션으로 읽어오지 않습니다.
+     * - matchAll이면 모든 해시태그를 가진 게시글(AND), 아니면 하나라도 가진 게시글(OR)만 남깁니다.
      */
-    private BooleanExpression applyHashtagFilter(List<String> hashtagsFilter) {
-        if (hashtagsFilter == null || hashtagsFilter.isEmpty()) return null;
-        Set<String> names = Set.copyOf(hashtagsFilter);
-        return post.id.in(
-                queryFactory.select(postHashtag.post.id)
-                        .from(postHashtag)
-                        .leftJoin(postHashtag.hashtag, hashtag)
-                        .groupBy(postHashtag.post.id)
-                        .having(hashtag.name.in(names))
-                        .fetch()
-        );
+    private BooleanExpression applyHashtagFilter(HashtagFilter hashtagFilter) {
+        if (hashtagFilter == null || hashtagFilter.isEmpty()) return null;
+        Set<String> names = hashtagFilter.names();
+
+        if (hashtagPostingIndex.isReady()) {
+            Roaring64NavigableMap postIds = hashtagPostingIndex.find(names, hashtagFilter.matchAll());
+            long cardinality = postIds.getLongCardinality();
+            if (cardinality == 0) return Expressions.FALSE.isTrue();
+            if (cardinality <= maxInlineHashtagPostIds) {
+                return post.id.in(Arrays.stream(postIds.toArray()).boxed().toList());
+            }
+        }
+
+        JPQLQuery<Long> taggedPostIds = JPAExpressions.select(postHashtag.post.id)
+                .from(postHashtag)
+                .join(postHashtag.hashtag, hashtag)
+                .where(hashtag.name.in(names));
+        if (hashtagFilter.matchAll()) {
+            taggedPostIds.groupBy(postHashtag.post.id)
+                    .having(hashtag.name.countDistinct().eq((long) names.size()));
+        }
+        return post.id.in(taggedPostIds);
+    }
+
+    /**
+     * 게시글 카운터 컬럼 조회 결과
+     */
+    public record PostCounts(int viewCount, int likeCount) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package co.kr.mini_spring.post.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 게시글별 일자 고유 조회자 스케치(post_viewer_sketch) JDBC 리포지토리
+ * - 스케치 본문은 직렬화된 HyperLogLog 바이트이며, 병합은 애플리케이션에서 합니다.
+ * - 호출자는 키를 (게시글 ID, 일자) 순으로 정렬해 전달하여, 여러 인스턴스가 동시에 반영해도 락 순서가 엇갈리지 않게 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostViewerSketchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글의 from ~ to(포함) 기간 스케치를 일자순으로 조회합니다.
+     */
+    public Map<LocalDate, byte[]> findByPostId(Long postId, LocalDate from, LocalDate to) {
+        Map<LocalDate, byte[]> sketches = new TreeMap<>();
+        jdbcTemplate.query(
+                "SELECT day, sketch FROM post_viewer_sketch WHERE post_id = ? AND day BETWEEN ? AND ?",
+                rs -> {
+                    sketches.put(rs.getDate("day").toLocalDate(), rs.getBytes("sketch"));
+                },
+                postId, Date.valueOf(from), Date.valueOf(to));
+        return sketches;
+    }
+
+    /**
+     * 반영할 키의 기존 스케치를 잠금 읽기로 조회합니다. (읽은 뒤 병합해 덮어쓰는 동안 다른 인스턴스의 반영을 막습니다)
+     */
+    public Map<SketchKey, byte[]> findForUpdate(List<SketchKey> keys) {
+        Map<SketchKey, byte[]> sketches = new HashMap<>();
+        if (keys.isEmpty()) return sketches;
+        List<Object> args = new ArrayList<>(keys.size() * 2);
+        keys.forEach(key -> {
+            args.add(key.postId());
+            args.add(Date.valueOf(key.day()));
+        });
+        jdbcTemplate.query(
+                "SELECT post_id, day, sketch FROM post_viewer_sketch WHERE (post_id, day) IN (" + rows(keys.size()) + ") FOR UPDATE",
+                rs -> {
+                    sketches.put(new SketchKey(rs.getLong("post_id"), rs.getDate("day").toLocalDate()), rs.getBytes("sketch"));
+                },
+                args.toArray());
+        return sketches;
+    }
+
+    /**
+     * 병합을 마친 스케치를 다중 행 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 저장합니다.
+     */
+    public void upsert(List<SketchRow> rows) {
+        if (rows.isEmpty()) return;
+        List<Object> args = new ArrayList<>(rows.size() * 3);
+        rows.forEach(row -> {
+            args.add(row.postId());
+            args.add(Date.valueOf(row.day()));
+            args.add(row.sketch());
+        });
+        jdbcTemplate.update(
+                "INSERT INTO post_viewer_sketch (post_id, day, sketch) VALUES " +
+                        String.join(", ", Collections.nCopies(rows.size(), "(?, ?, ?)")) +
+                        " ON DUPLICATE KEY UPDATE sketch = VALUES(sketch)",
+                args.toArray());
+    }
+
+    /**
+     * before 이전 일자의 스케치를 최대 limit건 삭제합니다. (기본키를 먼저 고른 뒤 그 키로만 삭제)
+     * @return 삭제한 행 수
+     */
+    public int deleteBefore(LocalDate before, int limit) {
+        List<Object> args = new ArrayList<>();
+        jdbcTemplate.query(
+                "SELECT post_id, day FROM post_viewer_sketch WHERE day < ? ORDER BY day LIMIT ?",
+                rs -> {
+                    args.add(rs.getLong("post_id"));
+                    args.add(rs.getDate("day"));
+                },
+                Date.valueOf(before), limit);
+        if (args.isEmpty()) return 0;
+        return jdbcTemplate.update(
+                "DELETE FROM post_viewer_sketch WHERE (post_id, day) IN (" + rows(args.size() / 2) + ")",
+                args.toArray());
+    }
+
+    private static String rows(int count) {
+        return String.join(", ", Collections.nCopies(count, "(?, ?)"));
+    }
+
+    public record SketchKey(Long postId, LocalDate day) {
+    }
+
+    public record SketchRow(Long postId, LocalDate day, byte[] sketch) {
+    }
+}
@@ -14,7 +14,7 @@ import java.util.stream.Collectors;
 @Getter
 @JsonPropertyOrder({
         "id", "content", "memberId", "memberName", "isOwner", "parentId",
-        "isDeleted", "createdAt", "updatedAt", "children"
+        "isDeleted", "createdAt", "updatedAt", "children", "hasMoreReplies", "nextReplyCursor"
 })
 public class CommentResponse {
     private final Long id;
@@ -32,6 +32,8 @@ public class CommentResponse {
     private final LocalDateTime updatedAt;
 
     private final List<CommentResponse> children; // 대댓글 목록
+    private final boolean hasMoreReplies; // 대댓글 조회 개수 제한으로 잘린 대댓글이 더 있는지 여부
+    private final String nextReplyCursor; // 남은 대댓글 조회용 커서
 
     // 로그인하지 않은 사용자를 위한 생성자
     public CommentResponse(Comment comment) {
@@ -40,6 +42,20 @@ public class CommentResponse {
 
     // 로그인한 사용자를 위한 생성자
     public CommentResponse(Comment comment, Member currentUser) {
+        this(comment,
+                // 대댓글이 있다면 재귀적으로 CommentResponse로 변환 (currentUser 정보 전달)
+                comment.getChildren().stream()
+                        .map(child -> new CommentResponse(child, currentUser))
+                        .collect(Collectors.toList()),
+                false, null, currentUser);
+    }
+
+    /**
+     * 이미 조회해 둔 대댓글 응답을 children으로 사용하는 생성자 (CommentTreeLoader 결과 변환용)
+     * - comment.getChildren()을 건드리지 않으므로 지연 로딩이 발생하지 않습니다.
+     */
+    public CommentResponse(Comment comment, List<CommentResponse> children, boolean hasMoreReplies, String nextReplyCursor,
+                           Member currentUser) {
         this.id = comment.getId();
         this.content = comment.isDeleted() ? "삭제된 댓글입니다." : comment.getContent();
         this.memberId = comment.getMember() != null ? comment.getMember().getId() : null;
@@ -52,9 +68,28 @@ public class CommentResponse {
         // isOwner 설정
         this.isOwner = (currentUser != null && comment.getMember() != null) && Objects.equals(comment.getMember().getId(), currentUser.getId());
 
-        // 대댓글이 있다면 재귀적으로 CommentResponse로 변환 (currentUser 정보 전달)
-        this.children = comment.getChildren().stream()
+        this.children = children;
+        this.hasMoreReplies = hasMoreReplies;
+        this.nextReplyCursor = nextReplyCursor;
+    }
+
+    /**
+     * 캐시된 댓글 스냅샷에 조회자별 작성자 여부(isOwner)를 덧씌워 응답을 만듭니다.
+     */
+    public CommentResponse(PostDetailSnapshot.CommentSnapshot snapshot, Member currentUser) {
+        this.id = snapshot.id();
+        this.content = snapshot.content();
+        this.memberId = snapshot.memberId();
+        this.memberName = snapshot.memberName();
+        this.parentId = snapshot.parentId();
+        this.isDeleted = snapshot.deleted();
+        this.createdAt = snapshot.createdAt();
+        this.updatedAt = snapshot.updatedAt();
+        this.isOwner = currentUser != null && snapshot.memberId() != null && Objects.equals(snapshot.memberId(), currentUser.getId());
+        this.children = snapshot.children().stream()
                 .map(child -> new CommentResponse(child, currentUser))
                 .collect(Collectors.toList());
+        this.hasMoreReplies = false;
+        this.nextReplyCursor = null;
     }
 }
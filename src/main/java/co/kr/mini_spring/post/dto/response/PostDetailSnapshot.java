@@ -0,0 +1,93 @@
+package co.kr.mini_spring.post.dto.response;
+
+import co.kr.mini_spring.member.domain.Member;
+import co.kr.mini_spring.post.domain.Comment;
+import co.kr.mini_spring.post.domain.Post;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 상세의 조회자와 무관한 불변 스냅샷
+ * - 제목/본문/작성자/해시태그/댓글 트리만 담으며, 작성자 여부(isOwner)와 조회수/좋아요 수는 응답 시점에 덧씌웁니다.
+ * - PostDetailCache에 보관되어 여러 조회자가 공유합니다.
+ */
+public record PostDetailSnapshot(
+        Long id,
+        String title,
+        String content,
+        Long memberId,
+        String memberName,
+        Set<String> hashtags,
+        List<CommentSnapshot> comments,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * @param comments 미리 조립한 최상위 댓글 스냅샷 목록 (CommentTreeLoader 결과)
+     */
+    public static PostDetailSnapshot from(Post post, List<CommentSnapshot> comments) {
+        Member author = post.getMember();
+        return new PostDetailSnapshot(
+                post.getId(),
+                post.getTitle(),
+                post.getContent(),
+                author != null ? author.getId() : null,
+                author != null ? author.getNickname() : null,
+                post.getPostHashtags().stream()
+                        .map(postHashtag -> postHashtag.getHashtag().getName())
+                        .collect(Collectors.toUnmodifiableSet()),
+                List.copyOf(comments),
+                post.getCreatedAt(),
+                post.getUpdatedAt()
+        );
+    }
+
+    /**
+     * 게시글이나 댓글 작성자로 담긴 회원의 닉네임이 nickname과 다르면 true를 반환합니다.
+     */
+    public boolean hasStaleMemberName(Long memberId, String nickname) {
+        if (Objects.equals(this.memberId, memberId) && !Objects.equals(memberName, nickname)) return true;
+        return comments.stream().anyMatch(comment -> comment.hasStaleMemberName(memberId, nickname));
+    }
+
+    /**
+     * 댓글 트리의 불변 스냅샷
+     */
+    public record CommentSnapshot(
+            Long id,
+            String content,
+            Long memberId,
+            String memberName,
+            Long parentId,
+            boolean deleted,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            List<CommentSnapshot> children
+    ) {
+
+        public static CommentSnapshot from(Comment comment, List<CommentSnapshot> children) {
+            Member author = comment.getMember();
+            return new CommentSnapshot(
+                    comment.getId(),
+                    comment.isDeleted() ? "삭제된 댓글입니다." : comment.getContent(),
+                    author != null ? author.getId() : null,
+                    author != null ? author.getNickname() : null,
+                    comment.getParent() != null ? comment.getParent().getId() : null,
+                    comment.isDeleted(),
+                    comment.getCreatedAt(),
+                    comment.getUpdatedAt(),
+                    List.copyOf(children)
+            );
+        }
+
+        boolean hasStaleMemberName(Long memberId, String nickname) {
+            if (Objects.equals(this.memberId, memberId) && !Objects.equals(memberName, nickname)) return true;
+            return children.stream().anyMatch(child -> child.hasStaleMemberName(memberId, nickname));
+        }
+    }
+}
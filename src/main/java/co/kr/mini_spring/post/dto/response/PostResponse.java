@@ -2,6 +2,7 @@ package co.kr.mini_spring.post.dto.response;
 
 import co.kr.mini_spring.member.domain.Member;
 import co.kr.mini_spring.post.domain.Post;
+import co.kr.mini_spring.post.viewers.PostUniqueViewers.UniqueViewers;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.Getter;
@@ -14,7 +15,7 @@ import java.util.stream.Collectors;
 
 @Getter
 @JsonPropertyOrder({
-        "id", "title", "content", "viewCount", "likeCount",
+        "id", "title", "content", "viewCount", "likeCount", "uniqueViewersToday", "uniqueViewersWeek",
         "memberId", "memberName", "isOwner", "hashtags", "comments", "createdAt", "updatedAt"
 })
 public class PostResponse {
@@ -24,6 +25,8 @@ public class PostResponse {
     private final String content;
     private final int viewCount;
     private final int likeCount;
+    private final Long uniqueViewersToday; // 상세 조회에서만 채움 (HyperLogLog 추정값)
+    private final Long uniqueViewersWeek;
     private final Long memberId;
     private final String memberName;
     private final boolean isOwner; // 작성자 여부 필드 추가
@@ -38,24 +41,26 @@ public class PostResponse {
 
     // 비로그인 사용자를 위한 생성자
     public PostResponse(Post post) {
-        this(post, null, null);
+        this(post, null, null, null);
     }
 
     // 로그인한 사용자를 위한 생성자
     public PostResponse(Post post, Member currentUser) {
-        this(post, currentUser, null);
+        this(post, currentUser, null, null);
     }
 
     /**
-     * 로그인 사용자 + 조회수 보정이 필요한 경우 사용.
-     * - 조회수는 DB에서 원자적으로 증가시키기 때문에, 응답에는 최신 값을 별도로 주입할 수 있다.
+     * 로그인 사용자 + 조회수/좋아요 수 보정이 필요한 경우 사용.
+     * - 조회수/좋아요 수는 메모리에 누적된 뒤 주기적으로 DB에 반영되므로, 응답에는 미반영 증분을 더한 값을 별도로 주입할 수 있다.
      */
-    public PostResponse(Post post, Member currentUser, Integer viewCountOverride) {
+    public PostResponse(Post post, Member currentUser, Integer viewCountOverride, Integer likeCountOverride) {
         this.id = post.getId();
         this.title = post.getTitle();
         this.content = post.getContent();
         this.viewCount = viewCountOverride != null ? viewCountOverride : post.getViewCount();
-        this.likeCount = post.getLikeCount();
+        this.likeCount = likeCountOverride != null ? likeCountOverride : post.getLikeCount();
+        this.uniqueViewersToday = null;
+        this.uniqueViewersWeek = null;
         Member author = post.getMember();
         this.memberId = author != null ? author.getId() : null;
         this.memberName = author != null ? author.getNickname() : null;
@@ -75,4 +80,26 @@ public class PostResponse {
                 .map(comment -> new CommentResponse(comment, currentUser))
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 캐시된 상세 스냅샷에 조회자별 정보(isOwner, 최신 조회수/좋아요 수/고유 조회자 수)를 덧씌워 응답을 만듭니다.
+     */
+    public PostResponse(PostDetailSnapshot snapshot, Member currentUser, int viewCount, int likeCount, UniqueViewers uniqueViewers) {
+        this.id = snapshot.id();
+        this.title = snapshot.title();
+        this.content = snapshot.content();
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.uniqueViewersToday = uniqueViewers.today();
+        this.uniqueViewersWeek = uniqueViewers.week();
+        this.memberId = snapshot.memberId();
+        this.memberName = snapshot.memberName();
+        this.createdAt = snapshot.createdAt();
+        this.updatedAt = snapshot.updatedAt();
+        this.isOwner = currentUser != null && snapshot.memberId() != null && Objects.equals(snapshot.memberId(), currentUser.getId());
+        this.hashtags = snapshot.hashtags();
+        this.comments = snapshot.comments().stream()
+                .map(comment -> new CommentResponse(comment, currentUser))
+                .collect(Collectors.toList());
+    }
 }
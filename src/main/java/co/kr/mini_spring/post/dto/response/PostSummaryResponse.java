@@ -41,4 +41,30 @@ public class PostSummaryResponse {
                 .map(postHashtag -> postHashtag.getHashtag().getName())
                 .collect(Collectors.toSet());
     }
+
+    private PostSummaryResponse(PostSummaryResponse source, String memberName, int likeCount) {
+        this.id = source.id;
+        this.title = source.title;
+        this.memberId = source.memberId;
+        this.memberName = memberName;
+        this.likeCount = likeCount;
+        this.viewCount = source.viewCount;
+        this.commentCount = source.commentCount;
+        this.createdAt = source.createdAt;
+        this.hashtags = source.hashtags;
+    }
+
+    /**
+     * 좋아요 수만 바꾼 사본을 반환합니다.
+     */
+    public PostSummaryResponse withLikeCount(int likeCount) {
+        return new PostSummaryResponse(this, memberName, likeCount);
+    }
+
+    /**
+     * 작성자 닉네임만 바꾼 사본을 반환합니다.
+     */
+    public PostSummaryResponse withMemberName(String memberName) {
+        return new PostSummaryResponse(this, memberName, likeCount);
+    }
 }
@@ -0,0 +1,15 @@
+package co.kr.mini_spring.post.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인기 해시태그 응답
+ * - score는 구간 길이를 시간 상수로 지수 감쇠한 사용 횟수 추정값입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TrendingHashtagResponse {
+    private final String name;
+    private final double score;
+}
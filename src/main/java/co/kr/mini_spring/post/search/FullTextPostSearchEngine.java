@@ -0,0 +1,75 @@
+package co.kr.mini_spring.post.search;
+
+import co.kr.mini_spring.post.domain.QPost;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberTemplate;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * MariaDB FULLTEXT 인덱스(idx_title_content) 기반 검색 엔진
+ * - 검색어의 각 단어를 필수 접두어 조건(+단어*)으로 바꿔 BOOLEAN MODE로 검색하고, 관련도 점수 순으로 정렬합니다.
+ * - 색인은 DB가 관리하므로 별도의 갱신/재구성이 필요 없습니다.
+ * - InnoDB FULLTEXT는 공백 단위로 토큰화하며 innodb_ft_min_token_size보다 짧은 단어는 색인하지 않고,
+ *   어절 중간의 부분 일치도 찾지 못합니다. (MariaDB는 ngram 파서를 지원하지 않습니다)
+ *   한글 검색 결과가 LIKE와 달라지므로 기본값이 아니며, 짧은 한글 단어 검색이 중요하다면 like나 memory 엔진을 사용하세요.
+ */
+@Component
+@ConditionalOnProperty(name = "post.search.engine", havingValue = "fulltext")
+@RequiredArgsConstructor
+public class FullTextPostSearchEngine implements PostSearchEngine {
+
+    private static final QPost post = QPost.post;
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<Long> search(String keyword, int limit) {
+        String booleanQuery = toBooleanQuery(keyword);
+        if (booleanQuery.isEmpty()) return List.of();
+
+        NumberTemplate<Double> score = score(booleanQuery);
+        return queryFactory.select(post.id)
+                .from(post)
+                .where(post.published.isTrue(), score.gt(0))
+                .orderBy(score.desc(), post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * MATCH ... AGAINST를 조회 조건에 그대로 넣어 일치 게시글 전체를 DB가 걸러내도록 합니다.
+     */
+    @Override
+    public BooleanExpression matchCondition(String keyword) {
+        String booleanQuery = toBooleanQuery(keyword);
+        if (booleanQuery.isEmpty()) return Expressions.FALSE.isTrue();
+        return post.published.isTrue().and(score(booleanQuery).gt(0));
+    }
+
+    private NumberTemplate<Double> score(String booleanQuery) {
+        return Expressions.numberTemplate(Double.class,
+                "function('" + MatchAgainstFunctionContributor.MATCH_AGAINST + "', {0}, {1}, {2})",
+                post.title, post.content, Expressions.constant(booleanQuery));
+    }
+
+    /**
+     * 사용자 입력을 BOOLEAN MODE 검색식으로 변환합니다.
+     * - 연산자 문자를 제거해 입력이 검색식 문법으로 해석되지 않도록 합니다.
+     */
+    static String toBooleanQuery(String keyword) {
+        if (keyword == null) return "";
+        return Arrays.stream(keyword.trim().split("\\s+"))
+                .map(word -> word.replaceAll("[+\\-<>()~*\"@]", ""))
+                .filter(word -> !word.isBlank())
+                .map(word -> "+" + word + "*")
+                .collect(Collectors.joining(" "));
+    }
+}
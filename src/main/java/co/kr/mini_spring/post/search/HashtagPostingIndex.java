@@ -0,0 +1,210 @@
+package co.kr.mini_spring.post.search;
+
+import co.kr.mini_spring.post.domain.event.PostChangedEvent;
+import co.kr.mini_spring.post.domain.event.PostHashtagsChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 해시태그별 게시글 포스팅 목록 인덱스
+ * - 해시태그 이름 -> 게시글 ID 집합을 압축 비트맵(Roaring)으로 메모리에 보관합니다.
+ * - 여러 해시태그의 AND/OR 조건을 비트맵 교집합/합집합으로 계산해, 게시글 ID를 DB에서 모두 읽어오지 않고도
+ *   필터 결과의 크기와 ID 집합을 구할 수 있습니다.
+ * - HashtagService의 해시태그 변경 이벤트를 커밋 이후에 받아 갱신하며, 시작 시와 post.hashtag-index.rebuild-interval-ms마다
+ *   post_hashtag로부터 다시 구성합니다. 이벤트는 이 인스턴스의 변경만 전달하므로, 다른 인스턴스에서 바뀐 해시태그는
+ *   다음 주기 재구성에서 반영됩니다. (재구성 중에는 기존 인덱스로 계속 응답합니다)
+ * - 재구성이 끝나기 전에는 isReady()가 false이므로 호출자는 DB 서브쿼리로 대체해야 합니다.
+ */
+@Slf4j
+@Component
+public class HashtagPostingIndex {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int rebuildChunkSize;
+
+    private Map<String, Roaring64NavigableMap> postings = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile boolean ready;
+
+    // 재구성 중인 포스팅 목록과, 재구성 도중 이벤트로 이미 반영된 게시글 ID
+    private Map<String, Roaring64NavigableMap> rebuilding;
+    private final Set<Long> touchedDuringRebuild = new HashSet<>();
+
+    public HashtagPostingIndex(JdbcTemplate jdbcTemplate,
+                               @Value("${post.hashtag-index.rebuild-chunk-size:5000}") int rebuildChunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 해시태그 조건에 해당하는 게시글 ID 집합을 반환합니다. (삭제/비공개 여부는 거르지 않습니다)
+     * @param matchAll true면 교집합(AND), false면 합집합(OR)
+     */
+    public Roaring64NavigableMap find(Set<String> names, boolean matchAll) {
+        Roaring64NavigableMap result = new Roaring64NavigableMap();
+        lock.readLock().lock();
+        try {
+            boolean first = true;
+            for (String name : names) {
+                Roaring64NavigableMap posting = postings.get(name);
+                if (posting == null) {
+                    if (matchAll) return new Roaring64NavigableMap();
+                    continue;
+                }
+                if (first || !matchAll) {
+                    result.or(posting);
+                } else {
+                    result.and(posting);
+                }
+                first = false;
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onHashtagsChanged(PostHashtagsChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(postings, event);
+            if (rebuilding != null) {
+                touchedDuringRebuild.add(event.postId());
+                apply(rebuilding, event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제된 게시글을 모든 포스팅 목록에서 제거합니다.
+     */
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() != PostChangedEvent.Type.DELETED) return;
+        lock.writeLock().lock();
+        try {
+            postings.values().forEach(posting -> posting.removeLong(event.postId()));
+            if (rebuilding != null) {
+                touchedDuringRebuild.add(event.postId());
+                rebuilding.values().forEach(posting -> posting.removeLong(event.postId()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 다른 인스턴스에서 발생한 변경을 반영하기 위해 주기적으로 다시 구성합니다.
+     */
+    @Scheduled(initialDelayString = "${post.hashtag-index.rebuild-interval-ms:300000}",
+            fixedDelayString = "${post.hashtag-index.rebuild-interval-ms:300000}")
+    public void rebuildPeriodically() {
+        rebuild();
+    }
+
+    /**
+     * post_hashtag 전체를 게시글 ID 구간별로 읽어 포스팅 목록을 다시 구성한 뒤 교체합니다.
+     * - 삭제 이벤트로 빠진 게시글이 재구성에서 다시 들어오지 않도록, 삭제된(soft delete) 게시글의 매핑은 제외합니다.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            Map<String, Roaring64NavigableMap> target = new HashMap<>();
+            lock.writeLock().lock();
+            try {
+                touchedDuringRebuild.clear();
+                rebuilding = target;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            try {
+                Long maxPostId = jdbcTemplate.queryForObject("SELECT MAX(post_id) FROM post_hashtag", Long.class);
+                long maxId = maxPostId == null ? 0 : maxPostId;
+
+                for (long fromId = 1; fromId <= maxId; fromId += rebuildChunkSize) {
+                    Map<Long, Set<String>> chunk = new HashMap<>();
+                    jdbcTemplate.query(
+                            "SELECT ph.post_id, h.name FROM post_hashtag ph JOIN hashtag h ON h.id = ph.hashtag_id " +
+                                    "JOIN post p ON p.id = ph.post_id " +
+                                    "WHERE ph.post_id BETWEEN ? AND ? AND p.deleted_at IS NULL",
+                            rs -> {
+                                chunk.computeIfAbsent(rs.getLong("post_id"), id -> new HashSet<>()).add(rs.getString("name"));
+                            },
+                            fromId, fromId + rebuildChunkSize - 1);
+
+                    lock.writeLock().lock();
+                    try {
+                        chunk.forEach((postId, names) -> {
+                            if (touchedDuringRebuild.contains(postId)) return;
+                            names.forEach(name -> target.computeIfAbsent(name, n -> new Roaring64NavigableMap()).addLong(postId));
+                        });
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                }
+
+                target.values().forEach(Roaring64NavigableMap::runOptimize);
+                lock.writeLock().lock();
+                try {
+                    postings = target;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                ready = true;
+                log.info("[HashtagIndex] 해시태그 인덱스 재구성 완료 hashtags={}, elapsed={}ms", target.size(), System.currentTimeMillis() - startedAt);
+            } catch (RuntimeException e) {
+                log.error("[HashtagIndex] 해시태그 인덱스 재구성 실패, DB 조회로 대체합니다. error={}", e.getMessage());
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    rebuilding = null;
+                    touchedDuringRebuild.clear();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void apply(Map<String, Roaring64NavigableMap> target, PostHashtagsChangedEvent event) {
+        event.previousNames().stream()
+                .filter(name -> !event.currentNames().contains(name))
+                .forEach(name -> {
+                    Roaring64NavigableMap posting = target.get(name);
+                    if (posting != null) posting.removeLong(event.postId());
+                });
+        event.currentNames().forEach(name ->
+                target.computeIfAbsent(name, n -> new Roaring64NavigableMap()).addLong(event.postId()));
+    }
+}
@@ -0,0 +1,201 @@
+package co.kr.mini_spring.post.search;
+
+import co.kr.mini_spring.post.domain.QPost;
+import co.kr.mini_spring.post.domain.event.PostChangedEvent;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 내장 n-gram 역색인 기반 검색 엔진
+ * - 공개 게시글의 제목/본문을 NgramTokenizer로 나눠 메모리 역색인(InvertedIndex)에 보관합니다.
+ * - 게시글 생성/수정/삭제/공개 상태 변경 이벤트를 커밋 이후에 받아 색인을 증분 갱신하고,
+ *   애플리케이션 시작 시 post 테이블을 ID 순으로 나눠 읽어 전체 색인을 다시 구성합니다.
+ * - 재구성은 게시글 수에 비례해 오래 걸리므로 기동 완료(readiness)와 요청 스레드를 막지 않도록 전용 스레드에서 실행합니다.
+ * - 인스턴스마다 색인을 따로 가지므로, 다중 인스턴스 환경에서는 다른 인스턴스의 변경이 재구성 전까지 반영되지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "post.search.engine", havingValue = "memory")
+public class InMemoryPostSearchEngine implements PostSearchEngine {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxIndexedChars;
+    private final int rebuildChunkSize;
+    private final int maxInlineIds;
+
+    private volatile InvertedIndex index = new InvertedIndex();
+
+    // 재구성 중인 색인과, 재구성 도중 이벤트로 이미 반영된 게시글 ID (재구성 스캔이 오래된 내용으로 덮어쓰지 않도록)
+    private InvertedIndex rebuilding;
+    private final Set<Long> touchedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private final Object mutationLock = new Object();
+    private final ReentrantLock rebuildLock = new ReentrantLock(); // 재구성 스캔(DB 조회) 전체를 직렬화
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public InMemoryPostSearchEngine(
+            JdbcTemplate jdbcTemplate,
+            @Value("${post.search.memory.max-indexed-chars:10000}") int maxIndexedChars,
+            @Value("${post.search.memory.rebuild-chunk-size:500}") int rebuildChunkSize,
+            @Value("${post.search.memory.max-inline-ids:1000}") int maxInlineIds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxIndexedChars = maxIndexedChars;
+        this.rebuildChunkSize = rebuildChunkSize;
+        this.maxInlineIds = maxInlineIds;
+    }
+
+    @Override
+    public List<Long> search(String keyword, int limit) {
+        return index.search(NgramTokenizer.queryTerms(keyword), limit);
+    }
+
+    /**
+     * 점수 계산 없이 모든 term을 포함한 게시글 ID를 IN 조건으로 전달합니다.
+     * - 일치 게시글이 post.search.memory.max-inline-ids보다 많으면 거대한 IN 목록 대신 LIKE 조건으로 DB가 거르게 합니다.
+     */
+    @Override
+    public BooleanExpression matchCondition(String keyword) {
+        Set<Long> postIds = index.matchAll(NgramTokenizer.queryTerms(keyword));
+        if (postIds.isEmpty()) return Expressions.FALSE.isTrue();
+        if (postIds.size() > maxInlineIds) {
+            return QPost.post.published.isTrue().and(LikePostSearchEngine.containsAll(LikePostSearchEngine.words(keyword)));
+        }
+        return QPost.post.id.in(postIds);
+    }
+
+    /**
+     * 게시글 변경이 커밋된 뒤 색인을 갱신합니다. 공개 게시글만 색인합니다.
+     */
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        boolean indexable = event.type() != PostChangedEvent.Type.DELETED && event.published();
+        synchronized (mutationLock) {
+            if (rebuilding != null) {
+                touchedDuringRebuild.add(event.postId());
+                apply(rebuilding, event.postId(), indexable, event.title(), event.content());
+            }
+            apply(index, event.postId(), indexable, event.title(), event.content());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        triggerRebuild();
+    }
+
+    @Override
+    public boolean isRebuildable() {
+        return true;
+    }
+
+    /**
+     * 재구성을 전용 스레드에 요청합니다. 이미 재구성 중이면 건너뜁니다.
+     */
+    @Override
+    public boolean triggerRebuild() {
+        if (!rebuildQueued.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } finally {
+                    rebuildQueued.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            rebuildQueued.set(false);
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * post 테이블 전체를 읽어 새 색인을 만든 뒤 교체합니다. 재구성 중에도 기존 색인으로 검색할 수 있습니다.
+     * - 호출한 스레드에서 끝까지 실행하므로 요청/이벤트 스레드에서는 {@link #triggerRebuild()}를 사용합니다.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            InvertedIndex target = new InvertedIndex();
+            synchronized (mutationLock) {
+                touchedDuringRebuild.clear();
+                rebuilding = target;
+            }
+
+            try {
+                long lastId = 0;
+                while (true) {
+                    List<IndexRow> rows = jdbcTemplate.query(
+                            "SELECT id, title, content FROM post WHERE deleted_at IS NULL AND is_published = 1 AND id > ? ORDER BY id LIMIT ?",
+                            (rs, rowNum) -> new IndexRow(rs.getLong("id"), rs.getString("title"), rs.getString("content")),
+                            lastId, rebuildChunkSize);
+                    if (rows.isEmpty()) break;
+
+                    synchronized (mutationLock) {
+                        for (IndexRow row : rows) {
+                            if (!touchedDuringRebuild.contains(row.id())) {
+                                apply(target, row.id(), true, row.title(), row.content());
+                            }
+                        }
+                    }
+                    lastId = rows.get(rows.size() - 1).id();
+                }
+
+                synchronized (mutationLock) {
+                    index = target;
+                }
+                log.info("[Search] 검색 색인 재구성 완료 posts={}, elapsed={}ms", target.size(), System.currentTimeMillis() - startedAt);
+            } catch (RuntimeException e) {
+                log.error("[Search] 검색 색인 재구성 실패, 기존 색인을 유지합니다. error={}", e.getMessage());
+            } finally {
+                synchronized (mutationLock) {
+                    rebuilding = null;
+                    touchedDuringRebuild.clear();
+                }
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void apply(InvertedIndex target, Long postId, boolean indexable, String title, String content) {
+        if (indexable) {
+            target.put(postId, NgramTokenizer.documentTerms(title, content, maxIndexedChars));
+        } else {
+            target.remove(postId);
+        }
+    }
+
+    private record IndexRow(Long id, String title, String content) {
+    }
+}
@@ -0,0 +1,160 @@
+package co.kr.mini_spring.post.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 n-gram 역색인
+ * - term -> (게시글 ID -> 가중 출현 빈도) 포스팅 목록을 유지하고, BM25 점수로 상위 결과를 반환합니다.
+ * - 검색은 읽기 락, 색인 변경은 쓰기 락으로 보호합니다.
+ */
+final class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<Long, Integer> lengths = new HashMap<>();
+    private long totalLength;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 게시글을 색인합니다. 이미 색인된 게시글이면 기존 term을 제거한 뒤 다시 색인합니다.
+     */
+    void put(Long postId, Map<String, Integer> terms) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+            documents.put(postId, terms);
+            int length = 0;
+            for (Map.Entry<String, Integer> entry : terms.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), t -> new HashMap<>()).put(postId, entry.getValue());
+                length += entry.getValue();
+            }
+            lengths.put(postId, length);
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 term을 포함한 게시글을 BM25 점수 내림차순(동점이면 최신 ID 우선)으로 최대 limit건 반환합니다.
+     */
+    List<Long> search(Set<String> queryTerms, int limit) {
+        if (queryTerms.isEmpty() || limit <= 0) return List.of();
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>(queryTerms.size());
+            for (String term : queryTerms) {
+                Map<Long, Integer> list = postings.get(term);
+                if (list == null) return List.of();
+                lists.add(list);
+            }
+            // 가장 짧은 포스팅 목록을 기준으로 교집합을 구합니다.
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            int documentCount = documents.size();
+            double averageLength = documentCount == 0 ? 1 : (double) totalLength / documentCount;
+            double[] idf = lists.stream()
+                    .mapToDouble(list -> Math.log(1 + (documentCount - list.size() + 0.5) / (list.size() + 0.5)))
+                    .toArray();
+
+            Comparator<ScoredPost> ranking = Comparator.comparingDouble(ScoredPost::score)
+                    .thenComparingLong(ScoredPost::postId);
+            PriorityQueue<ScoredPost> top = new PriorityQueue<>(limit + 1, ranking);
+
+            candidates:
+            for (Long postId : lists.get(0).keySet()) {
+                int length = lengths.get(postId);
+                double norm = K1 * (1 - B + B * length / averageLength);
+                double score = 0;
+                for (int i = 0; i < lists.size(); i++) {
+                    Integer tf = lists.get(i).get(postId);
+                    if (tf == null) continue candidates;
+                    score += idf[i] * (tf * (K1 + 1)) / (tf + norm);
+                }
+                top.offer(new ScoredPost(postId, score));
+                if (top.size() > limit) top.poll();
+            }
+
+            List<Long> result = new ArrayList<>(top.size());
+            while (!top.isEmpty()) result.add(top.poll().postId());
+            Collections.reverse(result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 term을 포함한 게시글 ID를 점수 계산이나 건수 제한 없이 반환합니다.
+     */
+    Set<Long> matchAll(Set<String> queryTerms) {
+        if (queryTerms.isEmpty()) return Set.of();
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>(queryTerms.size());
+            for (String term : queryTerms) {
+                Map<Long, Integer> list = postings.get(term);
+                if (list == null) return Set.of();
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            Set<Long> result = new HashSet<>(lists.get(0).keySet());
+            for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+                result.retainAll(lists.get(i).keySet());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long postId) {
+        Map<String, Integer> previous = documents.remove(postId);
+        if (previous == null) return;
+        previous.keySet().forEach(term -> {
+            Map<Long, Integer> list = postings.get(term);
+            if (list != null) {
+                list.remove(postId);
+                if (list.isEmpty()) postings.remove(term);
+            }
+        });
+        totalLength -= lengths.remove(postId);
+    }
+
+    private record ScoredPost(Long postId, double score) {
+    }
+}
@@ -0,0 +1,82 @@
+package co.kr.mini_spring.post.search;
+
+import co.kr.mini_spring.post.domain.QPost;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 제목/본문 LIKE 부분 일치 기반 검색 엔진 (기본값)
+ * - 앞뒤 공백을 제거한 검색어 전체를 하나의 구절로 보고, 제목 또는 본문에 그대로 포함된 게시글을 찾습니다. (단어로 나누지 않습니다)
+ * - 짧은 한글 단어와 어절 중간의 부분 일치도 찾을 수 있지만, 인덱스를 타지 못해 게시글 수에 비례해 느려집니다.
+ * - 관련도는 제목에 포함된 게시글을 앞에 두고, 같으면 최신 게시글을 앞에 둡니다.
+ * - 대소문자 구분은 컬럼 콜레이션(utf8mb4_unicode_ci)에 맡깁니다. 본문(LONGTEXT)은 Hibernate가 CLOB으로 매핑해 lower()를 쓸 수 없습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "post.search.engine", havingValue = "like", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LikePostSearchEngine implements PostSearchEngine {
+
+    private static final QPost post = QPost.post;
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<Long> search(String keyword, int limit) {
+        String phrase = phrase(keyword);
+        if (phrase == null) return List.of();
+
+        NumberExpression<Integer> titleHit = new CaseBuilder().when(post.title.contains(phrase)).then(1).otherwise(0);
+        return queryFactory.select(post.id)
+                .from(post)
+                .where(post.published.isTrue(), containsPhrase(phrase))
+                .orderBy(titleHit.desc(), post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public BooleanExpression matchCondition(String keyword) {
+        String phrase = phrase(keyword);
+        if (phrase == null) return Expressions.FALSE.isTrue();
+        return post.published.isTrue().and(containsPhrase(phrase));
+    }
+
+    static BooleanExpression containsPhrase(String phrase) {
+        return post.title.contains(phrase).or(post.content.contains(phrase));
+    }
+
+    static String phrase(String keyword) {
+        if (keyword == null || keyword.isBlank()) return null;
+        return keyword.trim();
+    }
+
+    /**
+     * 모든 단어가 제목 또는 본문에 포함된 게시글을 남기는 조건을 생성합니다.
+     * - 이 엔진의 검색에는 쓰지 않고, 단어 단위로 일치를 판단하는 memory 엔진이 일치 게시글이 너무 많아 ID 목록을 넘기지 못할 때 사용합니다.
+     */
+    static BooleanExpression containsAll(List<String> words) {
+        BooleanExpression condition = null;
+        for (String word : words) {
+            BooleanExpression contains = post.title.contains(word).or(post.content.contains(word));
+            condition = condition == null ? contains : condition.and(contains);
+        }
+        return condition;
+    }
+
+    static List<String> words(String keyword) {
+        if (keyword == null) return List.of();
+        return Arrays.stream(keyword.trim().split("\\s+"))
+                .filter(word -> !word.isBlank())
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,25 @@
+package co.kr.mini_spring.post.search;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * MariaDB FULLTEXT 검색 함수를 Hibernate에 등록합니다.
+ * - JPQL/Querydsl에서 function('match_against', title, content, :query) 형태로 사용하며,
+ *   MATCH (title, content) AGAINST (:query IN BOOLEAN MODE)로 변환되어 관련도 점수를 반환합니다.
+ * - META-INF/services/org.hibernate.boot.model.FunctionContributor에 등록되어 있습니다.
+ */
+public class MatchAgainstFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST,
+                "match(?1, ?2) against(?3 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
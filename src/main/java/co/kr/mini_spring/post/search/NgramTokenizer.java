@@ -0,0 +1,85 @@
+package co.kr.mini_spring.post.search;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 한국어 검색용 n-gram 토크나이저
+ * - 형태소 분석 없이 조사/어미가 붙은 한글 어절도 부분 일치로 찾을 수 있도록,
+ *   문자/숫자 연속 구간을 1-gram과 2-gram으로 나눕니다. ("스프링부트" -> 스,프,링,부,트,스프,프링,링부,부트)
+ * - 검색어는 2자 이상 구간이면 2-gram만, 1자 구간이면 1-gram을 사용하므로
+ *   "LIKE %검색어%"와 거의 같은 결과를 역색인 조회로 얻을 수 있습니다.
+ */
+final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 문서 텍스트를 색인용 term과 출현 빈도로 변환합니다.
+     * @param weight 각 출현에 더할 가중치 (제목은 본문보다 높게 줍니다)
+     * @param maxChars 색인할 최대 글자 수 (초과분은 무시)
+     */
+    private static void collectTerms(String text, int weight, int maxChars, Map<String, Integer> terms) {
+        if (text == null || text.isEmpty()) return;
+        String normalized = normalize(text.length() > maxChars ? text.substring(0, maxChars) : text);
+        forEachRun(normalized, run -> {
+            for (int i = 0; i < run.length(); i++) {
+                terms.merge(run.substring(i, i + 1), weight, Integer::sum);
+                if (i + 1 < run.length()) {
+                    terms.merge(run.substring(i, i + 2), weight, Integer::sum);
+                }
+            }
+        });
+    }
+
+    static Map<String, Integer> documentTerms(String title, String content, int maxChars) {
+        Map<String, Integer> terms = new HashMap<>();
+        collectTerms(title, 2, maxChars, terms);
+        collectTerms(content, 1, maxChars, terms);
+        return terms;
+    }
+
+    /**
+     * 검색어를 조회용 term 집합으로 변환합니다. (모든 term을 포함한 문서만 일치로 봅니다)
+     */
+    static Set<String> queryTerms(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (keyword == null || keyword.isBlank()) return terms;
+        forEachRun(normalize(keyword), run -> {
+            if (run.length() == 1) {
+                terms.add(run);
+                return;
+            }
+            for (int i = 0; i + 1 < run.length(); i++) {
+                terms.add(run.substring(i, i + 2));
+            }
+        });
+        return terms;
+    }
+
+    /**
+     * 문자/숫자가 연속된 구간마다 action을 호출합니다.
+     */
+    private static void forEachRun(String normalized, Consumer<String> action) {
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean tokenChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                action.accept(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+}
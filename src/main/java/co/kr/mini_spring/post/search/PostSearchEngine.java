@@ -0,0 +1,42 @@
+package co.kr.mini_spring.post.search;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+
+import java.util.List;
+
+/**
+ * 게시글 키워드 검색 엔진
+ * - 공개 게시글 중 키워드에 일치하는 게시글 ID를 관련도 순으로 반환합니다.
+ * - 관련도 순 조회는 search()가 반환한 상위 ID 목록을, 그 외 정렬과 전체 개수 조회는 matchCondition()의 조건을 사용합니다.
+ * - 구현체는 post.search.engine 설정으로 선택합니다. (like: LIKE 부분 일치, fulltext: MariaDB FULLTEXT, memory: 내장 역색인)
+ */
+public interface PostSearchEngine {
+
+    /**
+     * 키워드에 일치하는 공개 게시글 ID를 관련도 내림차순으로 최대 limit건 반환합니다.
+     * @return 일치하는 게시글이 없거나 검색어가 비어 있으면 빈 목록
+     */
+    List<Long> search(String keyword, int limit);
+
+    /**
+     * 키워드에 일치하는 모든 공개 게시글을 남기는 조회 조건을 반환합니다.
+     * - search()와 달리 건수를 제한하지 않으므로, 최신순/좋아요순 정렬과 전체 개수가 일치 게시글 전체를 기준으로 계산됩니다.
+     * @return 검색어가 비어 있거나 일치하는 게시글이 없으면 어떤 게시글도 남기지 않는 조건
+     */
+    BooleanExpression matchCondition(String keyword);
+
+    /**
+     * 애플리케이션이 직접 관리하는 색인이 있어 재구성할 수 있는지 여부 (DB가 색인을 관리하는 구현체는 false)
+     */
+    default boolean isRebuildable() {
+        return false;
+    }
+
+    /**
+     * 검색 색인을 원본 데이터로부터 다시 구성하는 작업을 백그라운드에서 시작합니다.
+     * @return 새 재구성을 시작했으면 true, 이미 재구성 중이거나 재구성할 색인이 없으면 false
+     */
+    default boolean triggerRebuild() {
+        return false;
+    }
+}
@@ -3,6 +3,7 @@ package co.kr.mini_spring.post.service;
 import co.kr.mini_spring.member.domain.Member;
 import co.kr.mini_spring.post.domain.Comment;
 import co.kr.mini_spring.post.domain.Post;
+import co.kr.mini_spring.post.domain.event.CommentChangedEvent;
 import co.kr.mini_spring.post.domain.repository.CommentRepository;
 import co.kr.mini_spring.post.domain.repository.CommentQueryRepository;
 import co.kr.mini_spring.post.domain.repository.PostRepository;
@@ -11,15 +12,19 @@ import co.kr.mini_spring.post.dto.request.CommentCreateRequest;
 import co.kr.mini_spring.post.dto.request.CommentUpdateRequest;
 import co.kr.mini_spring.post.dto.response.CommentResponse;
 import co.kr.mini_spring.global.common.exception.BusinessException;
+import co.kr.mini_spring.global.common.response.CursorResponse;
 import co.kr.mini_spring.global.common.response.PageResponse;
 import co.kr.mini_spring.global.common.response.ResponseCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Objects;
 
 @Service
@@ -31,6 +36,8 @@ public class CommentService {
     private final CommentQueryRepository commentQueryRepository;
     private final PostRepository postRepository;
     private final PostQueryRepository postQueryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CommentTreeLoader commentTreeLoader;
 
     @Transactional
     public CommentResponse createComment(CommentCreateRequest request, Member member) {
@@ -60,6 +67,7 @@ public class CommentService {
 
         Comment savedComment = commentRepository.save(comment);
         postQueryRepository.incrementCommentCount(post.getId());
+        eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Type.CREATED, post.getId(), savedComment.getId()));
 
         return new CommentResponse(savedComment, member);
     }
@@ -74,6 +82,7 @@ public class CommentService {
         }
 
         comment.updateContent(request.getContent());
+        eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Type.UPDATED, comment.getPost().getId(), comment.getId()));
         return new CommentResponse(comment, member);
     }
 
@@ -87,6 +96,7 @@ public class CommentService {
             throw new BusinessException(ResponseCode.NO_PERMISSION_TO_DELETE_COMMENT);
         }
 
+        eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Type.DELETED, postId, comment.getId()));
         if (!comment.getChildren().isEmpty()) {
             comment.delete();
         } else {
@@ -102,14 +112,60 @@ public class CommentService {
         }
     }
 
+    /**
+     * 게시글의 최상위 댓글을 페이징 조회하고, 대댓글은 CommentTreeLoader로 한 번에 조회해 붙입니다.
+     * @param replyLimit 댓글별 대댓글 최대 개수 (0 이하면 전체). 초과분은 nextReplyCursor로 이어서 조회합니다.
+     */
     @Transactional(readOnly = true)
-    public PageResponse<CommentResponse> getComments(Long postId, int page, int size) {
+    public PageResponse<CommentResponse> getComments(Long postId, int page, int size, int replyLimit) {
         postRepository.findById(postId)
                 .orElseThrow(() -> new BusinessException(ResponseCode.POST_NOT_FOUND));
 
         Pageable pageable = PageRequest.of(page, size);
         Page<Comment> commentPage = commentQueryRepository.findAllTopLevelCommentsByPostId(postId, pageable);
 
-        return new PageResponse<>(commentPage.map(comment -> new CommentResponse(comment, null)));
+        List<CommentResponse> content = commentTreeLoader.load(commentPage.getContent(), replyLimit).stream()
+                .map(thread -> toResponse(thread, null))
+                .toList();
+        return new PageResponse<>(new PageImpl<>(content, pageable, commentPage.getTotalElements()));
+    }
+
+    /**
+     * 댓글의 대댓글을 커서 이후부터 조회합니다. (댓글 목록에서 잘린 대댓글 "더 보기"용)
+     * @param cursor 직전 응답의 nextCursor 또는 댓글 목록의 nextReplyCursor (처음부터 조회하면 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentResponse> getReplies(Long commentId, String cursor, int size) {
+        commentRepository.findById(commentId)
+                .orElseThrow(() -> new BusinessException(ResponseCode.COMMENT_NOT_FOUND));
+
+        Long afterId = parseReplyCursor(cursor);
+        List<Comment> replies = commentQueryRepository.findRepliesAfter(commentId, afterId, size + 1);
+        boolean hasNext = replies.size() > size;
+        if (hasNext) {
+            replies = replies.subList(0, size);
+        }
+
+        List<CommentResponse> content = replies.stream()
+                .map(reply -> new CommentResponse(reply, List.of(), false, null, null))
+                .toList();
+        String nextCursor = replies.isEmpty() ? null : String.valueOf(replies.get(replies.size() - 1).getId());
+        return new CursorResponse<>(content, hasNext, nextCursor);
+    }
+
+    private CommentResponse toResponse(CommentTreeLoader.CommentThread thread, Member currentUser) {
+        List<CommentResponse> children = thread.replies().stream()
+                .map(reply -> new CommentResponse(reply, List.of(), false, null, currentUser))
+                .toList();
+        return new CommentResponse(thread.parent(), children, thread.hasMoreReplies(), thread.nextReplyCursor(), currentUser);
+    }
+
+    private Long parseReplyCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            return Long.parseLong(cursor.trim());
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ResponseCode.INVALID_CURSOR);
+        }
     }
 }
@@ -0,0 +1,62 @@
+package co.kr.mini_spring.post.service;
+
+import co.kr.mini_spring.post.domain.Comment;
+import co.kr.mini_spring.post.domain.repository.CommentQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 2단계(댓글 - 대댓글) 댓글 트리 로더
+ * - 부모 댓글 목록에 대해 대댓글을 한 번의 쿼리로 모두 조회한 뒤 메모리에서 트리로 조립합니다.
+ * - 부모마다 children 컬렉션을 지연 로딩하거나 대댓글 작성자 프록시를 초기화하는 N+1 쿼리가 발생하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentTreeLoader {
+
+    private final CommentQueryRepository commentQueryRepository;
+
+    /**
+     * 부모 댓글마다 대댓글을 붙여 반환합니다. (부모 순서 유지)
+     * @param replyLimit 부모별 대댓글 최대 개수 (0 이하면 전체). 초과분은 hasMoreReplies로 표시됩니다.
+     */
+    public List<CommentThread> load(List<Comment> parents, int replyLimit) {
+        if (parents.isEmpty()) return List.of();
+
+        Map<Long, List<Comment>> repliesByParent = new LinkedHashMap<>();
+        parents.forEach(parent -> repliesByParent.put(parent.getId(), new ArrayList<>()));
+
+        // 부모별로 limit + 1건까지 조회하여 더 남은 대댓글이 있는지 판단합니다.
+        int fetchLimit = replyLimit > 0 ? replyLimit + 1 : 0;
+        commentQueryRepository.findRepliesByParentIds(repliesByParent.keySet(), fetchLimit)
+                .forEach(reply -> repliesByParent.get(reply.getParent().getId()).add(reply));
+
+        return parents.stream()
+                .map(parent -> {
+                    List<Comment> replies = repliesByParent.get(parent.getId());
+                    boolean hasMore = replyLimit > 0 && replies.size() > replyLimit;
+                    return new CommentThread(parent, hasMore ? replies.subList(0, replyLimit) : replies, hasMore);
+                })
+                .toList();
+    }
+
+    /**
+     * 부모 댓글과 조회된 대댓글 목록
+     * @param hasMoreReplies 조회 제한으로 잘린 대댓글이 더 있는지 여부
+     */
+    public record CommentThread(Comment parent, List<Comment> replies, boolean hasMoreReplies) {
+
+        /**
+         * 다음 대댓글 조회에 사용할 커서 (더 없으면 null)
+         */
+        public String nextReplyCursor() {
+            if (!hasMoreReplies || replies.isEmpty()) return null;
+            return String.valueOf(replies.get(replies.size() - 1).getId());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package co.kr.mini_spring.post.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 해시태그 이름 → ID 캐시
+ * - 해시태그 행은 삭제하지 않으므로 한 번 확인한 이름/ID 쌍은 바뀌지 않아 TTL 없이 크기로만 제한합니다.
+ * - 방금 INSERT한 해시태그는 트랜잭션이 롤백되면 사라지므로, 커밋 이후에만 캐시에 넣습니다.
+ */
+@Component
+public class HashtagIdCache {
+
+    private final Cache<String, Long> ids;
+
+    public HashtagIdCache(
+            MeterRegistry meterRegistry,
+            @Value("${post.hashtag-id-cache.max-size:10000}") long maxSize) {
+        this.ids = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, ids, "hashtagId");
+    }
+
+    /**
+     * 캐시에 있는 이름만 골라 ID를 반환합니다.
+     */
+    public Map<String, Long> getAllPresent(Collection<String> names) {
+        return new HashMap<>(ids.getAllPresent(names));
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 있으면 커밋 이후에, 없으면 즉시 보관합니다.
+     */
+    public void putAfterCommit(Map<String, Long> resolved) {
+        if (resolved.isEmpty()) return;
+        Map<String, Long> copy = Map.copyOf(resolved);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.putAll(copy);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.putAll(copy);
+            }
+        });
+    }
+}
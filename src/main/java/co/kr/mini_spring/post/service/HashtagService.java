@@ -3,10 +3,12 @@ package co.kr.mini_spring.post.service;
 import co.kr.mini_spring.post.domain.Hashtag;
 import co.kr.mini_spring.post.domain.Post;
 import co.kr.mini_spring.post.domain.PostHashtag;
-import co.kr.mini_spring.post.domain.repository.HashtagRepository;
-import co.kr.mini_spring.post.domain.repository.HashtagQueryRepository;
+import co.kr.mini_spring.post.domain.event.PostHashtagsChangedEvent;
+import co.kr.mini_spring.post.domain.repository.HashtagBatchRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
@@ -14,6 +16,7 @@ import org.springframework.util.CollectionUtils;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -23,50 +26,61 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class HashtagService {
 
-    private final HashtagRepository hashtagRepository;
-    private final HashtagQueryRepository hashtagQueryRepository;
+    private final HashtagBatchRepository hashtagBatchRepository;
+    private final HashtagIdCache hashtagIdCache;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 해시태그 이름을 ID로 확정하고 사용 횟수를 1씩 올립니다.
+     * - 없는 해시태그 생성과 사용 횟수 증가는 다중 행 upsert 한 번으로 처리하고,
+     *   ID는 HashtagIdCache에 없는 이름만 한 번의 조회로 확인합니다.
+     * - 태그 개수와 무관하게 왕복 횟수가 일정하며, 같은 태그를 동시에 처음 쓰는 게시글끼리도 중복 키 오류가 나지 않습니다.
+     * @return ID와 이름만 채운 해시태그 (영속 상태가 아니므로 변경해도 반영되지 않습니다)
+     */
     @Transactional
     public List<Hashtag> findOrCreateHashtags(List<String> hashtagNames) {
-        if (CollectionUtils.isEmpty(hashtagNames)) return List.of();
-
-        Set<String> normalizedNames = hashtagNames.stream()
-                .filter(name -> name != null && !name.isBlank())
-                .map(name -> name.trim().toLowerCase().replaceAll("[^a-z0-9가-힣]", ""))
-                .filter(name -> !name.isEmpty())
-                .collect(Collectors.toSet());
-
+        List<String> normalizedNames = normalize(hashtagNames).stream().sorted().toList();
         if (normalizedNames.isEmpty()) return List.of();
 
-        List<Hashtag> existingHashtags = hashtagRepository.findByNameIn(new ArrayList<>(normalizedNames));
-        List<String> existingNames = existingHashtags.stream().map(Hashtag::getName).toList();
-        
-        if (!existingHashtags.isEmpty()) {
-            hashtagQueryRepository.bulkIncreaseUsageCount(existingNames);
-        }
+        hashtagBatchRepository.upsertUsage(normalizedNames, LocalDateTime.now());
 
-        List<Hashtag> newHashtags = normalizedNames.stream()
-                .filter(name -> !existingNames.contains(name))
-                .map(name -> Hashtag.builder()
-                        .name(name)
-                        .usageCount(1)
-                        .lastUsedAt(LocalDateTime.now())
-                        .build())
-                .collect(Collectors.toList());
-
-        if (!newHashtags.isEmpty()) {
-            hashtagRepository.saveAll(newHashtags);
+        Map<String, Long> ids = hashtagIdCache.getAllPresent(normalizedNames);
+        List<String> misses = normalizedNames.stream()
+                .filter(name -> !ids.containsKey(name))
+                .toList();
+        if (!misses.isEmpty()) {
+            Map<String, Long> loaded = hashtagBatchRepository.findIdsByNames(misses);
+            ids.putAll(loaded);
+            hashtagIdCache.putAfterCommit(loaded);
         }
 
-        List<Hashtag> allHashtags = new ArrayList<>(existingHashtags);
-        allHashtags.addAll(newHashtags);
-        return allHashtags;
+        return normalizedNames.stream()
+                .map(name -> Hashtag.builder().id(ids.get(name)).name(name).build())
+                .toList();
     }
 
+    /**
+     * 게시글에 해시태그를 연결합니다.
+     * - 커밋 이후 해시태그 포스팅 인덱스가 갱신되도록 PostHashtagsChangedEvent를 발행합니다.
+     */
     @Transactional
     public void attachHashtagsToPost(Post post, List<String> hashtagNames) {
         if (CollectionUtils.isEmpty(hashtagNames)) return;
+        Set<String> previousNames = currentHashtagNames(post);
+        attach(post, hashtagNames);
+        eventPublisher.publishEvent(new PostHashtagsChangedEvent(post.getId(), previousNames, currentHashtagNames(post)));
+    }
+
+    /**
+     * 매핑은 JDBC 다중 행 INSERT 한 번으로 저장하고, 응답/이벤트에서 쓸 수 있도록 컬렉션에도 추가합니다.
+     * (Post.postHashtags는 PERSIST를 전이하지 않으므로 컬렉션에 추가한 매핑이 다시 INSERT되지 않습니다.)
+     */
+    private void attach(Post post, List<String> hashtagNames) {
         List<Hashtag> hashtags = findOrCreateHashtags(hashtagNames);
+        // 시퀀스 ID를 쓰는 게시글은 flush 전까지 INSERT되지 않으므로, 외래 키가 참조할 행을 먼저 반영합니다.
+        entityManager.flush();
+        hashtagBatchRepository.insertPostHashtags(post.getId(), hashtags.stream().map(Hashtag::getId).sorted().toList());
         hashtags.forEach(hashtag -> {
             PostHashtag postHashtag = PostHashtag.builder()
                     .id(new PostHashtag.PostHashtagId(post.getId(), hashtag.getId()))
@@ -79,20 +93,41 @@ public class HashtagService {
 
     @Transactional
     public void updateHashtagsForPost(Post post, List<String> newHashtagNames) {
-        Set<String> currentHashtagNames = post.getPostHashtags().stream()
-                .map(ph -> ph.getHashtag().getName())
-                .collect(Collectors.toSet());
-        List<String> incomingNames = newHashtagNames == null ? new ArrayList<>() : newHashtagNames;
+        Set<String> currentHashtagNames = currentHashtagNames(post);
+        // 저장된 이름은 정규화된 형태이므로 요청 이름도 정규화한 뒤 비교합니다.
+        Set<String> incomingNames = normalize(newHashtagNames);
 
+        List<Long> removedHashtagIds = new ArrayList<>();
         post.getPostHashtags().removeIf(ph -> {
             boolean isRemoved = !incomingNames.contains(ph.getHashtag().getName());
-            if (isRemoved) ph.getHashtag().decreaseUsage();
+            if (isRemoved) removedHashtagIds.add(ph.getHashtag().getId());
             return isRemoved;
         });
+        List<Long> sortedRemovedIds = removedHashtagIds.stream().sorted().toList();
+        // Post.postHashtags는 고아 객체 제거를 쓰지 않으므로 컬렉션에서 뺀 매핑은 직접 삭제합니다.
+        hashtagBatchRepository.deletePostHashtags(post.getId(), sortedRemovedIds);
+        hashtagBatchRepository.decreaseUsageCounts(sortedRemovedIds, LocalDateTime.now());
 
         List<String> namesToAdd = incomingNames.stream()
                 .filter(name -> !currentHashtagNames.contains(name))
                 .toList();
-        if (!CollectionUtils.isEmpty(namesToAdd)) attachHashtagsToPost(post, namesToAdd);
+        if (!CollectionUtils.isEmpty(namesToAdd)) attach(post, namesToAdd);
+
+        eventPublisher.publishEvent(new PostHashtagsChangedEvent(post.getId(), currentHashtagNames, currentHashtagNames(post)));
+    }
+
+    private Set<String> normalize(List<String> hashtagNames) {
+        if (CollectionUtils.isEmpty(hashtagNames)) return Set.of();
+        return hashtagNames.stream()
+                .filter(name -> name != null && !name.isBlank())
+                .map(Hashtag::normalizeName)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    private Set<String> currentHashtagNames(Post post) {
+        return post.getPostHashtags().stream()
+                .map(ph -> ph.getHashtag().getName())
+                .collect(Collectors.toSet());
     }
 }
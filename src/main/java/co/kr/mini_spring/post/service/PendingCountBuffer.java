@@ -0,0 +1,94 @@
+package co.kr.mini_spring.post.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 ID별 카운터 증분(delta)을 메모리에 누적하는 버퍼
+ * - 게시글마다 LongAdder(스트라이프 카운터)를 두어 같은 게시글에 요청이 몰려도 CAS 경합이 분산됩니다.
+ * - drain()으로 누적분을 꺼내 DB에 배치 반영하고, 성공 시 complete(), 실패 시 restore()를 호출합니다.
+ * - DB 반영 중인 값(inFlight)도 pending()에 포함되므로 조회 시 "DB 값 + pending()"이 일관되게 유지됩니다.
+ */
+class PendingCountBuffer {
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> inFlight = new ConcurrentHashMap<>();
+
+    // 직전 drain에서 맵에서 제거된 카운터. 제거 직전에 참조를 얻은 스레드의 증가분을 다음 drain에서 회수합니다.
+    private List<Map.Entry<Long, LongAdder>> retired = new ArrayList<>();
+
+    void add(Long postId, long delta) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증분을 반환합니다.
+     */
+    long pending(Long postId) {
+        LongAdder adder = pending.get(postId);
+        long buffered = adder == null ? 0 : adder.sum();
+        return buffered + inFlight.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * 미반영 증분이 남아 있을 수 있는 게시글 ID 스냅샷을 반환합니다.
+     */
+    Set<Long> pendingPostIds() {
+        Set<Long> postIds = new HashSet<>(pending.keySet());
+        postIds.addAll(inFlight.keySet());
+        return postIds;
+    }
+
+    /**
+     * 누적된 증분을 꺼내 반환합니다. 반환된 값은 complete()/restore() 전까지 inFlight로 유지됩니다.
+     * - 증분이 없는 카운터는 맵에서 제거하여 메모리가 조회된 게시글 수만큼 계속 늘어나지 않도록 합니다.
+     */
+    synchronized Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+
+        for (Map.Entry<Long, LongAdder> entry : retired) {
+            long residual = entry.getValue().sumThenReset();
+            if (residual != 0) {
+                drained.merge(entry.getKey(), residual, Long::sum);
+            }
+        }
+        List<Map.Entry<Long, LongAdder>> nextRetired = new ArrayList<>();
+
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                drained.merge(postId, delta, Long::sum);
+            } else if (pending.remove(postId, adder)) {
+                nextRetired.add(Map.entry(postId, adder));
+            }
+        });
+        retired = nextRetired;
+
+        drained.forEach((postId, delta) -> inFlight.merge(postId, delta, Long::sum));
+        return drained;
+    }
+
+    /**
+     * drain()한 증분이 DB에 반영되었음을 알립니다.
+     */
+    void complete(Map<Long, Long> drained) {
+        drained.forEach((postId, delta) -> inFlight.computeIfPresent(postId, (id, current) -> {
+            long remaining = current - delta;
+            return remaining == 0 ? null : remaining;
+        }));
+    }
+
+    /**
+     * DB 반영에 실패한 증분을 버퍼로 되돌려 다음 drain()에서 재시도합니다.
+     */
+    void restore(Map<Long, Long> drained) {
+        complete(drained);
+        drained.forEach(this::add);
+    }
+}
@@ -0,0 +1,148 @@
+package co.kr.mini_spring.post.service;
+
+import co.kr.mini_spring.post.domain.event.PostChangedEvent;
+import co.kr.mini_spring.post.domain.repository.HashtagFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 게시글 목록 전체 개수(totalElements) 캐시
+ * - 필터 없는 공개 게시글 수와 작성자별 공개 게시글 수는 COUNT로 초기화한 뒤,
+ *   게시글 변경 이벤트로 증감하는 카운터로 유지하여 스캔 없이 응답합니다.
+ *   이벤트는 이 인스턴스의 변경만 받으므로, 다른 인스턴스의 변경이 필터 COUNT 캐시와 같은 범위 안에서 반영되도록
+ *   카운터는 초기화 후 post.count-cache.counter-ttl-seconds가 지나면 버리고 다음 조회 시 COUNT로 다시 초기화합니다.
+ * - 키워드/해시태그 필터가 있는 경우 정규화한 필터 조건을 키로 COUNT 결과를 TTL 동안 캐시하고,
+ *   게시글 생성/수정/삭제/공개 상태 변경 시 무효화합니다.
+ * - 근사(approximate) 모드에서는 무효화되지 않는 보조 캐시의 이전 값을 재사용하여 COUNT를 생략합니다.
+ */
+@Component
+public class PostCountCache {
+
+    // 전체(작성자 필터 없음) 카운터 키. 회원 ID는 1부터 시작하므로 겹치지 않습니다.
+    private static final long ALL_AUTHORS = 0L;
+
+    private final Cache<Long, AtomicLong> publishedTotals;
+    private final Cache<FilterKey, Long> exactCounts;
+    private final Cache<FilterKey, Long> staleCounts;
+
+    @Autowired
+    public PostCountCache(
+            @Value("${post.count-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${post.count-cache.stale-ttl-seconds:600}") long staleTtlSeconds,
+            @Value("${post.count-cache.max-size:10000}") long maxSize,
+            @Value("${post.count-cache.counter-ttl-seconds:30}") long counterTtlSeconds) {
+        this(ttlSeconds, staleTtlSeconds, maxSize, counterTtlSeconds, Ticker.systemTicker());
+    }
+
+    PostCountCache(long ttlSeconds, long staleTtlSeconds, long maxSize, long counterTtlSeconds, Ticker ticker) {
+        // 증감은 값만 바꾸고 캐시에 다시 쓰지 않으므로 만료 시점은 COUNT로 초기화한 시점 기준입니다.
+        this.publishedTotals = Caffeine.newBuilder()
+                .ticker(ticker)
+                .expireAfterWrite(Duration.ofSeconds(counterTtlSeconds))
+                .maximumSize(maxSize)
+                .build();
+        this.exactCounts = Caffeine.newBuilder()
+                .ticker(ticker)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+        this.staleCounts = Caffeine.newBuilder()
+                .ticker(ticker)
+                .expireAfterWrite(Duration.ofSeconds(staleTtlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * 필터 조건에 해당하는 게시글 수를 반환합니다.
+     * @param approximate true면 최신이 아닐 수 있는 이전 COUNT 결과도 허용합니다.
+     * @param counter 캐시에 값이 없을 때 실행할 COUNT 쿼리
+     */
+    public Total getTotal(boolean published, String keyword, HashtagFilter hashtagFilter, Long authorId,
+                          boolean approximate, LongSupplier counter) {
+        FilterKey key = FilterKey.of(published, keyword, hashtagFilter, authorId);
+
+        if (key.isCounterBacked()) {
+            long authorKey = authorId == null ? ALL_AUTHORS : authorId;
+            AtomicLong total = publishedTotals.get(authorKey, k -> new AtomicLong(counter.getAsLong()));
+            return new Total(Math.max(0, total.get()), false);
+        }
+
+        Long cached = exactCounts.getIfPresent(key);
+        if (cached != null) {
+            return new Total(cached, false);
+        }
+        if (approximate) {
+            Long stale = staleCounts.getIfPresent(key);
+            if (stale != null) {
+                return new Total(stale, true);
+            }
+        }
+
+        long counted = counter.getAsLong();
+        exactCounts.put(key, counted);
+        staleCounts.put(key, counted);
+        return new Total(counted, false);
+    }
+
+    /**
+     * 게시글 변경이 커밋된 뒤 카운터를 증감하고 필터 COUNT 캐시를 무효화합니다.
+     * - 초기화되지 않은 카운터는 건드리지 않으며, 다음 조회 시 COUNT로 초기화됩니다.
+     */
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        long delta = switch (event.type()) {
+            case CREATED -> event.published() ? 1 : 0;
+            case DELETED -> event.published() ? -1 : 0;
+            case PUBLISH_TOGGLED -> event.published() ? 1 : -1;
+            case UPDATED -> 0;
+        };
+        if (delta != 0) {
+            adjust(ALL_AUTHORS, delta);
+            if (event.authorId() != null) {
+                adjust(event.authorId(), delta);
+            }
+        }
+        // 수정으로도 키워드/해시태그 일치 여부가 바뀔 수 있으므로 필터 COUNT 캐시는 항상 무효화합니다.
+        exactCounts.invalidateAll();
+    }
+
+    private void adjust(long authorKey, long delta) {
+        AtomicLong total = publishedTotals.getIfPresent(authorKey);
+        if (total != null) {
+            total.addAndGet(delta);
+        }
+    }
+
+    /**
+     * 조회된 게시글 수와 근사값 여부
+     */
+    public record Total(long value, boolean approximate) {
+    }
+
+    /**
+     * 정규화한 목록 필터 조건 (캐시 키)
+     * - 키워드는 앞뒤 공백 제거 후 소문자로(검색이 대소문자를 구분하지 않으므로) 비교하고,
+     *   해시태그는 이미 정규화된 HashtagFilter(이름 집합 + AND/OR)를 그대로 사용합니다.
+     */
+    record FilterKey(boolean published, String keyword, HashtagFilter hashtagFilter, Long authorId) {
+
+        static FilterKey of(boolean published, String keyword, HashtagFilter hashtagFilter, Long authorId) {
+            String normalizedKeyword = keyword == null || keyword.isBlank() ? null : keyword.trim().toLowerCase();
+            return new FilterKey(published, normalizedKeyword, hashtagFilter == null ? HashtagFilter.NONE : hashtagFilter, authorId);
+        }
+
+        boolean isCounterBacked() {
+            return published && keyword == null && hashtagFilter.isEmpty();
+        }
+    }
+}
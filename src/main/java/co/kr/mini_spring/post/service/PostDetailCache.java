@@ -0,0 +1,95 @@
+package co.kr.mini_spring.post.service;
+
+import co.kr.mini_spring.member.domain.event.MemberChangedEvent;
+import co.kr.mini_spring.post.domain.event.CommentChangedEvent;
+import co.kr.mini_spring.post.domain.event.PostChangedEvent;
+import co.kr.mini_spring.post.domain.event.PostHashtagsChangedEvent;
+import co.kr.mini_spring.post.dto.response.PostDetailSnapshot;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 스냅샷 캐시
+ * - 조회자와 무관한 상세 내용(PostDetailSnapshot)을 게시글 ID별로 보관하며, 최대 개수를 넘으면 사용 빈도가 낮은 항목부터 제거합니다.
+ * - 게시글 수정/삭제/공개 상태 변경, 해시태그 변경, 댓글 작성/수정/삭제가 커밋되면 해당 게시글 항목을 무효화합니다.
+ * - 회원 정보 변경(MemberChangedEvent)이 커밋되면 그 회원의 예전 닉네임을 게시글/댓글 작성자로 담은 항목을 무효화합니다.
+ * - 조회수/좋아요 수는 스냅샷에 넣지 않고 응답 시점에 덧씌우므로 좋아요/조회로는 무효화하지 않습니다.
+ * - 적중/미스/제거 통계는 Micrometer(cache.gets, cache.evictions 등, cache=postDetail)로 노출됩니다.
+ */
+@Component
+public class PostDetailCache {
+
+    private final Cache<Long, PostDetailSnapshot> cache;
+
+    // 무효화 횟수. 로딩 도중 무효화가 일어나면 방금 로딩한(오래되었을 수 있는) 스냅샷을 버립니다.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PostDetailCache(
+            MeterRegistry meterRegistry,
+            @Value("${post.detail-cache.max-size:10000}") long maxSize,
+            @Value("${post.detail-cache.ttl-minutes:30}") long ttlMinutes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postDetail");
+    }
+
+    /**
+     * 캐시된 스냅샷을 반환하고, 없으면 loader로 만들어 보관합니다.
+     */
+    public PostDetailSnapshot get(Long postId, Supplier<PostDetailSnapshot> loader) {
+        PostDetailSnapshot cached = cache.getIfPresent(postId);
+        if (cached != null) return cached;
+
+        long before = invalidations.get();
+        PostDetailSnapshot loaded = loader.get();
+        cache.asMap().putIfAbsent(postId, loaded);
+        if (invalidations.get() != before) {
+            // 로딩과 무효화가 겹쳤다면 변경 전 데이터일 수 있으므로 보관하지 않습니다.
+            cache.invalidate(postId);
+        }
+        return loaded;
+    }
+
+    public void invalidate(Long postId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(postId);
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.CREATED) return;
+        invalidate(event.postId());
+    }
+
+    @TransactionalEventListener
+    public void onHashtagsChanged(PostHashtagsChangedEvent event) {
+        invalidate(event.postId());
+    }
+
+    @TransactionalEventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        invalidate(event.postId());
+    }
+
+    /**
+     * 작성자별 색인을 두지 않으므로 캐시 전체를 훑습니다. 닉네임이 그대로면(로그인 시 정보 갱신 등) 아무 항목도 지우지 않습니다.
+     */
+    @TransactionalEventListener
+    public void onMemberChanged(MemberChangedEvent event) {
+        if (event.memberId() == null) return;
+        invalidations.incrementAndGet();
+        cache.asMap().values().removeIf(snapshot -> snapshot.hasStaleMemberName(event.memberId(), event.nickname()));
+    }
+}
@@ -0,0 +1,427 @@
+package co.kr.mini_spring.post.service;
+
+import co.kr.mini_spring.member.domain.event.MemberChangedEvent;
+import co.kr.mini_spring.post.domain.Post;
+import co.kr.mini_spring.post.domain.event.CommentChangedEvent;
+import co.kr.mini_spring.post.domain.event.PostChangedEvent;
+import co.kr.mini_spring.post.domain.event.PostHashtagsChangedEvent;
+import co.kr.mini_spring.post.domain.event.PostLikeCountsFlushedEvent;
+import co.kr.mini_spring.post.domain.repository.HashtagFilter;
+import co.kr.mini_spring.post.domain.repository.PostFeedCursor;
+import co.kr.mini_spring.post.domain.repository.PostQueryRepository;
+import co.kr.mini_spring.post.dto.response.PostSummaryResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 필터 없는 공개 게시글 목록(최신순/좋아요순)의 상위 N개를 메모리에 유지하는 핫 피드
+ * - 정렬 순서별로 ConcurrentSkipListMap에 PostSummaryResponse를 보관하고, 변경될 때마다 불변 목록 스냅샷을 교체하여
+ *   조회는 락 없이 스냅샷을 잘라 응답합니다. (DB 접근 없음)
+ * - 게시글 생성/수정/삭제/공개 상태 변경, 해시태그/댓글 변경 이벤트는 해당 게시글 한 건을 다시 읽어 반영하고,
+ *   좋아요 수는 PostLikeCounter가 like_count에 반영한 뒤(PostLikeCountsFlushedEvent) 창에 있는 게시글만 다시 읽습니다.
+ *   회원 닉네임이 바뀌면(MemberChangedEvent) 창에 있는 그 회원의 게시글 작성자 닉네임만 바꿔 넣습니다.
+ *   창의 좋아요 수와 순위는 항상 DB 값 기준이므로, 창 밖 페이지(DB 조회)와 정렬 기준이 어긋나지 않습니다.
+ * - DB 읽기 전에 순번을 받아 두고, 게시글별로 더 나중에 시작한 읽기 결과가 이미 반영되었으면 먼저 시작한 읽기 결과는 버립니다.
+ *   (DB 호출 동안 락을 잡지 않으므로, 커밋 직후 커넥션을 쥔 요청 스레드들이 락을 기다리며 풀을 고갈시키지 않습니다)
+ * - 창(window) 밖 게시글의 순위는 알 수 없으므로, 창의 마지막 항목보다 뒤로 밀리는 항목은 창에서 빼고
+ *   창에 남은 범위를 벗어나는 페이지는 기존 쿼리 경로로 넘깁니다.
+ * - 조회수 변화, 창 밖 게시글이 좋아요로 창 안에 들어오는 경우 등은 주기적인 전체 갱신에서 바로잡습니다.
+ */
+@Slf4j
+@Component
+public class PostHotFeed {
+
+    static final Sort RECENT_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+    static final Sort LIKES_SORT = Sort.by(Sort.Direction.DESC, "likeCount")
+            .and(Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    private final PostQueryRepository postQueryRepository;
+    private final int windowSize;
+
+    private volatile Map<PostFeedCursor.Sort, FeedWindow> windows = Map.of();
+
+    // 전체 갱신 도중 변경된 게시글. 갱신 결과를 교체한 뒤 다시 읽어 반영합니다.
+    private final Set<Long> touchedDuringRefresh = new HashSet<>();
+    private boolean refreshing;
+
+    // 재조회 순번과 게시글별로 반영된 가장 큰 순번 (행 전체 / 좋아요 수만). 진행 중인 읽기가 없으면 비웁니다.
+    private long readSequence;
+    private int readsInFlight;
+    private final Map<Long, Long> appliedRowReads = new HashMap<>();
+    private final Map<Long, Long> appliedLikeReads = new HashMap<>();
+
+    public PostHotFeed(
+            PostQueryRepository postQueryRepository,
+            @Value("${post.hot-feed.window-size:200}") int windowSize) {
+        this.postQueryRepository = postQueryRepository;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * 창 안의 페이지면 메모리에서 페이지를 만들어 반환합니다.
+     * @param totalSupplier 창이 전체 게시글을 담고 있지 않을 때 사용할 전체 개수
+     * @return 창을 벗어나거나 지원하지 않는 정렬이면 빈 값
+     */
+    public Optional<Page<PostSummaryResponse>> findPage(Pageable pageable, LongSupplier totalSupplier) {
+        PostFeedCursor.Sort sort = toFeedSort(pageable.getSort());
+        FeedWindow window = sort == null ? null : windows.get(sort);
+        if (window == null) return Optional.empty();
+
+        List<PostSummaryResponse> rows = window.snapshot;
+        long from = pageable.getOffset();
+        long to = from + pageable.getPageSize();
+        if (!window.complete && to > rows.size()) return Optional.empty();
+
+        List<PostSummaryResponse> content = from >= rows.size()
+                ? List.of()
+                : rows.subList((int) from, (int) Math.min(to, rows.size()));
+        LongSupplier total = window.complete ? () -> rows.size() : totalSupplier;
+        return Optional.of(PageableExecutionUtils.getPage(content, pageable, total));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshOnStartup() {
+        refresh();
+    }
+
+    /**
+     * 정렬 순서별 상위 N개를 DB에서 다시 읽어 창을 교체합니다.
+     */
+    @Scheduled(initialDelayString = "${post.hot-feed.refresh-interval-ms:60000}",
+            fixedDelayString = "${post.hot-feed.refresh-interval-ms:60000}")
+    public void refresh() {
+        synchronized (this) {
+            if (refreshing) return;
+            refreshing = true;
+            touchedDuringRefresh.clear();
+        }
+
+        Map<PostFeedCursor.Sort, FeedWindow> loaded = new EnumMap<>(PostFeedCursor.Sort.class);
+        try {
+            loaded.put(PostFeedCursor.Sort.RECENT, load(PostFeedCursor.Sort.RECENT, RECENT_SORT));
+            loaded.put(PostFeedCursor.Sort.LIKES, load(PostFeedCursor.Sort.LIKES, LIKES_SORT));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                refreshing = false;
+            }
+            log.error("[HotFeed] 갱신 실패, 기존 창을 유지합니다. error={}", e.getMessage());
+            return;
+        }
+
+        List<Long> touched;
+        synchronized (this) {
+            windows = loaded;
+            touched = new ArrayList<>(touchedDuringRefresh);
+            touchedDuringRefresh.clear();
+            refreshing = false;
+        }
+        touched.forEach(this::reload);
+        log.debug("[HotFeed] 갱신 완료 windowSize={}, replayed={}", windowSize, touched.size());
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, PUBLISH_TOGGLED -> reload(event.postId());
+            case UPDATED -> reloadIfHeld(event.postId());
+            case DELETED -> remove(event.postId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onHashtagsChanged(PostHashtagsChangedEvent event) {
+        reloadIfHeld(event.postId());
+    }
+
+    @TransactionalEventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        reloadIfHeld(event.postId());
+    }
+
+    /**
+     * like_count가 반영된 게시글 중 창에 있는 게시글의 좋아요 수를 다시 읽어 반영합니다.
+     * - 증분을 더하지 않고 DB 값을 그대로 쓰므로, 재조회와 순서가 엇갈려도 같은 증분이 두 번 반영되지 않습니다.
+     * - 창 밖 게시글이 좋아요로 창 안에 들어오는 경우는 주기적인 전체 갱신에서 반영합니다.
+     */
+    @EventListener
+    public void onLikeCountsFlushed(PostLikeCountsFlushedEvent event) {
+        synchronized (this) {
+            // 전체 갱신이 이 반영 이전 값을 읽었을 수 있으므로, 갱신 후 다시 읽도록 표시합니다.
+            event.postIds().forEach(this::markTouched);
+        }
+        List<Long> held = event.postIds().stream().filter(this::isHeld).toList();
+        if (held.isEmpty()) return;
+
+        long ticket = beginRead();
+        try {
+            Map<Long, Integer> likeCounts = postQueryRepository.findLikeCountsByIds(held);
+            synchronized (this) {
+                held.forEach(postId -> {
+                    if (!claim(appliedLikeReads, postId, ticket)) return;
+                    Integer likeCount = likeCounts.get(postId);
+                    windows.values().forEach(window -> {
+                        PostSummaryResponse row = window.get(postId);
+                        if (row == null) return;
+                        if (likeCount == null) {
+                            window.remove(postId);
+                        } else if (row.getLikeCount() != likeCount) {
+                            window.upsert(row.withLikeCount(likeCount));
+                        }
+                    });
+                });
+            }
+        } catch (RuntimeException e) {
+            log.warn("[HotFeed] 좋아요 수 재조회 실패, 다음 전체 갱신에서 바로잡습니다. posts={}, error={}", held.size(), e.getMessage());
+        } finally {
+            endRead();
+        }
+    }
+
+    /**
+     * 창에 예전 닉네임으로 담긴 회원의 게시글에 새 닉네임을 반영합니다.
+     * - 다시 읽지 않고 닉네임만 바꾸며, 순번을 받아 두어 변경 전에 시작한 재조회가 예전 닉네임으로 덮어쓰지 못하게 합니다.
+     * - 진행 중인 전체 갱신이 변경 전 닉네임을 읽었다면 다음 전체 갱신에서 바로잡습니다.
+     */
+    @TransactionalEventListener
+    public void onMemberChanged(MemberChangedEvent event) {
+        if (event.memberId() == null) return;
+        long ticket = beginRead();
+        try {
+            synchronized (this) {
+                windows.values().forEach(window -> window.snapshot.stream()
+                        .filter(row -> event.memberId().equals(row.getMemberId()) && !Objects.equals(row.getMemberName(), event.nickname()))
+                        .filter(row -> claim(appliedRowReads, row.getId(), ticket))
+                        .forEach(row -> window.upsert(row.withMemberName(event.nickname()))));
+            }
+        } finally {
+            endRead();
+        }
+    }
+
+    private FeedWindow load(PostFeedCursor.Sort sort, Sort order) {
+        List<Post> posts = postQueryRepository.findAllByPublished(true, PageRequest.of(0, windowSize, order), null,
+                HashtagFilter.NONE, null, () -> 0L).getContent();
+        FeedWindow window = new FeedWindow(sort, windowSize);
+        posts.forEach(post -> window.upsert(new PostSummaryResponse(post)));
+        window.seal(posts.size() < windowSize);
+        return window;
+    }
+
+    private boolean isHeld(Long postId) {
+        return windows.values().stream().anyMatch(window -> window.get(postId) != null);
+    }
+
+    private void reloadIfHeld(Long postId) {
+        if (isHeld(postId)) {
+            reload(postId);
+        } else {
+            synchronized (this) {
+                markTouched(postId);
+            }
+        }
+    }
+
+    /**
+     * 게시글 한 건을 다시 읽어 공개 상태면 창에 반영하고, 아니면 창에서 제거합니다.
+     * - 이 게시글에 더 나중에 시작한 읽기 결과가 이미 반영되었으면 아무것도 하지 않고,
+     *   좋아요 수만 더 나중에 읽은 값이 있으면 그 값을 유지합니다.
+     */
+    private void reload(Long postId) {
+        long ticket = beginRead();
+        try {
+            Optional<Post> post;
+            try {
+                post = postQueryRepository.findByIdWithAllRelations(postId)
+                        .filter(p -> p.isPublished() && p.getMember() != null);
+            } catch (RuntimeException e) {
+                // 반영하지 못한 게시글은 창에서 빼 두고 다음 전체 갱신에서 다시 채웁니다.
+                log.warn("[HotFeed] 게시글 재조회 실패 postId={}, error={}", postId, e.getMessage());
+                removeFromWindows(postId, ticket);
+                return;
+            }
+            synchronized (this) {
+                if (!claim(appliedRowReads, postId, ticket)) return;
+                markTouched(postId);
+                if (post.isPresent()) {
+                    PostSummaryResponse row = new PostSummaryResponse(post.get());
+                    if (!claim(appliedLikeReads, postId, ticket)) {
+                        PostSummaryResponse current = heldRow(postId);
+                        if (current != null) row = row.withLikeCount(current.getLikeCount());
+                    }
+                    PostSummaryResponse reloaded = row;
+                    windows.values().forEach(window -> window.upsert(reloaded));
+                } else {
+                    windows.values().forEach(window -> window.remove(postId));
+                }
+            }
+        } finally {
+            endRead();
+        }
+    }
+
+    /**
+     * 진행 중인 재조회가 삭제 이전 상태로 게시글을 되살리지 않도록 순번을 받아 제거합니다.
+     */
+    private void remove(Long postId) {
+        long ticket = beginRead();
+        try {
+            removeFromWindows(postId, ticket);
+        } finally {
+            endRead();
+        }
+    }
+
+    private synchronized void removeFromWindows(Long postId, long ticket) {
+        if (!claim(appliedRowReads, postId, ticket)) return;
+        markTouched(postId);
+        windows.values().forEach(window -> window.remove(postId));
+    }
+
+    private PostSummaryResponse heldRow(Long postId) {
+        for (FeedWindow window : windows.values()) {
+            PostSummaryResponse row = window.get(postId);
+            if (row != null) return row;
+        }
+        return null;
+    }
+
+    private synchronized long beginRead() {
+        readsInFlight++;
+        return ++readSequence;
+    }
+
+    /**
+     * 진행 중인 읽기가 없으면 이후의 읽기는 모두 더 큰 순번을 받으므로, 반영 기록을 비워 메모리가 늘어나지 않도록 합니다.
+     */
+    private synchronized void endRead() {
+        if (--readsInFlight == 0) {
+            appliedRowReads.clear();
+            appliedLikeReads.clear();
+        }
+    }
+
+    /**
+     * 게시글에 더 큰 순번의 결과가 반영되지 않았으면 이 순번을 반영 기록으로 남기고 true를 반환합니다.
+     */
+    private static boolean claim(Map<Long, Long> applied, Long postId, long ticket) {
+        Long latest = applied.get(postId);
+        if (latest != null && latest > ticket) return false;
+        applied.put(postId, ticket);
+        return true;
+    }
+
+    private void markTouched(Long postId) {
+        if (refreshing) {
+            touchedDuringRefresh.add(postId);
+        }
+    }
+
+    private static PostFeedCursor.Sort toFeedSort(Sort sort) {
+        if (RECENT_SORT.equals(sort)) return PostFeedCursor.Sort.RECENT;
+        if (LIKES_SORT.equals(sort)) return PostFeedCursor.Sort.LIKES;
+        return null;
+    }
+
+    /**
+     * 정렬 키 (좋아요 수, 작성 시각, ID)
+     */
+    private record RankKey(int likeCount, LocalDateTime createdAt, long id) {
+
+        static RankKey of(PostSummaryResponse row) {
+            return new RankKey(row.getLikeCount(), row.getCreatedAt(), row.getId());
+        }
+    }
+
+    /**
+     * 정렬 순서 하나의 상위 N개 창
+     * - 변경은 PostHotFeed의 락 안에서만 일어나며, 변경 후 snapshot을 새 불변 목록으로 교체합니다.
+     */
+    private static class FeedWindow {
+
+        private final int capacity;
+        private final ConcurrentSkipListMap<RankKey, PostSummaryResponse> rows;
+        private final Map<Long, RankKey> keys = new ConcurrentHashMap<>();
+
+        // true면 공개 게시글 전체를 담고 있어 창 밖에 게시글이 없습니다. (초기 적재 중에는 true로 두고 seal()에서 확정)
+        private volatile boolean complete = true;
+        private volatile List<PostSummaryResponse> snapshot = List.of();
+
+        FeedWindow(PostFeedCursor.Sort sort, int capacity) {
+            Comparator<RankKey> recent = Comparator.comparing(RankKey::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(RankKey::id, Comparator.reverseOrder());
+            this.rows = new ConcurrentSkipListMap<>(sort == PostFeedCursor.Sort.LIKES
+                    ? Comparator.comparingInt(RankKey::likeCount).reversed().thenComparing(recent)
+                    : recent);
+            this.capacity = capacity;
+        }
+
+        void seal(boolean complete) {
+            this.complete = complete;
+        }
+
+        PostSummaryResponse get(Long postId) {
+            RankKey key = keys.get(postId);
+            return key == null ? null : rows.get(key);
+        }
+
+        void upsert(PostSummaryResponse row) {
+            RankKey previous = keys.remove(row.getId());
+            if (previous != null) {
+                rows.remove(previous);
+            }
+
+            RankKey key = RankKey.of(row);
+            // 창이 전체를 담고 있지 않으면 마지막 항목 뒤의 순위는 알 수 없으므로 넣지 않습니다.
+            if (!complete && !rows.isEmpty() && rows.comparator().compare(key, rows.lastKey()) > 0) {
+                publish();
+                return;
+            }
+            rows.put(key, row);
+            keys.put(row.getId(), key);
+
+            while (rows.size() > capacity) {
+                Map.Entry<RankKey, PostSummaryResponse> last = rows.pollLastEntry();
+                keys.remove(last.getValue().getId());
+                complete = false;
+            }
+            publish();
+        }
+
+        void remove(Long postId) {
+            RankKey key = keys.remove(postId);
+            if (key != null) {
+                rows.remove(key);
+                publish();
+            }
+        }
+
+        private void publish() {
+            snapshot = List.copyOf(rows.values());
+        }
+    }
+}
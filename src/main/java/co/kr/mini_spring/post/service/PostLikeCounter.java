@@ -0,0 +1,234 @@
+package co.kr.mini_spring.post.service;
+
+import co.kr.mini_spring.post.domain.event.PostLikeChangedEvent;
+import co.kr.mini_spring.post.domain.event.PostLikeCountsFlushedEvent;
+import co.kr.mini_spring.post.domain.repository.PostBatchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 좋아요 수(like_count) 집계기
+ * - 좋아요의 원본 데이터는 post_like이며, like_count는 커밋된 좋아요 변경의 증분을 메모리에 누적해 주기적으로 배치 반영합니다.
+ * - 좋아요 요청이 post 행 락을 잡지 않으므로 인기 게시글에 요청이 몰려도 하나의 락 뒤에 줄 서지 않습니다.
+ * - 별도 보정 작업이 post_like를 기준으로 like_count를 청크 단위로 다시 계산하여 어긋난 값을 바로잡습니다.
+ *   보정은 게시글 테이블 전체를 훑으므로 다른 @Scheduled 작업(조회수/좋아요 flush 등)을 막지 않도록 전용 스레드에서 실행합니다.
+ */
+@Slf4j
+@Component
+public class PostLikeCounter {
+
+    // 보정 UPDATE 도중 새 증분이 생긴 청크를 다시 시도하는 최대 횟수
+    private static final int RECONCILE_MAX_ATTEMPTS = 3;
+
+    private final PostBatchRepository postBatchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final long reconcileChunkSize;
+
+    private final PendingCountBuffer likeDeltas = new PendingCountBuffer();
+    // 좋아요 변경을 기록했지만 아직 커밋/롤백되지 않은 트랜잭션 수 (게시글별)
+    private final ConcurrentHashMap<Long, Integer> uncommitted = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean reconcileQueued = new AtomicBoolean();
+    private final ExecutorService reconcileExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "like-count-reconcile");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PostLikeCounter(
+            PostBatchRepository postBatchRepository,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            @Value("${post.like-count.reconcile-chunk-size:1000}") long reconcileChunkSize) {
+        this.postBatchRepository = postBatchRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.reconcileChunkSize = reconcileChunkSize;
+    }
+
+    /**
+     * 좋아요 변경이 커밋된 뒤 증분을 누적합니다.
+     * - 롤백된 좋아요가 like_count에 반영되거나, 커밋 전에 다른 요청의 응답에 먼저 보이지 않도록 합니다.
+     * - 커밋 전부터 증분이 누적될 때까지 게시글을 미확정으로 표시하여, 그 사이에 보정이 post_like를 세어
+     *   이미 센 좋아요의 증분을 다시 더하지 않도록 합니다.
+     */
+    @EventListener
+    public void onLikeChanged(PostLikeChangedEvent event) {
+        Long postId = event.postId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            likeDeltas.add(postId, event.delta());
+            return;
+        }
+
+        uncommitted.merge(postId, 1, Integer::sum);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    likeDeltas.add(postId, event.delta());
+                }
+                uncommitted.computeIfPresent(postId, (id, count) -> count == 1 ? null : count - 1);
+            }
+        });
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 좋아요 수 증분을 반환합니다.
+     */
+    public long getPendingCount(Long postId) {
+        return likeDeltas.pending(postId);
+    }
+
+    /**
+     * 누적된 좋아요 수 증분을 DB에 배치 반영하고, 반영된 게시글을 PostLikeCountsFlushedEvent로 알립니다.
+     * - 이벤트 리스너(인기 피드 재조회 등)가 flush/보정을 막지 않도록 flushLock을 푼 뒤에 발행합니다.
+     */
+    @Scheduled(fixedDelayString = "${post.like-count.flush-interval-ms:1000}")
+    public void flush() {
+        Set<Long> flushedPostIds = null;
+        flushLock.lock();
+        try {
+            Map<Long, Long> deltas = likeDeltas.drain();
+            if (deltas.isEmpty()) return;
+
+            try {
+                // 배치 일부만 반영된 뒤 restore()로 다시 더해지지 않도록 한 트랜잭션으로 반영합니다.
+                transactionTemplate.executeWithoutResult(status -> postBatchRepository.applyLikeCountDeltas(deltas));
+                likeDeltas.complete(deltas);
+                flushedPostIds = new HashSet<>(deltas.keySet());
+                log.debug("[LikeCount] flush 완료 posts={}", deltas.size());
+            } catch (RuntimeException e) {
+                likeDeltas.restore(deltas);
+                log.error("[LikeCount] flush 실패, 다음 주기에 재시도합니다. posts={}, error={}", deltas.size(), e.getMessage());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+
+        if (flushedPostIds != null) {
+            eventPublisher.publishEvent(new PostLikeCountsFlushedEvent(flushedPostIds));
+        }
+    }
+
+    /**
+     * 종료 시 진행 중인 보정을 멈추고 남은 증분을 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        reconcileExecutor.shutdownNow();
+        flush();
+    }
+
+    @Scheduled(initialDelayString = "${post.like-count.reconcile-interval-ms:600000}",
+            fixedDelayString = "${post.like-count.reconcile-interval-ms:600000}")
+    public void scheduledReconcile() {
+        if (!triggerReconcile()) {
+            log.debug("[LikeCount] 이전 보정이 끝나지 않아 이번 주기를 건너뜁니다.");
+        }
+    }
+
+    /**
+     * 보정을 전용 스레드에 요청합니다. 이미 실행 중이면 건너뜁니다.
+     * @return 새 보정을 시작했으면 true
+     */
+    public boolean triggerReconcile() {
+        if (!reconcileQueued.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            reconcileExecutor.execute(() -> {
+                try {
+                    reconcile();
+                } finally {
+                    reconcileQueued.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            reconcileQueued.set(false);
+            return false;
+        }
+    }
+
+    /**
+     * post_like를 기준으로 like_count를 다시 계산합니다.
+     * - 게시글 ID 구간별로 나누어 실행하여 한 번에 오래 락을 잡지 않습니다.
+     * - 미반영·미확정 증분이 있는 게시글은 이중 반영을 피하기 위해 이번 주기에서 건너뜁니다.
+     * - 호출한 스레드에서 끝까지 실행하므로 스케줄러에서는 {@link #triggerReconcile()}를 사용합니다.
+     */
+    public void reconcile() {
+        long maxId = postBatchRepository.findMaxPostId();
+        int corrected = 0;
+
+        for (long fromId = 1; fromId <= maxId; fromId += reconcileChunkSize) {
+            if (Thread.currentThread().isInterrupted()) return;
+            long toId = fromId + reconcileChunkSize - 1;
+            try {
+                corrected += reconcileChunk(fromId, toId);
+            } catch (RuntimeException e) {
+                log.error("[LikeCount] 보정 실패 range=[{}, {}], error={}", fromId, toId, e.getMessage());
+            }
+        }
+
+        if (corrected > 0) {
+            log.warn("[LikeCount] like_count 보정 완료 corrected={}", corrected);
+        }
+    }
+
+    /**
+     * 한 구간을 보정합니다.
+     * - flushLock을 쥐고 실행하므로 UPDATE 도중 생긴 증분은 flush되지 않고 버퍼에 남습니다.
+     * - UPDATE 뒤에 제외 목록에 없던 게시글의 증분이 보이면, 그 좋아요를 이미 세었을 수 있으므로
+     *   구간 전체를 롤백하고 해당 게시글까지 제외하여 다시 시도합니다.
+     * @return 보정된 게시글 수
+     */
+    private int reconcileChunk(long fromId, long toId) {
+        flushLock.lock();
+        try {
+            Set<Long> excluded = busyPostIdsBetween(fromId, toId);
+            for (int attempt = 1; attempt <= RECONCILE_MAX_ATTEMPTS; attempt++) {
+                Set<Long> snapshot = Set.copyOf(excluded);
+                Integer updated = transactionTemplate.execute(status -> {
+                    int count = postBatchRepository.reconcileLikeCounts(fromId, toId, List.copyOf(snapshot));
+                    if (excluded.addAll(busyPostIdsBetween(fromId, toId))) {
+                        status.setRollbackOnly();
+                        return null;
+                    }
+                    return count;
+                });
+                if (updated != null) return updated;
+            }
+            log.warn("[LikeCount] 좋아요 변경이 계속 들어와 이번 주기의 보정을 건너뜁니다. range=[{}, {}]", fromId, toId);
+            return 0;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private Set<Long> busyPostIdsBetween(long fromId, long toId) {
+        Set<Long> busyPostIds = new HashSet<>(likeDeltas.pendingPostIds());
+        busyPostIds.addAll(uncommitted.keySet());
+        busyPostIds.removeIf(id -> id < fromId || id > toId);
+        return busyPostIds;
+    }
+}
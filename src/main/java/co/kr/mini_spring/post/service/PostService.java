@@ -2,31 +2,36 @@ package co.kr.mini_spring.post.service;
 
 import co.kr.mini_spring.member.domain.Member;
 import co.kr.mini_spring.post.domain.Post;
-import co.kr.mini_spring.post.domain.PostLike;
-import co.kr.mini_spring.post.domain.PostView;
-import co.kr.mini_spring.member.domain.repository.MemberRepository;
+import co.kr.mini_spring.post.domain.event.PostChangedEvent;
+import co.kr.mini_spring.post.domain.event.PostLikeChangedEvent;
+import co.kr.mini_spring.post.domain.repository.CommentQueryRepository;
+import co.kr.mini_spring.post.domain.repository.HashtagFilter;
+import co.kr.mini_spring.post.domain.repository.PostFeedCursor;
 import co.kr.mini_spring.post.domain.repository.PostLikeRepository;
 import co.kr.mini_spring.post.domain.repository.PostRepository;
 import co.kr.mini_spring.post.domain.repository.PostQueryRepository;
-import co.kr.mini_spring.post.domain.repository.PostViewQueryRepository;
 import co.kr.mini_spring.post.dto.request.PostCreateRequest;
 import co.kr.mini_spring.post.dto.request.PostUpdateRequest;
+import co.kr.mini_spring.post.dto.response.PostDetailSnapshot;
 import co.kr.mini_spring.post.dto.response.PostResponse;
 import co.kr.mini_spring.post.dto.response.PostSummaryResponse;
+import co.kr.mini_spring.post.viewers.PostUniqueViewers;
 import co.kr.mini_spring.global.common.exception.BusinessException;
+import co.kr.mini_spring.global.common.response.CursorResponse;
 import co.kr.mini_spring.global.common.response.PageResponse;
 import co.kr.mini_spring.global.common.response.ResponseCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.dao.DataIntegrityViolationException;
 
-import java.time.Duration;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 @RequiredArgsConstructor
@@ -36,11 +41,16 @@ public class PostService {
     private final PostRepository postRepository;
     private final PostQueryRepository postQueryRepository; // 추가
     private final PostLikeRepository postLikeRepository;
-    private final PostViewQueryRepository postViewQueryRepository; // 변경
-    private final MemberRepository memberRepository;
     private final HashtagService hashtagService;
-
-    private static final Duration VIEW_COUNT_INTERVAL = Duration.ofHours(1);
+    private final PostViewCounter postViewCounter;
+    private final PostUniqueViewers postUniqueViewers;
+    private final PostLikeCounter postLikeCounter;
+    private final PostCountCache postCountCache;
+    private final PostDetailCache postDetailCache;
+    private final CommentQueryRepository commentQueryRepository;
+    private final CommentTreeLoader commentTreeLoader;
+    private final PostHotFeed postHotFeed;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public PostResponse createPost(PostCreateRequest request, Member member) {
@@ -52,21 +62,45 @@ public class PostService {
                 .build();
         postRepository.save(post);
         hashtagService.attachHashtagsToPost(post, request.getHashtags());
+        eventPublisher.publishEvent(PostChangedEvent.of(PostChangedEvent.Type.CREATED, post));
         return new PostResponse(post, member);
     }
 
-    @Transactional
+    /**
+     * 게시글 상세 조회
+     * - 조회자와 무관한 본문/작성자/해시태그/댓글 트리는 PostDetailCache의 스냅샷을 재사용하고,
+     *   작성자 여부와 조회수/좋아요 수만 조회 시점에 덧씌웁니다.
+     * - 조회수는 PostViewCounter에 기록만 하며, 응답 조회수/좋아요 수는 DB 값에 아직 반영되지 않은 증분을 더한 값입니다.
+     * - 고유 조회자 수(오늘/최근 7일)는 PostUniqueViewers의 HyperLogLog 추정값입니다.
+     */
     public PostResponse getPost(Long postId, Member currentUser) {
+        PostQueryRepository.PostCounts counts = postQueryRepository.findCountsById(postId)
+                .orElseThrow(() -> new BusinessException(ResponseCode.POST_NOT_FOUND));
+        PostDetailSnapshot snapshot = postDetailCache.get(postId, () -> loadDetailSnapshot(postId));
+
+        if (currentUser != null && currentUser.getId() != null) {
+            postViewCounter.recordView(currentUser.getId(), postId);
+            postUniqueViewers.record(postId, currentUser.getId());
+        }
+        int viewCount = counts.viewCount() + (int) postViewCounter.getPendingCount(postId);
+        int likeCount = Math.max(0, counts.likeCount() + (int) postLikeCounter.getPendingCount(postId));
+        return new PostResponse(snapshot, currentUser, viewCount, likeCount, postUniqueViewers.get(postId));
+    }
+
+    private PostDetailSnapshot loadDetailSnapshot(Long postId) {
         Post post = postQueryRepository.findByIdWithAllRelations(postId)
                 .orElseThrow(() -> new BusinessException(ResponseCode.POST_NOT_FOUND));
         if (post.getMember() == null) {
             throw new BusinessException(ResponseCode.POST_NOT_FOUND);
         }
-        Integer viewCountOverride = null;
-        if (currentUser != null && updateViewCount(post, currentUser)) {
-            viewCountOverride = postQueryRepository.findViewCountById(post.getId());
-        }
-        return new PostResponse(post, currentUser, viewCountOverride);
+        List<PostDetailSnapshot.CommentSnapshot> comments = commentTreeLoader.load(commentQueryRepository.findAllTopLevelCommentsByPostId(postId), 0)
+                .stream()
+                .map(thread -> PostDetailSnapshot.CommentSnapshot.from(thread.parent(),
+                        thread.replies().stream()
+                                .map(reply -> PostDetailSnapshot.CommentSnapshot.from(reply, List.of()))
+                                .toList()))
+                .toList();
+        return PostDetailSnapshot.from(post, comments);
     }
 
     @Transactional
@@ -77,6 +111,7 @@ public class PostService {
         requireOwnership(post, member, ResponseCode.NO_PERMISSION_TO_UPDATE_POST);
         post.update(request.getTitle(), request.getContent());
         hashtagService.updateHashtagsForPost(post, request.getHashtags());
+        eventPublisher.publishEvent(PostChangedEvent.of(PostChangedEvent.Type.UPDATED, post));
         return new PostResponse(post, member);
     }
 
@@ -87,76 +122,96 @@ public class PostService {
                 .orElseThrow(() -> new BusinessException(ResponseCode.POST_NOT_FOUND));
         requireOwnership(post, member, ResponseCode.NO_PERMISSION_TO_DELETE_POST);
         post.delete();
+        eventPublisher.publishEvent(PostChangedEvent.of(PostChangedEvent.Type.DELETED, post));
     }
 
+    /**
+     * 게시글 좋아요
+     * - post_like INSERT IGNORE 결과로 실제 추가 여부를 판단하므로 post 행 락이 필요 없습니다.
+     * - like_count는 PostLikeCounter가 커밋된 좋아요 변경 이벤트만 모아 배치로 반영합니다.
+     */
     @Transactional
     public void addLike(Long postId, Long memberId) {
         if (memberId == null) throw new BusinessException(ResponseCode.UNAUTHENTICATED);
-        if (postLikeRepository.findByMemberIdAndPostId(memberId, postId).isPresent()) return;
-        
-        Post post = postQueryRepository.findByIdWithPessimisticLock(postId)
-                .orElseThrow(() -> new BusinessException(ResponseCode.POST_NOT_FOUND));
-        Member memberProxy = memberRepository.getReferenceById(memberId);
-        PostLike newLike = PostLike.builder()
-                .id(new PostLike.PostLikeId(memberId, postId))
-                .member(memberProxy)
-                .post(post)
-                .build();
-        postLikeRepository.save(newLike);
-        post.increaseLikeCount();
+        if (!postRepository.existsById(postId)) throw new BusinessException(ResponseCode.POST_NOT_FOUND);
+
+        if (postLikeRepository.insertIfAbsent(memberId, postId) > 0) {
+            eventPublisher.publishEvent(new PostLikeChangedEvent(postId, 1));
+        }
     }
 
+    /**
+     * 게시글 좋아요 취소
+     */
     @Transactional
     public void removeLike(Long postId, Long memberId) {
         if (memberId == null) throw new BusinessException(ResponseCode.UNAUTHENTICATED);
-        PostLike postLike = postLikeRepository.findByMemberIdAndPostId(memberId, postId).orElse(null);
-        if (postLike == null) return;
 
-        Post post = postQueryRepository.findByIdWithPessimisticLock(postId)
-                .orElseThrow(() -> new BusinessException(ResponseCode.POST_NOT_FOUND));
-        postLikeRepository.delete(postLike);
-        post.decreaseLikeCount();
+        if (postLikeRepository.deleteByMemberIdAndPostId(memberId, postId) > 0) {
+            eventPublisher.publishEvent(new PostLikeChangedEvent(postId, -1));
+        }
     }
 
-    public PageResponse<PostSummaryResponse> getPublishedPosts(Pageable pageable, String keyword, List<String> hashtags, Long authorId) {
-        Page<Post> postPage = postQueryRepository.findAllByPublished(true, pageable, keyword, hashtags, authorId);
-        return new PageResponse<>(postPage.map(PostSummaryResponse::new));
+    /**
+     * 공개 게시글 목록 페이징 조회
+     * - 필터 없는 최신순/좋아요순의 앞쪽 페이지는 PostHotFeed가 메모리에서 바로 응답합니다.
+     * - 전체 개수는 PostCountCache에서 가져오며, 캐시에 없을 때만 COUNT 쿼리를 실행합니다.
+     * @param matchAllHashtags true면 모든 해시태그를 가진 게시글만, false면 하나라도 가진 게시글을 조회합니다.
+     * @param approximate true면 최신이 아닐 수 있는 캐시된 개수를 허용합니다. (응답의 approximateTotal로 표시)
+     */
+    public PageResponse<PostSummaryResponse> getPublishedPosts(Pageable pageable, String keyword, List<String> hashtags, boolean matchAllHashtags,
+                                                               Long authorId, boolean approximate) {
+        HashtagFilter hashtagFilter = HashtagFilter.of(hashtags, matchAllHashtags);
+        if (isUnfiltered(keyword, hashtagFilter, authorId)) {
+            Optional<Page<PostSummaryResponse>> hotPage = postHotFeed.findPage(pageable, () ->
+                    postCountCache.getTotal(true, null, HashtagFilter.NONE, null, false,
+                            () -> postQueryRepository.countByPublished(true, null, HashtagFilter.NONE, null)).value());
+            if (hotPage.isPresent()) {
+                return new PageResponse<>(hotPage.get());
+            }
+        }
+        AtomicBoolean approximated = new AtomicBoolean(false);
+        Page<Post> postPage = postQueryRepository.findAllByPublished(true, pageable, keyword, hashtagFilter, authorId, () -> {
+            PostCountCache.Total total = postCountCache.getTotal(true, keyword, hashtagFilter, authorId, approximate,
+                    () -> postQueryRepository.countByPublished(true, keyword, hashtagFilter, authorId));
+            approximated.set(total.approximate());
+            return total.value();
+        });
+        return new PageResponse<>(postPage.map(PostSummaryResponse::new), approximated.get());
     }
 
-    private boolean updateViewCount(Post post, Member currentUser) {
-        Long memberId = currentUser.getId();
-        if (memberId == null) return false;
-
-        LocalDateTime now = LocalDateTime.now();
-        PostView postView = postViewQueryRepository.findByMemberIdAndPostIdWithLock(memberId, post.getId()).orElse(null);
-
-        if (postView == null) {
-            PostView newView = PostView.builder()
-                    .id(new PostView.PostViewId(memberId, post.getId()))
-                    .member(memberRepository.getReferenceById(memberId))
-                    .post(postRepository.getReferenceById(post.getId()))
-                    .lastViewedAt(now)
-                    .build();
-            try {
-                // PostViewRepository는 단순 CRUD이므로 기존 인터페이스 사용 가능하지만 일관성을 위해 QueryRepository로 갈 수도 있음
-                // 여기서는 생략하고 직접 저장
-                incrementViewCount(post.getId());
-                return true;
-            } catch (DataIntegrityViolationException ignored) {}
-            return false;
-        }
+    /**
+     * 게시글 공개 상태 변경 (공개 <-> 비공개)
+     */
+    @Transactional
+    public PostResponse togglePublished(Long postId, Member member) {
+        requireAuthenticated(member);
+        Post post = postQueryRepository.findByIdWithAllRelations(postId)
+                .orElseThrow(() -> new BusinessException(ResponseCode.POST_NOT_FOUND));
+        requireOwnership(post, member, ResponseCode.NO_PERMISSION_TO_UPDATE_POST);
+        post.togglePublishedStatus();
+        eventPublisher.publishEvent(PostChangedEvent.of(PostChangedEvent.Type.PUBLISH_TOGGLED, post));
+        return new PostResponse(post, member);
+    }
 
-        if (postView.isViewCountable(now, VIEW_COUNT_INTERVAL)) {
-            postView.updateLastViewedAt(now);
-            postView.increaseViewCount();
-            incrementViewCount(post.getId());
-            return true;
-        }
-        return false;
+    /**
+     * 공개 게시글 목록 커서 페이징 조회 (무한 스크롤용)
+     * - 전체 개수를 계산하지 않고, 마지막 게시글의 정렬 키로 다음 페이지 커서를 만들어 내려줍니다.
+     */
+    public CursorResponse<PostSummaryResponse> getPublishedPostsByCursor(String sort, String cursor, int size, String keyword,
+                                                                       List<String> hashtags, boolean matchAllHashtags, Long authorId) {
+        PostFeedCursor.Sort feedSort = PostFeedCursor.Sort.from(sort);
+        PostFeedCursor after = PostFeedCursor.decode(cursor, feedSort);
+
+        Slice<Post> slice = postQueryRepository.findAllByPublishedAfter(true, feedSort, after, size, keyword,
+                HashtagFilter.of(hashtags, matchAllHashtags), authorId);
+        List<Post> posts = slice.getContent();
+        String nextCursor = posts.isEmpty() ? null : PostFeedCursor.of(feedSort, posts.get(posts.size() - 1)).encode();
+        return new CursorResponse<>(posts.stream().map(PostSummaryResponse::new).toList(), slice.hasNext(), nextCursor);
     }
 
-    private void incrementViewCount(Long postId) {
-        postQueryRepository.incrementViewCount(postId);
+    private boolean isUnfiltered(String keyword, HashtagFilter hashtagFilter, Long authorId) {
+        return (keyword == null || keyword.isBlank()) && hashtagFilter.isEmpty() && authorId == null;
     }
 
     private void requireAuthenticated(Member member) {
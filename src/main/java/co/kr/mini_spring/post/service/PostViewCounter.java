@@ -0,0 +1,106 @@
+package co.kr.mini_spring.post.service;
+
+import co.kr.mini_spring.post.domain.repository.PostBatchRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 조회수 write-behind 카운터
+ * - 동일 회원의 1시간 내 중복 조회를 메모리에서 걸러내고, 증분은 게시글별 스트라이프 카운터에 누적합니다.
+ * - 누적된 증분은 주기적으로 post.view_count에 배치로 반영합니다.
+ * - 상세 조회는 락이나 쓰기 트랜잭션 없이 "DB 조회수 + 미반영 증분"으로 응답합니다.
+ * - 중복 방지 기록은 (회원, 게시글)별로 처음 집계한 뒤 1시간이 지나면 사라지는 메모리 캐시에만 둡니다.
+ *   재시작하면 기록이 비므로, 재시작 직전 1시간 안에 조회한 회원의 재조회는 한 번 더 집계될 수 있습니다.
+ *   (고유 조회자 수는 PostUniqueViewers가 별도로 추정합니다.)
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+    private static final Duration VIEW_COUNT_INTERVAL = Duration.ofHours(1);
+
+    private final PostBatchRepository postBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final PendingCountBuffer viewDeltas = new PendingCountBuffer();
+    private final Cache<ViewerKey, Boolean> recentlyCounted;
+
+    // DB 호출 동안 보유하므로 모니터(synchronized) 대신 사용합니다. (가상 스레드가 캐리어 스레드에 고정되지 않음)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public PostViewCounter(
+            PostBatchRepository postBatchRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${post.view-count.dedup-max-size:1000000}") long dedupMaxSize) {
+        this.postBatchRepository = postBatchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.recentlyCounted = Caffeine.newBuilder()
+                .maximumSize(dedupMaxSize)
+                .expireAfterWrite(VIEW_COUNT_INTERVAL)
+                .build();
+    }
+
+    /**
+     * 조회를 기록합니다.
+     * @return 조회수 증가 대상이면 true, 중복 방지 윈도우 안의 재조회면 false
+     */
+    public boolean recordView(Long memberId, Long postId) {
+        // putIfAbsent는 키 단위로 원자적이므로 같은 회원의 동시 요청 중 하나만 집계됩니다.
+        if (recentlyCounted.asMap().putIfAbsent(new ViewerKey(memberId, postId), Boolean.TRUE) != null) {
+            return false;
+        }
+        viewDeltas.add(postId, 1);
+        return true;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증분을 반환합니다.
+     */
+    public long getPendingCount(Long postId) {
+        return viewDeltas.pending(postId);
+    }
+
+    /**
+     * 누적된 조회수 증분을 DB에 배치 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:3000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Long> deltas = viewDeltas.drain();
+            if (deltas.isEmpty()) return;
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> postBatchRepository.incrementViewCounts(deltas));
+                viewDeltas.complete(deltas);
+                log.debug("[ViewCount] flush 완료 posts={}", deltas.size());
+            } catch (RuntimeException e) {
+                viewDeltas.restore(deltas);
+                log.error("[ViewCount] flush 실패, 다음 주기에 재시도합니다. posts={}, error={}", deltas.size(), e.getMessage());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 증분을 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private record ViewerKey(Long memberId, Long postId) {
+    }
+}
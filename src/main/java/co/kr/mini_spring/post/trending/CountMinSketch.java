@@ -0,0 +1,104 @@
+package co.kr.mini_spring.post.trending;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * 실수 가중치를 누적하는 Count-Min Sketch
+ * - depth x width 고정 크기 배열만 사용하므로 해시태그 종류가 늘어나도 메모리가 일정합니다.
+ * - 추정값은 실제 누적값 이상이며(과대 추정만 발생), 모든 셀을 같은 비율로 줄이는 scale()을 지원합니다.
+ */
+final class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final double[][] cells;
+
+    CountMinSketch(int depth, int width) {
+        if (depth < 1 || width < 1) {
+            throw new IllegalArgumentException("depth/width는 1 이상이어야 합니다.");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.cells = new double[depth][width];
+    }
+
+    void add(String item, double amount) {
+        long hash = hash64(item);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int row = 0; row < depth; row++) {
+            cells[row][index(h1, h2, row)] += amount;
+        }
+    }
+
+    double estimate(String item) {
+        long hash = hash64(item);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        double min = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, cells[row][index(h1, h2, row)]);
+        }
+        return min;
+    }
+
+    void scale(double factor) {
+        for (double[] row : cells) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] *= factor;
+            }
+        }
+    }
+
+    int depth() {
+        return depth;
+    }
+
+    int width() {
+        return width;
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(depth);
+        out.writeInt(width);
+        for (double[] row : cells) {
+            for (double cell : row) {
+                out.writeDouble(cell);
+            }
+        }
+    }
+
+    /**
+     * writeTo()로 기록한 셀 값을 읽어 옵니다. 크기가 다르면 false를 반환하고 현재 값을 유지합니다.
+     */
+    boolean readFrom(DataInputStream in) throws IOException {
+        int savedDepth = in.readInt();
+        int savedWidth = in.readInt();
+        if (savedDepth != depth || savedWidth != width) {
+            return false;
+        }
+        for (double[] row : cells) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = in.readDouble();
+            }
+        }
+        return true;
+    }
+
+    // 두 해시의 선형 결합으로 행마다 독립적인 인덱스를 만듭니다. (Kirsch-Mitzenmacher)
+    private int index(int h1, int h2, int row) {
+        return Math.floorMod(h1 + row * h2, width);
+    }
+
+    // FNV-1a 64비트 해시. 체크포인트와 호환되도록 JVM과 무관하게 고정된 값을 냅니다.
+    private static long hash64(String item) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < item.length(); i++) {
+            hash ^= item.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,138 @@
+package co.kr.mini_spring.post.trending;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 지수 감쇠 점수 기준 상위 K개 해시태그
+ * - forward decay: 사용 시각 t의 가중치를 exp(λ(t - landmark))로 누적하므로, 이미 누적한 값을 시간마다 다시 줄일 필요 없이
+ *   조회 시 exp(-λ(now - landmark))만 곱하면 현재 시점 기준 감쇠 점수가 됩니다.
+ * - 사용 시각은 bucketSeconds 단위로 내림하여 같은 구간의 사용은 같은 가중치를 갖습니다.
+ * - 전체 해시태그의 점수는 Count-Min Sketch로 추정하고, 점수가 높은 K개만 최소 힙으로 후보로 유지합니다.
+ * - 가중치가 너무 커지기 전에 landmark를 앞으로 옮기고 누적값을 같은 비율로 줄입니다.
+ * - 스레드 안전하지 않으므로 호출자가 동기화합니다.
+ */
+final class DecayedTopK {
+
+    // λ(t - landmark)가 이 값을 넘으면 landmark를 옮깁니다. (exp(40) ≈ 2.4e17, double 범위 안에서 충분한 여유)
+    private static final double MAX_EXPONENT = 40;
+
+    private final double lambda;
+    private final long bucketSeconds;
+    private final int capacity;
+    private CountMinSketch sketch;
+    private final Map<String, Double> candidates = new HashMap<>();
+    private final PriorityQueue<String> minHeap;
+    private long landmark;
+
+    /**
+     * @param meanLifetimeSeconds 감쇠 시간 상수 (이 시간이 지나면 가중치가 1/e)
+     * @param landmark 기준 시각 (epoch 초)
+     */
+    DecayedTopK(long meanLifetimeSeconds, long bucketSeconds, int capacity, int sketchDepth, int sketchWidth, long landmark) {
+        this.lambda = 1.0 / meanLifetimeSeconds;
+        this.bucketSeconds = bucketSeconds;
+        this.capacity = capacity;
+        this.sketch = new CountMinSketch(sketchDepth, sketchWidth);
+        this.minHeap = new PriorityQueue<>(Comparator.comparingDouble(candidates::get));
+        this.landmark = bucket(landmark);
+    }
+
+    /**
+     * epochSecond 시각의 사용 1회를 기록합니다.
+     */
+    void record(String name, long epochSecond) {
+        long at = bucket(epochSecond);
+        if (lambda * (at - landmark) > MAX_EXPONENT) {
+            moveLandmark(at);
+        }
+        sketch.add(name, Math.exp(lambda * (at - landmark)));
+        double estimate = sketch.estimate(name);
+
+        if (candidates.containsKey(name)) {
+            minHeap.remove(name);
+            candidates.put(name, estimate);
+            minHeap.add(name);
+        } else if (candidates.size() < capacity) {
+            candidates.put(name, estimate);
+            minHeap.add(name);
+        } else if (estimate > candidates.get(minHeap.peek())) {
+            candidates.remove(minHeap.poll());
+            candidates.put(name, estimate);
+            minHeap.add(name);
+        }
+    }
+
+    /**
+     * epochSecond 시각 기준 감쇠 점수 상위 limit개를 반환합니다.
+     */
+    List<Scored> top(int limit, long epochSecond) {
+        double decay = Math.exp(-lambda * (epochSecond - landmark));
+        return candidates.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(e -> new Scored(e.getKey(), e.getValue() * decay))
+                .toList();
+    }
+
+    private void moveLandmark(long newLandmark) {
+        double factor = Math.exp(-lambda * (newLandmark - landmark));
+        sketch.scale(factor);
+        // 모든 점수를 같은 비율로 줄이므로 힙 순서는 그대로입니다.
+        candidates.replaceAll((name, score) -> score * factor);
+        landmark = newLandmark;
+    }
+
+    private long bucket(long epochSecond) {
+        return epochSecond - Math.floorMod(epochSecond, bucketSeconds);
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeLong(landmark);
+        sketch.writeTo(out);
+        out.writeInt(candidates.size());
+        for (Map.Entry<String, Double> entry : candidates.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeDouble(entry.getValue());
+        }
+    }
+
+    /**
+     * 체크포인트를 읽어 현재 상태를 대체합니다. 스케치 크기가 다르면 false를 반환하고 상태를 바꾸지 않습니다.
+     */
+    boolean readFrom(DataInputStream in) throws IOException {
+        long savedLandmark = in.readLong();
+        CountMinSketch restored = new CountMinSketch(sketch.depth(), sketch.width());
+        if (!restored.readFrom(in)) {
+            return false;
+        }
+        int size = in.readInt();
+        Map<String, Double> restoredCandidates = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            restoredCandidates.put(in.readUTF(), in.readDouble());
+        }
+
+        sketch = restored;
+        candidates.clear();
+        minHeap.clear();
+        landmark = savedLandmark;
+        restoredCandidates.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .limit(capacity)
+                .forEach(e -> {
+                    candidates.put(e.getKey(), e.getValue());
+                    minHeap.add(e.getKey());
+                });
+        return true;
+    }
+
+    record Scored(String name, double score) {
+    }
+}
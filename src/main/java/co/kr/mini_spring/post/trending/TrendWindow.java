@@ -0,0 +1,32 @@
+package co.kr.mini_spring.post.trending;
+
+import co.kr.mini_spring.global.common.exception.BusinessException;
+import co.kr.mini_spring.global.common.response.ResponseCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * 인기 해시태그 집계 구간
+ * - 구간 길이를 감쇠 시간 상수로 사용합니다. (구간 길이만큼 지난 사용은 가중치가 1/e로 줄어듭니다)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrendWindow {
+    ONE_HOUR("1h", Duration.ofHours(1)),
+    ONE_DAY("24h", Duration.ofHours(24)),
+    SEVEN_DAYS("7d", Duration.ofDays(7));
+
+    private final String key;
+    private final Duration length;
+
+    public static TrendWindow from(String key) {
+        for (TrendWindow window : values()) {
+            if (window.key.equalsIgnoreCase(key)) {
+                return window;
+            }
+        }
+        throw new BusinessException(ResponseCode.INVALID_INPUT_VALUE, "window는 1h, 24h, 7d 중 하나여야 합니다.");
+    }
+}
@@ -0,0 +1,134 @@
+package co.kr.mini_spring.post.trending;
+
+import co.kr.mini_spring.post.domain.event.PostHashtagsChangedEvent;
+import co.kr.mini_spring.post.domain.repository.HashtagTrendCheckpointRepository;
+import co.kr.mini_spring.post.dto.response.TrendingHashtagResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인기(트렌딩) 해시태그 집계기
+ * - 게시글에 새로 붙은 해시태그(PostHashtagsChangedEvent의 추가분)를 사용 1회로 보고,
+ *   구간(1h/24h/7d)마다 지수 감쇠 점수를 Count-Min Sketch + 상위 K 힙으로 메모리에 유지합니다.
+ * - 해시태그 종류와 무관하게 메모리 사용량이 고정되며, hashtag 테이블 전체 정렬 없이 조회합니다.
+ * - 상태는 주기적으로(그리고 종료 시) hashtag_trend_checkpoint에 저장하고 시작 시 복원하여, 재시작해도 구간 점수가 유지됩니다.
+ */
+@Slf4j
+@Component
+public class TrendingHashtagTracker {
+
+    private final HashtagTrendCheckpointRepository checkpointRepository;
+    private final Map<TrendWindow, DecayedTopK> windows = new EnumMap<>(TrendWindow.class);
+
+    public TrendingHashtagTracker(
+            HashtagTrendCheckpointRepository checkpointRepository,
+            @Value("${post.trending.top-k:100}") int topK,
+            @Value("${post.trending.bucket-seconds:60}") long bucketSeconds,
+            @Value("${post.trending.sketch-depth:4}") int sketchDepth,
+            @Value("${post.trending.sketch-width:2048}") int sketchWidth) {
+        this.checkpointRepository = checkpointRepository;
+        long now = Instant.now().getEpochSecond();
+        for (TrendWindow window : TrendWindow.values()) {
+            windows.put(window, new DecayedTopK(window.getLength().getSeconds(), bucketSeconds, topK, sketchDepth, sketchWidth, now));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onHashtagsChanged(PostHashtagsChangedEvent event) {
+        Set<String> added = new HashSet<>(event.currentNames());
+        added.removeAll(event.previousNames());
+        if (added.isEmpty()) return;
+
+        long now = Instant.now().getEpochSecond();
+        windows.values().forEach(window -> {
+            synchronized (window) {
+                added.forEach(name -> window.record(name, now));
+            }
+        });
+    }
+
+    /**
+     * 구간별 감쇠 점수 상위 해시태그를 반환합니다.
+     */
+    public List<TrendingHashtagResponse> getTrending(TrendWindow window, int size) {
+        DecayedTopK topK = windows.get(window);
+        List<DecayedTopK.Scored> scored;
+        synchronized (topK) {
+            scored = topK.top(size, Instant.now().getEpochSecond());
+        }
+        return scored.stream()
+                .map(s -> new TrendingHashtagResponse(s.name(), Math.round(s.score() * 100) / 100.0))
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        Map<String, byte[]> states;
+        try {
+            states = checkpointRepository.findAll();
+        } catch (RuntimeException e) {
+            log.warn("[Trending] 체크포인트를 읽지 못해 빈 상태로 시작합니다. error={}", e.getMessage());
+            return;
+        }
+        windows.forEach((window, topK) -> {
+            byte[] state = states.get(window.getKey());
+            if (state == null) return;
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(state))) {
+                boolean restored;
+                synchronized (topK) {
+                    restored = topK.readFrom(in);
+                }
+                if (!restored) {
+                    log.warn("[Trending] 스케치 크기가 달라 체크포인트를 버립니다. window={}", window.getKey());
+                }
+            } catch (IOException e) {
+                log.warn("[Trending] 체크포인트 복원 실패 window={}, error={}", window.getKey(), e.getMessage());
+            }
+        });
+        log.info("[Trending] 체크포인트 복원 완료 windows={}", states.keySet());
+    }
+
+    /**
+     * 구간별 상태를 직렬화해 저장합니다.
+     */
+    @Scheduled(initialDelayString = "${post.trending.checkpoint-interval-ms:300000}",
+            fixedDelayString = "${post.trending.checkpoint-interval-ms:300000}")
+    public void checkpoint() {
+        windows.forEach((window, topK) -> {
+            try {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (DataOutputStream out = new DataOutputStream(bytes)) {
+                    synchronized (topK) {
+                        topK.writeTo(out);
+                    }
+                }
+                checkpointRepository.save(window.getKey(), bytes.toByteArray());
+            } catch (IOException | RuntimeException e) {
+                log.error("[Trending] 체크포인트 저장 실패 window={}, error={}", window.getKey(), e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void checkpointOnShutdown() {
+        checkpoint();
+    }
+}
@@ -0,0 +1,297 @@
+package co.kr.mini_spring.post.viewers;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 고유 값 개수를 추정하는 HyperLogLog
+ * - 2^precision개의 1바이트 레지스터만 사용하므로 값이 몇 명이든 크기가 일정합니다. (표준 오차 약 1.04/√2^precision)
+ * - 두 스케치의 합집합은 레지스터별 최댓값이므로, 같은 스케치를 여러 번 합쳐도 결과가 같습니다. (인스턴스 간 병합/재반영에 안전)
+ * - 0이 아닌 레지스터가 적은 동안은 메모리에서도 (인덱스, 값) 목록만 보관하고, 2^precision / 8개를 넘으면 레지스터 배열로 바꿉니다.
+ *   조회자가 적은 게시글이 대부분이므로 스케치 대부분이 수십~수백 바이트에 머뭅니다.
+ * - 직렬화 시 0이 아닌 레지스터가 적으면 (인덱스, 값) 목록으로, 많으면 레지스터 배열 그대로 기록합니다.
+ * - 스레드 안전하지 않으므로 여러 스레드가 공유하면 호출하는 쪽에서 동기화합니다.
+ */
+final class HyperLogLog {
+
+    static final int MIN_PRECISION = 4;
+    static final int MAX_PRECISION = 16;
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final byte DENSE = 0;
+    private static final byte SPARSE = 1;
+    private static final int INITIAL_SPARSE_CAPACITY = 4;
+    // 객체 헤더와 필드, 배열 헤더를 어림한 크기 (캐시 무게 계산용)
+    private static final int OVERHEAD_BYTES = 48;
+
+    private final int precision;
+    // 밀집 레지스터 (희소 상태에서는 null)
+    private byte[] registers;
+    // 희소 상태의 0이 아닌 레지스터 (인덱스 << 8 | 값), 인덱스 오름차순 (밀집 상태에서는 null)
+    private int[] sparse;
+    private int sparseCount;
+
+    HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("precision은 " + MIN_PRECISION + "~" + MAX_PRECISION + " 사이여야 합니다.");
+        }
+        this.precision = precision;
+        this.sparse = new int[INITIAL_SPARSE_CAPACITY];
+    }
+
+    private HyperLogLog(int precision, byte[] registers, int[] sparse, int sparseCount) {
+        this.precision = precision;
+        this.registers = registers;
+        this.sparse = sparse;
+        this.sparseCount = sparseCount;
+    }
+
+    int precision() {
+        return precision;
+    }
+
+    boolean isSparse() {
+        return registers == null;
+    }
+
+    /**
+     * 메모리에서 차지하는 대략적인 바이트 수
+     */
+    int sizeInBytes() {
+        return OVERHEAD_BYTES + (registers != null ? registers.length : sparse.length * Integer.BYTES);
+    }
+
+    /**
+     * 값을 추가합니다.
+     * @return 레지스터가 바뀌었으면 true (이미 본 값이거나 추정에 영향이 없으면 false)
+     */
+    boolean offer(long value) {
+        long hash = mix64(value);
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        long remaining = hash << precision;
+        int rank = remaining == 0
+                ? Long.SIZE - precision + 1
+                : Long.numberOfLeadingZeros(remaining) + 1;
+        return update(index, rank);
+    }
+
+    /**
+     * other의 레지스터를 합칩니다. (합집합)
+     */
+    void merge(HyperLogLog other) {
+        requireSamePrecision(other);
+        if (other.registers == null) {
+            for (int i = 0; i < other.sparseCount; i++) {
+                update(other.sparse[i] >>> 8, other.sparse[i] & 0xFF);
+            }
+            return;
+        }
+        if (registers == null) toDense();
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    HyperLogLog copy() {
+        if (registers != null) {
+            return new HyperLogLog(precision, registers.clone(), null, 0);
+        }
+        return new HyperLogLog(precision, null, Arrays.copyOf(sparse, Math.max(sparseCount, INITIAL_SPARSE_CAPACITY)), sparseCount);
+    }
+
+    long estimate() {
+        return estimateUnion(List.of(this));
+    }
+
+    /**
+     * 스케치들을 합치지 않고 합집합의 고유 값 개수를 추정합니다. 정밀도가 다른 스케치는 무시합니다.
+     */
+    static long estimateUnion(List<HyperLogLog> sketches) {
+        if (sketches.isEmpty()) return 0;
+        int precision = sketches.get(0).precision;
+        int m = 1 << precision;
+        byte[] union = new byte[m];
+        for (HyperLogLog sketch : sketches) {
+            if (sketch.precision == precision) {
+                sketch.maxInto(union);
+            }
+        }
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : union) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) zeros++;
+        }
+        double estimate = alpha(m) * m * m / sum;
+        // 작은 범위에서는 빈 레지스터 비율로 추정하는 선형 계수가 더 정확합니다.
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    byte[] toBytes() {
+        int m = 1 << precision;
+        int nonZero = sparseCount;
+        if (registers != null) {
+            nonZero = 0;
+            for (byte register : registers) {
+                if (register != 0) nonZero++;
+            }
+        }
+        // 희소 형식은 레지스터 하나에 3바이트(인덱스 2 + 값 1)이므로 그보다 작을 때만 사용합니다.
+        if (nonZero * 3 < m) {
+            ByteBuffer buffer = ByteBuffer.allocate(3 + 4 + nonZero * 3);
+            buffer.put(FORMAT_VERSION).put((byte) precision).put(SPARSE).putInt(nonZero);
+            if (registers == null) {
+                for (int i = 0; i < sparseCount; i++) {
+                    buffer.putShort((short) (sparse[i] >>> 8)).put((byte) (sparse[i] & 0xFF));
+                }
+            } else {
+                for (int i = 0; i < registers.length; i++) {
+                    if (registers[i] != 0) {
+                        buffer.putShort((short) i).put(registers[i]);
+                    }
+                }
+            }
+            return buffer.array();
+        }
+        byte[] dense = new byte[m];
+        maxInto(dense);
+        ByteBuffer buffer = ByteBuffer.allocate(3 + m);
+        buffer.put(FORMAT_VERSION).put((byte) precision).put(DENSE).put(dense);
+        return buffer.array();
+    }
+
+    static HyperLogLog fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 HyperLogLog 형식입니다. version=" + version);
+        }
+        HyperLogLog sketch = new HyperLogLog(buffer.get());
+        byte encoding = buffer.get();
+        if (encoding == DENSE) {
+            sketch.toDense();
+            buffer.get(sketch.registers);
+        } else {
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                int index = Short.toUnsignedInt(buffer.getShort());
+                int rank = buffer.get();
+                if (rank > 0) sketch.update(index, rank);
+            }
+        }
+        return sketch;
+    }
+
+    private boolean update(int index, int rank) {
+        if (registers != null) {
+            if (rank > registers[index]) {
+                registers[index] = (byte) rank;
+                return true;
+            }
+            return false;
+        }
+
+        int position = findSparse(index);
+        if (position >= 0) {
+            if (rank > (sparse[position] & 0xFF)) {
+                sparse[position] = index << 8 | rank;
+                return true;
+            }
+            return false;
+        }
+        int limit = sparseLimit();
+        if (sparseCount >= limit) {
+            toDense();
+            registers[index] = (byte) rank;
+            return true;
+        }
+        if (sparseCount == sparse.length) {
+            sparse = Arrays.copyOf(sparse, Math.min(sparse.length * 2, limit));
+        }
+        int insertAt = -position - 1;
+        System.arraycopy(sparse, insertAt, sparse, insertAt + 1, sparseCount - insertAt);
+        sparse[insertAt] = index << 8 | rank;
+        sparseCount++;
+        return true;
+    }
+
+    private int findSparse(int index) {
+        int low = 0;
+        int high = sparseCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midIndex = sparse[mid] >>> 8;
+            if (midIndex < index) {
+                low = mid + 1;
+            } else if (midIndex > index) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    // 희소 목록(항목당 4바이트)이 레지스터 배열의 절반을 넘기 전까지만 희소 상태로 둡니다.
+    private int sparseLimit() {
+        return Math.max(1, (1 << precision) / 8);
+    }
+
+    private void toDense() {
+        byte[] dense = new byte[1 << precision];
+        maxInto(dense);
+        registers = dense;
+        sparse = null;
+        sparseCount = 0;
+    }
+
+    private void maxInto(byte[] target) {
+        if (registers != null) {
+            for (int i = 0; i < registers.length; i++) {
+                if (registers[i] > target[i]) {
+                    target[i] = registers[i];
+                }
+            }
+            return;
+        }
+        for (int i = 0; i < sparseCount; i++) {
+            int index = sparse[i] >>> 8;
+            byte rank = (byte) (sparse[i] & 0xFF);
+            if (rank > target[index]) {
+                target[index] = rank;
+            }
+        }
+    }
+
+    private void requireSamePrecision(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("정밀도가 다른 스케치는 합칠 수 없습니다. " + precision + " != " + other.precision);
+        }
+    }
+
+    private static double alpha(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+
+    // MurmurHash3 fmix64. 회원 ID처럼 연속된 값도 비트가 고르게 퍼지도록 섞습니다.
+    private static long mix64(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53b49ebL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
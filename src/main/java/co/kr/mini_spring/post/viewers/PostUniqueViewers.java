@@ -0,0 +1,296 @@
+package co.kr.mini_spring.post.viewers;
+
+import co.kr.mini_spring.post.domain.repository.PostViewerSketchRepository;
+import co.kr.mini_spring.post.domain.repository.PostViewerSketchRepository.SketchKey;
+import co.kr.mini_spring.post.domain.repository.PostViewerSketchRepository.SketchRow;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 고유 조회자 수 추정기
+ * - 게시글/일자별 HyperLogLog 스케치에 조회한 회원 ID를 더하고, 오늘/최근 7일 고유 조회자 수를 추정합니다.
+ *   회원 수와 무관하게 스케치 하나가 최대 2^precision 바이트이므로, (회원, 게시글)마다 행을 두지 않습니다. (조회자가 적으면 희소 형식으로 더 작습니다)
+ * - 메모리 스케치는 post.unique-viewers.flush-interval-ms마다 post_viewer_sketch의 기존 값과 합쳐 저장합니다.
+ *   합집합은 레지스터별 최댓값이라 같은 스케치를 여러 번 반영해도 결과가 같으므로, 실패 시 다음 주기에 그대로 다시 반영합니다.
+ * - 조회는 "DB 스케치(짧은 TTL 캐시) ∪ 이 인스턴스의 메모리 스케치"로 추정하므로, 다른 인스턴스의 조회자는 반영/캐시 주기만큼 늦게 보입니다.
+ * - DB 스케치 캐시는 스케치 크기 합(post.unique-viewers.cache-max-bytes)으로 제한합니다.
+ *   메모리 스케치가 post.unique-viewers.max-live-sketches개를 넘으면 flush 직후 이미 반영된 스케치를 버리고,
+ *   해당 게시글의 DB 스케치 캐시도 비워 다음 조회에서 방금 반영한 값을 읽게 합니다.
+ */
+@Slf4j
+@Component
+public class PostUniqueViewers {
+
+    static final int WEEK_DAYS = 7;
+
+    private final PostViewerSketchRepository postViewerSketchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int precision;
+    private final int maxLiveSketches;
+
+    private final ConcurrentHashMap<SketchKey, HyperLogLog> sketches = new ConcurrentHashMap<>();
+    private final Set<SketchKey> dirty = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // 게시글별 최근 7일 DB 스케치. 조회 때마다 post_viewer_sketch를 읽지 않도록 짧게 보관합니다.
+    private final Cache<Long, Map<LocalDate, HyperLogLog>> persisted;
+
+    public PostUniqueViewers(
+            PostViewerSketchRepository postViewerSketchRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${post.unique-viewers.precision:11}") int precision,
+            @Value("${post.unique-viewers.cache-ttl-seconds:60}") long cacheTtlSeconds,
+            @Value("${post.unique-viewers.cache-max-bytes:16777216}") long cacheMaxBytes,
+            @Value("${post.unique-viewers.max-live-sketches:100000}") int maxLiveSketches) {
+        this.postViewerSketchRepository = postViewerSketchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.precision = precision;
+        this.maxLiveSketches = maxLiveSketches;
+        new HyperLogLog(precision); // 설정값 검증
+        this.persisted = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxBytes)
+                .weigher((Long postId, Map<LocalDate, HyperLogLog> stored) ->
+                        stored.values().stream().mapToInt(HyperLogLog::sizeInBytes).sum())
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, persisted, "postViewerSketch");
+    }
+
+    /**
+     * 회원의 게시글 조회를 오늘 스케치에 더합니다. (같은 회원의 재조회는 추정값에 영향이 없습니다)
+     */
+    public void record(Long postId, Long memberId) {
+        SketchKey key = new SketchKey(postId, LocalDate.now());
+        while (true) {
+            HyperLogLog sketch = sketches.computeIfAbsent(key, k -> new HyperLogLog(precision));
+            synchronized (sketch) {
+                // 잠금을 얻기 전에 반영 완료로 제거된 스케치면 새 스케치에 다시 더합니다.
+                if (sketches.get(key) != sketch) continue;
+                if (sketch.offer(memberId)) {
+                    dirty.add(key);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 오늘과 최근 7일(오늘 포함)의 고유 조회자 수를 추정합니다.
+     */
+    public UniqueViewers get(Long postId) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(WEEK_DAYS - 1);
+        Map<LocalDate, HyperLogLog> stored = persisted.get(postId, id -> load(id, from, today));
+
+        List<HyperLogLog> todaySketches = new ArrayList<>(2);
+        List<HyperLogLog> weekSketches = new ArrayList<>(WEEK_DAYS * 2);
+        for (LocalDate day = from; !day.isAfter(today); day = day.plusDays(1)) {
+            List<HyperLogLog> target = day.equals(today) ? todaySketches : null;
+            addIfPresent(stored.get(day), weekSketches, target);
+            addIfPresent(liveCopy(new SketchKey(postId, day)), weekSketches, target);
+        }
+        return new UniqueViewers(HyperLogLog.estimateUnion(todaySketches), HyperLogLog.estimateUnion(weekSketches));
+    }
+
+    /**
+     * from ~ to(포함) 기간의 일별 고유 조회자 수와 기간 전체 고유 조회자 수를 추정합니다. (관리자 조회용, 캐시 없이 DB를 읽습니다)
+     */
+    public ViewerSeries getSeries(Long postId, LocalDate from, LocalDate to) {
+        Map<LocalDate, HyperLogLog> stored = load(postId, from, to);
+        Map<LocalDate, Long> daily = new LinkedHashMap<>();
+        List<HyperLogLog> all = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            List<HyperLogLog> daySketches = new ArrayList<>(2);
+            addIfPresent(stored.get(day), all, daySketches);
+            addIfPresent(liveCopy(new SketchKey(postId, day)), all, daySketches);
+            daily.put(day, HyperLogLog.estimateUnion(daySketches));
+        }
+        return new ViewerSeries(HyperLogLog.estimateUnion(all), daily);
+    }
+
+    /**
+     * 바뀐 메모리 스케치를 DB 스케치와 합쳐 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${post.unique-viewers.flush-interval-ms:10000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<SketchKey> keys = new ArrayList<>(dirty);
+            dirty.removeAll(keys);
+            if (!keys.isEmpty()) {
+                keys.sort(Comparator.comparing(SketchKey::postId).thenComparing(SketchKey::day));
+                Map<SketchKey, HyperLogLog> copies = new HashMap<>();
+                for (SketchKey key : keys) {
+                    HyperLogLog sketch = sketches.get(key);
+                    synchronized (sketch) {
+                        copies.put(key, sketch.copy());
+                    }
+                }
+
+                try {
+                    upsertMerged(keys, copies);
+                    log.debug("[UniqueViewers] flush 완료 sketches={}", keys.size());
+                } catch (DataIntegrityViolationException e) {
+                    // 배치 전체가 롤백되었으므로 게시글별로 다시 반영하여 실패한 게시글의 스케치만 버립니다.
+                    log.warn("[UniqueViewers] 배치 flush 실패(데이터 무결성), 게시글별로 재시도합니다. sketches={}, error={}", keys.size(), e.getMessage());
+                    flushEach(keys, copies);
+                } catch (RuntimeException e) {
+                    dirty.addAll(keys);
+                    log.error("[UniqueViewers] flush 실패, 다음 주기에 재시도합니다. sketches={}, error={}", keys.size(), e.getMessage());
+                }
+            }
+
+            evictFlushed();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 게시글별로 트랜잭션을 나눠 스케치를 반영합니다.
+     * - 재시도해도 성공할 수 없는(삭제된 게시글 등 데이터 무결성 위반) 게시글의 스케치만 버리고, 그 밖의 실패는 다음 주기에 재시도합니다.
+     */
+    private void flushEach(List<SketchKey> keys, Map<SketchKey, HyperLogLog> copies) {
+        Map<Long, List<SketchKey>> keysByPost = new LinkedHashMap<>();
+        keys.forEach(key -> keysByPost.computeIfAbsent(key.postId(), id -> new ArrayList<>()).add(key));
+        keysByPost.forEach((postId, postKeys) -> {
+            try {
+                upsertMerged(postKeys, copies);
+            } catch (DataIntegrityViolationException e) {
+                log.error("[UniqueViewers] flush 실패(데이터 무결성), 스케치를 폐기합니다. postId={}, error={}", postId, e.getMessage());
+            } catch (RuntimeException e) {
+                dirty.addAll(postKeys);
+                log.error("[UniqueViewers] flush 실패, 다음 주기에 재시도합니다. postId={}, error={}", postId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 한 트랜잭션 안에서 DB 스케치를 잠그고 읽어 메모리 스케치와 합친 뒤 저장합니다.
+     */
+    private void upsertMerged(List<SketchKey> keys, Map<SketchKey, HyperLogLog> copies) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<SketchKey, byte[]> stored = postViewerSketchRepository.findForUpdate(keys);
+            List<SketchRow> rows = new ArrayList<>(keys.size());
+            for (SketchKey key : keys) {
+                // 배치가 롤백된 뒤 다시 반영할 때 이전 시도에서 합친 값이 섞이지 않도록 사본에 합칩니다.
+                HyperLogLog merged = copies.get(key).copy();
+                mergeStored(merged, stored.get(key));
+                rows.add(new SketchRow(key.postId(), key.day(), merged.toBytes()));
+            }
+            postViewerSketchRepository.upsert(rows);
+        });
+    }
+
+    /**
+     * 종료 시 남은 스케치를 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Map<LocalDate, HyperLogLog> load(Long postId, LocalDate from, LocalDate to) {
+        Map<LocalDate, HyperLogLog> loaded = new HashMap<>();
+        postViewerSketchRepository.findByPostId(postId, from, to).forEach((day, bytes) -> {
+            HyperLogLog sketch = HyperLogLog.fromBytes(bytes);
+            if (sketch.precision() == precision) {
+                loaded.put(day, sketch);
+            }
+        });
+        return loaded;
+    }
+
+    private void mergeStored(HyperLogLog target, byte[] stored) {
+        if (stored == null) return;
+        HyperLogLog previous = HyperLogLog.fromBytes(stored);
+        if (previous.precision() != precision) {
+            // precision 설정이 바뀌기 전의 스케치는 합칠 수 없으므로 새 스케치로 덮어씁니다.
+            log.warn("[UniqueViewers] 정밀도가 다른 스케치를 덮어씁니다. stored={}, current={}", previous.precision(), precision);
+            return;
+        }
+        target.merge(previous);
+    }
+
+    /**
+     * 반영 완료된 메모리 스케치를 제거합니다.
+     * - 어제까지는 자정 직후 늦게 도착한 조회가 있을 수 있으므로 남기고, 그 이전의 스케치만 제거합니다.
+     * - 메모리 스케치가 max-live-sketches개를 넘으면 날짜와 관계없이 반영 완료된 스케치를 모두 제거합니다.
+     *   다음 조회는 새 스케치에 쌓이고, flush 시 DB 스케치와 합쳐지므로 잃는 조회자는 없습니다.
+     */
+    private void evictFlushed() {
+        boolean overCapacity = sketches.size() > maxLiveSketches;
+        LocalDate threshold = LocalDate.now().minusDays(1);
+        int evicted = 0;
+        for (Map.Entry<SketchKey, HyperLogLog> entry : sketches.entrySet()) {
+            SketchKey key = entry.getKey();
+            if (!overCapacity && !key.day().isBefore(threshold)) continue;
+            HyperLogLog sketch = entry.getValue();
+            // record()와 같은 잠금 안에서 미반영 여부를 확인하여, 제거 직전에 더해진 조회를 버리지 않습니다.
+            synchronized (sketch) {
+                if (dirty.contains(key) || !sketches.remove(key, sketch)) continue;
+            }
+            if (overCapacity) {
+                persisted.invalidate(key.postId());
+            }
+            evicted++;
+        }
+        if (overCapacity) {
+            log.info("[UniqueViewers] 메모리 스케치가 상한을 넘어 반영된 스케치를 제거했습니다. evicted={}, remaining={}", evicted, sketches.size());
+        }
+    }
+
+    // 메모리 스케치는 record()가 잠금 안에서 바꾸므로 같은 잠금으로 복사해 읽습니다. (희소 상태는 갱신 중 배열이 바뀔 수 있습니다)
+    private HyperLogLog liveCopy(SketchKey key) {
+        HyperLogLog sketch = sketches.get(key);
+        if (sketch == null) return null;
+        synchronized (sketch) {
+            return sketch.copy();
+        }
+    }
+
+    private static void addIfPresent(HyperLogLog sketch, List<HyperLogLog> all, List<HyperLogLog> target) {
+        if (sketch == null) return;
+        all.add(sketch);
+        if (target != null) {
+            target.add(sketch);
+        }
+    }
+
+    /**
+     * @param today 오늘 고유 조회자 수
+     * @param week  최근 7일(오늘 포함) 고유 조회자 수
+     */
+    public record UniqueViewers(long today, long week) {
+    }
+
+    /**
+     * @param total 기간 전체 고유 조회자 수 (일별 값의 합이 아니라 합집합)
+     * @param daily 일자별 고유 조회자 수 (일자순)
+     */
+    public record ViewerSeries(long total, Map<LocalDate, Long> daily) {
+    }
+}
@@ -0,0 +1,37 @@
+package co.kr.mini_spring.post.viewers;
+
+import co.kr.mini_spring.global.retention.RetentionJob;
+import co.kr.mini_spring.post.domain.repository.PostViewerSketchRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * post_viewer_sketch 보존 기간 정리
+ * - retention.post-viewer-sketch.retain-days일보다 오래된 일자 스케치를 삭제합니다.
+ *   최근 7일 고유 조회자 수 추정에 필요한 기간보다 짧게 설정해도 7일은 보관합니다.
+ */
+@Component
+public class PostViewerSketchRetentionJob implements RetentionJob {
+
+    private final PostViewerSketchRepository postViewerSketchRepository;
+    private final long retainDays;
+
+    public PostViewerSketchRetentionJob(
+            PostViewerSketchRepository postViewerSketchRepository,
+            @Value("${retention.post-viewer-sketch.retain-days:90}") long retainDays) {
+        this.postViewerSketchRepository = postViewerSketchRepository;
+        this.retainDays = Math.max(retainDays, PostUniqueViewers.WEEK_DAYS);
+    }
+
+    @Override
+    public String name() {
+        return "post_viewer_sketch";
+    }
+
+    @Override
+    public int purgeChunk(LocalDateTime now, int limit) {
+        return postViewerSketchRepository.deleteBefore(now.toLocalDate().minusDays(retainDays - 1), limit);
+    }
+}
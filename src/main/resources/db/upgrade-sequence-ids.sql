@@ -0,0 +1,140 @@
+-- schema.sql 이전 버전(AUTO_INCREMENT ID, refresh_token.token, post_view)으로 만든 DB를 현재 schema.sql 구조로 옮기는 스크립트
+-- - prod는 ddl-auto: validate라 스키마를 바꾸지 않으므로, 새 버전을 배포하기 전에 한 번 실행합니다.
+-- - 시퀀스는 START WITH 1로 만들고, 애플리케이션 시작 시 SequenceAligner가 기존 MAX(id) + 51 뒤로 옮깁니다.
+-- - 발급된 리프레시 토큰은 원문의 SHA-256 다이제스트로 옮기므로 기존 로그인 세션이 그대로 유지됩니다.
+
+-- 1. ID 시퀀스 (Hibernate pooled 옵티마이저: INCREMENT BY는 엔티티의 allocationSize와 같아야 합니다)
+CREATE SEQUENCE IF NOT EXISTS post_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS comment_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS image_file_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS image_variant_seq START WITH 1 INCREMENT BY 50;
+
+-- 2. 이전 schema.sql에 없어 ddl-auto: update로만 만들어지던 테이블/컬럼 (이미 있으면 건너뜁니다)
+CREATE TABLE IF NOT EXISTS image_file
+(
+    id          BIGINT PRIMARY KEY COMMENT '이미지 고유 ID (image_file_seq)',
+    origin_name VARCHAR(255) NOT NULL COMMENT '원본 파일명',
+    stored_name VARCHAR(255) NOT NULL COMMENT '서버 저장 파일명',
+    file_path   VARCHAR(255) NOT NULL COMMENT '저장 경로 (URL 접두어)',
+    file_size   BIGINT       NOT NULL COMMENT '파일 크기 (bytes)',
+    extension   VARCHAR(10)  NOT NULL COMMENT '확장자',
+    created_at  DATETIME(6)  NOT NULL COMMENT '업로드 일시',
+
+    UNIQUE KEY uk_image_file_stored_name (stored_name)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci COMMENT ='업로드 이미지 원본';
+
+ALTER TABLE member
+    ADD COLUMN IF NOT EXISTS profile_image_id BIGINT NULL UNIQUE COMMENT '프로필 이미지 ID' AFTER profile_image_url;
+ALTER TABLE post
+    ADD COLUMN IF NOT EXISTS deleted_at DATETIME(6) NULL COMMENT '삭제 일시 (소프트 삭제)' AFTER updated_at,
+    ADD INDEX IF NOT EXISTS idx_deleted_at (deleted_at) COMMENT '삭제된 게시글 정리용';
+ALTER TABLE comment
+    ADD COLUMN IF NOT EXISTS deleted_at DATETIME(6) NULL COMMENT '삭제 일시 (소프트 삭제)' AFTER updated_at,
+    ADD INDEX IF NOT EXISTS idx_deleted_at (deleted_at) COMMENT '삭제된 댓글 정리용';
+
+-- 3. 애플리케이션이 ID를 정하는 테이블의 AUTO_INCREMENT 제거
+-- 다른 테이블이 참조하는 컬럼이라 외래 키 검사를 이 구간에서만 끕니다. (컬럼 타입은 바꾸지 않습니다)
+SET FOREIGN_KEY_CHECKS = 0;
+ALTER TABLE post
+    MODIFY id BIGINT NOT NULL COMMENT '게시글 고유 ID (post_seq)';
+ALTER TABLE comment
+    MODIFY id BIGINT NOT NULL COMMENT '댓글 고유 ID (comment_seq)';
+ALTER TABLE image_file
+    MODIFY id BIGINT NOT NULL COMMENT '이미지 고유 ID (image_file_seq)';
+ALTER TABLE refresh_token
+    MODIFY id BIGINT NOT NULL COMMENT '리프레시 토큰 고유 ID (애플리케이션에서 만드는 시간순 ID)';
+SET FOREIGN_KEY_CHECKS = 1;
+
+-- 4. refresh_token.token -> token_hash (원문 대신 SHA-256 다이제스트 저장)
+ALTER TABLE refresh_token
+    ADD COLUMN token_hash BINARY(32) NULL COMMENT '리프레시 토큰 SHA-256 다이제스트 (원문은 저장하지 않음)' AFTER member_id;
+UPDATE refresh_token
+SET token_hash = UNHEX(SHA2(token, 256));
+ALTER TABLE refresh_token
+    MODIFY token_hash BINARY(32) NOT NULL COMMENT '리프레시 토큰 SHA-256 다이제스트 (원문은 저장하지 않음)',
+    DROP INDEX uk_token,
+    DROP COLUMN token,
+    ADD UNIQUE KEY uk_token_hash (token_hash) COMMENT '토큰 조회/교체(compare-and-swap)용';
+
+-- 보존 기간 정리 기준인 폐기 일시. 이전에 폐기된 행은 폐기 시각을 알 수 없으므로 지금 폐기된 것으로 보고 보존 기간만큼 남깁니다.
+ALTER TABLE refresh_token
+    ADD COLUMN IF NOT EXISTS revoked_at TIMESTAMP(3) NULL COMMENT '폐기 일시 (보존 기간 정리 기준, 재발급 시 비움)' AFTER is_revoked,
+    ADD INDEX IF NOT EXISTS idx_revoked_at (revoked_at) COMMENT '폐기된 토큰 정리용';
+UPDATE refresh_token
+SET revoked_at = CURRENT_TIMESTAMP(3)
+WHERE is_revoked = TRUE
+  AND revoked_at IS NULL;
+
+-- 5. 회원 인증 버전
+ALTER TABLE member
+    ADD COLUMN IF NOT EXISTS auth_version INT DEFAULT 0 NOT NULL COMMENT '인증 버전 (상태/권한 변경 시 증가)' AFTER status;
+
+-- 6. post_view -> post_viewer_sketch (회원별 조회 기록 대신 일자별 고유 조회자 스케치)
+DROP TABLE IF EXISTS post_view;
+
+CREATE TABLE IF NOT EXISTS post_viewer_sketch
+(
+    post_id BIGINT NOT NULL COMMENT '게시글 ID',
+    day     DATE   NOT NULL COMMENT '조회 일자',
+    sketch  BLOB   NOT NULL COMMENT '고유 조회자 HyperLogLog 스케치 (희소/밀집 직렬화)',
+
+    PRIMARY KEY (post_id, day) COMMENT '게시글별 일자 스케치',
+    INDEX idx_day (day) COMMENT '오래된 스케치 정리용',
+
+    CONSTRAINT fk_post_viewer_sketch_post
+        FOREIGN KEY (post_id) REFERENCES post (id) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci COMMENT ='게시글 일자별 고유 조회자 스케치';
+
+-- 7. 새 테이블
+CREATE TABLE IF NOT EXISTS hashtag_trend_checkpoint
+(
+    window_key VARCHAR(10) PRIMARY KEY COMMENT '집계 구간 (1h, 24h, 7d)',
+    state      LONGBLOB     NOT NULL COMMENT '직렬화한 감쇠 점수 스케치/상위 K 상태',
+    saved_at   TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3) COMMENT '저장 일시'
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci COMMENT ='인기 해시태그 집계 체크포인트';
+
+CREATE TABLE IF NOT EXISTS image_variant
+(
+    id            BIGINT PRIMARY KEY COMMENT '축소본 고유 ID (image_variant_seq)',
+    image_file_id BIGINT       NOT NULL COMMENT '원본 이미지 ID',
+    size          INT          NOT NULL COMMENT '요청 크기 (긴 변 최대 픽셀)',
+    stored_name   VARCHAR(255) NOT NULL COMMENT '저장 파일명 (원본과 같은 디렉터리)',
+    width         INT          NOT NULL COMMENT '가로 픽셀',
+    height        INT          NOT NULL COMMENT '세로 픽셀',
+    file_size     BIGINT       NOT NULL COMMENT '파일 크기 (bytes)',
+    created_at    TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) COMMENT '생성 일시',
+
+    UNIQUE KEY uk_image_variant_size (image_file_id, size) COMMENT '원본별 크기 중복 방지',
+    UNIQUE KEY uk_image_variant_stored_name (stored_name),
+
+    CONSTRAINT fk_image_variant_image_file
+        FOREIGN KEY (image_file_id) REFERENCES image_file (id) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci COMMENT ='업로드 이미지 축소본';
+
+CREATE TABLE IF NOT EXISTS site_stats
+(
+    stat_key   VARCHAR(50) PRIMARY KEY COMMENT '통계 항목 (total_members, total_posts 등)',
+    value      BIGINT       NOT NULL DEFAULT 0 COMMENT '누적 값',
+    updated_at TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3) COMMENT '수정 일시'
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci COMMENT ='관리자 대시보드 누적 통계';
+
+CREATE TABLE IF NOT EXISTS site_stats_daily
+(
+    stat_date DATE        NOT NULL COMMENT '집계 일자',
+    stat_key  VARCHAR(50) NOT NULL COMMENT '통계 항목 (signups, posts, comments, likes)',
+    value     BIGINT      NOT NULL DEFAULT 0 COMMENT '그날 생성 건수',
+
+    PRIMARY KEY (stat_date, stat_key)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci COMMENT ='관리자 대시보드 일별 통계';
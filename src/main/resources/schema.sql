@@ -1,3 +1,18 @@
+CREATE TABLE image_file
+(
+    id          BIGINT PRIMARY KEY COMMENT '이미지 고유 ID (image_file_seq)',
+    origin_name VARCHAR(255) NOT NULL COMMENT '원본 파일명',
+    stored_name VARCHAR(255) NOT NULL COMMENT '서버 저장 파일명',
+    file_path   VARCHAR(255) NOT NULL COMMENT '저장 경로 (URL 접두어)',
+    file_size   BIGINT       NOT NULL COMMENT '파일 크기 (bytes)',
+    extension   VARCHAR(10)  NOT NULL COMMENT '확장자',
+    created_at  DATETIME(6)  NOT NULL COMMENT '업로드 일시',
+
+    UNIQUE KEY uk_image_file_stored_name (stored_name)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci COMMENT ='업로드 이미지 원본';
+
 CREATE TABLE member
 (
     id                BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '회원 고유 ID',
@@ -8,22 +23,35 @@ CREATE TABLE member
     oauth_provider    ENUM ('LOCAL', 'GOOGLE', 'KAKAO', 'NAVER') DEFAULT 'LOCAL' NOT NULL COMMENT '로그인 제공자',
     oauth_id          VARCHAR(255)                                               NULL UNIQUE COMMENT '소셜 서비스의 고유 유저 ID',
     profile_image_url VARCHAR(500)                                               NULL COMMENT '프로필 이미지 URL',
+    profile_image_id  BIGINT                                                     NULL UNIQUE COMMENT '프로필 이미지 ID',
     role              ENUM ('USER', 'ADMIN')                     DEFAULT 'USER' COMMENT '회원 역할',
     status            ENUM ('ACTIVE', 'SUSPENDED', 'WITHDRAWN')  DEFAULT 'ACTIVE' COMMENT '계정 상태',
+    auth_version      INT                                        DEFAULT 0 NOT NULL COMMENT '인증 버전 (상태/권한 변경 시 증가)',
     created_at        TIMESTAMP(3)                               DEFAULT CURRENT_TIMESTAMP(3) COMMENT '가입 일시',
     updated_at        TIMESTAMP(3)                               DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3) COMMENT '정보 수정 일시',
 
     -- 인덱스 추가
     INDEX idx_oauth_lookup (oauth_provider, oauth_id) COMMENT '소셜 유저 로그인 조회용',
     INDEX idx_status_created (status, created_at),
-    INDEX idx_nickname (nickname)
+    INDEX idx_nickname (nickname),
+
+    CONSTRAINT fk_member_profile_image
+        FOREIGN KEY (profile_image_id) REFERENCES image_file (id)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4
   COLLATE = utf8mb4_unicode_ci COMMENT ='회원 정보';
 
+-- ID 시퀀스 (Hibernate pooled 옵티마이저: INCREMENT BY는 엔티티의 allocationSize와 같아야 합니다)
+-- 애플리케이션이 시퀀스에서 ID를 50개씩 미리 받아 쓰므로 INSERT 전에 ID가 정해지고, 여러 건 저장 시 JDBC 배치로 묶입니다.
+-- 기존 AUTO_INCREMENT 데이터가 있는 DB는 애플리케이션 시작 시 SequenceAligner가 MAX(id) + 51로 옮깁니다.
+CREATE SEQUENCE post_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE comment_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE image_file_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE image_variant_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE post
 (
-    id            BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '게시글 고유 ID',
+    id            BIGINT PRIMARY KEY COMMENT '게시글 고유 ID (post_seq)',
     title         VARCHAR(200) NOT NULL COMMENT '게시글 제목',
     content       LONGTEXT     NOT NULL COMMENT '게시글 본문',
     view_count    INT          DEFAULT 0 COMMENT '조회수',
@@ -33,6 +61,7 @@ CREATE TABLE post
     member_id     BIGINT       NULL COMMENT '작성자 ID (탈퇴 시 NULL)', -- NULL 허용으로 수정
     created_at    TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) COMMENT '생성 일시',
     updated_at    TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3) COMMENT '수정 일시',
+    deleted_at    DATETIME(6)  NULL COMMENT '삭제 일시 (소프트 삭제)',
 
     CONSTRAINT fk_post_member
         FOREIGN KEY (member_id) REFERENCES member (id)
@@ -41,6 +70,7 @@ CREATE TABLE post
     INDEX idx_member_published (member_id, is_published) COMMENT '사용자의 게시글 관리용',
     INDEX idx_published_created (is_published, created_at DESC) COMMENT '메인 피드 조회용',
     INDEX idx_published_like (is_published, like_count DESC, created_at DESC) COMMENT '인기글 조회용',
+    INDEX idx_deleted_at (deleted_at) COMMENT '삭제된 게시글 정리용',
     FULLTEXT INDEX idx_title_content (title, content) COMMENT '검색용'
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4
@@ -50,7 +80,7 @@ CREATE TABLE post
 
 CREATE TABLE comment
 (
-    id                BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '댓글 고유 ID',
+    id                BIGINT PRIMARY KEY COMMENT '댓글 고유 ID (comment_seq)',
     content           TEXT   NOT NULL COMMENT '댓글 내용',
     member_id         BIGINT NULL COMMENT '작성자 ID (탈퇴 시 NULL)', -- NULL 허용으로 수정
     post_id           BIGINT NOT NULL COMMENT '게시글 ID',
@@ -59,10 +89,12 @@ CREATE TABLE comment
     is_deleted        BOOLEAN      DEFAULT FALSE COMMENT '삭제 여부',
     created_at        TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) COMMENT '생성 일시',
     updated_at        TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3) COMMENT '수정 일시',
+    deleted_at        DATETIME(6)  NULL COMMENT '삭제 일시 (소프트 삭제)',
 
     INDEX idx_post_created (post_id, created_at DESC) COMMENT '게시글별 최신 댓글용',
     INDEX idx_member_created (member_id, created_at DESC) COMMENT '회원별 댓글용',
     INDEX idx_parent_depth (parent_comment_id, depth) COMMENT '대댓글 계층 조회용',
+    INDEX idx_deleted_at (deleted_at) COMMENT '삭제된 댓글 정리용',
 
     CONSTRAINT fk_comment_member
         FOREIGN KEY (member_id) REFERENCES member (id)
@@ -113,6 +145,15 @@ CREATE TABLE post_hashtag
   DEFAULT CHARSET = utf8mb4
   COLLATE = utf8mb4_unicode_ci COMMENT ='게시글-해시태그 매핑';
 
+CREATE TABLE hashtag_trend_checkpoint
+(
+    window_key VARCHAR(10) PRIMARY KEY COMMENT '집계 구간 (1h, 24h, 7d)',
+    state      LONGBLOB     NOT NULL COMMENT '직렬화한 감쇠 점수 스케치/상위 K 상태',
+    saved_at   TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3) COMMENT '저장 일시'
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci COMMENT ='인기 해시태그 집계 체크포인트';
+
 CREATE TABLE post_like
 (
     member_id  BIGINT NOT NULL COMMENT '회원 ID',
@@ -131,39 +172,35 @@ CREATE TABLE post_like
   COLLATE = utf8mb4_unicode_ci COMMENT ='게시글 좋아요';
 
 
-CREATE TABLE post_view
+CREATE TABLE post_viewer_sketch
 (
-    member_id      BIGINT       NOT NULL COMMENT '회원 ID',
-    post_id        BIGINT       NOT NULL COMMENT '게시글 ID',
-    last_viewed_at TIMESTAMP(3) NOT NULL COMMENT '마지막 조회 일시',
+    post_id BIGINT NOT NULL COMMENT '게시글 ID',
+    day     DATE   NOT NULL COMMENT '조회 일자',
+    sketch  BLOB   NOT NULL COMMENT '고유 조회자 HyperLogLog 스케치 (희소/밀집 직렬화)',
 
-    view_count     INT DEFAULT 1 COMMENT '해당 회원의 누적 조회 횟수',
-
-    PRIMARY KEY (member_id, post_id) COMMENT '복합 기본키',
-    INDEX idx_post_id (post_id) COMMENT '게시글 조회 기록용',
-    INDEX idx_last_viewed_at (last_viewed_at) COMMENT '오래된 기록 정리용',
+    PRIMARY KEY (post_id, day) COMMENT '게시글별 일자 스케치',
+    INDEX idx_day (day) COMMENT '오래된 스케치 정리용',
 
-
-    CONSTRAINT fk_post_view_member
-        FOREIGN KEY (member_id) REFERENCES member (id) ON DELETE CASCADE,
-    CONSTRAINT fk_post_view_post
+    CONSTRAINT fk_post_viewer_sketch_post
         FOREIGN KEY (post_id) REFERENCES post (id) ON DELETE CASCADE
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4
-  COLLATE = utf8mb4_unicode_ci COMMENT ='게시글 조회 기록';
+  COLLATE = utf8mb4_unicode_ci COMMENT ='게시글 일자별 고유 조회자 스케치';
 
 CREATE TABLE refresh_token
 (
-    id         BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '리프레시 토큰 고유 ID',
+    id         BIGINT PRIMARY KEY COMMENT '리프레시 토큰 고유 ID (애플리케이션에서 만드는 시간순 ID)',
     member_id  BIGINT       NOT NULL COMMENT '회원 ID',
-    token      VARCHAR(255) NOT NULL COMMENT '리프레시 토큰 값',
+    token_hash BINARY(32)   NOT NULL COMMENT '리프레시 토큰 SHA-256 다이제스트 (원문은 저장하지 않음)',
     created_at TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) COMMENT '생성 일시',
     expires_at TIMESTAMP(3) NOT NULL COMMENT '만료 일시',
     is_revoked BOOLEAN      DEFAULT FALSE COMMENT '폐기 여부',
+    revoked_at TIMESTAMP(3) NULL COMMENT '폐기 일시 (보존 기간 정리 기준, 재발급 시 비움)',
 
-    UNIQUE KEY uk_token (token) COMMENT '토큰 중복 방지',
+    UNIQUE KEY uk_token_hash (token_hash) COMMENT '토큰 조회/교체(compare-and-swap)용',
     INDEX idx_member_id (member_id) COMMENT '회원별 토큰 조회용',
     INDEX idx_expires_at (expires_at) COMMENT '만료된 토큰 정리용',
+    INDEX idx_revoked_at (revoked_at) COMMENT '폐기된 토큰 정리용',
     INDEX idx_member_revoked (member_id, is_revoked) COMMENT '회원의 활성 토큰 조회용',
 
     CONSTRAINT fk_refresh_token_member
@@ -172,3 +209,43 @@ CREATE TABLE refresh_token
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4
   COLLATE = utf8mb4_unicode_ci COMMENT ='리프레시 토큰 저장소';
+
+CREATE TABLE image_variant
+(
+    id            BIGINT PRIMARY KEY COMMENT '축소본 고유 ID (image_variant_seq)',
+    image_file_id BIGINT       NOT NULL COMMENT '원본 이미지 ID',
+    size          INT          NOT NULL COMMENT '요청 크기 (긴 변 최대 픽셀)',
+    stored_name   VARCHAR(255) NOT NULL COMMENT '저장 파일명 (원본과 같은 디렉터리)',
+    width         INT          NOT NULL COMMENT '가로 픽셀',
+    height        INT          NOT NULL COMMENT '세로 픽셀',
+    file_size     BIGINT       NOT NULL COMMENT '파일 크기 (bytes)',
+    created_at    TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) COMMENT '생성 일시',
+
+    UNIQUE KEY uk_image_variant_size (image_file_id, size) COMMENT '원본별 크기 중복 방지',
+    UNIQUE KEY uk_image_variant_stored_name (stored_name),
+
+    CONSTRAINT fk_image_variant_image_file
+        FOREIGN KEY (image_file_id) REFERENCES image_file (id) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci COMMENT ='업로드 이미지 축소본';
+
+CREATE TABLE site_stats
+(
+    stat_key   VARCHAR(50) PRIMARY KEY COMMENT '통계 항목 (total_members, total_posts 등)',
+    value      BIGINT       NOT NULL DEFAULT 0 COMMENT '누적 값',
+    updated_at TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3) COMMENT '수정 일시'
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci COMMENT ='관리자 대시보드 누적 통계';
+
+CREATE TABLE site_stats_daily
+(
+    stat_date DATE        NOT NULL COMMENT '집계 일자',
+    stat_key  VARCHAR(50) NOT NULL COMMENT '통계 항목 (signups, posts, comments, likes)',
+    value     BIGINT      NOT NULL DEFAULT 0 COMMENT '그날 생성 건수',
+
+    PRIMARY KEY (stat_date, stat_key)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci COMMENT ='관리자 대시보드 일별 통계';
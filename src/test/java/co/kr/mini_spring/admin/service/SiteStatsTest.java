@@ -0,0 +1,196 @@
+package co.kr.mini_spring.admin.service;
+
+import co.kr.mini_spring.admin.domain.DailyStat;
+import co.kr.mini_spring.admin.domain.SiteStat;
+import co.kr.mini_spring.admin.domain.repository.SiteStatsRepository;
+import co.kr.mini_spring.post.domain.event.CommentChangedEvent;
+import co.kr.mini_spring.post.domain.event.PostChangedEvent;
+import co.kr.mini_spring.post.domain.event.PostLikeChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SiteStatsTest {
+
+    private final FakeSiteStatsRepository repository = new FakeSiteStatsRepository();
+    private final SiteStats siteStats = new SiteStats(repository, 10, 0);
+
+    @Test
+    @DisplayName("flush는 쌓인 증분을 누적/일별 통계에 더하고, 조회 값은 DB 값과 미반영 증분의 합이다")
+    public void flush_appliesPendingDeltas() {
+        // given
+        for (SiteStat stat : SiteStat.values()) repository.totals.put(stat, 0L);
+        repository.totals.put(SiteStat.TOTAL_POSTS, 10L);
+        siteStats.load();
+        siteStats.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.CREATED, 1L, 1L, true, "제목", "본문"));
+        siteStats.onCommentChanged(new CommentChangedEvent(CommentChangedEvent.Type.CREATED, 1L, 1L));
+        siteStats.onPostLikeChanged(new PostLikeChangedEvent(1L, 1));
+        assertThat(siteStats.get(SiteStat.TOTAL_POSTS)).isEqualTo(11L);
+
+        // when
+        siteStats.flush();
+
+        // then
+        assertThat(repository.totals).containsEntry(SiteStat.TOTAL_POSTS, 11L)
+                .containsEntry(SiteStat.PUBLISHED_POSTS, 1L)
+                .containsEntry(SiteStat.TOTAL_COMMENTS, 1L)
+                .containsEntry(SiteStat.TOTAL_LIKES, 1L);
+        assertThat(repository.daily.get(LocalDate.now())).containsEntry(DailyStat.POSTS, 1L);
+        assertThat(siteStats.get(SiteStat.TOTAL_POSTS)).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증분은 버리지 않고 다음 flush에 다시 더한다")
+    public void flush_retriesFailedDeltas() {
+        // given
+        siteStats.onPostLikeChanged(new PostLikeChangedEvent(1L, 1));
+        repository.failApply = true;
+
+        // when
+        siteStats.flush();
+        repository.failApply = false;
+        siteStats.flush();
+
+        // then
+        assertThat(repository.totals).containsEntry(SiteStat.TOTAL_LIKES, 1L);
+        assertThat(siteStats.get(SiteStat.TOTAL_LIKES)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("보정은 원본 테이블 집계와 반영된 누적 값의 차이만큼 더하고, 이 인스턴스의 반영은 다른 인스턴스의 반영으로 보지 않는다")
+    public void reconcile_correctsRelativeToFlushedTotals() {
+        // given: DB 누적 값은 게시글 12건으로 어긋나 있고, 원본 테이블에는 게시글 10건/좋아요 3건
+        repository.totals.put(SiteStat.TOTAL_POSTS, 12L);
+        repository.posts = new long[]{10, 8};
+        repository.likes = 3;
+        // 스캔 도중 이 인스턴스에서 좋아요가 하나 커밋되어 스캔 결과에 포함된다
+        repository.onScan = () -> {
+            repository.likes = 4;
+            siteStats.onPostLikeChanged(new PostLikeChangedEvent(1L, 1));
+        };
+
+        // when
+        siteStats.reconcile();
+
+        // then
+        assertThat(repository.totals).containsEntry(SiteStat.TOTAL_POSTS, 10L)
+                .containsEntry(SiteStat.PUBLISHED_POSTS, 8L)
+                .containsEntry(SiteStat.TOTAL_LIKES, 4L)
+                .containsEntry(SiteStat.TOTAL_COMMENTS, 0L);
+        assertThat(siteStats.get(SiteStat.TOTAL_LIKES)).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("보정 도중 다른 인스턴스가 증분을 반영하면 다시 셀 때 중복 집계될 수 있으므로 보정하지 않는다")
+    public void reconcile_skipsWhenAnotherInstanceFlushes() {
+        // given: 다른 인스턴스의 미반영 좋아요 1건이 스캔에 포함된 뒤 그 인스턴스가 반영한다
+        repository.totals.put(SiteStat.TOTAL_LIKES, 3L);
+        repository.posts = new long[]{1, 1};
+        repository.likes = 4;
+        repository.onScan = () -> repository.totals.merge(SiteStat.TOTAL_LIKES, 1L, Long::sum);
+
+        // when
+        siteStats.reconcile();
+
+        // then
+        assertThat(repository.totals).containsEntry(SiteStat.TOTAL_LIKES, 4L);
+        assertThat(repository.totals).doesNotContainKey(SiteStat.TOTAL_POSTS);
+    }
+
+    @Test
+    @DisplayName("보정 요청은 전용 스레드에서 실행되어 호출 스레드를 막지 않고, 실행 중에는 새로 시작하지 않는다")
+    public void triggerReconcile_runsOnDedicatedThread() throws InterruptedException {
+        // given
+        repository.posts = new long[]{1, 1};
+        CountDownLatch scanStarted = new CountDownLatch(1);
+        CountDownLatch releaseScan = new CountDownLatch(1);
+        String[] scanThread = new String[1];
+        repository.onScan = () -> {
+            scanThread[0] = Thread.currentThread().getName();
+            scanStarted.countDown();
+            try {
+                releaseScan.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        // when
+        boolean started = siteStats.triggerReconcile();
+        assertThat(scanStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        boolean startedAgain = siteStats.triggerReconcile();
+        releaseScan.countDown();
+        siteStats.shutdown();
+
+        // then
+        assertThat(started).isTrue();
+        assertThat(startedAgain).isFalse();
+        assertThat(scanThread[0]).isEqualTo("site-stats-reconcile");
+    }
+
+    /**
+     * 게시글 ID 1 하나만 있는 원본 테이블을 흉내 내는 가짜 리포지토리
+     */
+    private static class FakeSiteStatsRepository extends SiteStatsRepository {
+
+        private final Map<SiteStat, Long> totals = new EnumMap<>(SiteStat.class);
+        private final Map<LocalDate, Map<DailyStat, Long>> daily = new HashMap<>();
+        private long[] posts = {0, 0};
+        private long likes;
+        private boolean failApply;
+        private Runnable onScan = () -> {
+        };
+
+        FakeSiteStatsRepository() {
+            super(null);
+        }
+
+        @Override
+        public Map<SiteStat, Long> findTotals() {
+            return new EnumMap<>(totals);
+        }
+
+        @Override
+        public void applyDeltas(Map<SiteStat, Long> deltas, Map<LocalDate, Map<DailyStat, Long>> dailyDeltas) {
+            if (failApply) throw new QueryTimeoutException("timeout");
+            deltas.forEach((stat, delta) -> totals.merge(stat, delta, Long::sum));
+            dailyDeltas.forEach((date, stats) -> stats.forEach((stat, delta) ->
+                    daily.computeIfAbsent(date, d -> new EnumMap<>(DailyStat.class)).merge(stat, delta, Long::sum)));
+        }
+
+        @Override
+        public long findMaxMemberId() {
+            return 0;
+        }
+
+        @Override
+        public long findMaxPostId() {
+            return posts[0] == 0 ? 0 : 1;
+        }
+
+        @Override
+        public long findMaxCommentId() {
+            return 0;
+        }
+
+        @Override
+        public long[] countPosts(long fromId, long toId) {
+            onScan.run();
+            return posts;
+        }
+
+        @Override
+        public long countLikes(long fromPostId, long toPostId) {
+            return likes;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package co.kr.mini_spring.auth.service;
+
+import co.kr.mini_spring.auth.token.domain.RefreshTokenDigest;
+import co.kr.mini_spring.global.common.exception.BusinessException;
+import co.kr.mini_spring.global.common.response.ResponseCode;
+import co.kr.mini_spring.member.domain.Member;
+import co.kr.mini_spring.member.domain.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+public class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRevocations refreshTokenRevocations;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member member;
+    private String token;
+    private byte[] tokenHash;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        member = memberRepository.save(Member.builder()
+                .email("refresh" + suffix + "@test.com")
+                .name("토큰테스터")
+                .nickname("토큰" + suffix)
+                .build());
+        token = refreshTokenService.issue(member).getToken();
+        tokenHash = RefreshTokenDigest.of(token);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM refresh_token WHERE member_id = ?", member.getId());
+        memberRepository.deleteById(member.getId());
+    }
+
+    @Test
+    @DisplayName("토큰 교체 - 같은 토큰으로 동시에 교체하면 한 요청만 성공하고 나머지는 REFRESH_TOKEN_NOT_FOUND가 된다")
+    void rotate_concurrentRotationsSucceedOnce() throws InterruptedException {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        Callable<String> rotation = () -> {
+            start.await();
+            return refreshTokenService.rotate(tokenHash, member).getToken();
+        };
+
+        // when
+        List<Future<String>> results = List.of(executorService.submit(rotation), executorService.submit(rotation));
+        start.countDown();
+
+        // then
+        int succeeded = 0;
+        int notFound = 0;
+        try {
+            for (Future<String> result : results) {
+                try {
+                    result.get();
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(BusinessException.class)
+                            .extracting("responseCode")
+                            .isEqualTo(ResponseCode.REFRESH_TOKEN_NOT_FOUND);
+                    notFound++;
+                }
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        assertThat(succeeded).isEqualTo(1);
+        assertThat(notFound).isEqualTo(1);
+        assertThat(refreshTokenRevocations.isRevoked(tokenHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("토큰 재사용 - 재발급에 쓴 토큰을 다시 쓰면 폐기 집합에서 REFRESH_TOKEN_EXPIRED로 거절된다")
+    void refreshToken_rejectsReuseAfterRotation() {
+        // given
+        authService.refreshToken(token);
+
+        // when & then
+        assertThat(refreshTokenRevocations.isRevoked(tokenHash)).isTrue();
+        assertThatThrownBy(() -> authService.refreshToken(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting("responseCode")
+                .isEqualTo(ResponseCode.REFRESH_TOKEN_EXPIRED);
+    }
+
+    @Test
+    @DisplayName("토큰 재사용 - 다른 인스턴스에서 교체된 토큰은 조건부 UPDATE에서 거절되고 폐기 집합에 등록된다")
+    void refreshToken_revokesTokenRotatedElsewhere() {
+        // given: 이 인스턴스의 폐기 집합을 거치지 않고 행만 교체된 상태
+        jdbcTemplate.update("UPDATE refresh_token SET token_hash = ? WHERE member_id = ?",
+                RefreshTokenDigest.of(token + "-rotated"), member.getId());
+        assertThat(refreshTokenRevocations.isRevoked(tokenHash)).isFalse();
+
+        // when & then
+        assertThatThrownBy(() -> authService.refreshToken(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting("responseCode")
+                .isEqualTo(ResponseCode.REFRESH_TOKEN_NOT_FOUND);
+        assertThat(refreshTokenRevocations.isRevoked(tokenHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("토큰 재사용 - 로그아웃한 토큰으로 재발급하면 REFRESH_TOKEN_EXPIRED로 거절된다")
+    void refreshToken_rejectsReuseAfterLogout() {
+        // given
+        authService.logout(member.getId());
+
+        // when & then
+        assertThat(refreshTokenRevocations.isRevoked(tokenHash)).isTrue();
+        assertThatThrownBy(() -> authService.refreshToken(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting("responseCode")
+                .isEqualTo(ResponseCode.REFRESH_TOKEN_EXPIRED);
+    }
+
+    @Test
+    @DisplayName("토큰 재사용 - 다른 인스턴스에서 로그아웃한 토큰은 조건부 UPDATE에서 거절되고 폐기 집합에 등록된다")
+    void refreshToken_revokesTokenLoggedOutElsewhere() {
+        // given: 이 인스턴스의 폐기 집합을 거치지 않고 행만 폐기된 상태
+        jdbcTemplate.update("UPDATE refresh_token SET is_revoked = TRUE, revoked_at = NOW() WHERE member_id = ?",
+                member.getId());
+        assertThat(refreshTokenRevocations.isRevoked(tokenHash)).isFalse();
+
+        // when & then
+        assertThatThrownBy(() -> authService.refreshToken(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting("responseCode")
+                .isEqualTo(ResponseCode.REFRESH_TOKEN_EXPIRED);
+        assertThat(refreshTokenRevocations.isRevoked(tokenHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("롤백 - 롤백된 재로그인 발급은 기존 토큰을 폐기 집합에 넣지 않고, 기존 토큰은 계속 쓸 수 있다")
+    void issue_rollbackKeepsPreviousTokenUsable() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            refreshTokenService.issue(member);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(refreshTokenRevocations.isRevoked(tokenHash)).isFalse();
+        assertThat(authService.refreshToken(token).getRefreshToken()).isNotEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("롤백 - 롤백된 교체는 기존 토큰을 폐기 집합에 넣지 않고, 기존 토큰은 계속 쓸 수 있다")
+    void rotate_rollbackKeepsPreviousTokenUsable() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            refreshTokenService.rotate(tokenHash, member);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(refreshTokenRevocations.isRevoked(tokenHash)).isFalse();
+        assertThat(authService.refreshToken(token).getRefreshToken()).isNotEqualTo(token);
+    }
+}
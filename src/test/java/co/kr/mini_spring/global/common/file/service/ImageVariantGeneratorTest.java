@@ -0,0 +1,160 @@
+package co.kr.mini_spring.global.common.file.service;
+
+import co.kr.mini_spring.global.common.file.domain.ImageFile;
+import co.kr.mini_spring.global.common.file.domain.ImageVariant;
+import co.kr.mini_spring.global.common.file.domain.repository.ImageFileRepository;
+import co.kr.mini_spring.global.common.file.domain.repository.ImageVariantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ImageVariantGeneratorTest {
+
+    private static final Long IMAGE_FILE_ID = 1L;
+    private static final String FILE_PATH = FileService.URL_PREFIX + "2026/01/19/";
+
+    @TempDir
+    Path uploadDir;
+
+    private final ImageFileRepository imageFileRepository = mock(ImageFileRepository.class);
+    private final ImageVariantRepository imageVariantRepository = mock(ImageVariantRepository.class);
+    private ImageVariantGenerator generator;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        if (generator != null) generator.shutdown();
+    }
+
+    @Test
+    @DisplayName("원본보다 작은 크기의 축소본만 비율을 유지해 만들고 기록한다")
+    @SuppressWarnings("unchecked")
+    public void generate_writesSmallerVariants() throws IOException {
+        // given
+        ImageFile imageFile = storeImage("photo.png", pngBytes(300, 150));
+        generator = newGenerator(40_000_000);
+
+        // when
+        generator.generate(IMAGE_FILE_ID);
+
+        // then
+        ArgumentCaptor<List<ImageVariant>> captor = ArgumentCaptor.forClass(List.class);
+        verify(imageVariantRepository).saveAll(captor.capture());
+        List<ImageVariant> variants = captor.getValue();
+        assertThat(variants).extracting(ImageVariant::getSize).containsExactly(64, 256);
+        assertThat(variants).extracting(ImageVariant::getWidth).containsExactly(64, 256);
+        assertThat(variants).extracting(ImageVariant::getHeight).containsExactly(32, 128);
+
+        Path original = storedPath(imageFile.getStoredName());
+        BufferedImage small = ImageIO.read(original.resolveSibling("photo_64.png").toFile());
+        assertThat(small.getWidth()).isEqualTo(64);
+        assertThat(small.getHeight()).isEqualTo(32);
+        assertThat(original.resolveSibling("photo_1024.png")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("픽셀 수 상한을 넘는 이미지는 축소본을 만들지 않는다")
+    public void generate_skipsImagesOverPixelLimit() throws IOException {
+        // given
+        storeImage("photo.png", pngBytes(300, 150));
+        generator = newGenerator(300 * 150 - 1);
+
+        // when
+        generator.generate(IMAGE_FILE_ID);
+
+        // then
+        verify(imageVariantRepository, never()).saveAll(any());
+        assertThat(storedPath("photo_64.png")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("헤더에 거대한 크기를 선언한 이미지는 디코딩하지 않고 건너뛴다")
+    public void generate_rejectsDecompressionBombBeforeDecoding() throws IOException {
+        // given: 1x1 PNG의 IHDR 가로/세로를 100000x100000으로 바꾼 파일
+        byte[] bytes = pngBytes(1, 1);
+        ByteBuffer.wrap(bytes, 16, 8).putInt(100_000).putInt(100_000);
+        storeImage("bomb.png", bytes);
+        generator = newGenerator(40_000_000);
+
+        // when
+        generator.generate(IMAGE_FILE_ID);
+
+        // then
+        verify(imageVariantRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("축소본을 쓸 수 없는 형식(gif)은 원본만 둔다")
+    public void generate_ignoresUnsupportedFormats() throws IOException {
+        // given
+        storeImage("animated.gif", pngBytes(300, 150));
+        generator = newGenerator(40_000_000);
+
+        // when
+        generator.generate(IMAGE_FILE_ID);
+
+        // then
+        verify(imageVariantRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("축소본 파일명은 원본 파일명 뒤에 크기를 붙인다")
+    public void variantName_appendsSize() {
+        assertThat(ImageVariantGenerator.variantName("0b1c.jpeg", 256)).isEqualTo("0b1c_256.jpeg");
+    }
+
+    private ImageVariantGenerator newGenerator(long maxPixels) {
+        FileService fileService = new FileService(imageFileRepository, event -> {
+        });
+        ReflectionTestUtils.setField(fileService, "uploadDir", uploadDir.toString());
+        return new ImageVariantGenerator(fileService, imageFileRepository, imageVariantRepository,
+                new int[]{1024, 64, 256}, 1, 10, maxPixels);
+    }
+
+    private ImageFile storeImage(String storedName, byte[] bytes) throws IOException {
+        Path path = storedPath(storedName);
+        Files.createDirectories(path.getParent());
+        Files.write(path, bytes);
+
+        String extension = storedName.substring(storedName.lastIndexOf('.') + 1);
+        ImageFile imageFile = ImageFile.builder()
+                .originName(storedName)
+                .storedName(storedName)
+                .filePath(FILE_PATH)
+                .fileSize((long) bytes.length)
+                .extension(extension)
+                .build();
+        when(imageFileRepository.findById(IMAGE_FILE_ID)).thenReturn(Optional.of(imageFile));
+        return imageFile;
+    }
+
+    private Path storedPath(String storedName) {
+        return uploadDir.resolve(FILE_PATH.substring(FileService.URL_PREFIX.length())).resolve(storedName);
+    }
+
+    private static byte[] pngBytes(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
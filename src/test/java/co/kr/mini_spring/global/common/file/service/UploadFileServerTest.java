@@ -0,0 +1,166 @@
+package co.kr.mini_spring.global.common.file.service;
+
+import co.kr.mini_spring.global.common.file.service.UploadFileServer.ByteRange;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UploadFileServerTest {
+
+    private static final String RELATIVE_PATH = "2026/01/19/uuid.png";
+    private static final String CONTENT = "0123456789";
+    private static final String ETAG = "\"uuid.png\"";
+
+    @TempDir
+    Path uploadDir;
+
+    private UploadFileServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Path file = uploadDir.resolve(RELATIVE_PATH);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, CONTENT);
+        server = new UploadFileServer(new SimpleMeterRegistry(), uploadDir.toString());
+    }
+
+    @Test
+    @DisplayName("시작과 끝이 있는 구간은 파일 길이 안으로 잘라서 적용한다")
+    public void parse_closedRange() {
+        assertThat(ByteRange.parse("bytes=2-5", 10)).isEqualTo(new ByteRange(2, 5));
+        assertThat(ByteRange.parse("bytes=8-100", 10)).isEqualTo(new ByteRange(8, 9));
+    }
+
+    @Test
+    @DisplayName("끝이 없는 구간은 파일 끝까지, 접미 구간은 마지막 N바이트를 적용한다")
+    public void parse_openEndedAndSuffixRanges() {
+        assertThat(ByteRange.parse("bytes=7-", 10)).isEqualTo(new ByteRange(7, 9));
+        assertThat(ByteRange.parse("bytes=-3", 10)).isEqualTo(new ByteRange(7, 9));
+        assertThat(ByteRange.parse("bytes=-100", 10)).isEqualTo(new ByteRange(0, 9));
+    }
+
+    @Test
+    @DisplayName("파일 밖에서 시작하는 구간과 길이 0인 접미 구간은 만족할 수 없다")
+    public void parse_unsatisfiableRanges() {
+        assertThat(ByteRange.parse("bytes=10-", 10)).isSameAs(ByteRange.UNSATISFIABLE);
+        assertThat(ByteRange.parse("bytes=20-30", 10)).isSameAs(ByteRange.UNSATISFIABLE);
+        assertThat(ByteRange.parse("bytes=-0", 10)).isSameAs(ByteRange.UNSATISFIABLE);
+        assertThat(ByteRange.parse("bytes=-5", 0)).isSameAs(ByteRange.UNSATISFIABLE);
+    }
+
+    @Test
+    @DisplayName("여러 구간이나 잘못된 형식은 Range를 무시하고 전체를 보낸다")
+    public void parse_ignoresMultipleAndMalformedRanges() {
+        assertThat(ByteRange.parse("bytes=0-1,4-5", 10)).isNull();
+        assertThat(ByteRange.parse("bytes=5-2", 10)).isNull();
+        assertThat(ByteRange.parse("bytes=a-b", 10)).isNull();
+        assertThat(ByteRange.parse("items=0-1", 10)).isNull();
+        assertThat(ByteRange.parse(null, 10)).isNull();
+    }
+
+    @Test
+    @DisplayName("단일 구간 요청에는 206과 Content-Range로 해당 구간만 보낸다")
+    public void serve_partialContent() throws IOException {
+        // given
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        server.serve(RELATIVE_PATH, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("2345");
+    }
+
+    @Test
+    @DisplayName("파일 밖 구간 요청에는 416과 전체 길이를 알린다")
+    public void serve_rangeNotSatisfiable() throws IOException {
+        // given
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-20");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        server.serve(RELATIVE_PATH, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("If-Range가 현재 ETag와 다르거나 약한 ETag면 Range를 무시하고 200으로 전체를 보낸다")
+    public void serve_staleOrWeakIfRangeSendsFullBody() throws IOException {
+        for (String ifRange : new String[]{"\"old.png\"", "W/" + ETAG}) {
+            // given
+            MockHttpServletRequest request = get();
+            request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+            request.addHeader(HttpHeaders.IF_RANGE, ifRange);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            server.serve(RELATIVE_PATH, request, response);
+
+            // then
+            assertThat(response.getStatus()).as(ifRange).isEqualTo(200);
+            assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).as(ifRange).isNull();
+            assertThat(response.getContentAsString(StandardCharsets.UTF_8)).as(ifRange).isEqualTo(CONTENT);
+        }
+    }
+
+    @Test
+    @DisplayName("If-Range가 현재 강한 ETag와 같으면 Range를 적용한다")
+    public void serve_matchingIfRangeAppliesRange() throws IOException {
+        // given
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=-2");
+        request.addHeader(HttpHeaders.IF_RANGE, ETAG);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        server.serve(RELATIVE_PATH, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("89");
+    }
+
+    @Test
+    @DisplayName("If-None-Match는 약한 비교라 W/ ETag도 304로 응답한다")
+    public void serve_ifNoneMatchUsesWeakComparison() throws IOException {
+        for (String ifNoneMatch : new String[]{ETAG, "W/" + ETAG, "\"other.png\", W/" + ETAG}) {
+            // given
+            MockHttpServletRequest request = get();
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            server.serve(RELATIVE_PATH, request, response);
+
+            // then
+            assertThat(response.getStatus()).as(ifNoneMatch).isEqualTo(304);
+            assertThat(response.getContentAsByteArray()).as(ifNoneMatch).isEmpty();
+        }
+    }
+
+    private static MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/uploads/" + RELATIVE_PATH);
+    }
+}
@@ -0,0 +1,42 @@
+package co.kr.mini_spring.global.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SequenceAlignerTest {
+
+    @Test
+    @DisplayName("기존 최대 ID와 겹치는 범위를 발급할 수 있는 시퀀스만 최대 ID + 할당 크기 뒤로 옮긴다")
+    public void restartValue() {
+        assertThat(SequenceAligner.restartValue(1000, 1)).isEqualTo(1051);
+        assertThat(SequenceAligner.restartValue(1000, 1050)).isEqualTo(1051);
+        assertThat(SequenceAligner.restartValue(1000, 1051)).isZero();
+        assertThat(SequenceAligner.restartValue(0, 1)).isZero();
+    }
+
+    @Test
+    @DisplayName("시작 시 AUTO_INCREMENT 데이터보다 앞에 있는 시퀀스를 옮기고 나머지는 그대로 둔다")
+    public void align_restartsLaggingSequences() {
+        // given: post는 기존 데이터가 있고 post_seq는 처음 위치, 나머지는 빈 테이블
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(0L);
+        when(jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM post", Long.class)).thenReturn(5000L);
+        when(jdbcTemplate.queryForObject("SELECT next_not_cached_value FROM post_seq", Long.class)).thenReturn(1L);
+
+        // when
+        new SequenceAligner(jdbcTemplate).align();
+
+        // then
+        verify(jdbcTemplate).execute("ALTER SEQUENCE post_seq RESTART WITH 5051");
+        verify(jdbcTemplate, never()).execute("ALTER SEQUENCE comment_seq RESTART WITH 51");
+    }
+}
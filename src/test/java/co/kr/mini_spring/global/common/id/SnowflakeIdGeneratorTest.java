@@ -0,0 +1,107 @@
+package co.kr.mini_spring.global.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SnowflakeIdGeneratorTest {
+
+    private static final int NODE_ID = 5;
+    private static final long START = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+    private static final int SEQUENCES_PER_MILLI = 1 << SnowflakeIdGenerator.SEQUENCE_BITS;
+
+    private final AtomicLong now = new AtomicLong(START);
+    private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(NODE_ID, now::get);
+
+    @Test
+    @DisplayName("같은 밀리초 안에서는 순번만 올라가며 단조 증가하고, 노드 ID와 생성 시각을 담는다")
+    public void nextId_monotonicWithinMillisecond() {
+        long previous = generator.nextId();
+        assertThat(sequenceOf(previous)).isZero();
+
+        for (int i = 1; i < 100; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            assertThat(sequenceOf(id)).isEqualTo(i);
+            assertThat(nodeOf(id)).isEqualTo(NODE_ID);
+            assertThat(SnowflakeIdGenerator.timestampOf(id)).isEqualTo(Instant.ofEpochMilli(START));
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("한 밀리초에 순번을 다 쓰면 다음 밀리초를 앞당겨 쓰고, 시계가 따라와도 중복 없이 이어진다")
+    public void nextId_borrowsNextMillisecondOnSequenceOverflow() {
+        // given: 같은 밀리초에 순번 4096개를 모두 사용
+        long previous = -1;
+        for (int i = 0; i < SEQUENCES_PER_MILLI; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        assertThat(sequenceOf(previous)).isEqualTo(SEQUENCES_PER_MILLI - 1);
+
+        // when
+        long overflowed = generator.nextId();
+
+        // then
+        assertThat(overflowed).isGreaterThan(previous);
+        assertThat(sequenceOf(overflowed)).isZero();
+        assertThat(SnowflakeIdGenerator.timestampOf(overflowed)).isEqualTo(Instant.ofEpochMilli(START + 1));
+
+        // 시계가 앞당겨 쓴 밀리초에 도착해도 이미 쓴 순번 다음부터 이어집니다.
+        now.set(START + 1);
+        long caughtUp = generator.nextId();
+        assertThat(caughtUp).isGreaterThan(overflowed);
+        assertThat(sequenceOf(caughtUp)).isEqualTo(1);
+
+        now.set(START + 2);
+        assertThat(sequenceOf(generator.nextId())).isZero();
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 마지막 시각보다 작은 ID를 만들지 않고, 시계가 돌아오면 현재 시각을 다시 쓴다")
+    public void nextId_neverGoesBackwardsWhenClockRegresses() {
+        // given
+        long beforeRegression = generator.nextId();
+
+        // when
+        now.set(START - 10_000);
+        long duringRegression = generator.nextId();
+
+        // then
+        assertThat(duringRegression).isGreaterThan(beforeRegression);
+        assertThat(SnowflakeIdGenerator.timestampOf(duringRegression)).isEqualTo(Instant.ofEpochMilli(START));
+
+        now.set(START + 1);
+        long afterRecovery = generator.nextId();
+        assertThat(afterRecovery).isGreaterThan(duringRegression);
+        assertThat(SnowflakeIdGenerator.timestampOf(afterRecovery)).isEqualTo(Instant.ofEpochMilli(START + 1));
+        assertThat(sequenceOf(afterRecovery)).isZero();
+    }
+
+    @Test
+    @DisplayName("노드 ID가 다르면 같은 밀리초/순번에도 ID가 겹치지 않고, 범위를 벗어난 노드 ID는 거부한다")
+    public void nodeId_separatesInstancesAndIsValidated() {
+        SnowflakeIdGenerator other = new SnowflakeIdGenerator(NODE_ID + 1, now::get);
+
+        assertThat(generator.nextId()).isNotEqualTo(other.nextId());
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long sequenceOf(long id) {
+        return id & (SEQUENCES_PER_MILLI - 1);
+    }
+
+    private static long nodeOf(long id) {
+        return (id >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID;
+    }
+}
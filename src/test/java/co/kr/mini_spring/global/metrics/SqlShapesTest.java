@@ -0,0 +1,84 @@
+package co.kr.mini_spring.global.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlShapesTest {
+
+    @Test
+    @DisplayName("리터럴은 ?로 바꾸고 공백은 한 칸으로 줄인다")
+    public void normalize_replacesLiteralsAndWhitespace() {
+        // given
+        String sql = "SELECT *  FROM post\n\tWHERE id = 42 AND title = 'it''s' AND score > 1.5";
+
+        // when
+        String shape = SqlShapes.normalize(sql);
+
+        // then
+        assertThat(shape).isEqualTo("SELECT * FROM post WHERE id = ? AND title = ? AND score > ?");
+    }
+
+    @Test
+    @DisplayName("식별자 안의 숫자와 백틱 식별자는 유지한다")
+    public void normalize_keepsIdentifiers() {
+        // given
+        String sql = "select p1_0.id from post p1_0 join `table2` t2 on t2.id = p1_0.id where p1_0.id = ?";
+
+        // when
+        String shape = SqlShapes.normalize(sql);
+
+        // then
+        assertThat(shape).isEqualTo(sql);
+    }
+
+    @Test
+    @DisplayName("길이만 다른 IN 목록은 같은 모양이 된다")
+    public void normalize_collapsesInLists() {
+        // when
+        String two = SqlShapes.normalize("select id from post where id in (?, ?)");
+        String five = SqlShapes.normalize("select id from post where id in (?,?,?,?,?)");
+
+        // then
+        assertThat(two).isEqualTo("select id from post where id in (?, ...)");
+        assertThat(five).isEqualTo(two);
+    }
+
+    @Test
+    @DisplayName("다중 행 VALUES는 행 수와 무관하게 같은 모양이 된다")
+    public void normalize_collapsesMultiRowValues() {
+        // when
+        String one = SqlShapes.normalize("INSERT INTO hashtag (name, usage_count) VALUES (?, 1)");
+        String three = SqlShapes.normalize("INSERT INTO hashtag (name, usage_count) VALUES (?, 1), (?, 1), (?, 1)");
+
+        // then
+        assertThat(one).isEqualTo("INSERT INTO hashtag (name, usage_count) VALUES (?, ...), ...");
+        assertThat(three).isEqualTo(one);
+    }
+
+    @Test
+    @DisplayName("ON DUPLICATE KEY UPDATE의 VALUES(col) 함수는 행 목록으로 접지 않는다")
+    public void normalize_keepsValuesFunction() {
+        // when
+        String shape = SqlShapes.normalize(
+                "INSERT INTO hashtag (name, usage_count) VALUES (?, ?) ON DUPLICATE KEY UPDATE usage_count = usage_count + VALUES(usage_count)");
+
+        // then
+        assertThat(shape).isEqualTo(
+                "INSERT INTO hashtag (name, usage_count) VALUES (?, ...), ... ON DUPLICATE KEY UPDATE usage_count = usage_count + VALUES(usage_count)");
+    }
+
+    @Test
+    @DisplayName("긴 문장은 최대 길이에서 자른다")
+    public void normalize_truncatesLongStatements() {
+        // given
+        String sql = "select " + "a_column, ".repeat(200) + "b from t";
+
+        // when
+        String shape = SqlShapes.normalize(sql);
+
+        // then
+        assertThat(shape).hasSize(SqlShapes.MAX_LENGTH + 3).endsWith("...");
+    }
+}
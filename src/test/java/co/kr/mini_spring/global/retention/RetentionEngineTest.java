@@ -0,0 +1,151 @@
+package co.kr.mini_spring.global.retention;
+
+import co.kr.mini_spring.auth.service.RefreshTokenRetentionJob;
+import co.kr.mini_spring.auth.token.domain.RefreshToken;
+import co.kr.mini_spring.auth.token.repository.RefreshTokenRepository;
+import co.kr.mini_spring.member.domain.Member;
+import co.kr.mini_spring.member.domain.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class RetentionEngineTest {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Autowired
+    private RefreshTokenRetentionJob refreshTokenRetentionJob;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+    private final List<Long> tokenIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        memberId = memberRepository.save(Member.builder()
+                .email("retention" + suffix + "@test.com")
+                .name("보존기간테스터")
+                .nickname("보존" + suffix)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAllByIdInBatch(tokenIds);
+        tokenIds.clear();
+        memberRepository.deleteById(memberId);
+    }
+
+    @Test
+    @DisplayName("보존 기간 정리 - 대상이 청크 크기보다 많으면 여러 청크에 걸쳐 모두 지우고, 기준 시각 이후의 행은 남겨야 한다")
+    public void run_purgesAcrossChunksAndKeepsNewerRows() throws InterruptedException {
+        // given: 보존 기간(7일)이 지난 토큰 5개와 아직 남겨야 하는 토큰 3개, 청크 크기 2
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> expiredIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expiredIds.add(saveToken(now.minusDays(30), false));
+        }
+        List<Long> keptIds = List.of(
+                saveToken(now.minusDays(1), false), // 만료됐지만 보존 기간 안
+                saveToken(now.plusDays(7), false),  // 유효
+                saveToken(now.plusDays(7), true));  // 방금 폐기
+        RetentionEngine engine = new RetentionEngine(List.of(refreshTokenRetentionJob), transactionTemplate,
+                new SimpleMeterRegistry(), 2, 0, 100);
+
+        // when
+        try {
+            assertThat(engine.trigger()).isTrue();
+            awaitFinished(engine);
+        } finally {
+            engine.shutdown();
+        }
+
+        // then
+        assertThat(refreshTokenRepository.findAllById(expiredIds)).isEmpty();
+        assertThat(refreshTokenRepository.findAllById(keptIds))
+                .extracting(RefreshToken::getId)
+                .containsExactlyInAnyOrderElementsOf(keptIds);
+        RetentionProgress.Snapshot progress = engine.getProgress().get(refreshTokenRetentionJob.name());
+        assertThat(progress.lastError()).isNull();
+        assertThat(progress.chunks()).isGreaterThanOrEqualTo(3); // 2 + 2 + 1(마지막 청크가 청크 크기보다 작아 종료)
+        assertThat(progress.lastRunDeleted()).isGreaterThanOrEqualTo(expiredIds.size());
+    }
+
+    @Test
+    @DisplayName("보존 기간 정리 - 폐기된 토큰은 발급 시각과 관계없이 폐기된 뒤 보존 기간이 지나야 지운다")
+    public void run_keepsRevokedTokensForRetainWindowAfterRevocation() throws InterruptedException {
+        // given: 30일 전에 발급된 행을 방금 폐기한 토큰과, 30일 전에 폐기된 토큰
+        LocalDateTime now = LocalDateTime.now();
+        Long justRevokedId = saveToken(now.plusDays(7), false);
+        transactionTemplate.executeWithoutResult(status ->
+                refreshTokenRepository.findById(justRevokedId).orElseThrow().revoke());
+        Long longRevokedId = saveToken(now.plusDays(7), true);
+        jdbcTemplate.update("UPDATE refresh_token SET created_at = ? WHERE id IN (?, ?)",
+                now.minusDays(30), justRevokedId, longRevokedId);
+        jdbcTemplate.update("UPDATE refresh_token SET revoked_at = ? WHERE id = ?", now.minusDays(30), longRevokedId);
+        RetentionEngine engine = new RetentionEngine(List.of(refreshTokenRetentionJob), transactionTemplate,
+                new SimpleMeterRegistry(), 100, 0, 100);
+
+        // when
+        try {
+            assertThat(engine.trigger()).isTrue();
+            awaitFinished(engine);
+        } finally {
+            engine.shutdown();
+        }
+
+        // then
+        assertThat(refreshTokenRepository.findById(longRevokedId)).isEmpty();
+        assertThat(refreshTokenRepository.findById(justRevokedId)).hasValueSatisfying(token -> {
+            assertThat(token.isRevoked()).isTrue();
+            assertThat(token.getRevokedAt()).isAfter(now.minusMinutes(1));
+        });
+    }
+
+    private Long saveToken(LocalDateTime expiresAt, boolean revoked) {
+        byte[] tokenHash = new byte[32];
+        RANDOM.nextBytes(tokenHash);
+        Long id = refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(tokenHash)
+                .memberId(memberId)
+                .expiresAt(expiresAt)
+                .revoked(revoked)
+                .build()).getId();
+        tokenIds.add(id);
+        return id;
+    }
+
+    private static void awaitFinished(RetentionEngine engine) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (engine.isRunning() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(engine.isRunning()).isFalse();
+    }
+}
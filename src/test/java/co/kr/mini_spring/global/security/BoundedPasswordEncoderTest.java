@@ -0,0 +1,56 @@
+package co.kr.mini_spring.global.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoundedPasswordEncoderTest {
+
+    @Test
+    @DisplayName("동시에 계산하는 해시 수는 허가 수를 넘지 않는다")
+    public void encode_limitsConcurrentHashes() throws InterruptedException {
+        // given: 해시 한 번에 20ms 걸리는 인코더
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        PasswordEncoder slow = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slow, 2);
+
+        // when
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String password = "password" + i;
+            Thread thread = new Thread(() -> assertThat(encoder.matches(password, "hash:" + password)).isTrue());
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) thread.join(5_000);
+
+        // then
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(running.get()).isZero();
+    }
+}
@@ -0,0 +1,159 @@
+package co.kr.mini_spring.global.security;
+
+import co.kr.mini_spring.global.common.response.ResponseCode;
+import co.kr.mini_spring.member.domain.Member;
+import io.micrometer.core.instrument.search.RequiredSearch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JwtTokenProviderTest {
+
+    private static final String SECRET = "testSecretKeytestSecretKeytestSecretKeytestSecretKey";
+    private static final long ACCESS_TOKEN_EXPIRATION = 60_000;
+    private static final String CACHE_NAME = "jwtVerifiedClaims";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 토큰 exp는 초 단위이므로 초 경계에서 시작합니다.
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private final Member member = Member.builder()
+            .email("jwt@test.com")
+            .name("토큰테스터")
+            .nickname("토큰")
+            .build();
+
+    @Test
+    @DisplayName("검증 캐시 - 같은 토큰을 다시 검증하면 캐시된 클레임을 사용한다")
+    public void verify_servesRepeatedTokenFromCache() {
+        // given
+        JwtTokenProvider provider = newProvider(100);
+        String token = provider.generateAccessToken(member).getToken();
+
+        // when
+        JwtTokenProvider.JwtValidationResult first = provider.verify(token);
+        JwtTokenProvider.JwtValidationResult second = provider.verify(token);
+
+        // then
+        assertThat(first.isValid()).isTrue();
+        assertThat(second.isValid()).isTrue();
+        assertThat(second.getClaims().getSubject()).isEqualTo("jwt@test.com");
+        assertThat(cacheGets("miss")).isEqualTo(1);
+        assertThat(cacheGets("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검증 캐시 - 캐시된 토큰도 exp가 지나면 EXPIRED_TOKEN이며, 캐시에서 제거되어 다시 쓰이지 않는다")
+    public void verify_rejectsCachedTokenPastExpiry() {
+        // given
+        JwtTokenProvider provider = newProvider(100);
+        String token = provider.generateAccessToken(member).getToken();
+        assertThat(provider.verify(token).isValid()).isTrue();
+
+        // when: 캐시 항목은 남아 있지만 토큰의 exp는 지난 시점
+        now.addAndGet(ACCESS_TOKEN_EXPIRATION + 1_000);
+        JwtTokenProvider.JwtValidationResult expired = provider.verify(token);
+
+        // then
+        assertThat(expired.isValid()).isFalse();
+        assertThat(expired.getErrorCode()).isEqualTo(ResponseCode.EXPIRED_TOKEN);
+        assertThat(cacheSize()).isZero();
+
+        double hits = cacheGets("hit");
+        JwtTokenProvider.JwtValidationResult again = provider.verify(token);
+        assertThat(again.getErrorCode()).isEqualTo(ResponseCode.EXPIRED_TOKEN);
+        assertThat(cacheGets("hit")).isEqualTo(hits);
+    }
+
+    @Test
+    @DisplayName("검증 캐시 - max-size가 0이면 캐시 없이 매번 서명과 만료를 검증한다")
+    public void verify_withoutCacheWhenMaxSizeIsZero() {
+        // given
+        JwtTokenProvider provider = newProvider(0);
+        String token = provider.generateAccessToken(member).getToken();
+
+        // when & then
+        assertThat(provider.verify(token).isValid()).isTrue();
+        assertThat(provider.verify(token).isValid()).isTrue();
+        assertThat(meterRegistry.find("cache.gets").tag("cache", CACHE_NAME).functionCounters()).isEmpty();
+
+        now.addAndGet(ACCESS_TOKEN_EXPIRATION + 1_000);
+        assertThat(provider.verify(token).getErrorCode()).isEqualTo(ResponseCode.EXPIRED_TOKEN);
+    }
+
+    @Test
+    @DisplayName("검증 캐시 - 서명을 변조한 토큰은 원본이 캐시되어 있어도 캐시를 타지 않고 INVALID_TOKEN이다")
+    public void verify_tamperedSignatureNeverHitsCache() {
+        // given
+        JwtTokenProvider provider = newProvider(100);
+        String token = provider.generateAccessToken(member).getToken();
+        assertThat(provider.verify(token).isValid()).isTrue();
+
+        // when
+        JwtTokenProvider.JwtValidationResult result = provider.verify(tamperSignature(token));
+
+        // then
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getErrorCode()).isEqualTo(ResponseCode.INVALID_TOKEN);
+        assertThat(cacheGets("hit")).isZero();
+        assertThat(cacheSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검증 캐시 - 페이로드를 변조한 토큰은 원본이 캐시되어 있어도 캐시를 타지 않고 INVALID_TOKEN이다")
+    public void verify_tamperedPayloadNeverHitsCache() {
+        // given
+        JwtTokenProvider provider = newProvider(100);
+        String token = provider.generateAccessToken(member).getToken();
+        assertThat(provider.verify(token).isValid()).isTrue();
+
+        // when: 서명은 그대로 두고 subject만 바꾼 토큰
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+        String forgedPayload = payload.replace("jwt@test.com", "admin@test.com");
+        String forged = parts[0] + "." + base64Url(forgedPayload) + "." + parts[2];
+        JwtTokenProvider.JwtValidationResult result = provider.verify(forged);
+
+        // then
+        assertThat(forgedPayload).isNotEqualTo(payload);
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getErrorCode()).isEqualTo(ResponseCode.INVALID_TOKEN);
+        assertThat(cacheGets("hit")).isZero();
+        assertThat(cacheSize()).isEqualTo(1);
+    }
+
+    private JwtTokenProvider newProvider(long verifiedCacheMaxSize) {
+        return new JwtTokenProvider(meterRegistry, SECRET, ACCESS_TOKEN_EXPIRATION, 604_800_000,
+                verifiedCacheMaxSize, now::get);
+    }
+
+    private double cacheGets(String result) {
+        return cacheMeter("cache.gets").tag("result", result).functionCounter().count();
+    }
+
+    private double cacheSize() {
+        return cacheMeter("cache.size").gauge().value();
+    }
+
+    private RequiredSearch cacheMeter(String name) {
+        return meterRegistry.get(name).tag("cache", CACHE_NAME);
+    }
+
+    /**
+     * 서명 가운데 한 글자를 바꿉니다. (마지막 글자는 패딩 비트만 바뀔 수 있으므로 피합니다.)
+     */
+    private static String tamperSignature(String token) {
+        int index = token.length() - 5;
+        char replacement = token.charAt(index) == 'A' ? 'B' : 'A';
+        return token.substring(0, index) + replacement + token.substring(index + 1);
+    }
+
+    private static String base64Url(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,49 @@
+package co.kr.mini_spring.global.security;
+
+import co.kr.mini_spring.member.domain.MemberRole;
+import co.kr.mini_spring.member.domain.event.MemberChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MemberPrincipalCacheTest {
+
+    private static final Long MEMBER_ID = 7L;
+    private static final String EMAIL = "member@example.com";
+
+    private final MemberPrincipalCache cache = new MemberPrincipalCache(new SimpleMeterRegistry(), 100, 60, 3_600_000);
+
+    @Test
+    @DisplayName("인증 버전을 모르는 회원의 토큰은 최신으로 간주하지 않는다")
+    public void isCurrentVersion_unknownMember() {
+        assertThat(cache.isCurrentVersion(MEMBER_ID, 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("회원을 조회한 뒤에는 그 버전 이상의 토큰만 최신으로 인정한다")
+    public void isCurrentVersion_afterLoad() {
+        // given
+        cache.get(EMAIL, email -> MemberAdapter.fromClaims(MEMBER_ID, email, MemberRole.USER, 3));
+
+        // when & then
+        assertThat(cache.isCurrentVersion(MEMBER_ID, 3)).isTrue();
+        assertThat(cache.isCurrentVersion(MEMBER_ID, 2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("회원 변경이 커밋되면 이전 버전 토큰을 거부하고 캐시된 주체를 무효화한다")
+    public void onMemberChanged_raisesVersion() {
+        // given
+        cache.get(EMAIL, email -> MemberAdapter.fromClaims(MEMBER_ID, email, MemberRole.USER, 3));
+
+        // when
+        cache.onMemberChanged(new MemberChangedEvent(MEMBER_ID, EMAIL, "닉네임", 4));
+
+        // then
+        assertThat(cache.isCurrentVersion(MEMBER_ID, 3)).isFalse();
+        MemberAdapter reloaded = cache.get(EMAIL, email -> MemberAdapter.fromClaims(MEMBER_ID, email, MemberRole.ADMIN, 4));
+        assertThat(reloaded.getAuthVersion()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,59 @@
+package co.kr.mini_spring.member.service;
+
+import co.kr.mini_spring.global.util.NicknameGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NicknameAllocatorTest {
+
+    private final NicknameAllocator allocator = new NicknameAllocator(null, null, 5, 10000);
+
+    @Test
+    @DisplayName("발급한 닉네임은 서로 겹치지 않고, 이미 사용 중인 닉네임은 발급하지 않는다")
+    void allocate_unique() {
+        allocator.markTaken("행복한사자#0042");
+
+        Set<String> issued = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            assertThat(issued.add(allocator.allocate())).isTrue();
+        }
+
+        assertThat(issued).doesNotContain("행복한사자#0042");
+        assertThat(issued).allSatisfy(nickname -> assertThat(NicknameGenerator.parse(nickname)).isNotNull());
+    }
+
+    @Test
+    @DisplayName("접두어의 4자리 공간이 가득 차면 그 접두어만 5자리로 넓혀 발급한다")
+    void allocate_widensSaturatedPrefix() {
+        IntStream.range(0, NicknameGenerator.capacity(4))
+                .forEach(suffix -> allocator.markTaken(NicknameGenerator.format(0, suffix, 4)));
+
+        List<String> issued = IntStream.range(0, 5_000).mapToObj(i -> allocator.allocate()).toList();
+
+        List<NicknameGenerator.Parsed> saturated = issued.stream()
+                .map(NicknameGenerator::parse)
+                .filter(parsed -> parsed.prefix() == 0)
+                .toList();
+        assertThat(saturated).isNotEmpty().allSatisfy(parsed -> assertThat(parsed.digits()).isEqualTo(5));
+        assertThat(issued.stream().map(NicknameGenerator::parse).filter(parsed -> parsed.prefix() != 0))
+                .allSatisfy(parsed -> assertThat(parsed.digits()).isEqualTo(4));
+    }
+
+    @Test
+    @DisplayName("랜덤 닉네임 형식만 접두어/숫자/자릿수로 해석한다")
+    void parse_format() {
+        assertThat(NicknameGenerator.format(0, 42, 4)).isEqualTo("행복한사자#0042");
+        assertThat(NicknameGenerator.parse("행복한사자#00042")).isEqualTo(new NicknameGenerator.Parsed(0, 42, 5));
+        assertThat(NicknameGenerator.parse("시원한고양이#9999")).isEqualTo(new NicknameGenerator.Parsed(99, 9999, 4));
+        assertThat(NicknameGenerator.parse("테스터닉네임")).isNull();
+        assertThat(NicknameGenerator.parse("행복한사자#12a4")).isNull();
+        assertThat(NicknameGenerator.parse("행복한사자#042")).isNull();
+    }
+}
@@ -0,0 +1,74 @@
+package co.kr.mini_spring.post.domain.repository;
+
+import co.kr.mini_spring.global.common.exception.BusinessException;
+import co.kr.mini_spring.global.common.response.ResponseCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PostFeedCursorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 19, 12, 30, 15, 123_456_000);
+
+    @Test
+    @DisplayName("인코딩한 커서를 같은 정렬 기준으로 해석하면 정렬 키 튜플이 그대로 복원된다")
+    public void encode_decode_roundTrip() {
+        // given
+        PostFeedCursor cursor = new PostFeedCursor(PostFeedCursor.Sort.LIKES, 42, CREATED_AT, 1234L);
+
+        // when
+        String token = cursor.encode();
+        PostFeedCursor decoded = PostFeedCursor.decode(token, PostFeedCursor.Sort.LIKES);
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(token).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지 요청으로 해석한다")
+    public void decode_blankIsFirstPage() {
+        assertThat(PostFeedCursor.decode("", PostFeedCursor.Sort.RECENT)).isNull();
+        assertThat(PostFeedCursor.decode("  ", PostFeedCursor.Sort.RECENT)).isNull();
+        assertThat(PostFeedCursor.decode(null, PostFeedCursor.Sort.RECENT)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 정렬 기준으로 발급된 커서는 거부한다")
+    public void decode_rejectsSortMismatch() {
+        // given
+        String token = new PostFeedCursor(PostFeedCursor.Sort.RECENT, 0, CREATED_AT, 1L).encode();
+
+        // when & then
+        assertInvalidCursor(token, PostFeedCursor.Sort.LIKES);
+    }
+
+    @Test
+    @DisplayName("Base64가 아니거나 형식/버전/값이 잘못된 커서는 INVALID_CURSOR로 거부한다")
+    public void decode_rejectsMalformedCursor() {
+        assertInvalidCursor("not base64!", PostFeedCursor.Sort.RECENT);
+        assertInvalidCursor(encodeRaw("v1|RECENT|0|2026-01-19T12:30"), PostFeedCursor.Sort.RECENT);
+        assertInvalidCursor(encodeRaw("v2|RECENT|0|2026-01-19T12:30|1"), PostFeedCursor.Sort.RECENT);
+        assertInvalidCursor(encodeRaw("v1|NEWEST|0|2026-01-19T12:30|1"), PostFeedCursor.Sort.RECENT);
+        assertInvalidCursor(encodeRaw("v1|RECENT|many|2026-01-19T12:30|1"), PostFeedCursor.Sort.RECENT);
+        assertInvalidCursor(encodeRaw("v1|RECENT|0|yesterday|1"), PostFeedCursor.Sort.RECENT);
+        assertInvalidCursor(encodeRaw("v1|RECENT|0|2026-01-19T12:30|"), PostFeedCursor.Sort.RECENT);
+    }
+
+    private static void assertInvalidCursor(String token, PostFeedCursor.Sort sort) {
+        assertThatThrownBy(() -> PostFeedCursor.decode(token, sort))
+                .isInstanceOf(BusinessException.class)
+                .extracting("responseCode")
+                .isEqualTo(ResponseCode.INVALID_CURSOR);
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,171 @@
+package co.kr.mini_spring.post.search;
+
+import co.kr.mini_spring.member.domain.Member;
+import co.kr.mini_spring.member.domain.repository.MemberRepository;
+import co.kr.mini_spring.post.dto.request.PostCreateRequest;
+import co.kr.mini_spring.post.dto.request.PostUpdateRequest;
+import co.kr.mini_spring.post.service.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class HashtagPostingIndexTest {
+
+    @Autowired
+    private HashtagPostingIndex hashtagPostingIndex;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member member;
+    private String tagPrefix;
+    private String first;
+    private String second;
+    private String third;
+    private final List<Long> postIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 다른 테스트/이전 실행의 해시태그와 겹치지 않도록 실행마다 다른 이름을 씁니다.
+        tagPrefix = "색인" + System.nanoTime();
+        first = tagPrefix + "하나";
+        second = tagPrefix + "둘";
+        third = tagPrefix + "셋";
+        member = memberRepository.save(Member.builder()
+                .email(tagPrefix + "@test.com")
+                .name("색인테스터")
+                .nickname(tagPrefix)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 게시글-해시태그 매핑 → 게시글 → 해시태그 → 회원 순으로 삭제 (외래 키 순서)
+        for (Long postId : postIds) {
+            jdbcTemplate.update("DELETE FROM post_hashtag WHERE post_id = ?", postId);
+            jdbcTemplate.update("DELETE FROM post WHERE id = ?", postId);
+        }
+        postIds.clear();
+        jdbcTemplate.update("DELETE FROM hashtag WHERE name LIKE ?", tagPrefix + "%");
+        memberRepository.deleteById(member.getId());
+    }
+
+    @Test
+    @DisplayName("포스팅 갱신 - 게시글 생성/해시태그 수정/삭제가 커밋되면 포스팅 목록이 post_hashtag 행과 같다")
+    public void events_keepPostingsInSyncWithPostHashtagRows() {
+        // given
+        Long postA = createPost(List.of(first, second));
+        Long postB = createPost(List.of(second));
+        assertPostingsMatchRows();
+        assertThat(postingOf(second)).containsExactlyInAnyOrder(postA, postB);
+
+        // when: 해시태그 수정 (first 제거, third 추가)
+        postService.updatePost(postA, updateRequest(List.of(second, third)), member);
+
+        // then
+        assertPostingsMatchRows();
+        assertThat(postingOf(first)).isEmpty();
+        assertThat(postingOf(third)).containsExactly(postA);
+
+        // when: 게시글 삭제
+        postService.deletePost(postB, member);
+
+        // then
+        assertPostingsMatchRows();
+        assertThat(postingOf(second)).containsExactly(postA);
+    }
+
+    @Test
+    @DisplayName("포스팅 조회 - AND는 포스팅 목록의 교집합, OR는 합집합이며 없는 해시태그가 있으면 AND는 비어 있다")
+    public void find_intersectsAndUnitesPostings() {
+        // given
+        Long postA = createPost(List.of(first, second));
+        Long postB = createPost(List.of(second));
+        Long postC = createPost(List.of(first));
+
+        // when & then
+        assertThat(ids(hashtagPostingIndex.find(Set.of(first, second), true))).containsExactly(postA);
+        assertThat(ids(hashtagPostingIndex.find(Set.of(first, second), false))).containsExactlyInAnyOrder(postA, postB, postC);
+        assertThat(ids(hashtagPostingIndex.find(Set.of(first, tagPrefix + "없음"), true))).isEmpty();
+        assertThat(ids(hashtagPostingIndex.find(Set.of(first, tagPrefix + "없음"), false))).containsExactlyInAnyOrder(postA, postC);
+    }
+
+    @Test
+    @DisplayName("재구성 - 다른 인스턴스에서 바뀐 매핑은 재구성으로 반영되고, 삭제된 게시글은 다시 들어오지 않는다")
+    public void rebuild_matchesPostHashtagRows() {
+        // given
+        Long postA = createPost(List.of(first));
+        Long postB = createPost(List.of(second));
+        Long deleted = createPost(List.of(first));
+        postService.deletePost(deleted, member);
+        // 이벤트 없이 DB에서만 바뀐 매핑 (다른 인스턴스의 변경)
+        Long secondId = jdbcTemplate.queryForObject("SELECT id FROM hashtag WHERE name = ?", Long.class, second);
+        jdbcTemplate.update("INSERT INTO post_hashtag (post_id, hashtag_id, created_at) VALUES (?, ?, NOW())", postA, secondId);
+        assertThat(postingOf(second)).containsExactly(postB);
+
+        // when
+        hashtagPostingIndex.rebuild();
+
+        // then
+        assertThat(hashtagPostingIndex.isReady()).isTrue();
+        assertPostingsMatchRows();
+        assertThat(postingOf(second)).containsExactlyInAnyOrder(postA, postB);
+        assertThat(postingOf(first)).containsExactly(postA);
+    }
+
+    private void assertPostingsMatchRows() {
+        for (String name : List.of(first, second, third)) {
+            List<Long> rows = jdbcTemplate.queryForList(
+                    "SELECT ph.post_id FROM post_hashtag ph JOIN hashtag h ON h.id = ph.hashtag_id " +
+                            "JOIN post p ON p.id = ph.post_id WHERE h.name = ? AND p.deleted_at IS NULL",
+                    Long.class, name);
+            assertThat(postingOf(name)).as(name).containsExactlyInAnyOrderElementsOf(rows);
+        }
+    }
+
+    private List<Long> postingOf(String name) {
+        return ids(hashtagPostingIndex.find(Set.of(name), false));
+    }
+
+    private static List<Long> ids(Roaring64NavigableMap posting) {
+        return Arrays.stream(posting.toArray()).boxed().toList();
+    }
+
+    private Long createPost(List<String> hashtags) {
+        PostCreateRequest request = new PostCreateRequest();
+        ReflectionTestUtils.setField(request, "title", "해시태그 색인 테스트 제목");
+        ReflectionTestUtils.setField(request, "content", "해시태그 색인 테스트 내용");
+        ReflectionTestUtils.setField(request, "hashtags", hashtags);
+        Long postId = postService.createPost(request, member).getId();
+        postIds.add(postId);
+        return postId;
+    }
+
+    private static PostUpdateRequest updateRequest(List<String> hashtags) {
+        PostUpdateRequest request = new PostUpdateRequest();
+        ReflectionTestUtils.setField(request, "title", "해시태그 색인 테스트 제목");
+        ReflectionTestUtils.setField(request, "content", "해시태그 색인 테스트 내용");
+        ReflectionTestUtils.setField(request, "hashtags", hashtags);
+        return request;
+    }
+}
@@ -0,0 +1,62 @@
+package co.kr.mini_spring.post.search;
+
+import co.kr.mini_spring.post.domain.QPost;
+import co.kr.mini_spring.post.domain.event.PostChangedEvent;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InMemoryPostSearchEngineTest {
+
+    @Test
+    @DisplayName("일치 게시글이 기준 이하면 ID 목록을 IN 조건으로 넘긴다")
+    public void matchCondition_inlinesFewIds() {
+        // given
+        InMemoryPostSearchEngine engine = engineWith(10);
+
+        // when
+        BooleanExpression condition = engine.matchCondition("스프링");
+
+        // then
+        assertThat(condition).isEqualTo(QPost.post.id.in(Set.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    @DisplayName("일치 게시글이 기준보다 많으면 ID 목록 대신 LIKE 조건으로 DB가 거르게 한다")
+    public void matchCondition_fallsBackToLikeForManyIds() {
+        // given
+        InMemoryPostSearchEngine engine = engineWith(2);
+
+        // when
+        BooleanExpression condition = engine.matchCondition(" 스프링 ");
+
+        // then
+        assertThat(condition).isEqualTo(QPost.post.published.isTrue()
+                .and(LikePostSearchEngine.containsAll(LikePostSearchEngine.words("스프링"))));
+    }
+
+    @Test
+    @DisplayName("일치 게시글이 없으면 기준과 관계없이 어떤 게시글도 남기지 않는다")
+    public void matchCondition_noMatches() {
+        // given
+        InMemoryPostSearchEngine engine = engineWith(2);
+
+        // when
+        BooleanExpression condition = engine.matchCondition("점심");
+
+        // then
+        assertThat(condition.toString()).doesNotContain("post");
+    }
+
+    private static InMemoryPostSearchEngine engineWith(int maxInlineIds) {
+        InMemoryPostSearchEngine engine = new InMemoryPostSearchEngine(null, 10_000, 500, maxInlineIds);
+        engine.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.CREATED, 1L, 1L, true, "스프링 입문", "설정"));
+        engine.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.CREATED, 2L, 1L, true, "잡담", "스프링을 배워 봅시다"));
+        engine.onPostChanged(new PostChangedEvent(PostChangedEvent.Type.CREATED, 3L, 2L, true, "스프링부트 정리", "설정 방법"));
+        return engine;
+    }
+}
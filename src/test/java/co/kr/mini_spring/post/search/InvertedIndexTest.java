@@ -0,0 +1,61 @@
+package co.kr.mini_spring.post.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InvertedIndexTest {
+
+    private static final int MAX_CHARS = 10_000;
+
+    @Test
+    @DisplayName("조사가 붙은 한글 어절도 부분 일치로 검색되고, 제목에 포함된 게시글이 먼저 온다")
+    public void search_koreanPartialMatch() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, NgramTokenizer.documentTerms("자바 입문", "스프링을 배워 봅시다", MAX_CHARS));
+        index.put(2L, NgramTokenizer.documentTerms("스프링부트 정리", "설정 방법", MAX_CHARS));
+        index.put(3L, NgramTokenizer.documentTerms("잡담", "오늘 점심 메뉴", MAX_CHARS));
+
+        // when & then
+        assertThat(index.search(NgramTokenizer.queryTerms("스프링"), 10)).containsExactly(2L, 1L);
+        assertThat(index.search(NgramTokenizer.queryTerms("점심"), 10)).containsExactly(3L);
+        assertThat(index.search(NgramTokenizer.queryTerms("스프링 점심"), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("게시글을 다시 색인하거나 제거하면 이전 내용으로는 검색되지 않는다")
+    public void putAndRemove_replacesPostings() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, NgramTokenizer.documentTerms("Spring Boot", "", MAX_CHARS));
+
+        // when
+        index.put(1L, NgramTokenizer.documentTerms("Django", "", MAX_CHARS));
+
+        // then
+        assertThat(index.search(NgramTokenizer.queryTerms("spring"), 10)).isEmpty();
+        assertThat(index.search(NgramTokenizer.queryTerms("DJANGO"), 10)).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search(NgramTokenizer.queryTerms("django"), 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 일치 조회는 관련도 상위 건수 제한 없이 모든 일치 게시글을 반환한다")
+    public void matchAll_returnsEveryMatch() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 1; id <= 50; id++) {
+            index.put(id, NgramTokenizer.documentTerms("스프링 " + id, "", MAX_CHARS));
+        }
+        index.put(51L, NgramTokenizer.documentTerms("잡담", "", MAX_CHARS));
+
+        // when & then
+        assertThat(index.search(NgramTokenizer.queryTerms("스프링"), 10)).hasSize(10);
+        assertThat(index.matchAll(NgramTokenizer.queryTerms("스프링"))).hasSize(50).doesNotContain(51L);
+        assertThat(index.matchAll(NgramTokenizer.queryTerms("스프링 잡담"))).isEmpty();
+    }
+}
@@ -0,0 +1,35 @@
+package co.kr.mini_spring.post.search;
+
+import co.kr.mini_spring.post.domain.QPost;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LikePostSearchEngineTest {
+
+    private final LikePostSearchEngine engine = new LikePostSearchEngine(null);
+
+    @Test
+    @DisplayName("검색어를 단어로 나누지 않고 앞뒤 공백만 제거한 구절 전체로 제목 또는 본문을 찾는다")
+    public void matchCondition_matchesWholePhrase() {
+        // when
+        BooleanExpression condition = engine.matchCondition("  스프링 부트 ");
+
+        // then
+        QPost post = QPost.post;
+        assertThat(condition).isEqualTo(post.published.isTrue()
+                .and(post.title.contains("스프링 부트").or(post.content.contains("스프링 부트"))));
+    }
+
+    @Test
+    @DisplayName("공백뿐인 검색어는 어떤 게시글도 남기지 않는다")
+    public void matchCondition_blankKeyword() {
+        // when
+        BooleanExpression condition = engine.matchCondition("   ");
+
+        // then
+        assertThat(condition.toString()).doesNotContain("post");
+    }
+}
@@ -0,0 +1,194 @@
+package co.kr.mini_spring.post.service;
+
+import co.kr.mini_spring.global.common.response.CursorResponse;
+import co.kr.mini_spring.global.common.response.PageResponse;
+import co.kr.mini_spring.member.domain.Member;
+import co.kr.mini_spring.member.domain.repository.MemberRepository;
+import co.kr.mini_spring.post.domain.Comment;
+import co.kr.mini_spring.post.domain.Post;
+import co.kr.mini_spring.post.domain.repository.CommentQueryRepository;
+import co.kr.mini_spring.post.domain.repository.CommentRepository;
+import co.kr.mini_spring.post.domain.repository.PostRepository;
+import co.kr.mini_spring.post.dto.response.CommentResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class CommentTreeLoaderTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentTreeLoader commentTreeLoader;
+
+    @Autowired
+    private CommentQueryRepository commentQueryRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+    private Long postId;
+    // 대댓글 5개 / 1개 / 0개를 가진 최상위 댓글
+    private Long manyRepliesId;
+    private Long oneReplyId;
+    private Long noRepliesId;
+    private final List<Long> manyReplyIds = new ArrayList<>();
+    private Long singleReplyId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        Member member = memberRepository.save(Member.builder()
+                .email("comment" + suffix + "@test.com")
+                .name("댓글테스터")
+                .nickname("댓글" + suffix)
+                .build());
+        memberId = member.getId();
+        Post post = postRepository.save(Post.builder()
+                .title("댓글 트리 테스트 제목")
+                .content("댓글 트리 테스트 내용")
+                .member(member)
+                .build());
+        postId = post.getId();
+
+        Comment manyReplies = saveComment(member, post, null);
+        Comment oneReply = saveComment(member, post, null);
+        manyRepliesId = manyReplies.getId();
+        oneReplyId = oneReply.getId();
+        noRepliesId = saveComment(member, post, null).getId();
+        for (int i = 0; i < 5; i++) {
+            manyReplyIds.add(saveComment(member, post, manyReplies).getId());
+        }
+        singleReplyId = saveComment(member, post, oneReply).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 대댓글 → 최상위 댓글 → 게시글 → 회원 순으로 삭제 (외래 키 순서)
+        jdbcTemplate.update("DELETE FROM comment WHERE post_id = ? AND depth = 1", postId);
+        jdbcTemplate.update("DELETE FROM comment WHERE post_id = ?", postId);
+        jdbcTemplate.update("DELETE FROM post WHERE id = ?", postId);
+        memberRepository.deleteById(memberId);
+        manyReplyIds.clear();
+    }
+
+    @Test
+    @DisplayName("댓글 목록 - 대댓글은 부모별로 작성 순 replyLimit개까지만 붙이고, 잘린 부모에만 hasMoreReplies와 커서를 준다")
+    public void getComments_capsRepliesPerParent() {
+        // when
+        PageResponse<CommentResponse> page = commentService.getComments(postId, 0, 10, 2);
+
+        // then
+        CommentResponse many = find(page.getContent(), manyRepliesId);
+        assertThat(many.getChildren()).extracting(CommentResponse::getId)
+                .containsExactlyElementsOf(manyReplyIds.subList(0, 2));
+        assertThat(many.isHasMoreReplies()).isTrue();
+        assertThat(many.getNextReplyCursor()).isEqualTo(String.valueOf(manyReplyIds.get(1)));
+
+        CommentResponse one = find(page.getContent(), oneReplyId);
+        assertThat(one.getChildren()).extracting(CommentResponse::getId).containsExactly(singleReplyId);
+        assertThat(one.isHasMoreReplies()).isFalse();
+        assertThat(one.getNextReplyCursor()).isNull();
+
+        CommentResponse none = find(page.getContent(), noRepliesId);
+        assertThat(none.getChildren()).isEmpty();
+        assertThat(none.isHasMoreReplies()).isFalse();
+    }
+
+    @Test
+    @DisplayName("대댓글 더 보기 - 댓글 목록의 커서부터 이어서 조회하면 빠지거나 겹치는 대댓글 없이 끝까지 조회된다")
+    public void getReplies_continuesFromReplyCursorWithoutGapsOrDuplicates() {
+        // given
+        CommentResponse many = find(commentService.getComments(postId, 0, 10, 2).getContent(), manyRepliesId);
+        List<Long> seen = new ArrayList<>(many.getChildren().stream().map(CommentResponse::getId).toList());
+        String cursor = many.getNextReplyCursor();
+
+        // when: 2개씩 끝까지 이어서 조회
+        int requests = 0;
+        boolean hasNext = true;
+        while (hasNext && requests++ < 10) {
+            CursorResponse<CommentResponse> replies = commentService.getReplies(manyRepliesId, cursor, 2);
+            replies.getContent().forEach(reply -> seen.add(reply.getId()));
+            hasNext = replies.isHasNext();
+            cursor = replies.getNextCursor();
+        }
+
+        // then
+        assertThat(seen).containsExactlyElementsOf(manyReplyIds);
+        assertThat(requests).isEqualTo(2); // 남은 3개 = 2 + 1
+        assertThat(cursor).isNull();
+    }
+
+    @Test
+    @DisplayName("트리 조립 - 부모 수와 관계없이 대댓글(작성자 포함)은 쿼리 한 번으로 조회한다")
+    public void load_fetchesRepliesInSingleQuery() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean wasEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // given
+                List<Comment> parents = commentQueryRepository.findAllTopLevelCommentsByPostId(postId);
+                statistics.clear();
+
+                // when
+                List<CommentTreeLoader.CommentThread> threads = commentTreeLoader.load(parents, 2);
+                threads.forEach(thread -> thread.replies().forEach(reply -> reply.getMember().getNickname()));
+
+                // then
+                assertThat(threads).hasSize(3);
+                assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            });
+        } finally {
+            statistics.setStatisticsEnabled(wasEnabled);
+        }
+    }
+
+    private Comment saveComment(Member member, Post post, Comment parent) {
+        return commentRepository.save(Comment.builder()
+                .content(parent == null ? "댓글" : "대댓글")
+                .member(member)
+                .post(post)
+                .parent(parent)
+                .depth(parent == null ? 0 : 1)
+                .build());
+    }
+
+    private static CommentResponse find(List<CommentResponse> comments, Long id) {
+        return comments.stream()
+                .filter(comment -> comment.getId().equals(id))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,141 @@
+package co.kr.mini_spring.post.service;
+
+import co.kr.mini_spring.member.domain.Member;
+import co.kr.mini_spring.member.domain.repository.MemberRepository;
+import co.kr.mini_spring.post.domain.Hashtag;
+import co.kr.mini_spring.post.domain.repository.HashtagRepository;
+import co.kr.mini_spring.post.dto.request.PostCreateRequest;
+import co.kr.mini_spring.post.dto.request.PostUpdateRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class HashtagServiceTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private HashtagRepository hashtagRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member member;
+    private String tagPrefix;
+    private final List<Long> postIds = Collections.synchronizedList(new ArrayList<>());
+    private final int THREAD_COUNT = 20;
+
+    @BeforeEach
+    void setUp() {
+        // 다른 테스트/이전 실행의 해시태그와 겹치지 않도록 실행마다 다른 이름을 씁니다.
+        tagPrefix = "태그" + System.nanoTime();
+        member = memberRepository.save(Member.builder()
+                .email(tagPrefix + "@test.com")
+                .name("해시태그테스터")
+                .nickname(tagPrefix)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 게시글-해시태그 매핑 → 게시글 → 해시태그 → 회원 순으로 삭제 (외래 키 순서)
+        for (Long postId : postIds) {
+            jdbcTemplate.update("DELETE FROM post_hashtag WHERE post_id = ?", postId);
+            jdbcTemplate.update("DELETE FROM post WHERE id = ?", postId);
+        }
+        postIds.clear();
+        jdbcTemplate.update("DELETE FROM hashtag WHERE name LIKE ?", tagPrefix + "%");
+        memberRepository.deleteById(member.getId());
+    }
+
+    @Test
+    @DisplayName("해시태그 동시성 테스트 - 여러 게시글이 같은 새 해시태그를 동시에 쓰면 해시태그 행은 하나이고 매핑은 모두 남아야 한다")
+    public void attach_sameNewHashtagConcurrently() throws Exception {
+        // given
+        String tag = tagPrefix + "동시";
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                postIds.add(postService.createPost(createRequest(List.of(tag)), member).getId());
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(); // 중복 키 오류 등 예외가 있으면 여기서 실패
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM hashtag WHERE name = ?", Long.class, tag)).isEqualTo(1);
+        Hashtag hashtag = hashtagRepository.findByName(tag).orElseThrow();
+        assertThat(hashtag.getUsageCount()).isEqualTo(THREAD_COUNT);
+        assertThat(jdbcTemplate.queryForList("SELECT post_id FROM post_hashtag WHERE hashtag_id = ?", Long.class, hashtag.getId()))
+                .containsExactlyInAnyOrderElementsOf(postIds);
+    }
+
+    @Test
+    @DisplayName("게시글 수정 시 빠진 해시태그는 매핑을 지우고 사용 횟수를 줄이며, 새 해시태그만 추가한다")
+    public void update_removesDroppedHashtags() {
+        // given
+        String kept = tagPrefix + "유지";
+        String removed = tagPrefix + "삭제";
+        String added = tagPrefix + "추가";
+        Long postId = postService.createPost(createRequest(List.of(kept, removed)), member).getId();
+        postIds.add(postId);
+
+        // when
+        postService.updatePost(postId, updateRequest(List.of(kept, added)), member);
+
+        // then
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT h.name FROM post_hashtag ph JOIN hashtag h ON h.id = ph.hashtag_id WHERE ph.post_id = ?", String.class, postId))
+                .containsExactlyInAnyOrder(kept, added);
+        Map<String, Integer> usageCounts = hashtagRepository.findByNameIn(List.of(kept, removed, added)).stream()
+                .collect(Collectors.toMap(Hashtag::getName, Hashtag::getUsageCount));
+        assertThat(usageCounts).containsExactlyInAnyOrderEntriesOf(Map.of(kept, 1, removed, 0, added, 1));
+    }
+
+    private static PostCreateRequest createRequest(List<String> hashtags) {
+        PostCreateRequest request = new PostCreateRequest();
+        ReflectionTestUtils.setField(request, "title", "해시태그 테스트 제목");
+        ReflectionTestUtils.setField(request, "content", "해시태그 테스트 내용");
+        ReflectionTestUtils.setField(request, "hashtags", hashtags);
+        return request;
+    }
+
+    private static PostUpdateRequest updateRequest(List<String> hashtags) {
+        PostUpdateRequest request = new PostUpdateRequest();
+        ReflectionTestUtils.setField(request, "title", "해시태그 테스트 제목");
+        ReflectionTestUtils.setField(request, "content", "해시태그 테스트 내용");
+        ReflectionTestUtils.setField(request, "hashtags", hashtags);
+        return request;
+    }
+}
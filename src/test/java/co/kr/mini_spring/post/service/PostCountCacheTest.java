@@ -0,0 +1,150 @@
+package co.kr.mini_spring.post.service;
+
+import co.kr.mini_spring.post.domain.event.PostChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PostCountCacheTest {
+
+    private static final long TTL_SECONDS = 30;
+    private static final long STALE_TTL_SECONDS = 600;
+    private static final long COUNTER_TTL_SECONDS = 60;
+    private static final Long AUTHOR_ID = 7L;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final PostCountCache cache =
+            new PostCountCache(TTL_SECONDS, STALE_TTL_SECONDS, 100, COUNTER_TTL_SECONDS, nanos::get);
+    private final AtomicInteger counts = new AtomicInteger();
+
+    @Test
+    @DisplayName("카운터 - 공개 게시글 수는 COUNT로 한 번 초기화한 뒤 counter-ttl이 지날 때까지 COUNT 없이 응답한다")
+    public void getTotal_counterExpiresAfterCounterTtl() {
+        // given
+        assertThat(publishedTotal(null, 5)).isEqualTo(5);
+
+        // when & then
+        advance(Duration.ofSeconds(COUNTER_TTL_SECONDS - 1));
+        assertThat(publishedTotal(null, 9)).isEqualTo(5);
+        assertThat(counts).hasValue(1);
+
+        advance(Duration.ofSeconds(1));
+        assertThat(publishedTotal(null, 9)).isEqualTo(9);
+        assertThat(counts).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("카운터 - 공개 게시글 생성/삭제/공개 전환은 전체와 작성자 카운터를 COUNT 없이 증감한다")
+    public void onPostChanged_adjustsCounters() {
+        // given
+        publishedTotal(null, 10);
+        publishedTotal(AUTHOR_ID, 3);
+
+        // when
+        cache.onPostChanged(event(PostChangedEvent.Type.CREATED, true));
+        cache.onPostChanged(event(PostChangedEvent.Type.CREATED, false));
+        cache.onPostChanged(event(PostChangedEvent.Type.CREATED, true));
+        cache.onPostChanged(event(PostChangedEvent.Type.DELETED, true));
+        cache.onPostChanged(event(PostChangedEvent.Type.DELETED, false));
+        cache.onPostChanged(event(PostChangedEvent.Type.PUBLISH_TOGGLED, false));
+        cache.onPostChanged(event(PostChangedEvent.Type.PUBLISH_TOGGLED, true));
+        cache.onPostChanged(event(PostChangedEvent.Type.PUBLISH_TOGGLED, true));
+        cache.onPostChanged(event(PostChangedEvent.Type.UPDATED, true));
+
+        // then: +1 +0 +1 -1 -0 -1 +1 +1 +0
+        assertThat(publishedTotal(null, 0)).isEqualTo(12);
+        assertThat(publishedTotal(AUTHOR_ID, 0)).isEqualTo(5);
+        assertThat(counts).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("카운터 - 초기화되지 않은 카운터는 이벤트로 만들지 않고 다음 조회에서 COUNT로 초기화한다")
+    public void onPostChanged_skipsUninitializedCounter() {
+        // when
+        cache.onPostChanged(event(PostChangedEvent.Type.CREATED, true));
+
+        // then
+        assertThat(publishedTotal(null, 4)).isEqualTo(4);
+        assertThat(counts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("필터 COUNT - 정규화한 같은 조건은 TTL 동안 캐시하고, TTL이 지나면 다시 센다")
+    public void getTotal_filterCountExpiresAfterTtl() {
+        // given
+        assertThat(keywordTotal("Spring", false, 3).value()).isEqualTo(3);
+
+        // when & then
+        advance(Duration.ofSeconds(TTL_SECONDS - 1));
+        assertThat(keywordTotal("  spring ", false, 8).value()).isEqualTo(3);
+        assertThat(counts).hasValue(1);
+
+        advance(Duration.ofSeconds(1));
+        assertThat(keywordTotal("spring", false, 8).value()).isEqualTo(8);
+        assertThat(counts).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("필터 COUNT - 게시글 공개 전환/삭제가 커밋되면 캐시를 무효화하여 다음 조회에서 다시 센다")
+    public void onPostChanged_invalidatesFilterCountsOnPublishAndDelete() {
+        // given
+        keywordTotal("spring", false, 3);
+
+        // when & then
+        cache.onPostChanged(event(PostChangedEvent.Type.PUBLISH_TOGGLED, true));
+        assertThat(keywordTotal("spring", false, 4).value()).isEqualTo(4);
+        assertThat(keywordTotal("spring", false, 9).value()).isEqualTo(4);
+
+        cache.onPostChanged(event(PostChangedEvent.Type.DELETED, true));
+        assertThat(keywordTotal("spring", false, 2).value()).isEqualTo(2);
+        assertThat(counts).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("근사 모드 - 무효화된 뒤에도 stale-ttl 동안은 이전 COUNT를 근사값으로 재사용한다")
+    public void getTotal_approximateReusesStaleCountUntilStaleTtl() {
+        // given
+        keywordTotal("spring", false, 3);
+        cache.onPostChanged(event(PostChangedEvent.Type.DELETED, true));
+
+        // when
+        PostCountCache.Total approximate = keywordTotal("spring", true, 2);
+
+        // then
+        assertThat(approximate).isEqualTo(new PostCountCache.Total(3, true));
+        assertThat(counts).hasValue(1);
+
+        advance(Duration.ofSeconds(STALE_TTL_SECONDS));
+        assertThat(keywordTotal("spring", true, 2)).isEqualTo(new PostCountCache.Total(2, false));
+        assertThat(counts).hasValue(2);
+    }
+
+    private long publishedTotal(Long authorId, long count) {
+        return cache.getTotal(true, null, null, authorId, false, counter(count)).value();
+    }
+
+    private PostCountCache.Total keywordTotal(String keyword, boolean approximate, long count) {
+        return cache.getTotal(true, keyword, null, null, approximate, counter(count));
+    }
+
+    private LongSupplier counter(long count) {
+        return () -> {
+            counts.incrementAndGet();
+            return count;
+        };
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static PostChangedEvent event(PostChangedEvent.Type type, boolean published) {
+        return new PostChangedEvent(type, 1L, AUTHOR_ID, published, "제목", "내용");
+    }
+}
@@ -0,0 +1,71 @@
+package co.kr.mini_spring.post.service;
+
+import co.kr.mini_spring.member.domain.event.MemberChangedEvent;
+import co.kr.mini_spring.post.dto.response.PostDetailSnapshot;
+import co.kr.mini_spring.post.dto.response.PostDetailSnapshot.CommentSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PostDetailCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 19, 12, 0);
+    private static final Long RENAMED_ID = 7L;
+
+    @Test
+    @DisplayName("회원 닉네임이 바뀌면 그 회원이 게시글이나 답글 작성자로 담긴 스냅샷만 무효화한다")
+    public void onMemberChanged_evictsSnapshotsShowingOldName() {
+        // given: 게시글 1은 작성자, 게시글 2는 답글 작성자, 게시글 3은 관계없음
+        PostDetailCache cache = new PostDetailCache(new SimpleMeterRegistry(), 100, 30);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, () -> snapshot(1L, RENAMED_ID, "예전닉네임", List.of()));
+        cache.get(2L, () -> snapshot(2L, 1L, "작성자",
+                List.of(comment(10L, 1L, "작성자", List.of(comment(11L, RENAMED_ID, "예전닉네임", List.of()))))));
+        cache.get(3L, () -> snapshot(3L, 1L, "작성자", List.of(comment(12L, 2L, "다른회원", List.of()))));
+
+        // when
+        cache.onMemberChanged(new MemberChangedEvent(RENAMED_ID, "renamed@example.com", "새닉네임", 0));
+
+        // then
+        cache.get(1L, () -> load(loads, 1L));
+        cache.get(2L, () -> load(loads, 2L));
+        cache.get(3L, () -> load(loads, 3L));
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("닉네임이 그대로인 회원 정보 변경(로그인 시 정보 갱신 등)은 스냅샷을 무효화하지 않는다")
+    public void onMemberChanged_keepsSnapshotsWhenNameUnchanged() {
+        // given
+        PostDetailCache cache = new PostDetailCache(new SimpleMeterRegistry(), 100, 30);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, () -> snapshot(1L, RENAMED_ID, "닉네임", List.of()));
+
+        // when
+        cache.onMemberChanged(new MemberChangedEvent(RENAMED_ID, "renamed@example.com", "닉네임", 1));
+
+        // then
+        cache.get(1L, () -> load(loads, 1L));
+        assertThat(loads.get()).isZero();
+    }
+
+    private static PostDetailSnapshot load(AtomicInteger loads, Long postId) {
+        loads.incrementAndGet();
+        return snapshot(postId, RENAMED_ID, "새닉네임", List.of());
+    }
+
+    private static PostDetailSnapshot snapshot(Long postId, Long memberId, String memberName, List<CommentSnapshot> comments) {
+        return new PostDetailSnapshot(postId, "제목", "본문", memberId, memberName, Set.of(), comments, NOW, NOW);
+    }
+
+    private static CommentSnapshot comment(Long commentId, Long memberId, String memberName, List<CommentSnapshot> children) {
+        return new CommentSnapshot(commentId, "댓글", memberId, memberName, null, false, NOW, NOW, children);
+    }
+}
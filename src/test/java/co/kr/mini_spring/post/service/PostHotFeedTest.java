@@ -0,0 +1,272 @@
+package co.kr.mini_spring.post.service;
+
+import co.kr.mini_spring.member.domain.Member;
+import co.kr.mini_spring.member.domain.event.MemberChangedEvent;
+import co.kr.mini_spring.post.domain.Post;
+import co.kr.mini_spring.post.domain.event.PostChangedEvent;
+import co.kr.mini_spring.post.domain.event.PostLikeCountsFlushedEvent;
+import co.kr.mini_spring.post.domain.repository.PostQueryRepository;
+import co.kr.mini_spring.post.dto.response.PostSummaryResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PostHotFeedTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 19, 12, 0);
+    private static final Member AUTHOR = Member.builder().email("author@example.com").nickname("작성자").build();
+
+    private final PostQueryRepository postQueryRepository = mock(PostQueryRepository.class);
+
+    @Test
+    @DisplayName("창 안의 페이지는 메모리에서 응답하고, 창이 전체를 담지 못하면 창을 벗어나는 페이지는 DB 조회로 넘긴다")
+    public void findPage_servesOnlyPagesInsideWindow() {
+        // given: 창 크기 3, 공개 게시글은 3개 이상
+        PostHotFeed feed = newFeed(3, List.of(post(3, 0, 3), post(2, 0, 2), post(1, 0, 1)));
+
+        // when
+        Optional<Page<PostSummaryResponse>> first = feed.findPage(PageRequest.of(0, 2, PostHotFeed.RECENT_SORT), () -> 10L);
+        Optional<Page<PostSummaryResponse>> second = feed.findPage(PageRequest.of(1, 2, PostHotFeed.RECENT_SORT), () -> 10L);
+        Optional<Page<PostSummaryResponse>> unsupported = feed.findPage(PageRequest.of(0, 2, Sort.by("title")), () -> 10L);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(ids(first.get())).containsExactly(3L, 2L);
+        assertThat(first.get().getTotalElements()).isEqualTo(10L);
+        assertThat(second).isEmpty();
+        assertThat(unsupported).isEmpty();
+    }
+
+    @Test
+    @DisplayName("창이 공개 게시글 전체를 담고 있으면 모든 페이지와 전체 개수를 메모리에서 응답한다")
+    public void findPage_completeWindow() {
+        // given
+        PostHotFeed feed = newFeed(10, List.of(post(2, 0, 2), post(1, 0, 1)));
+
+        // when
+        Page<PostSummaryResponse> first = feed.findPage(PageRequest.of(0, 5, PostHotFeed.RECENT_SORT), () -> {
+            throw new AssertionError("전체 개수를 DB에서 구하면 안 됩니다.");
+        }).orElseThrow();
+        Page<PostSummaryResponse> beyond = feed.findPage(PageRequest.of(3, 5, PostHotFeed.RECENT_SORT), () -> 0L).orElseThrow();
+
+        // then
+        assertThat(ids(first)).containsExactly(2L, 1L);
+        assertThat(first.getTotalElements()).isEqualTo(2L);
+        assertThat(beyond.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("새 게시글은 최신순 창의 맨 앞에 들어가고, 창이 가득 차면 마지막 게시글이 밀려난다")
+    public void onPostChanged_createdPostEvictsLast() {
+        // given
+        PostHotFeed feed = newFeed(3, List.of(post(3, 0, 3), post(2, 0, 2), post(1, 0, 1)));
+        Post created = post(4, 0, 4);
+        when(postQueryRepository.findByIdWithAllRelations(4L)).thenReturn(Optional.of(created));
+
+        // when
+        feed.onPostChanged(PostChangedEvent.of(PostChangedEvent.Type.CREATED, created));
+
+        // then
+        Page<PostSummaryResponse> page = feed.findPage(PageRequest.of(0, 3, PostHotFeed.RECENT_SORT), () -> 10L).orElseThrow();
+        assertThat(ids(page)).containsExactly(4L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 창에서 빠지고, 창 밖의 순위는 알 수 없으므로 남은 범위를 넘는 페이지는 DB 조회로 넘긴다")
+    public void onPostChanged_deletedPostLeavesWindow() {
+        // given
+        PostHotFeed feed = newFeed(3, List.of(post(3, 0, 3), post(2, 0, 2), post(1, 0, 1)));
+
+        // when
+        feed.onPostChanged(PostChangedEvent.of(PostChangedEvent.Type.DELETED, post(2, 0, 2)));
+
+        // then
+        assertThat(ids(feed.findPage(PageRequest.of(0, 2, PostHotFeed.RECENT_SORT), () -> 10L).orElseThrow()))
+                .containsExactly(3L, 1L);
+        assertThat(feed.findPage(PageRequest.of(0, 3, PostHotFeed.RECENT_SORT), () -> 10L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("좋아요 수 반영 이벤트를 받으면 창에 있는 게시글의 DB 좋아요 수로 좋아요순을 다시 정렬한다")
+    public void onLikeCountsFlushed_reordersByDatabaseLikeCount() {
+        // given
+        PostHotFeed feed = newFeed(10, List.of(post(1, 5, 1), post(2, 3, 2), post(3, 1, 3)));
+        when(postQueryRepository.findLikeCountsByIds(anyCollection())).thenReturn(Map.of(3L, 9));
+
+        // when
+        feed.onLikeCountsFlushed(new PostLikeCountsFlushedEvent(Set.of(3L)));
+
+        // then
+        Page<PostSummaryResponse> page = feed.findPage(PageRequest.of(0, 3, PostHotFeed.LIKES_SORT), () -> 3L).orElseThrow();
+        assertThat(ids(page)).containsExactly(3L, 1L, 2L);
+        assertThat(page.getContent().get(0).getLikeCount()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("창에 없는 게시글의 좋아요 수 반영은 DB를 다시 읽지 않는다")
+    public void onLikeCountsFlushed_ignoresPostsOutsideWindow() {
+        // given
+        PostHotFeed feed = newFeed(10, List.of(post(1, 5, 1)));
+
+        // when
+        feed.onLikeCountsFlushed(new PostLikeCountsFlushedEvent(Set.of(99L)));
+
+        // then
+        verify(postQueryRepository, never()).findLikeCountsByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("먼저 시작한 재조회가 늦게 끝나도 나중에 읽은 게시글 상태를 덮어쓰지 않는다")
+    public void reload_doesNotOverwriteNewerRead() throws InterruptedException {
+        // given
+        PostHotFeed feed = newFeed(10, List.of(post(1, 0, 1)));
+        Post older = post(1, 0, 1, "수정 전");
+        Post newer = post(1, 0, 1, "수정 후");
+        CountDownLatch firstReadStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstRead = new CountDownLatch(1);
+        AtomicInteger reads = new AtomicInteger();
+        when(postQueryRepository.findByIdWithAllRelations(1L)).thenAnswer(invocation -> {
+            if (reads.incrementAndGet() == 1) {
+                firstReadStarted.countDown();
+                releaseFirstRead.await(5, TimeUnit.SECONDS);
+                return Optional.of(older);
+            }
+            return Optional.of(newer);
+        });
+
+        // when
+        Thread first = new Thread(() -> feed.onPostChanged(PostChangedEvent.of(PostChangedEvent.Type.UPDATED, older)));
+        first.start();
+        assertThat(firstReadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread second = new Thread(() -> feed.onPostChanged(PostChangedEvent.of(PostChangedEvent.Type.UPDATED, newer)));
+        second.start();
+        Thread.sleep(100);
+        releaseFirstRead.countDown();
+        first.join(5_000);
+        second.join(5_000);
+
+        // then
+        Page<PostSummaryResponse> page = feed.findPage(PageRequest.of(0, 1, PostHotFeed.RECENT_SORT), () -> 1L).orElseThrow();
+        assertThat(page.getContent().get(0).getTitle()).isEqualTo("수정 후");
+    }
+
+    @Test
+    @DisplayName("재조회 중에 더 나중에 읽은 좋아요 수가 반영되면, 재조회 결과는 제목만 반영하고 좋아요 수는 유지한다")
+    public void reload_keepsNewerLikeCount() throws InterruptedException {
+        // given
+        PostHotFeed feed = newFeed(10, List.of(post(1, 0, 1)));
+        Post edited = post(1, 0, 1, "수정 후");
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch releaseRead = new CountDownLatch(1);
+        when(postQueryRepository.findByIdWithAllRelations(1L)).thenAnswer(invocation -> {
+            readStarted.countDown();
+            releaseRead.await(5, TimeUnit.SECONDS);
+            return Optional.of(edited);
+        });
+        when(postQueryRepository.findLikeCountsByIds(anyCollection())).thenReturn(Map.of(1L, 7));
+
+        // when: 재조회가 DB를 읽는 동안 좋아요 수 반영이 먼저 끝난다
+        Thread reload = new Thread(() -> feed.onPostChanged(PostChangedEvent.of(PostChangedEvent.Type.UPDATED, edited)));
+        reload.start();
+        assertThat(readStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        feed.onLikeCountsFlushed(new PostLikeCountsFlushedEvent(Set.of(1L)));
+        releaseRead.countDown();
+        reload.join(5_000);
+
+        // then
+        PostSummaryResponse row = feed.findPage(PageRequest.of(0, 1, PostHotFeed.RECENT_SORT), () -> 1L)
+                .orElseThrow().getContent().get(0);
+        assertThat(row.getTitle()).isEqualTo("수정 후");
+        assertThat(row.getLikeCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("회원 닉네임이 바뀌면 창에 있는 그 회원의 게시글만 DB를 다시 읽지 않고 작성자 닉네임을 바꾼다")
+    public void onMemberChanged_renamesHeldPostsOfMember() {
+        // given
+        Member renamed = Member.builder().email("renamed@example.com").nickname("예전닉네임").build();
+        ReflectionTestUtils.setField(renamed, "id", 7L);
+        Post renamedPost = Post.builder()
+                .id(2L)
+                .title("게시글 2")
+                .content("본문")
+                .member(renamed)
+                .createdAt(NOW.plusMinutes(2))
+                .build();
+        PostHotFeed feed = newFeed(10, List.of(renamedPost, post(1, 0, 1)));
+
+        // when
+        feed.onMemberChanged(new MemberChangedEvent(7L, "renamed@example.com", "새닉네임", 0));
+
+        // then
+        Page<PostSummaryResponse> page = feed.findPage(PageRequest.of(0, 2, PostHotFeed.RECENT_SORT), () -> 2L).orElseThrow();
+        assertThat(page.getContent()).extracting(PostSummaryResponse::getMemberName).containsExactly("새닉네임", "작성자");
+        assertThat(feed.findPage(PageRequest.of(0, 2, PostHotFeed.LIKES_SORT), () -> 2L).orElseThrow().getContent())
+                .extracting(PostSummaryResponse::getMemberName)
+                .containsExactlyInAnyOrder("새닉네임", "작성자");
+        verify(postQueryRepository, never()).findByIdWithAllRelations(any());
+    }
+
+    private PostHotFeed newFeed(int windowSize, List<Post> posts) {
+        when(postQueryRepository.findAllByPublished(eq(true), any(Pageable.class), isNull(), any(), isNull(), any()))
+                .thenAnswer(invocation -> {
+                    Pageable pageable = invocation.getArgument(1);
+                    Sort.Order first = pageable.getSort().iterator().next();
+                    List<Post> sorted = posts.stream()
+                            .sorted("likeCount".equals(first.getProperty())
+                                    ? Comparator.comparingInt(Post::getLikeCount).reversed()
+                                    .thenComparing(Post::getCreatedAt, Comparator.reverseOrder())
+                                    : Comparator.comparing(Post::getCreatedAt, Comparator.reverseOrder()))
+                            .limit(pageable.getPageSize())
+                            .toList();
+                    return new PageImpl<>(sorted, pageable, posts.size());
+                });
+        PostHotFeed feed = new PostHotFeed(postQueryRepository, windowSize);
+        feed.refresh();
+        return feed;
+    }
+
+    private static Post post(long id, int likeCount, int minutesAfter) {
+        return post(id, likeCount, minutesAfter, "게시글 " + id);
+    }
+
+    private static Post post(long id, int likeCount, int minutesAfter, String title) {
+        return Post.builder()
+                .id(id)
+                .title(title)
+                .content("본문")
+                .likeCount(likeCount)
+                .member(AUTHOR)
+                .createdAt(NOW.plusMinutes(minutesAfter))
+                .build();
+    }
+
+    private static List<Long> ids(Page<PostSummaryResponse> page) {
+        return page.getContent().stream().map(PostSummaryResponse::getId).toList();
+    }
+}
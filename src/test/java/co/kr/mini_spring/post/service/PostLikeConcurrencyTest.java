@@ -31,6 +31,9 @@ public class PostLikeConcurrencyTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private PostLikeCounter postLikeCounter;
+
     private Long postId;
     private final List<Long> memberIds = new ArrayList<>();
     private final int THREAD_COUNT = 100;
@@ -91,6 +94,7 @@ public class PostLikeConcurrencyTest {
         }
 
         latch.await(); // 모든 스레드의 작업이 끝날 때까지 대기
+        postLikeCounter.flush(); // 메모리에 누적된 like_count 증분을 DB에 반영
 
         // then
         Post post = postRepository.findById(postId).orElseThrow();
@@ -0,0 +1,182 @@
+package co.kr.mini_spring.post.service;
+
+import co.kr.mini_spring.post.domain.event.PostLikeChangedEvent;
+import co.kr.mini_spring.post.domain.repository.PostBatchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PostLikeCounterTest {
+
+    @Test
+    @DisplayName("배치 반영이 실패하면 트랜잭션을 롤백하고 증분을 되돌려 다음 주기에 한 번만 반영한다")
+    public void flush_rollsBackBeforeRestore() {
+        // given: 두 번째 행에서 실패하는 배치
+        FakePostBatchRepository repository = new FakePostBatchRepository();
+        RecordingTransactionManager transactionManager = new RecordingTransactionManager(repository);
+        PostLikeCounter counter = newCounter(repository, transactionManager);
+        counter.onLikeChanged(new PostLikeChangedEvent(1L, 1));
+        counter.onLikeChanged(new PostLikeChangedEvent(2L, 1));
+        repository.failingPostId = 2L;
+
+        // when
+        counter.flush();
+        repository.failingPostId = null;
+        counter.flush();
+
+        // then
+        assertThat(transactionManager.rollbacks).isEqualTo(1);
+        assertThat(repository.likeCounts).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 1L, 2L, 1L));
+        assertThat(counter.getPendingCount(1L)).isZero();
+        assertThat(counter.getPendingCount(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("보정 UPDATE 도중 커밋된 좋아요가 있으면 구간을 롤백하고 그 게시글을 제외하여 다시 보정한다")
+    public void reconcile_retriesWhenLikeCommitsDuringUpdate() {
+        // given: 첫 번째 보정 UPDATE가 post_like를 센 직후 게시글 2의 좋아요 증분이 누적됨
+        FakePostBatchRepository repository = new FakePostBatchRepository();
+        RecordingTransactionManager transactionManager = new RecordingTransactionManager(repository);
+        PostLikeCounter counter = newCounter(repository, transactionManager);
+        counter.onLikeChanged(new PostLikeChangedEvent(1L, 1));
+        repository.duringFirstReconcile = () -> counter.onLikeChanged(new PostLikeChangedEvent(2L, 1));
+
+        // when
+        counter.reconcile();
+
+        // then
+        assertThat(repository.reconcileExclusions).containsExactly(Set.of(1L), Set.of(1L, 2L));
+        assertThat(transactionManager.rollbacks).isEqualTo(1);
+        assertThat(transactionManager.commits).isEqualTo(1);
+        assertThat(counter.getPendingCount(2L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 기록된 좋아요는 커밋 전까지 보정 대상에서 제외되고 커밋된 뒤에만 증분으로 누적된다")
+    public void onLikeChanged_excludesUncommittedLikes() {
+        // given
+        FakePostBatchRepository repository = new FakePostBatchRepository();
+        PostLikeCounter counter = newCounter(repository, new RecordingTransactionManager(repository));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counter.onLikeChanged(new PostLikeChangedEvent(3L, 1));
+
+            // when
+            counter.reconcile();
+
+            // then
+            assertThat(repository.reconcileExclusions).containsExactly(Set.of(3L));
+            assertThat(counter.getPendingCount(3L)).isZero();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(counter.getPendingCount(3L)).isEqualTo(1);
+    }
+
+    private static PostLikeCounter newCounter(FakePostBatchRepository repository, PlatformTransactionManager transactionManager) {
+        return new PostLikeCounter(repository, event -> {
+        }, new TransactionTemplate(transactionManager), 1000);
+    }
+
+    /**
+     * 트랜잭션 안에서 반영한 값은 커밋될 때만 likeCounts에 남기는 가짜 리포지토리
+     */
+    private static class FakePostBatchRepository extends PostBatchRepository {
+
+        private final Map<Long, Long> likeCounts = new HashMap<>();
+        private final Map<Long, Long> uncommittedCounts = new HashMap<>();
+        private final List<Set<Long>> reconcileExclusions = new ArrayList<>();
+        private Long failingPostId;
+        private Runnable duringFirstReconcile;
+
+        FakePostBatchRepository() {
+            super(null);
+        }
+
+        @Override
+        public void applyLikeCountDeltas(Map<Long, Long> deltas) {
+            deltas.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(e -> {
+                        if (e.getKey().equals(failingPostId)) throw new QueryTimeoutException("timeout");
+                        uncommittedCounts.merge(e.getKey(), e.getValue(), Long::sum);
+                    });
+        }
+
+        @Override
+        public int reconcileLikeCounts(long fromId, long toId, Collection<Long> excludedPostIds) {
+            reconcileExclusions.add(Set.copyOf(excludedPostIds));
+            if (duringFirstReconcile != null) {
+                Runnable action = duringFirstReconcile;
+                duringFirstReconcile = null;
+                action.run();
+            }
+            return 1;
+        }
+
+        @Override
+        public long findMaxPostId() {
+            return 10;
+        }
+
+        void commit() {
+            uncommittedCounts.forEach((postId, delta) -> likeCounts.merge(postId, delta, Long::sum));
+            uncommittedCounts.clear();
+        }
+
+        void rollback() {
+            uncommittedCounts.clear();
+        }
+    }
+
+    private static class RecordingTransactionManager implements PlatformTransactionManager {
+
+        private final FakePostBatchRepository repository;
+        private int commits;
+        private int rollbacks;
+
+        RecordingTransactionManager(FakePostBatchRepository repository) {
+            this.repository = repository;
+        }
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            if (status.isRollbackOnly()) {
+                rollback(status);
+                return;
+            }
+            commits++;
+            repository.commit();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            rollbacks++;
+            repository.rollback();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package co.kr.mini_spring.post.service;
+
+import co.kr.mini_spring.post.domain.repository.PostBatchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PostViewCounterTest {
+
+    @Test
+    @DisplayName("일시적인 오류로 실패한 증분은 버리지 않고 다음 주기에 다시 반영한다")
+    public void flush_retriesTransientFailures() {
+        // given
+        FakePostBatchRepository repository = new FakePostBatchRepository();
+        repository.transientFailure = true;
+        PostViewCounter counter = new PostViewCounter(repository, new TransactionTemplate(new NoOpTransactionManager()), 1000);
+        counter.recordView(1L, 1L);
+
+        // when
+        counter.flush();
+        repository.transientFailure = false;
+        counter.flush();
+
+        // then
+        assertThat(repository.viewCounts).containsExactlyEntriesOf(Map.of(1L, 1L));
+        assertThat(counter.getPendingCount(1L)).isZero();
+    }
+
+    /**
+     * 조회수 증분을 메모리에 더하고, 지정하면 일시적인 오류로 실패하는 가짜 리포지토리
+     */
+    private static class FakePostBatchRepository extends PostBatchRepository {
+
+        private final Map<Long, Long> viewCounts = new HashMap<>();
+        private boolean transientFailure;
+
+        FakePostBatchRepository() {
+            super(null);
+        }
+
+        @Override
+        public void incrementViewCounts(Map<Long, Long> deltas) {
+            if (transientFailure) throw new QueryTimeoutException("timeout");
+            deltas.forEach((postId, delta) -> viewCounts.merge(postId, delta, Long::sum));
+        }
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
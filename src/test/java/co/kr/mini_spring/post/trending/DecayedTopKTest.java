@@ -0,0 +1,58 @@
+package co.kr.mini_spring.post.trending;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class DecayedTopKTest {
+
+    private static final long HOUR = 3600;
+    private static final long START = 1_699_999_980L;
+
+    @Test
+    @DisplayName("오래전에 많이 쓰인 해시태그보다 최근에 쓰인 해시태그가 앞선다")
+    public void top_recentUsesOutweighOldOnes() {
+        // given
+        DecayedTopK topK = new DecayedTopK(HOUR, 60, 10, 4, 256, START);
+        for (int i = 0; i < 5; i++) topK.record("old", START);
+        for (int i = 0; i < 3; i++) topK.record("new", START + 3 * HOUR);
+
+        // when
+        List<DecayedTopK.Scored> top = topK.top(10, START + 3 * HOUR);
+
+        // then
+        assertThat(top).extracting(DecayedTopK.Scored::name).containsExactly("new", "old");
+        assertThat(top.get(0).score()).isCloseTo(3.0, within(0.01));
+    }
+
+    @Test
+    @DisplayName("체크포인트로 저장한 상태를 복원하면 같은 순위를 돌려준다")
+    public void writeAndRead_restoresRanking() throws IOException {
+        // given
+        DecayedTopK topK = new DecayedTopK(HOUR, 60, 10, 4, 256, START);
+        topK.record("spring", START);
+        topK.record("spring", START + 60);
+        topK.record("java", START + 120);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            topK.writeTo(out);
+        }
+
+        // when
+        DecayedTopK restored = new DecayedTopK(HOUR, 60, 10, 4, 256, START + 600);
+        boolean ok = restored.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // then
+        assertThat(ok).isTrue();
+        assertThat(restored.top(10, START + 600)).extracting(DecayedTopK.Scored::name).containsExactly("spring", "java");
+    }
+}
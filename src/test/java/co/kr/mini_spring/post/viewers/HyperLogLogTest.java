@@ -0,0 +1,120 @@
+package co.kr.mini_spring.post.viewers;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class HyperLogLogTest {
+
+    private static final int PRECISION = 11;
+
+    @Test
+    @DisplayName("같은 회원을 여러 번 더해도 고유 조회자 수는 늘지 않는다")
+    public void offer_duplicatesDoNotChangeEstimate() {
+        // given
+        HyperLogLog sketch = new HyperLogLog(PRECISION);
+        for (long id = 1; id <= 100; id++) sketch.offer(id);
+
+        // when
+        boolean changed = false;
+        for (long id = 1; id <= 100; id++) changed |= sketch.offer(id);
+
+        // then
+        assertThat(changed).isFalse();
+        assertThat((double) sketch.estimate()).isCloseTo(100, within(5.0));
+    }
+
+    @Test
+    @DisplayName("큰 집합도 표준 오차 범위 안에서 추정한다")
+    public void estimate_largeCardinalityWithinError() {
+        // given
+        HyperLogLog sketch = new HyperLogLog(PRECISION);
+        for (long id = 1; id <= 100_000; id++) sketch.offer(id);
+
+        // when
+        long estimate = sketch.estimate();
+
+        // then (표준 오차 약 2.3%, 여유 있게 3배)
+        assertThat((double) estimate).isCloseTo(100_000, within(7_000.0));
+    }
+
+    @Test
+    @DisplayName("겹치는 두 스케치의 합집합은 중복 없이 추정한다")
+    public void estimateUnion_countsOverlapOnce() {
+        // given
+        HyperLogLog monday = new HyperLogLog(PRECISION);
+        HyperLogLog tuesday = new HyperLogLog(PRECISION);
+        for (long id = 1; id <= 1_000; id++) monday.offer(id);
+        for (long id = 501; id <= 1_500; id++) tuesday.offer(id);
+
+        // when
+        long union = HyperLogLog.estimateUnion(List.of(monday, tuesday));
+
+        // then
+        assertThat((double) union).isCloseTo(1_500, within(100.0));
+    }
+
+    @Test
+    @DisplayName("직렬화 후 복원한 스케치는 같은 값을 추정하고 다시 합쳐도 결과가 같다")
+    public void toBytesAndFromBytes_roundTrip() {
+        // given
+        HyperLogLog small = new HyperLogLog(PRECISION);
+        HyperLogLog large = new HyperLogLog(PRECISION);
+        for (long id = 1; id <= 10; id++) small.offer(id);
+        for (long id = 1; id <= 50_000; id++) large.offer(id);
+
+        // when
+        HyperLogLog restoredSmall = HyperLogLog.fromBytes(small.toBytes());
+        HyperLogLog restoredLarge = HyperLogLog.fromBytes(large.toBytes());
+        restoredLarge.merge(large);
+
+        // then
+        assertThat(small.toBytes().length).isLessThan(large.toBytes().length);
+        assertThat(restoredSmall.estimate()).isEqualTo(small.estimate());
+        assertThat(restoredLarge.estimate()).isEqualTo(large.estimate());
+    }
+
+    @Test
+    @DisplayName("조회자가 적은 스케치는 메모리에서도 희소 형식으로 작게 유지되고, 많아지면 밀집 형식으로 바뀌어도 추정값은 같다")
+    public void offer_staysSparseUntilThreshold() {
+        // given
+        HyperLogLog sparse = new HyperLogLog(PRECISION);
+        for (long id = 1; id <= 20; id++) sparse.offer(id);
+        HyperLogLog grown = new HyperLogLog(PRECISION);
+        for (long id = 1; id <= 5_000; id++) grown.offer(id);
+
+        // then
+        assertThat(sparse.isSparse()).isTrue();
+        assertThat(sparse.sizeInBytes()).isLessThan((1 << PRECISION) / 8);
+        assertThat((double) sparse.estimate()).isCloseTo(20, within(1.0));
+        assertThat(grown.isSparse()).isFalse();
+        assertThat(grown.sizeInBytes()).isGreaterThanOrEqualTo(1 << PRECISION);
+        assertThat((double) grown.estimate()).isCloseTo(5_000, within(350.0));
+    }
+
+    @Test
+    @DisplayName("희소/밀집 스케치를 어느 쪽으로 합쳐도 같은 합집합을 추정하고, 희소 스케치는 직렬화 후에도 희소 형식으로 복원된다")
+    public void merge_sparseAndDenseGiveSameUnion() {
+        // given
+        HyperLogLog sparse = new HyperLogLog(PRECISION);
+        HyperLogLog dense = new HyperLogLog(PRECISION);
+        for (long id = 1; id <= 30; id++) sparse.offer(id);
+        for (long id = 20; id <= 3_000; id++) dense.offer(id);
+
+        // when
+        HyperLogLog sparseIntoDense = dense.copy();
+        sparseIntoDense.merge(sparse);
+        HyperLogLog denseIntoSparse = sparse.copy();
+        denseIntoSparse.merge(dense);
+
+        // then
+        assertThat(sparseIntoDense.estimate()).isEqualTo(denseIntoSparse.estimate());
+        assertThat(sparseIntoDense.estimate()).isEqualTo(HyperLogLog.estimateUnion(List.of(sparse, dense)));
+        assertThat(sparse.isSparse()).isTrue();
+        assertThat(HyperLogLog.fromBytes(sparse.toBytes()).isSparse()).isTrue();
+    }
+}
@@ -0,0 +1,178 @@
+package co.kr.mini_spring.post.viewers;
+
+import co.kr.mini_spring.post.domain.repository.PostViewerSketchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PostUniqueViewersTest {
+
+    @Test
+    @DisplayName("배치 반영이 데이터 무결성 위반으로 실패하면 게시글별로 다시 반영하고 실패한 게시글의 스케치만 버린다")
+    public void flush_dropsOnlyRejectedPost() {
+        // given: 게시글 2가 삭제되어 스케치를 저장할 수 없음
+        FakePostViewerSketchRepository repository = new FakePostViewerSketchRepository();
+        PostUniqueViewers viewers = newViewers(repository);
+        viewers.record(1L, 10L);
+        viewers.record(2L, 10L);
+        viewers.record(3L, 10L);
+        repository.rejectedPostId = 2L;
+
+        // when
+        viewers.flush();
+        viewers.flush();
+
+        // then
+        assertThat(repository.storedPostIds()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(repository.upsertCalls).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("게시글별 재반영 중 일시적인 오류가 난 게시글은 다음 주기에 다시 반영한다")
+    public void flush_retriesTransientFailureNextCycle() {
+        // given
+        FakePostViewerSketchRepository repository = new FakePostViewerSketchRepository();
+        PostUniqueViewers viewers = newViewers(repository);
+        viewers.record(1L, 10L);
+        viewers.record(2L, 10L);
+        viewers.record(3L, 10L);
+        repository.rejectedPostId = 2L;
+        repository.timeoutPostId = 3L;
+
+        // when
+        viewers.flush();
+        repository.timeoutPostId = null;
+        viewers.flush();
+
+        // then
+        assertThat(repository.storedPostIds()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(viewers.get(3L).today()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("메모리 스케치가 상한을 넘으면 flush 직후 반영된 스케치를 제거하고, 이후 조회와 추정에서 조회자를 잃지 않는다")
+    public void flush_evictsFlushedSketchesOverCapacity() {
+        // given: 상한 2개에 게시글 3개의 스케치
+        FakePostViewerSketchRepository repository = new FakePostViewerSketchRepository();
+        PostUniqueViewers viewers = newViewers(repository, 2);
+        viewers.record(1L, 10L);
+        viewers.record(2L, 10L);
+        viewers.record(3L, 10L);
+        assertThat(viewers.get(1L).today()).isEqualTo(1);
+
+        // when: 반영 후 제거되고, 제거된 게시글에 새 조회자가 더해진다
+        viewers.flush();
+        viewers.record(1L, 20L);
+        viewers.flush();
+
+        // then
+        assertThat(repository.storedPostIds()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(viewers.get(1L).today()).isEqualTo(2);
+        assertThat(viewers.get(2L).today()).isEqualTo(1);
+    }
+
+    private static PostUniqueViewers newViewers(FakePostViewerSketchRepository repository) {
+        return newViewers(repository, 100_000);
+    }
+
+    private static PostUniqueViewers newViewers(FakePostViewerSketchRepository repository, int maxLiveSketches) {
+        return new PostUniqueViewers(repository, new TransactionTemplate(new RepositoryTransactionManager(repository)),
+                new SimpleMeterRegistry(), 11, 60, 16 * 1024 * 1024, maxLiveSketches);
+    }
+
+    /**
+     * 트랜잭션 안에서 저장한 행은 커밋될 때만 stored에 남기는 가짜 리포지토리
+     */
+    private static class FakePostViewerSketchRepository extends PostViewerSketchRepository {
+
+        private final Map<SketchKey, byte[]> stored = new HashMap<>();
+        private final List<SketchRow> uncommitted = new ArrayList<>();
+        private Long rejectedPostId;
+        private Long timeoutPostId;
+        private int upsertCalls;
+
+        FakePostViewerSketchRepository() {
+            super(null);
+        }
+
+        @Override
+        public Map<LocalDate, byte[]> findByPostId(Long postId, LocalDate from, LocalDate to) {
+            Map<LocalDate, byte[]> found = new HashMap<>();
+            stored.forEach((key, bytes) -> {
+                if (key.postId().equals(postId) && !key.day().isBefore(from) && !key.day().isAfter(to)) {
+                    found.put(key.day(), bytes);
+                }
+            });
+            return found;
+        }
+
+        @Override
+        public Map<SketchKey, byte[]> findForUpdate(List<SketchKey> keys) {
+            Map<SketchKey, byte[]> found = new HashMap<>();
+            keys.stream().filter(stored::containsKey).forEach(key -> found.put(key, stored.get(key)));
+            return found;
+        }
+
+        @Override
+        public void upsert(List<SketchRow> rows) {
+            upsertCalls++;
+            for (SketchRow row : rows) {
+                if (row.postId().equals(rejectedPostId)) throw new DataIntegrityViolationException("fk_post_viewer_sketch_post");
+                if (row.postId().equals(timeoutPostId)) throw new QueryTimeoutException("timeout");
+                uncommitted.add(row);
+            }
+        }
+
+        List<Long> storedPostIds() {
+            return stored.keySet().stream().map(SketchKey::postId).distinct().toList();
+        }
+
+        void commit() {
+            uncommitted.forEach(row -> stored.put(new SketchKey(row.postId(), row.day()), row.sketch()));
+            uncommitted.clear();
+        }
+
+        void rollback() {
+            uncommitted.clear();
+        }
+    }
+
+    private static class RepositoryTransactionManager implements PlatformTransactionManager {
+
+        private final FakePostViewerSketchRepository repository;
+
+        RepositoryTransactionManager(FakePostViewerSketchRepository repository) {
+            this.repository = repository;
+        }
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            repository.commit();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            repository.rollback();
+        }
+    }
+}